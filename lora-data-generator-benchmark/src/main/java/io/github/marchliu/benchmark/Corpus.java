@@ -0,0 +1,58 @@
+package io.github.marchliu.benchmark;
+
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.c.CLexer;
+import io.github.marchliu.lexers.java.JavaLexer;
+import io.github.marchliu.lexers.python.PythonLexer;
+import io.github.marchliu.lexers.scala.java.ScalaLexer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 基准测试用的语料，位于 resources/corpus/&lt;language&gt;/&lt;size&gt;.&lt;ext&gt;。
+ * size 分为 small（几十行）、medium（几百行的真实代码）和 pathological（超长字符串、深层嵌套、超长行）。
+ */
+public final class Corpus {
+    public static final Map<String, String> EXTENSIONS = Map.of(
+            "java", "java",
+            "c", "c",
+            "scala", "scala",
+            "python", "py",
+            "nlp", "txt");
+    /**
+     * 切分样本窗口的固定种子，每次调用、每次运行切出的样本都相同，结果之间可以比较
+     */
+    public static final long SEED = 42;
+
+    private Corpus() {
+    }
+
+    public static SplittableRandom random() {
+        return new SplittableRandom(SEED);
+    }
+
+    public static String load(String language, String size) throws IOException {
+        var name = STR."corpus/\{language}/\{size}.\{EXTENSIONS.get(language)}";
+        try (var input = Corpus.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new FileNotFoundException(name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    public static Lexer lexer(String language) {
+        return switch (language) {
+            case "java" -> new JavaLexer();
+            case "c" -> new CLexer();
+            case "scala" -> new ScalaLexer();
+            case "python" -> new PythonLexer();
+            case "nlp" -> Lexer.nlpLexer;
+            default -> throw new IllegalArgumentException(STR."unknown language \{language}");
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.marchliu.benchmark;
+
+import io.github.marchliu.lexers.CodeLexer;
+import io.github.marchliu.lexers.Engine;
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.TokenBuffer;
+import io.github.marchliu.lexers.nlp.Segmenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 各语言 Lexer.tokenize 的吞吐量，包括注释交给 HanLP 分词的部分。
+ * 分词缓存被关闭，否则从第二次迭代开始注释全部命中缓存，测到的不是分词本身。
+ * scanner 默认使用 Vector API 查找注释、字符串和空白的边界，加上 -jvmArgsAppend -Doliva.scalar=true 对比逐字符的实现。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class LexerBenchmark {
+    @Param({"java", "c", "scala", "python"})
+    public String language;
+
+    @Param({"small", "medium", "pathological"})
+    public String size;
+
+    /**
+     * 只对 c/java/scala 有效，python 始终使用 parsec
+     */
+    @Param({"scanner", "parsec"})
+    public String engine;
+
+    private Lexer lexer;
+    private String source;
+    private int bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        lexer = Corpus.lexer(language);
+        if (lexer instanceof CodeLexer code) {
+            code.engine(Engine.of(engine));
+        }
+        Lexer.nlpLexer.cache(null);
+        Segmenter.warmUp().join();
+        source = Corpus.load(language, size);
+        bytes = source.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public TokenBuffer tokenize(Throughput throughput) throws Exception {
+        var tokens = lexer.tokenize(source).get();
+        throughput.bytes += bytes;
+        throughput.tokens += tokens.size();
+        return tokens;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.marchliu.benchmark;
+
+import io.github.marchliu.lexers.nlp.NlpLexer;
+import io.github.marchliu.lexers.nlp.SegmentCache;
+import io.github.marchliu.lexers.nlp.Segmenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NlpLexer.tokens 逐行切分文本语料，cache 参数控制是否经过分词缓存。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class NlpBenchmark {
+    @Param({"small", "medium", "pathological"})
+    public String size;
+
+    @Param({"off", "on"})
+    public String cache;
+
+    private final NlpLexer lexer = new NlpLexer();
+    private String[] lines;
+    private int bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        lexer.cache(cache.equals("on") ? new SegmentCache(NlpLexer.DEFAULT_CACHE_SIZE) : null);
+        Segmenter.warmUp().join();
+        var source = Corpus.load("nlp", size);
+        lines = source.split("\n");
+        bytes = source.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public void tokens(Throughput throughput, Blackhole blackhole) {
+        for (var line : lines) {
+            var tokens = lexer.tokens(line);
+            throughput.tokens += tokens.size();
+            blackhole.consume(tokens);
+        }
+        throughput.bytes += bytes;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.marchliu.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lora.Entity;
+import io.github.marchliu.lora.EntitySerializer;
+import io.github.marchliu.lora.EntityWriter;
+import io.github.marchliu.lora.JsonArrayWriter;
+import io.github.marchliu.lora.JsonLinesWriter;
+import io.github.marchliu.lora.Sample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Jackson 写出训练样本的吞吐量，输出丢弃到 nullOutputStream，只测序列化。
+ * bytes 计数器记录的是写出的 JSON 字节数。
+ * lazy 是 lexer 产生的 WindowEntity，直接从 token 写出；eager 是在 setup 中预先拼好三个字符串的 Entity，只测写出字符串的开销。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SerializationBenchmark {
+    @Param({"json", "jsonl"})
+    public String format;
+
+    @Param({"lazy", "eager"})
+    public String entity;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(EntitySerializer.module());
+    private List<Sample> entities;
+
+    @Setup
+    public void setup() throws Exception {
+        var lexer = Corpus.lexer("java");
+        entities = lexer.shuffle(lexer.tokenize(Corpus.load("java", "medium")).get(), Corpus.random());
+        if (entity.equals("eager")) {
+            entities = entities.stream()
+                    .<Sample>map(e -> new Entity(e.getInstruction(), e.getInput(), e.getOutput()))
+                    .toList();
+        }
+    }
+
+    @Benchmark
+    public long write(Throughput throughput) throws Exception {
+        var output = new CountingOutputStream();
+        try (EntityWriter writer = format.equals("json")
+                ? new JsonArrayWriter(mapper, output)
+                : new JsonLinesWriter(mapper, output)) {
+            for (var entity : entities) {
+                writer.write(entity);
+            }
+        }
+        throughput.bytes += output.count;
+        throughput.tokens += entities.size();
+        return output.count;
+    }
+
+    static class CountingOutputStream extends OutputStream {
+        long count = 0;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
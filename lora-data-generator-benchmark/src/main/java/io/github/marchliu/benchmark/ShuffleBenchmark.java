@@ -0,0 +1,54 @@
+package io.github.marchliu.benchmark;
+
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.TokenBuffer;
+import io.github.marchliu.lora.Sample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Lexer.shuffle 把预先分好的 token 组合成训练样本的吞吐量，不包含分词。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ShuffleBenchmark {
+    @Param({"java", "nlp"})
+    public String language;
+
+    @Param({"medium", "pathological"})
+    public String size;
+
+    private Lexer lexer;
+    private TokenBuffer tokens;
+    private int bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        lexer = Corpus.lexer(language);
+        var source = Corpus.load(language, size);
+        tokens = lexer.tokenize(source).get();
+        bytes = source.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public List<Sample> shuffle(Throughput throughput) {
+        var entities = lexer.shuffle(tokens, Corpus.random());
+        throughput.bytes += bytes;
+        throughput.tokens += tokens.size();
+        return entities;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.marchliu.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 附加计数器，JMH 按时间折算成速率：bytes 是每秒处理的源文本字节数（除以 10^6 即 MB/s），tokens 是每秒产生的 token 数。
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class Throughput {
+    public long bytes;
+    public long tokens;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
+        tokens = 0;
+    }
+}
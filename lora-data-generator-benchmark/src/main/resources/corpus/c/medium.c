@@ -0,0 +1,193 @@
+/*
+ * ring_log.c - 固定大小的环形日志缓冲区
+ *
+ * 日志写入一个预先分配好的环形缓冲区，缓冲区满了以后覆盖最旧的记录。
+ * 后台线程定期把缓冲区中的记录刷到文件里。
+ */
+#include <errno.h>
+#include <pthread.h>
+#include <stdarg.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+#include <time.h>
+#include <unistd.h>
+
+#define RING_CAPACITY 4096
+#define RECORD_SIZE 256
+#define FLUSH_INTERVAL_MS 200
+
+typedef enum {
+    LEVEL_DEBUG = 0,
+    LEVEL_INFO = 1,
+    LEVEL_WARN = 2,
+    LEVEL_ERROR = 3
+} level_t;
+
+typedef struct {
+    uint64_t seq;
+    int64_t timestamp;
+    level_t level;
+    size_t length;
+    char text[RECORD_SIZE];
+} record_t;
+
+typedef struct {
+    record_t records[RING_CAPACITY];
+    uint64_t head;
+    uint64_t tail;
+    uint64_t dropped;
+    pthread_mutex_t lock;
+    pthread_cond_t ready;
+    int running;
+    FILE *output;
+} ring_t;
+
+static const char *level_names[] = {"DEBUG", "INFO", "WARN", "ERROR"};
+
+static int64_t now_millis(void) {
+    struct timespec ts;
+    clock_gettime(CLOCK_REALTIME, &ts);
+    return (int64_t) ts.tv_sec * 1000 + ts.tv_nsec / 1000000;
+}
+
+ring_t *ring_open(const char *path) {
+    ring_t *ring = calloc(1, sizeof(ring_t));
+    if (ring == NULL) {
+        return NULL;
+    }
+    ring->output = fopen(path, "a");
+    if (ring->output == NULL) {
+        fprintf(stderr, "cannot open %s: %s\n", path, strerror(errno));
+        free(ring);
+        return NULL;
+    }
+    pthread_mutex_init(&ring->lock, NULL);
+    pthread_cond_init(&ring->ready, NULL);
+    ring->running = 1;
+    return ring;
+}
+
+/* 写入一条记录，缓冲区满时覆盖最旧的一条并计数 */
+void ring_log(ring_t *ring, level_t level, const char *fmt, ...) {
+    va_list args;
+    pthread_mutex_lock(&ring->lock);
+    if (ring->head - ring->tail >= RING_CAPACITY) {
+        ring->tail++;
+        ring->dropped++;
+    }
+    record_t *rec = &ring->records[ring->head % RING_CAPACITY];
+    rec->seq = ring->head;
+    rec->timestamp = now_millis();
+    rec->level = level;
+    va_start(args, fmt);
+    int n = vsnprintf(rec->text, RECORD_SIZE, fmt, args);
+    va_end(args);
+    rec->length = n < 0 ? 0 : (n >= RECORD_SIZE ? RECORD_SIZE - 1 : (size_t) n);
+    ring->head++;
+    pthread_cond_signal(&ring->ready);
+    pthread_mutex_unlock(&ring->lock);
+}
+
+static size_t drain(ring_t *ring, record_t *batch, size_t max) {
+    size_t count = 0;
+    while (ring->tail < ring->head && count < max) {
+        batch[count++] = ring->records[ring->tail % RING_CAPACITY];
+        ring->tail++;
+    }
+    return count;
+}
+
+static void write_batch(FILE *out, const record_t *batch, size_t count) {
+    for (size_t i = 0; i < count; i++) {
+        const record_t *rec = &batch[i];
+        fprintf(out, "%lld [%s] #%llu %.*s\n",
+                (long long) rec->timestamp,
+                level_names[rec->level],
+                (unsigned long long) rec->seq,
+                (int) rec->length,
+                rec->text);
+    }
+    fflush(out);
+}
+
+void *ring_flusher(void *arg) {
+    ring_t *ring = (ring_t *) arg;
+    record_t *batch = malloc(sizeof(record_t) * 64);
+    while (1) {
+        struct timespec deadline;
+        clock_gettime(CLOCK_REALTIME, &deadline);
+        deadline.tv_nsec += FLUSH_INTERVAL_MS * 1000000L;
+        if (deadline.tv_nsec >= 1000000000L) {
+            deadline.tv_sec += 1;
+            deadline.tv_nsec -= 1000000000L;
+        }
+        pthread_mutex_lock(&ring->lock);
+        while (ring->running && ring->tail == ring->head) {
+            if (pthread_cond_timedwait(&ring->ready, &ring->lock, &deadline) == ETIMEDOUT) {
+                break;
+            }
+        }
+        size_t count = drain(ring, batch, 64);
+        int running = ring->running;
+        pthread_mutex_unlock(&ring->lock);
+        // 在锁外写文件，避免阻塞写日志的线程
+        if (count > 0) {
+            write_batch(ring->output, batch, count);
+        }
+        if (!running && count == 0) {
+            break;
+        }
+    }
+    free(batch);
+    return NULL;
+}
+
+void ring_close(ring_t *ring, pthread_t flusher) {
+    pthread_mutex_lock(&ring->lock);
+    ring->running = 0;
+    pthread_cond_signal(&ring->ready);
+    pthread_mutex_unlock(&ring->lock);
+    pthread_join(flusher, NULL);
+    if (ring->dropped > 0) {
+        fprintf(ring->output, "# %llu records dropped\n", (unsigned long long) ring->dropped);
+    }
+    fclose(ring->output);
+    pthread_mutex_destroy(&ring->lock);
+    pthread_cond_destroy(&ring->ready);
+    free(ring);
+}
+
+static void *producer(void *arg) {
+    ring_t *ring = (ring_t *) arg;
+    for (int i = 0; i < 10000; i++) {
+        level_t level = (level_t) (i % 4);
+        ring_log(ring, level, "worker %lu step %d value=%.3f",
+                 (unsigned long) pthread_self(), i, i * 0.125 - 3.5);
+        if (i % 1000 == 0) {
+            usleep(1000);
+        }
+    }
+    return NULL;
+}
+
+int main(int argc, char **argv) {
+    const char *path = argc > 1 ? argv[1] : "ring.log";
+    ring_t *ring = ring_open(path);
+    if (ring == NULL) {
+        return 1;
+    }
+    pthread_t flusher;
+    pthread_t workers[4];
+    pthread_create(&flusher, NULL, ring_flusher, ring);
+    for (int i = 0; i < 4; i++) {
+        pthread_create(&workers[i], NULL, producer, ring);
+    }
+    for (int i = 0; i < 4; i++) {
+        pthread_join(workers[i], NULL);
+    }
+    ring_close(ring, flusher);
+    printf("done, log written to \"%s\"\n", path);
+    return 0;
+}
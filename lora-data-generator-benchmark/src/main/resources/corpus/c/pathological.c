@@ -0,0 +1,811 @@
+#include <stdint.h>
+
+#define WIDE(x) \
+    ((x) * 0 + (0 >> 1)) ^ \
+    ((x) * 1 + (1 >> 1)) ^ \
+    ((x) * 2 + (2 >> 1)) ^ \
+    ((x) * 3 + (3 >> 1)) ^ \
+    ((x) * 4 + (4 >> 1)) ^ \
+    ((x) * 5 + (5 >> 1)) ^ \
+    ((x) * 6 + (6 >> 1)) ^ \
+    ((x) * 7 + (7 >> 1)) ^ \
+    ((x) * 8 + (8 >> 1)) ^ \
+    ((x) * 9 + (9 >> 1)) ^ \
+    ((x) * 10 + (10 >> 1)) ^ \
+    ((x) * 11 + (11 >> 1)) ^ \
+    ((x) * 12 + (12 >> 1)) ^ \
+    ((x) * 13 + (13 >> 1)) ^ \
+    ((x) * 14 + (14 >> 1)) ^ \
+    ((x) * 15 + (15 >> 1)) ^ \
+    ((x) * 16 + (16 >> 1)) ^ \
+    ((x) * 17 + (17 >> 1)) ^ \
+    ((x) * 18 + (18 >> 1)) ^ \
+    ((x) * 19 + (19 >> 1)) ^ \
+    ((x) * 20 + (20 >> 1)) ^ \
+    ((x) * 21 + (21 >> 1)) ^ \
+    ((x) * 22 + (22 >> 1)) ^ \
+    ((x) * 23 + (23 >> 1)) ^ \
+    ((x) * 24 + (24 >> 1)) ^ \
+    ((x) * 25 + (25 >> 1)) ^ \
+    ((x) * 26 + (26 >> 1)) ^ \
+    ((x) * 27 + (27 >> 1)) ^ \
+    ((x) * 28 + (28 >> 1)) ^ \
+    ((x) * 29 + (29 >> 1)) ^ \
+    ((x) * 30 + (30 >> 1)) ^ \
+    ((x) * 31 + (31 >> 1)) ^ \
+    ((x) * 32 + (32 >> 1)) ^ \
+    ((x) * 33 + (33 >> 1)) ^ \
+    ((x) * 34 + (34 >> 1)) ^ \
+    ((x) * 35 + (35 >> 1)) ^ \
+    ((x) * 36 + (36 >> 1)) ^ \
+    ((x) * 37 + (37 >> 1)) ^ \
+    ((x) * 38 + (38 >> 1)) ^ \
+    ((x) * 39 + (39 >> 1)) ^ \
+    ((x) * 40 + (40 >> 1)) ^ \
+    ((x) * 41 + (41 >> 1)) ^ \
+    ((x) * 42 + (42 >> 1)) ^ \
+    ((x) * 43 + (43 >> 1)) ^ \
+    ((x) * 44 + (44 >> 1)) ^ \
+    ((x) * 45 + (45 >> 1)) ^ \
+    ((x) * 46 + (46 >> 1)) ^ \
+    ((x) * 47 + (47 >> 1)) ^ \
+    ((x) * 48 + (48 >> 1)) ^ \
+    ((x) * 49 + (49 >> 1)) ^ \
+    ((x) * 50 + (50 >> 1)) ^ \
+    ((x) * 51 + (51 >> 1)) ^ \
+    ((x) * 52 + (52 >> 1)) ^ \
+    ((x) * 53 + (53 >> 1)) ^ \
+    ((x) * 54 + (54 >> 1)) ^ \
+    ((x) * 55 + (55 >> 1)) ^ \
+    ((x) * 56 + (56 >> 1)) ^ \
+    ((x) * 57 + (57 >> 1)) ^ \
+    ((x) * 58 + (58 >> 1)) ^ \
+    ((x) * 59 + (59 >> 1)) ^ \
+    ((x) * 60 + (60 >> 1)) ^ \
+    ((x) * 61 + (61 >> 1)) ^ \
+    ((x) * 62 + (62 >> 1)) ^ \
+    ((x) * 63 + (63 >> 1)) ^ \
+    ((x) * 64 + (64 >> 1)) ^ \
+    ((x) * 65 + (65 >> 1)) ^ \
+    ((x) * 66 + (66 >> 1)) ^ \
+    ((x) * 67 + (67 >> 1)) ^ \
+    ((x) * 68 + (68 >> 1)) ^ \
+    ((x) * 69 + (69 >> 1)) ^ \
+    ((x) * 70 + (70 >> 1)) ^ \
+    ((x) * 71 + (71 >> 1)) ^ \
+    ((x) * 72 + (72 >> 1)) ^ \
+    ((x) * 73 + (73 >> 1)) ^ \
+    ((x) * 74 + (74 >> 1)) ^ \
+    ((x) * 75 + (75 >> 1)) ^ \
+    ((x) * 76 + (76 >> 1)) ^ \
+    ((x) * 77 + (77 >> 1)) ^ \
+    ((x) * 78 + (78 >> 1)) ^ \
+    ((x) * 79 + (79 >> 1)) ^ \
+    ((x) * 80 + (80 >> 1)) ^ \
+    ((x) * 81 + (81 >> 1)) ^ \
+    ((x) * 82 + (82 >> 1)) ^ \
+    ((x) * 83 + (83 >> 1)) ^ \
+    ((x) * 84 + (84 >> 1)) ^ \
+    ((x) * 85 + (85 >> 1)) ^ \
+    ((x) * 86 + (86 >> 1)) ^ \
+    ((x) * 87 + (87 >> 1)) ^ \
+    ((x) * 88 + (88 >> 1)) ^ \
+    ((x) * 89 + (89 >> 1)) ^ \
+    ((x) * 90 + (90 >> 1)) ^ \
+    ((x) * 91 + (91 >> 1)) ^ \
+    ((x) * 92 + (92 >> 1)) ^ \
+    ((x) * 93 + (93 >> 1)) ^ \
+    ((x) * 94 + (94 >> 1)) ^ \
+    ((x) * 95 + (95 >> 1)) ^ \
+    ((x) * 96 + (96 >> 1)) ^ \
+    ((x) * 97 + (97 >> 1)) ^ \
+    ((x) * 98 + (98 >> 1)) ^ \
+    ((x) * 99 + (99 >> 1)) ^ \
+    ((x) * 100 + (100 >> 1)) ^ \
+    ((x) * 101 + (101 >> 1)) ^ \
+    ((x) * 102 + (102 >> 1)) ^ \
+    ((x) * 103 + (103 >> 1)) ^ \
+    ((x) * 104 + (104 >> 1)) ^ \
+    ((x) * 105 + (105 >> 1)) ^ \
+    ((x) * 106 + (106 >> 1)) ^ \
+    ((x) * 107 + (107 >> 1)) ^ \
+    ((x) * 108 + (108 >> 1)) ^ \
+    ((x) * 109 + (109 >> 1)) ^ \
+    ((x) * 110 + (110 >> 1)) ^ \
+    ((x) * 111 + (111 >> 1)) ^ \
+    ((x) * 112 + (112 >> 1)) ^ \
+    ((x) * 113 + (113 >> 1)) ^ \
+    ((x) * 114 + (114 >> 1)) ^ \
+    ((x) * 115 + (115 >> 1)) ^ \
+    ((x) * 116 + (116 >> 1)) ^ \
+    ((x) * 117 + (117 >> 1)) ^ \
+    ((x) * 118 + (118 >> 1)) ^ \
+    ((x) * 119 + (119 >> 1)) ^ \
+    ((x) * 120 + (120 >> 1)) ^ \
+    ((x) * 121 + (121 >> 1)) ^ \
+    ((x) * 122 + (122 >> 1)) ^ \
+    ((x) * 123 + (123 >> 1)) ^ \
+    ((x) * 124 + (124 >> 1)) ^ \
+    ((x) * 125 + (125 >> 1)) ^ \
+    ((x) * 126 + (126 >> 1)) ^ \
+    ((x) * 127 + (127 >> 1)) ^ \
+    ((x) * 128 + (128 >> 1)) ^ \
+    ((x) * 129 + (129 >> 1)) ^ \
+    ((x) * 130 + (130 >> 1)) ^ \
+    ((x) * 131 + (131 >> 1)) ^ \
+    ((x) * 132 + (132 >> 1)) ^ \
+    ((x) * 133 + (133 >> 1)) ^ \
+    ((x) * 134 + (134 >> 1)) ^ \
+    ((x) * 135 + (135 >> 1)) ^ \
+    ((x) * 136 + (136 >> 1)) ^ \
+    ((x) * 137 + (137 >> 1)) ^ \
+    ((x) * 138 + (138 >> 1)) ^ \
+    ((x) * 139 + (139 >> 1)) ^ \
+    ((x) * 140 + (140 >> 1)) ^ \
+    ((x) * 141 + (141 >> 1)) ^ \
+    ((x) * 142 + (142 >> 1)) ^ \
+    ((x) * 143 + (143 >> 1)) ^ \
+    ((x) * 144 + (144 >> 1)) ^ \
+    ((x) * 145 + (145 >> 1)) ^ \
+    ((x) * 146 + (146 >> 1)) ^ \
+    ((x) * 147 + (147 >> 1)) ^ \
+    ((x) * 148 + (148 >> 1)) ^ \
+    ((x) * 149 + (149 >> 1)) ^ \
+    ((x) * 150 + (150 >> 1)) ^ \
+    ((x) * 151 + (151 >> 1)) ^ \
+    ((x) * 152 + (152 >> 1)) ^ \
+    ((x) * 153 + (153 >> 1)) ^ \
+    ((x) * 154 + (154 >> 1)) ^ \
+    ((x) * 155 + (155 >> 1)) ^ \
+    ((x) * 156 + (156 >> 1)) ^ \
+    ((x) * 157 + (157 >> 1)) ^ \
+    ((x) * 158 + (158 >> 1)) ^ \
+    ((x) * 159 + (159 >> 1)) ^ \
+    ((x) * 160 + (160 >> 1)) ^ \
+    ((x) * 161 + (161 >> 1)) ^ \
+    ((x) * 162 + (162 >> 1)) ^ \
+    ((x) * 163 + (163 >> 1)) ^ \
+    ((x) * 164 + (164 >> 1)) ^ \
+    ((x) * 165 + (165 >> 1)) ^ \
+    ((x) * 166 + (166 >> 1)) ^ \
+    ((x) * 167 + (167 >> 1)) ^ \
+    ((x) * 168 + (168 >> 1)) ^ \
+    ((x) * 169 + (169 >> 1)) ^ \
+    ((x) * 170 + (170 >> 1)) ^ \
+    ((x) * 171 + (171 >> 1)) ^ \
+    ((x) * 172 + (172 >> 1)) ^ \
+    ((x) * 173 + (173 >> 1)) ^ \
+    ((x) * 174 + (174 >> 1)) ^ \
+    ((x) * 175 + (175 >> 1)) ^ \
+    ((x) * 176 + (176 >> 1)) ^ \
+    ((x) * 177 + (177 >> 1)) ^ \
+    ((x) * 178 + (178 >> 1)) ^ \
+    ((x) * 179 + (179 >> 1)) ^ \
+    ((x) * 180 + (180 >> 1)) ^ \
+    ((x) * 181 + (181 >> 1)) ^ \
+    ((x) * 182 + (182 >> 1)) ^ \
+    ((x) * 183 + (183 >> 1)) ^ \
+    ((x) * 184 + (184 >> 1)) ^ \
+    ((x) * 185 + (185 >> 1)) ^ \
+    ((x) * 186 + (186 >> 1)) ^ \
+    ((x) * 187 + (187 >> 1)) ^ \
+    ((x) * 188 + (188 >> 1)) ^ \
+    ((x) * 189 + (189 >> 1)) ^ \
+    ((x) * 190 + (190 >> 1)) ^ \
+    ((x) * 191 + (191 >> 1)) ^ \
+    ((x) * 192 + (192 >> 1)) ^ \
+    ((x) * 193 + (193 >> 1)) ^ \
+    ((x) * 194 + (194 >> 1)) ^ \
+    ((x) * 195 + (195 >> 1)) ^ \
+    ((x) * 196 + (196 >> 1)) ^ \
+    ((x) * 197 + (197 >> 1)) ^ \
+    ((x) * 198 + (198 >> 1)) ^ \
+    ((x) * 199 + (199 >> 1)) ^ \
+    ((x) * 200 + (200 >> 1)) ^ \
+    ((x) * 201 + (201 >> 1)) ^ \
+    ((x) * 202 + (202 >> 1)) ^ \
+    ((x) * 203 + (203 >> 1)) ^ \
+    ((x) * 204 + (204 >> 1)) ^ \
+    ((x) * 205 + (205 >> 1)) ^ \
+    ((x) * 206 + (206 >> 1)) ^ \
+    ((x) * 207 + (207 >> 1)) ^ \
+    ((x) * 208 + (208 >> 1)) ^ \
+    ((x) * 209 + (209 >> 1)) ^ \
+    ((x) * 210 + (210 >> 1)) ^ \
+    ((x) * 211 + (211 >> 1)) ^ \
+    ((x) * 212 + (212 >> 1)) ^ \
+    ((x) * 213 + (213 >> 1)) ^ \
+    ((x) * 214 + (214 >> 1)) ^ \
+    ((x) * 215 + (215 >> 1)) ^ \
+    ((x) * 216 + (216 >> 1)) ^ \
+    ((x) * 217 + (217 >> 1)) ^ \
+    ((x) * 218 + (218 >> 1)) ^ \
+    ((x) * 219 + (219 >> 1)) ^ \
+    ((x) * 220 + (220 >> 1)) ^ \
+    ((x) * 221 + (221 >> 1)) ^ \
+    ((x) * 222 + (222 >> 1)) ^ \
+    ((x) * 223 + (223 >> 1)) ^ \
+    ((x) * 224 + (224 >> 1)) ^ \
+    ((x) * 225 + (225 >> 1)) ^ \
+    ((x) * 226 + (226 >> 1)) ^ \
+    ((x) * 227 + (227 >> 1)) ^ \
+    ((x) * 228 + (228 >> 1)) ^ \
+    ((x) * 229 + (229 >> 1)) ^ \
+    ((x) * 230 + (230 >> 1)) ^ \
+    ((x) * 231 + (231 >> 1)) ^ \
+    ((x) * 232 + (232 >> 1)) ^ \
+    ((x) * 233 + (233 >> 1)) ^ \
+    ((x) * 234 + (234 >> 1)) ^ \
+    ((x) * 235 + (235 >> 1)) ^ \
+    ((x) * 236 + (236 >> 1)) ^ \
+    ((x) * 237 + (237 >> 1)) ^ \
+    ((x) * 238 + (238 >> 1)) ^ \
+    ((x) * 239 + (239 >> 1)) ^ \
+    ((x) * 240 + (240 >> 1)) ^ \
+    ((x) * 241 + (241 >> 1)) ^ \
+    ((x) * 242 + (242 >> 1)) ^ \
+    ((x) * 243 + (243 >> 1)) ^ \
+    ((x) * 244 + (244 >> 1)) ^ \
+    ((x) * 245 + (245 >> 1)) ^ \
+    ((x) * 246 + (246 >> 1)) ^ \
+    ((x) * 247 + (247 >> 1)) ^ \
+    ((x) * 248 + (248 >> 1)) ^ \
+    ((x) * 249 + (249 >> 1)) ^ \
+    ((x) * 250 + (250 >> 1)) ^ \
+    ((x) * 251 + (251 >> 1)) ^ \
+    ((x) * 252 + (252 >> 1)) ^ \
+    ((x) * 253 + (253 >> 1)) ^ \
+    ((x) * 254 + (254 >> 1)) ^ \
+    ((x) * 255 + (255 >> 1)) ^ \
+    ((x) * 256 + (256 >> 1)) ^ \
+    ((x) * 257 + (257 >> 1)) ^ \
+    ((x) * 258 + (258 >> 1)) ^ \
+    ((x) * 259 + (259 >> 1)) ^ \
+    ((x) * 260 + (260 >> 1)) ^ \
+    ((x) * 261 + (261 >> 1)) ^ \
+    ((x) * 262 + (262 >> 1)) ^ \
+    ((x) * 263 + (263 >> 1)) ^ \
+    ((x) * 264 + (264 >> 1)) ^ \
+    ((x) * 265 + (265 >> 1)) ^ \
+    ((x) * 266 + (266 >> 1)) ^ \
+    ((x) * 267 + (267 >> 1)) ^ \
+    ((x) * 268 + (268 >> 1)) ^ \
+    ((x) * 269 + (269 >> 1)) ^ \
+    ((x) * 270 + (270 >> 1)) ^ \
+    ((x) * 271 + (271 >> 1)) ^ \
+    ((x) * 272 + (272 >> 1)) ^ \
+    ((x) * 273 + (273 >> 1)) ^ \
+    ((x) * 274 + (274 >> 1)) ^ \
+    ((x) * 275 + (275 >> 1)) ^ \
+    ((x) * 276 + (276 >> 1)) ^ \
+    ((x) * 277 + (277 >> 1)) ^ \
+    ((x) * 278 + (278 >> 1)) ^ \
+    ((x) * 279 + (279 >> 1)) ^ \
+    ((x) * 280 + (280 >> 1)) ^ \
+    ((x) * 281 + (281 >> 1)) ^ \
+    ((x) * 282 + (282 >> 1)) ^ \
+    ((x) * 283 + (283 >> 1)) ^ \
+    ((x) * 284 + (284 >> 1)) ^ \
+    ((x) * 285 + (285 >> 1)) ^ \
+    ((x) * 286 + (286 >> 1)) ^ \
+    ((x) * 287 + (287 >> 1)) ^ \
+    ((x) * 288 + (288 >> 1)) ^ \
+    ((x) * 289 + (289 >> 1)) ^ \
+    ((x) * 290 + (290 >> 1)) ^ \
+    ((x) * 291 + (291 >> 1)) ^ \
+    ((x) * 292 + (292 >> 1)) ^ \
+    ((x) * 293 + (293 >> 1)) ^ \
+    ((x) * 294 + (294 >> 1)) ^ \
+    ((x) * 295 + (295 >> 1)) ^ \
+    ((x) * 296 + (296 >> 1)) ^ \
+    ((x) * 297 + (297 >> 1)) ^ \
+    ((x) * 298 + (298 >> 1)) ^ \
+    ((x) * 299 + (299 >> 1)) ^ \
+    ((x) * 300 + (300 >> 1)) ^ \
+    ((x) * 301 + (301 >> 1)) ^ \
+    ((x) * 302 + (302 >> 1)) ^ \
+    ((x) * 303 + (303 >> 1)) ^ \
+    ((x) * 304 + (304 >> 1)) ^ \
+    ((x) * 305 + (305 >> 1)) ^ \
+    ((x) * 306 + (306 >> 1)) ^ \
+    ((x) * 307 + (307 >> 1)) ^ \
+    ((x) * 308 + (308 >> 1)) ^ \
+    ((x) * 309 + (309 >> 1)) ^ \
+    ((x) * 310 + (310 >> 1)) ^ \
+    ((x) * 311 + (311 >> 1)) ^ \
+    ((x) * 312 + (312 >> 1)) ^ \
+    ((x) * 313 + (313 >> 1)) ^ \
+    ((x) * 314 + (314 >> 1)) ^ \
+    ((x) * 315 + (315 >> 1)) ^ \
+    ((x) * 316 + (316 >> 1)) ^ \
+    ((x) * 317 + (317 >> 1)) ^ \
+    ((x) * 318 + (318 >> 1)) ^ \
+    ((x) * 319 + (319 >> 1)) ^ \
+    ((x) * 320 + (320 >> 1)) ^ \
+    ((x) * 321 + (321 >> 1)) ^ \
+    ((x) * 322 + (322 >> 1)) ^ \
+    ((x) * 323 + (323 >> 1)) ^ \
+    ((x) * 324 + (324 >> 1)) ^ \
+    ((x) * 325 + (325 >> 1)) ^ \
+    ((x) * 326 + (326 >> 1)) ^ \
+    ((x) * 327 + (327 >> 1)) ^ \
+    ((x) * 328 + (328 >> 1)) ^ \
+    ((x) * 329 + (329 >> 1)) ^ \
+    ((x) * 330 + (330 >> 1)) ^ \
+    ((x) * 331 + (331 >> 1)) ^ \
+    ((x) * 332 + (332 >> 1)) ^ \
+    ((x) * 333 + (333 >> 1)) ^ \
+    ((x) * 334 + (334 >> 1)) ^ \
+    ((x) * 335 + (335 >> 1)) ^ \
+    ((x) * 336 + (336 >> 1)) ^ \
+    ((x) * 337 + (337 >> 1)) ^ \
+    ((x) * 338 + (338 >> 1)) ^ \
+    ((x) * 339 + (339 >> 1)) ^ \
+    ((x) * 340 + (340 >> 1)) ^ \
+    ((x) * 341 + (341 >> 1)) ^ \
+    ((x) * 342 + (342 >> 1)) ^ \
+    ((x) * 343 + (343 >> 1)) ^ \
+    ((x) * 344 + (344 >> 1)) ^ \
+    ((x) * 345 + (345 >> 1)) ^ \
+    ((x) * 346 + (346 >> 1)) ^ \
+    ((x) * 347 + (347 >> 1)) ^ \
+    ((x) * 348 + (348 >> 1)) ^ \
+    ((x) * 349 + (349 >> 1)) ^ \
+    ((x) * 350 + (350 >> 1)) ^ \
+    ((x) * 351 + (351 >> 1)) ^ \
+    ((x) * 352 + (352 >> 1)) ^ \
+    ((x) * 353 + (353 >> 1)) ^ \
+    ((x) * 354 + (354 >> 1)) ^ \
+    ((x) * 355 + (355 >> 1)) ^ \
+    ((x) * 356 + (356 >> 1)) ^ \
+    ((x) * 357 + (357 >> 1)) ^ \
+    ((x) * 358 + (358 >> 1)) ^ \
+    ((x) * 359 + (359 >> 1)) ^ \
+    ((x) * 360 + (360 >> 1)) ^ \
+    ((x) * 361 + (361 >> 1)) ^ \
+    ((x) * 362 + (362 >> 1)) ^ \
+    ((x) * 363 + (363 >> 1)) ^ \
+    ((x) * 364 + (364 >> 1)) ^ \
+    ((x) * 365 + (365 >> 1)) ^ \
+    ((x) * 366 + (366 >> 1)) ^ \
+    ((x) * 367 + (367 >> 1)) ^ \
+    ((x) * 368 + (368 >> 1)) ^ \
+    ((x) * 369 + (369 >> 1)) ^ \
+    ((x) * 370 + (370 >> 1)) ^ \
+    ((x) * 371 + (371 >> 1)) ^ \
+    ((x) * 372 + (372 >> 1)) ^ \
+    ((x) * 373 + (373 >> 1)) ^ \
+    ((x) * 374 + (374 >> 1)) ^ \
+    ((x) * 375 + (375 >> 1)) ^ \
+    ((x) * 376 + (376 >> 1)) ^ \
+    ((x) * 377 + (377 >> 1)) ^ \
+    ((x) * 378 + (378 >> 1)) ^ \
+    ((x) * 379 + (379 >> 1)) ^ \
+    ((x) * 380 + (380 >> 1)) ^ \
+    ((x) * 381 + (381 >> 1)) ^ \
+    ((x) * 382 + (382 >> 1)) ^ \
+    ((x) * 383 + (383 >> 1)) ^ \
+    ((x) * 384 + (384 >> 1)) ^ \
+    ((x) * 385 + (385 >> 1)) ^ \
+    ((x) * 386 + (386 >> 1)) ^ \
+    ((x) * 387 + (387 >> 1)) ^ \
+    ((x) * 388 + (388 >> 1)) ^ \
+    ((x) * 389 + (389 >> 1)) ^ \
+    ((x) * 390 + (390 >> 1)) ^ \
+    ((x) * 391 + (391 >> 1)) ^ \
+    ((x) * 392 + (392 >> 1)) ^ \
+    ((x) * 393 + (393 >> 1)) ^ \
+    ((x) * 394 + (394 >> 1)) ^ \
+    ((x) * 395 + (395 >> 1)) ^ \
+    ((x) * 396 + (396 >> 1)) ^ \
+    ((x) * 397 + (397 >> 1)) ^ \
+    ((x) * 398 + (398 >> 1)) ^ \
+    ((x) * 399 + (399 >> 1)) ^ \
+    0
+static const int32_t table[] = {
+    94754, -6932, 17835, -10126, 24915, 9264, -14866, -65802, -93889, 95743, 42891, -43163, 92083, -18553, 801, 3421, -53993, 75747, -32392, 72184,
+    52304, -93381, -38435, 51360, -2382, -52961, 41063, 88155, -10915, -95656, -96596, 9527, -92153, -15661, 36545, -42050, 67074, -38493, 12065, -85238,
+    4500, 12740, 14451, 22235, 78692, -61529, 16815, -25740, -87608, 38174, 95409, -14751, -35213, 17109, 64714, 93048, 8030, -3195, -40373, 55135,
+    -88421, -81629, 41337, 99726, -45787, -13102, 91634, -31033, -8660, 24249, -52247, -70222, 89762, -88029, 42057, 68238, -58343, 18246, 49736, 6668,
+    21126, -54625, -51555, 70202, -92866, -61154, 53425, -83313, 70356, 59011, -54042, 62405, 71647, -91192, 53231, -80693, 10510, -66469, -5880, -73617,
+    -93934, -63402, 8307, 45520, 17796, 58088, 77525, -7502, 47678, -35717, -31212, -79205, 9183, 40409, 43497, 55499, 73080, -83071, -1587, 35921,
+    -37459, 418, -77841, -59859, -80111, 60277, 53394, 52220, -66513, -87674, 26939, 84292, 70911, -27044, -1056, -88567, -83610, -82747, -14299, 99961,
+    -91436, -50228, 74151, 93212, 11255, -51929, 99084, -30277, -51292, -54821, -76387, -94607, -38861, -73315, -66916, 17497, 21508, -3789, 85196, 76083,
+    91489, -30217, 7767, 72437, -15879, 79628, 83588, -12818, 93515, -85717, -37629, -40019, -42997, -77506, -96359, -32390, 60856, 99600, -42064, 74942,
+    28929, 52122, 85204, 93584, 54271, 29184, 13895, 15403, -99910, -854, 68413, 30038, -97206, 81383, -78023, 18973, 74092, 24857, 58962, 12392,
+    -75163, -19974, -78221, -47672, 75515, 58196, -17231, -20594, -11534, -12296, -52818, -62629, -15079, 41136, 64645, 18795, -61930, -42464, -58574, -24009,
+    -55187, 77523, 4090, -4213, 92366, -7035, 60955, -89235, -18151, -83143, -86173, 81879, 4477, 64875, -82897, -51716, 28892, -28602, -36133, 5663,
+    -82265, -19600, 47135, 63043, -15557, 17080, 33330, 69821, -16621, 82530, -64190, -76647, 80778, 96797, -16415, 49432, 5890, 72668, -75299, -99974,
+    67051, 92853, 25171, -26517, -39075, -35955, -66984, 66348, 24109, 26322, -83298, 17251, 84290, 37173, -14684, -12832, -18264, -90257, 87066, -84059,
+    -69047, -93704, -7771, 25101, 74606, 59460, 95352, 15864, 35340, -44093, -39072, 44540, -80132, 27827, -4911, -93258, 94294, -87570, 63189, 16966,
+    -8435, 50904, 90149, -62895, 1802, -32002, 83969, -88741, 53378, -7101, -85668, 34276, -19781, -12938, -22151, -32117, 6743, -31659, -42494, -90860,
+    -67105, -23730, 28163, 92241, -7870, 51254, -11322, 83201, -99948, 84883, 7472, 15173, 24090, -89205, 39793, 11148, -97903, -28621, 49839, 43760,
+    -71589, -63613, 33591, 32811, -32776, -227, 49125, 33982, 9798, -39379, 19960, 67094, -39612, -60287, -66418, 28193, 84277, -7290, 95756, -49050,
+    -48114, -58420, 57874, -5742, -3824, 36472, -44245, -47573, 7526, -77105, -38544, 62865, -98773, -25436, 97743, -58972, -19094, 53818, -95704, -64744,
+    -85539, -77251, 1803, 22506, -48318, 34586, 6679, 42873, 57651, 19598, -43030, -93352, 90305, -51251, 64045, -73295, -30859, 46427, 23488, 39097,
+    83952, 42042, -15811, -61934, -29904, 69475, -40022, 43520, -75898, -16274, 93325, 83128, 16764, 18403, 18839, -34152, 92106, 44465, 13696, 86943,
+    -44101, -22727, 68278, -51163, 47885, 19979, -53770, 68386, 66291, 50902, 30742, -12510, -59470, 1093, -19624, 47545, -54515, -16094, -56817, -45933,
+    92041, 84077, 57846, 30652, -99660, 78501, 51895, 39978, -32988, -47589, -45398, 72737, 43268, 47190, -43257, -85170, 48297, -42615, -99134, -47204,
+    -46197, -16720, -68401, -93400, 35406, 128, -16667, -33082, -20111, 9123, -53974, -29731, 32830, -14051, 7309, 61239, 95179, 74776, 29959, 64217,
+    78253, 45563, -22923, 92939, -82715, 91098, -51919, 74984, -61575, -22702, -90204, 81460, 93426, 65078, 38212, 61330, 19218, 63930, 6211, 61700,
+    8567, 25161, -19573, 42641, 44661, 34061, -41648, 1038, -69126, -93909, -79653, -36002, -89729, -16847, 35491, -20570, -18600, 29495, 77788, -34547,
+    24870, 53400, -77781, 3402, -82172, -86733, 17382, -16770, 99638, 87252, 2335, 86186, 35543, -26666, -44238, -10959, 32446, 61901, 36500, 24314,
+    81431, 23711, -40373, 45451, 46562, -77663, -52306, -71034, 56824, -84558, -69966, 72687, 37457, -84734, 20981, 25827, -89609, 96003, -32337, -65429,
+    -76784, 64359, -11226, 34639, -68098, -53375, -32061, -44859, 12163, 45944, -26151, 9634, 26134, 56845, 74267, 63740, -7854, -57394, 45715, 98911,
+    71184, 36466, 49655, 82230, -35196, 1344, 48366, 78264, -80518, 64848, -24040, 38135, 17638, 96379, -67355, 337, -41465, -79916, -18636, -85685,
+    -2791, 58403, -83747, 24003, -78771, 83546, -49939, -35517, 87100, -37723, 83007, 81339, -3138, 38156, -55405, -51077, -39088, 26857, 46478, 39235,
+    -96857, -11909, -7412, 91168, 7786, 278, 37501, 47972, 15385, -69959, 21425, -34793, -24823, -37496, 78915, 56058, 80169, -96187, 81610, 56564,
+    -12625, 68109, -51307, -65082, 31939, 84884, -79289, 97049, -52735, 17944, 84091, -53157, -98972, -50070, 408, -4677, 9613, 81863, -21037, 34145,
+    -51649, -6853, 72393, 18953, -82420, 88474, 7435, 84424, -52982, 1283, -22679, 45991, 63266, -82198, 33139, 63374, 29897, -90315, -75829, -10728,
+    25704, -52047, -56267, -95996, -21413, 60506, 98296, 34388, 88296, 3014, -92434, -33689, 39101, -30871, 15483, 84947, 61472, 82536, -5351, 84202,
+    57728, -62318, 7967, 52728, -72243, -9083, 61052, 65700, 21979, 92492, 3002, -28206, 26662, 82998, -93616, -82376, 6101, -31067, -80250, -94054,
+    -97195, -79532, 61338, -24702, -9993, 13987, 66757, 4782, -22493, -94220, -45773, -61836, 66109, -72564, -32723, 99460, 63295, 31453, -21202, 80016,
+    -72747, -38024, 33113, 94114, 9484, -70091, -35115, 87588, 79202, -14014, -43820, -65992, -83244, 43832, -67487, -32838, 29649, -10136, -43432, 46692,
+    74278, 4922, 66916, -58888, -90395, 74112, -34172, 23592, 3190, -80212, 36565, 99786, 42151, 98013, -87363, -50726, 23117, 8223, -49872, -19685,
+    -78349, -78517, -734, 23487, -39934, 45744, -96132, -96269, 15908, 16769, 95368, -1996, 11043, -64257, 12051, -43857, -83320, 3322, 43420, 7148,
+    85688, 85850, -38799, -27859, -92431, -2098, -9213, 92383, -10170, 89819, -83224, 94350, 53304, 17415, 17375, -92822, 14108, -84956, 37759, 21536,
+    -88079, -37281, -54270, 94963, -72840, -9394, 37653, -74946, -96524, -31587, 7388, -93353, 785, 81529, -74160, -69878, -23811, 96547, 8058, -14720,
+    79598, 22407, 67929, 43470, 728, -91170, -64899, -60431, 17737, -61651, -8515, 55591, -69937, -32999, -81590, -24163, -19067, 70035, -789, 80396,
+    -92472, -86859, -12235, -29986, 64416, -77205, -87481, 74866, -45515, 19245, -52625, 74312, -55019, 54138, 25992, -2403, -27335, -27786, 18339, -79702,
+    46371, -29275, -22065, -94711, -22421, 71045, -95019, -78564, 35429, 97205, 71573, -74481, -25625, 14053, -13274, -53147, -22836, 17745, 7002, -16109,
+    8047, -85221, 70068, 17425, -20278, 94088, 46812, -63367, -58022, -11634, -64844, 16106, -65743, -69499, -55254, 63420, -67199, 25859, 77941, -30062,
+    76632, -99486, 48180, 67130, -54318, 53037, -43823, 11351, 19032, -92438, 73771, 98053, -75719, -30090, -99511, 90453, -24872, 26817, -6707, 75128,
+    -36609, -78084, -87608, -22941, 43785, 14693, -81121, 15294, -87449, 62534, 5733, -36113, 80992, 87722, -43804, -81131, -37618, -89807, -54714, 77554,
+    82169, -31856, -32647, 22907, 53159, 3942, -72475, 15042, 86510, -37347, 34910, -16807, 90219, 90321, 55834, -95472, -31597, -53847, -20552, -54219,
+    71975, 99594, 25273, 3041, 58108, 11056, -13952, -37529, 20344, 22352, 74600, 27368, 61651, 24541, -31176, -42235, -43062, -80433, -53702, 48880,
+    78358, 24068, -17775, 7884, -88707, 29135, -93206, 73962, 47927, 66207, -80886, 3387, -75829, 58077, -48581, 42105, -76858, -77306, -19821, -33732,
+    63211, -32586, -85493, -67516, -16223, -76139, -29793, 90214, -15447, 16492, 17759, -41050, -65846, -52019, -94699, -69015, -39451, 17472, 12968, -41936,
+    -44672, -27797, 80318, -45889, 39720, 3874, 96553, 47970, -32278, 32130, -60742, 52960, -16481, -1314, -16508, 92144, 1553, -18498, 40592, 8543,
+    -2675, -51399, 51431, 26114, 28999, -9278, -42095, 84666, 46578, 54724, -5941, 61158, 71716, 60213, 38871, 25189, -72882, -52659, -3775, 2719,
+    -19357, 32803, -12384, -18969, 11772, -26071, 9542, 4674, 58156, -73244, 64139, 28380, 41336, 92796, -99455, 32848, -14431, 70732, 97744, -23276,
+    1938, 51602, 56184, 59163, 74725, -34612, -27187, -39055, -92835, 2806, -14958, -50770, -79504, -85521, 53551, 43370, 45989, 11940, -30427, 79215,
+    -1174, 90813, -54341, -18150, -28598, -29023, 70947, 52482, -79492, 895, -14630, -55881, 59966, -26279, -73834, 57221, 1144, -78540, -23951, -94681,
+    -40721, -89440, 60428, -93236, -41115, -52498, 3035, 63616, 77854, -30183, 82388, 94258, -75634, -44245, 55508, -51342, 88700, -45651, -57840, 68995,
+    79265, -25464, -98219, 72147, 37107, 93702, -96460, 94986, 56022, -42519, -62124, -96643, -26470, -3107, 16727, 98580, -76282, 21457, -9472, -7973,
+    77549, 5798, -77248, 97699, 88952, -48927, 59121, -84186, -46850, -16839, 48308, 48233, -38145, -52508, -74700, 98560, 31487, 40356, -23057, 67279,
+    32297, 79943, 93560, -93965, 20020, 20583, -76499, -12179, -89665, 49317, -6365, 43313, -10519, 283, -43100, 1080, -89340, 32490, 47513, 78218,
+    16708, -15929, 39347, -54568, 64119, -47970, -91977, -75685, 65433, 51581, -84289, -18644, -42015, -84799, -22165, -34734, 10336, -45626, -22977, 17982,
+    -16972, -31723, 46053, 53288, 24696, -86999, -5958, -17965, 59220, 30374, 281, 97809, 69224, 50855, -14728, -76374, -65846, -83281, 85252, 61014,
+    -49755, 58805, -27512, 14723, 85419, 65504, 5852, -95383, -77358, -98808, 37069, -17173, -54056, 52990, -19204, 25117, 75429, -78280, 17039, 54548,
+    -32420, -96501, -24211, 52158, -59560, -11684, -37243, -43195, -54602, -68553, -51494, 13223, -9980, 56559, -56256, -19206, -30134, -57855, 87765, 27459,
+    61163, 11761, -47150, -45024, 57426, -37485, -50143, -76128, -31346, -41016, 38830, 56158, -13705, -55424, -33760, -69402, 94730, -69702, -82919, -71978,
+    -77782, 30645, 78245, 20506, -20145, -30018, 9166, 18557, 12838, -90070, -98911, -29255, 21018, -75062, -74906, 30908, -28398, 81695, 4609, 87818,
+    -7888, 46251, 65907, 62691, 59712, 45312, -20916, 89776, -20006, -11576, 44132, 8124, -51952, -34084, -91372, 10424, -94432, -20772, -85143, 54511,
+    -47159, 43683, 6396, -62787, -25717, -46165, -39587, 80693, 56390, 46418, -56034, 22760, 73990, -35197, 48920, 10715, 57049, -60744, -35066, 97880,
+    1168, -63872, 2381, 96174, 35763, -68076, 85665, -11095, -63106, 1957, 68104, 77941, -91905, -89089, 39338, -80225, 59395, -19566, -86450, -67557,
+    58530, 30206, -71210, 73469, -3875, -39618, -54937, 34958, 63629, -47437, -63142, 9154, 23223, 1331, 28737, 98454, -78014, 6122, -36775, -4083,
+    -31656, -89583, 40795, 76999, -46350, 92269, -72930, -37225, 32231, 19760, -27953, -51823, 96261, -23952, 62332, 82327, -90214, -83405, 7927, 37667,
+    -26045, -39202, 85866, 6639, -23399, 21999, -15269, 86780, -17479, 75219, -87539, 16883, 96000, 16692, 39183, 44767, -31770, -39100, -38988, -75045,
+    49288, -19632, 81118, 79788, -47217, -449, -2200, -56442, 32154, -14549, 17276, 9681, 81430, 688, -74522, 98405, 70914, 73548, 9410, 25834,
+    -3398, 4684, -22119, -17150, 86903, 94384, -97662, -9469, 91109, 49772, -56408, -50010, 20287, -73173, 16931, 83051, 22876, -84773, 47126, -60767,
+    87429, -69219, -61148, 41290, 65975, -35604, 5515, -54672, 70212, 27238, 54313, 24865, -66796, -93670, 87654, 77035, 41612, -88944, -89787, 25788,
+    40169, 97763, 17253, -35806, -25996, 61037, 48819, 82846, 55068, 1493, -77768, 67739, -4383, -4858, -1403, 84224, -39317, 54717, -82604, -74670,
+    -79758, -63924, 32145, 57596, -15049, -69062, -34587, 38266, -46559, -56220, 40545, 27855, -60370, -9571, -64846, 11635, -53092, 19271, -30988, 12053,
+    1756, 15736, -12309, 91840, -54428, -12710, -27592, 65773, 9281, -16761, 20999, -23039, -72109, -45851, 11042, -44777, 20283, -45041, -12663, 78261,
+    -18203, 66062, -59425, 43011, -76357, 3334, 71752, -25240, 38709, 90623, 28815, -71574, -38156, 66451, 74547, 91395, -89110, -11894, 52593, -88275,
+    -91491, -75436, -44447, -87917, 86540, -54998, 32173, 14629, -23994, 30192, -14188, 10304, -98674, -7489, -58129, -55817, -33817, 26043, -50645, -19917,
+    -38625, -70578, 25, 89328, -56837, 8710, -63743, -87694, -66327, -67449, -64736, -53394, 6640, -67091, 71946, 9208, 55536, 57525, 62420, -15741,
+    -99096, -38875, -34884, 26942, 30400, -45424, 7265, -12321, 21408, 69748, -10135, -24632, -16524, -69585, 7489, 20454, -28980, 50491, -85739, -48533,
+    -92835, -83, -55501, -63135, -72573, -29571, -65684, -89325, 60362, 99790, 79615, -1760, 44579, -14878, 76879, 21475, -77550, -58864, -84834, 31755,
+    -56860, 32067, -96171, 86818, 64645, 97349, -37344, 9197, -85670, -55981, 96657, -49695, 27652, -54788, -13626, -16455, -7304, 78480, -99267, -99959,
+    -59487, -24717, -80960, -50556, -92458, -80787, -78411, -42169, -88573, 87639, -39609, -7473, -8797, -9688, -76277, 43773, 24137, -70522, 55798, -2445,
+    8405, -71384, -20846, -30165, -9163, -37484, -19071, 62994, 43698, 80713, -96549, 93329, -66573, 42606, -19000, 20712, 49502, -64533, -49293, -97206,
+    83497, -29940, -97391, -74719, 49375, 53972, 23561, -16974, 4779, 32810, -46995, -44992, -74968, 70546, 61668, 88990, 6485, 54083, 12565, -33711,
+    -84149, 45079, -31823, 43460, 99337, 77770, -9310, -42055, -29684, -85005, 25405, 59439, 23754, -22458, 91636, 39904, -95820, -62668, -46963, 6747,
+    68485, -29749, 94833, -95154, -51337, 64605, 17909, 78305, -23189, -63640, -26539, 29372, -77555, -3280, 65417, 31953, -66515, -72088, 13945, 66007,
+    2380, -60191, 86222, 99574, -63430, 2003, 10809, -98685, -21602, -47558, 35413, 35567, -98242, 15606, 41076, 82851, -46200, 73954, 29146, 55644,
+    -39326, -54525, 230, -21519, 31440, -17708, -64156, -16097, -34574, 33805, -44021, -95846, -46126, -77384, 53323, 50667, 77445, -67919, 51917, -42875,
+    -42823, -40306, -5099, 98827, -84582, -29044, -71174, -78920, -90867, -49530, -81744, 15292, 22050, -26788, -15567, -26035, 16630, -42639, -47489, -88278,
+    -72958, 47030, 34735, -12496, 17071, 66333, 32481, 91887, -18143, 68844, 81138, -2156, -54729, 88432, -19865, 25354, -31479, -99890, -47244, -21982,
+    79021, -26687, 41837, -40357, 84509, 78603, 26102, 74026, -98492, 17211, 37458, -408, -7330, -40246, -12155, -86821, 30603, 43864, -36732, -92222,
+    -33002, 50411, 6771, 79683, 95658, -36028, -25992, -60605, 19670, 47412, -92690, -54103, -8376, 22700, -14580, 59532, 76756, -11605, 20810, -24365,
+    -65362, -24949, 54986, 19659, -46377, -2757, -41892, -70010, -76940, -54855, 56213, 2551, 88452, 39997, -17016, -88711, -84390, 95071, -27794, -59877,
+    80656, 70678, 34108, -56657, -93981, 68036, 56868, 61838, 71454, -2049, 74550, 6312, 43590, 40594, -57124, 94797, -7223, 26956, 12731, -56040,
+    -56420, 70508, -55602, 43864, 89154, 10232, -82461, 46645, 98838, -10625, -12780, -58585, 12664, -81860, 63603, 97250, 92169, 50660, -35449, -971,
+    43867, -55742, 80410, 63412, 74407, -30695, -42557, -48612, 1252, 96896, 12297, 96376, -45049, 11487, -79159, 45233, -64536, -99160, 35424, 97984,
+    -27331, -87249, 89490, 87070, -37535, -68886, 83277, -43707, 91457, -66354, 11521, -20249, 61177, 59834, 26100, 91687, 32194, 91346, -73456, 38377,
+    1998, 28594, 2873, -11255, -38119, 35704, 23123, -93812, 13189, 11348, -15219, -15863, -1747, 8641, 43618, 31934, -12067, -86067, -3620, -11311,
+    11274, -21446, 46991, -92355, 75872, -89800, 43954, -10316, 92924, -28275, 43329, -33877, 25859, 99034, 19769, -34397, 47942, -35237, -47358, -36366,
+    -79891, 61203, -28321, 96869, 70586, 79848, 58679, -24156, 29772, 21145, -92486, 40911, -24468, 38166, -36011, -55989, 63051, -21083, -8967, -52995,
+    -96131, -23518, 71587, 14986, -5604, -79164, 94344, -54177, 82282, -93605, 55037, -35767, -47476, -9790, 35563, -96900, -46928, -66747, -61101, -72225,
+    62622, -93141, 66822, 72834, 7169, 66822, 7543, 11783, 86983, 55841, -93155, 27415, -67239, -86642, 27034, -26068, 46212, 35685, -37126, 15905,
+    74632, -13192, 96363, -90245, -73543, -93171, 1054, 26679, -46961, 8461, -40490, 71384, -95124, -42634, -69721, 20099, 45759, -46158, 91907, 33290,
+    -50745, 39483, -94837, 71638, -1022, -9217, 61582, 32392, -18152, -87528, 9420, -14509, 64628, -80541, 61057, 86753, 13523, -91824, 67843, -61790,
+    -71096, 74245, 67000, -78021, 11315, 275, -94462, 76712, -34067, 68159, -43567, 44951, -86157, -68222, 36963, -53647, 36163, -19012, -70840, -5497,
+    -40540, 30815, -94972, -9780, -7953, 12300, -54262, 26386, -78723, -20201, -93661, 61304, 79527, -88851, 55662, 89531, 12000, -72672, -82105, 56298,
+    70509, -76866, 75611, 65358, 69698, 17386, -48682, 6478, 99318, -8478, -60702, -79175, -63026, -62235, 53246, 75757, -3112, 22205, -66345, 84438,
+    71145, -39031, -56427, -58655, -79803, -35270, 88175, -95768, -54794, 5154, -90364, 19694, 14067, 35201, -38822, 16698, -72796, 5774, 95637, 83169,
+    65075, -12892, 7176, 66398, -38468, -51361, 53607, 28899, 33197, -26335, -72920, 6638, -85352, -46322, 48225, 41605, -79008, -5605, 23754, -39260,
+    -7153, -15489, 83699, -27324, -53228, -47024, -11029, -88518, -44299, 93819, 83841, 10433, 71670, -25292, -60584, -21666, 5309, 25964, 5040, 95109,
+    -94904, 58879, 1726, 37090, 62863, 55598, 89660, -95886, -92649, -89609, 19728, 7235, -90106, -78082, -98410, 24732, -78738, -3016, -79908, 24746,
+    6342, -16001, -17676, -73801, -53032, 87532, -86491, 42559, -46237, -31777, 33160, 10084, 83519, -87488, -69290, -12993, -54483, -61365, 66415, 34481,
+    94861, 84784, -74243, -81348, -94405, 92775, -67711, 16373, -20776, -59011, -50831, 23069, 39330, -61925, -6429, -8502, -66723, -81295, -60901, 2940,
+    72962, -46522, -12576, 59666, 41697, -71828, -67226, 21610, -46337, -98657, 98139, -57302, 2164, -63890, -55116, 31211, 8927, 23374, 64923, 53067,
+    7569, -99530, 5184, 52361, 22726, -49030, -59037, 96343, -90054, -24514, -66774, 68517, -36980, -8897, 82730, -56956, -42540, -65636, -56870, 13506,
+    -7846, -23700, 91863, 96679, 39448, 32746, -24208, -28409, -77666, -29011, 44455, 37811, 69539, 17087, -35396, 23239, 48972, 1731, 52293, 841,
+    55881, 85638, -49570, 23390, 66312, 16433, -26289, -78253, 2023, 34161, 10448, -25202, -29431, 7354, -85422, -36543, 80002, -93376, -55372, -98689,
+    -49942, 59630, -49014, -95661, -15767, -48049, -40205, 29799, -4315, -8165, -699, -33101, -8244, 50097, 46994, -61245, -26964, 98446, -78711, -84321,
+    -12290, -82414, -3029, 68583, -18380, 56813, 61172, 24825, -80149, 98677, 82488, 84408, 45419, -59981, 69685, 36504, -73340, -95209, 85781, -73531,
+    -51286, -21454, -1935, -3592, 30254, -74562, -82833, 40756, -58552, -80420, 65176, 188, 31501, -83459, -49563, -22682, -22890, -66562, 66431, 94508,
+    -86325, 53296, -75695, -48761, -37438, 77192, 79281, -2403, 14275, -9470, -58260, -66872, -80163, 60209, 54259, -42040, -72357, 51121, 52393, 18404,
+    -28625, -7545, -5498, -66321, -94087, 90198, 87339, -96809, -87620, 45689, 4746, 59349, -5560, 69308, 12988, 40027, -80862, -97235, -19187, -14841,
+    92664, -98220, 61896, 67564, -66895, 79250, -17867, -93539, -75200, 73086, 72996, 82731, 82407, 93476, 40819, -93922, -52521, 59232, 46316, -55246,
+    46317, -43541, 85442, 46944, 96936, -21835, -45244, -63415, 361, -77516, -92602, -72816, 19662, 67492, -32710, -37183, -83433, 66911, -46495, 54082,
+    84015, -37722, -2513, 65646, 53214, -43992, -6397, 23368, 94022, -90178, 77539, -24749, -51516, -35618, 89112, 92318, -91088, -94753, 94680, -92613,
+    -64902, -7984, -4640, 28517, 27632, 24366, -63425, -46489, -79296, 91003, 62278, -35119, 40627, -22959, 196, 59532, -82969, 17834, 49698, 41224,
+    6775, 31181, -83292, -10904, 61467, 2844, 90246, -44976, 81522, -93677, 21984, -46973, 72089, 69724, 61490, -16204, 83258, 98213, 19322, -72302,
+    28207, -84042, -92392, 34412, -62259, 66957, 33818, 33761, -54924, 36604, -73377, 73478, -84058, -15303, 55955, -42494, 42969, 13090, -42295, 39869,
+    92709, 60644, -46772, 40617, 72380, 12528, 38380, -75963, -89164, 54706, 72943, 10327, 98943, -85805, -42399, -27385, 70141, -71165, 51925, -22425,
+    9690, 76602, 60473, -72209, 23575, 80356, 55646, 50765, 32341, -46149, 24669, -50000, -5551, 57238, -47583, -45898, -92852, -47424, -51213, 9507,
+    -26604, -30112, -6066, 96921, 1027, 36049, 24601, 97311, -13855, 41766, -65831, 13461, -73030, 40319, 60663, -89177, 44882, 72157, -72609, 21107,
+    62085, 56174, 69874, -75509, -69244, 43767, 34397, -69433, -43457, -21513, 34610, 61555, -85953, -88795, 20986, -22589, -18000, -54735, -25539, 96626,
+    -98662, 78038, 76829, 4775, 28663, -1131, 84434, 61244, 80506, 70228, 81848, -7646, 61603, -54663, 61462, 20659, 43129, 617, 66171, 61853,
+    -24129, 87640, -19972, 52122, -49444, 4617, 18969, -26704, -7221, -30201, -18601, -81438, 79357, -56248, -96445, 30805, 35643, 50879, 68898, -9586,
+    91696, 56301, -43122, -37867, 36124, -47466, 16917, 5529, -3703, 41773, -50973, -90871, -18376, 14869, 78765, -73915, -61478, 50312, -81225, -58752,
+    83031, -43307, 14837, 93391, -66128, -76456, 1608, -73227, 58110, 43229, 58461, 27151, -36070, -16406, 38997, 51036, -89856, 63286, -44136, -29743,
+    37597, 64456, 37997, 6152, -2118, 40814, 3326, -14446, -35015, 875, 40725, 19352, -4725, -56226, 23998, 27247, 31885, -85827, 324, -74002,
+    6192, -80670, -17734, -72605, 88107, 69609, -39265, -29758, -5605, -65398, 19540, 77916, -51469, -12762, 94847, 92499, 34746, -4185, 17856, 88267,
+    -42738, -83978, -80780, 17344, -94425, 37217, 71969, 25085, 61736, 9781, 82360, 93165, -77467, -81071, 4385, 91400, -59917, 3359, 58974, 79493,
+    -22547, -83262, -42689, -724, 248, 38477, 74749, 41277, 57616, -89291, -28526, -38798, -50349, -31519, 88053, -47633, -59525, -94993, -31886, 24821,
+    -6789, 85687, -95436, -60996, -79662, -99516, 27232, 49606, 37078, -20460, 46822, 59876, -63339, -64443, 25586, -82768, 98248, 21529, -18029, -96865,
+    -96368, -40094, 78895, -49491, 47131, -90721, -68437, -45296, -3100, 75502, 24468, -44573, -10502, -88540, 42066, 85529, 7193, -24060, -56358, 7625,
+    32192, 51861, 45749, 2690, 22256, 9210, -46945, -20752, -54639, -36927, -34216, 71805, -31587, -50758, -3865, 15369, -71191, -74872, 24508, -39755,
+    -78322, 84133, -5418, -83378, 41864, 9104, 7320, 60841, -97624, 37767, 80710, -20978, 56671, -82269, -76598, 7885, -272, -98626, 59992, 44841,
+    63460, 35610, 10249, 53864, -80476, -80201, 9255, 86739, 68150, 71267, -38129, 11645, 82027, -66705, 38066, 51354, 21422, 36342, -65277, -2946,
+    4354, -52014, 26009, 40903, 38027, 94240, -30998, -96655, 87675, 60378, -34691, -69320, -89275, -1018, 64655, -50463, -17191, -9775, 43696, -17451,
+    56411, 80517, 85232, 50164, 46877, 19492, -6801, -61847, -36967, -75175, 39655, -36254, -76142, 12760, -71706, 82758, -30919, 30309, -63494, 23833,
+    -76034, 13969, -67300, -71876, 21976, 96544, -63591, 97945, -10575, -37912, -82955, 98680, 22544, -48714, -64217, 29328, 11797, 34671, 86956, 15896,
+    39347, -64528, 64522, -51337, 64088, 14375, -61584, -77487, 62097, 7131, 71666, -44460, -75425, -10751, 62138, -46578, -33794, -8876, -95844, -23621,
+    90380, -79391, -49207, 98161, 80399, -79780, -48063, -33157, -99589, 72486, -93233, -23366, 75565, -21030, -18033, 49303, -88505, 35369, 18179, -9010,
+    5757, 66953, 24859, -9458, 69457, -61252, 60889, -64301, -71311, 92486, 18105, 24669, -48132, 32675, 86329, 26416, 97007, 62504, 80256, 7319,
+    -55563, 44524, -97822, 62435, -30437, 35829, -26516, 26306, 6207, 74856, -56221, 51759, -16549, -68149, 87801, 68401, 76272, -45658, -47183, 43746,
+    11334, -70385, 97924, 25520, -95810, 12209, 29568, -8015, -7732, -80979, -30587, 9080, 56556, -52605, 37314, 83910, -41012, 53308, -38733, -24867,
+    -58648, -8275, 37700, 28585, 12579, -63151, 38360, -60891, 9534, 24561, 8999, -15670, -20611, 36383, 52712, 32745, -4412, 60208, -73541, 38634,
+    4959, -7473, 66559, 85686, -38723, 60131, -55419, -18647, 24279, 32757, -87303, -77923, 49118, -28559, 86244, 33229, 55254, 31115, 16048, 30280,
+    -86702, -41836, -58869, 7694, -55486, 69829, 56140, 65700, 84961, 90117, 59052, -87644, 54042, -61407, 79533, -63191, -90155, 94013, 31542, -89085,
+    -34490, 22337, 57535, 35681, -28925, 96301, -16474, -81850, -47581, 52185, 38912, 63568, 94934, 32759, 25682, 70980, -45953, -33844, 9527, 77838,
+    84138, -71464, 30724, -78585, -84909, 7897, 42197, -73337, -99026, 24642, 61525, 30979, 54450, 31231, 65006, 50534, 51019, -44928, 41928, 2031,
+    -66223, 99560, 37803, 77472, -41139, 53122, 68254, 95271, 90103, 157, -86596, 53611, -18443, 83355, -36814, -46148, -5329, 71668, -16301, -74225,
+    -33675, 67642, 67828, -79749, -4296, 16121, 72116, -15878, 88036, 42965, 50255, 46012, -76017, -58095, 29419, 16527, 53499, -47996, -29146, -90878,
+    64535, 9892, 76387, 87083, 38369, 91121, -13524, -67365, 29141, -19475, 44280, -6031, 30423, 26534, 34120, 71149, -9847, -22227, 21466, 1894,
+    56334, 9484, 99437, -3378, -84584, 91065, -8845, -5174, -97734, -57748, -30489, -97313, 91486, 21374, -34142, 20908, -48231, -55403, 15128, -65668,
+    -52516, 63215, 87378, -6975, -3469, -98101, -52183, -49431, -89873, 48329, 59452, -93933, 77632, -82440, -32884, 98723, -81619, 60289, -24536, -20147,
+    -87096, -78497, -32957, 42678, 16081, -92582, -27200, 52203, -15379, -71814, -51182, -37125, 52708, 98523, -91593, -19754, -64211, 14769, -79247, -59011,
+    -49898, -24128, -10971, 62907, 58182, 37498, 65690, 52016, -73638, -81133, -78363, 92684, -8784, 96947, 87741, -69915, 5839, -58605, 87315, 47748,
+    -22786, -65493, -26674, -8276, 46329, -59541, -15292, 75075, -51790, 19377, 89799, 47685, -32771, -77243, 50139, -24912, 44720, 42391, -23322, 8245,
+    36901, -28215, 38847, 98980, 26584, 21117, 38177, 5786, -8266, -77094, -83096, -7230, 92660, -67671, -48521, -55219, -50567, 33181, 3088, -96001,
+    55212, -86814, 65409, 52088, -27162, -93786, 62029, 44197, -13328, 30392, 11260, -7792, -70845, 81645, 56566, -547, -70365, -69651, 72605, -67515,
+    -18119, 8748, -98417, 35209, 64109, -95360, -43302, 88212, -71655, -37423, 91195, 2321, -90102, 94717, -85558, -51050, 72342, 81952, -52421, -3106,
+    -1879, -96872, 76006, 29796, -46666, -69910, -1530, -29533, 72222, 7455, 63015, 63034, -36812, 87459, -29153, -64896, 18990, 31673, -26636, -84424,
+    21019, 27934, -19192, 79937, -15184, 35642, 3264, -44831, 9719, -89351, 76044, -16158, 45632, 49698, 91793, 64967, 76877, -99435, -56569, 55224,
+    -42112, 87881, -90230, -50848, 4747, 86820, -435, 78459, 20984, -90460, 94885, 79306, -52901, -36535, 4081, 62857, -94962, 91966, 95895, -60265,
+    -9474, 94189, 42520, -507, 26990, 86477, 12837, -26569, -33724, 98137, 82876, 26330, 67607, -28592, -49380, 77627, -70681, 48377, -88148, -7954,
+    -37736, -14921, -57881, 79064, 50328, 37882, 77248, -74061, 35845, -44938, -98161, 36774, 77143, 95998, -38701, -75751, -51183, -36856, -41921, 36795,
+    60639, 17475, -52636, 5054, -24912, -75969, 50745, 98992, -70729, 96588, 12394, -30336, -21052, 9455, 51087, -11576, -28820, -36372, 26405, 12206,
+    -31553, -61758, 26302, 5322, 92274, 84809, 96549, 44691, -98015, 17389, -11713, -29932, -34515, -10283, -37630, 78658, 80902, 50502, -78797, -43859,
+    16059, -74355, 26158, 94049, 55144, -83431, -49333, 39101, -55852, 97611, -17278, -53199, 72223, 35603, -62864, -22562, 64911, -87346, -81428, 98491,
+    68988, 48446, -4024, 42238, -97415, 94039, 75154, 72316, -27366, 29811, -58555, -59204, -85557, -81316, -1597, 48682, 14016, -67612, -33861, -47522,
+    -89051, -91054, -34085, -93605, 36762, -87901, -73625, 3779, -43220, 45530, 95579, -94609, -10826, 1558, -6909, 57811, -26881, -58887, -56159, -15253,
+    29240, -9159, 40778, 84683, -21120, -68252, 70794, -33984, 58659, -56715, -31063, -42478, -84063, -66792, -61034, 8689, -83194, 28895, -63660, -18709,
+    -31200, -10140, 32093, 49415, 90439, 18121, -17060, 10725, 37439, -66925, 74144, 50065, -28167, 34934, 66256, -38190, 73089, 34833, -85828, 77117,
+    94079, -68314, -4604, 46057, 57874, -51956, 68140, -67090, 62587, 84840, -18091, 92142, 82290, 63749, 67117, -44234, -14014, 40574, -81784, -94979,
+    81858, 86449, -38598, -66808, 23874, 56670, 84457, 26207, 10186, -53507, 40044, -12619, 75880, 23297, -68894, 58305, -56518, -36886, 74515, 79387,
+    -81121, 26241, 90130, 84319, -28531, -18898, 29414, -18276, -24170, 29908, 29822, 60851, 25987, 68820, 13351, 12865, 94585, 10333, -19280, -56728,
+    6012, -25267, 76958, 2214, -64758, 35228, 16440, -65379, 15367, -35661, 824, -69208, 62170, 44059, 72305, 66945, 83471, 73613, -39287, 21451,
+    64493, 14422, -30992, -36687, 15329, -35620, -71640, -29650, -26803, 6082, -46640, -98151, 45258, -61461, 11647, -90574, 22812, -30913, -98623, -98162,
+    -42051, -18287, 73234, 42524, 62005, -71251, -7318, 47473, -13372, -10948, -24599, -39702, 28082, 81404, -20024, -65792, -35886, -19129, 57962, -47838,
+    60249, -98510, -36983, 3560, 47290, 46137, -86363, 14101, -56663, -98992, 50428, -33046, -92706, -5221, -24397, 59460, -75073, -10612, 93116, -24699,
+    -88939, -71185, -71341, 47515, 11869, -58804, -91707, 783, 5796, -43403, 73858, -93607, -74618, 67320, 56605, 15408, 76594, 66752, -81556, -42138,
+    -8465, 63980, 79010, 2860, 60492, 44560, -25301, 41300, -2995, -50401, 53621, 15463, -52990, 51341, -99290, -34312, -66579, -63513, 98710, 64020,
+    -83346, 41957, -10365, -1822, -53838, 26236, -34894, -53457, 7117, -11828, 48869, -79972, 43261, 12976, 50668, 62549, 72980, 5068, -82858, -30102,
+    83484, 44742, 30528, 63715, -62812, 75151, 4511, 99129, -55392, -79073, -54766, 87225, -77698, -68791, -94546, 55395, 70545, 38668, -85376, -18669,
+    30321, 83845, 66141, -2084, -88592, 82579, 67712, 4778, -6566, -25717, 63468, -63389, 99405, 56734, 74778, 62667, 90846, -47730, 53600, -63236,
+    -27289, -11253, 29302, -70241, -8412, -90244, -15633, -24538, -54775, -80114, 91005, -2898, -4327, -35227, -63655, 7065, 46852, 54102, -19082, -39307,
+    85408, 71499, -30110, -51076, 67783, -84965, 59268, -54173, -73640, 1350, -3607, -7282, 70798, -54444, 32169, -77115, -46087, -16490, -55248, 33038,
+    67049, 84623, 52122, -33249, 33550, -56310, 51512, 84279, -71671, -15186, -89177, 51485, -67084, -64299, 45331, 65929, -93103, -81613, -23742, -74023,
+    46937, 13876, -89980, -60362, 29631, -56898, 22141, 85668, -43413, -78460, 26621, 38483, -22580, 66848, -16854, -67114, -9448, 83061, 58220, -47801,
+    -27288, 10363, -64418, 20508, 10009, -75706, 761, 29801, 32405, 74841, 33939, 31981, 45532, -5751, -81670, 33827, 9388, -75873, 72697, -42489,
+    -78878, 42876, -12564, -85840, -89720, 86589, -97864, -8199, -14250, 31756, -27810, -81034, -15440, -4682, -80939, -52604, 46106, 30755, 41933, 89789,
+    -30738, -63551, 40163, -1582, 75555, 17866, 19257, -31385, 94963, -50291, -40886, -54471, -95022, -73348, -9043, 91874, 62034, -62059, -51005, 40980,
+    80839, -27379, -42326, 1279, 80798, 95133, 58312, -32927, 97058, 20823, 34770, -40821, 56611, 53068, -81519, 7860, -32899, 39751, 37966, 909,
+    45933, 1280, 60285, 55887, -44190, 83186, -97448, 63124, 83860, -49776, -9463, 25085, -45973, -76570, 75997, -63752, -87310, 75775, 22123, -78879,
+    8431, -63442, 89828, 49563, 31303, 83942, 52056, -14013, 352, 43892, 22090, 17150, 90289, -76306, -54443, -95101, -10764, 17167, -91293, 93977,
+    43037, -24006, -82489, -85795, 78194, -25121, 87666, -76271, -11481, 86526, -72417, 98895, -97394, -74980, -85743, -30653, 65466, -10490, 93200, -69499,
+    -4993, -58322, 61355, 19338, 63579, -1500, -45026, 36580, 53098, -60339, -92793, 441, 86375, 15059, -43834, 92210, 84437, -58504, 84162, -57515,
+    -7408, -97370, -42715, 57312, 30142, 41500, -38413, -93076, 52132, 45493, 72831, -33264, -77500, -70164, -79877, 86660, 33302, 75075, -53978, -87811,
+    -61874, 67448, 88144, 9523, -58868, 16005, 91396, 26956, -77106, 92151, 49660, 40117, -55538, -35720, -9507, -90174, -92889, 72083, -13838, 69079,
+    -93, 56242, -83468, -61705, 50179, 28999, 61584, -73723, 31622, 94421, -85876, 4025, 72442, 48684, -68698, -53030, 91405, -56767, -77746, -76464,
+    -35703, -62648, -3021, 53421, 78771, -18582, 91323, 97279, -16537, 81912, 69369, -92902, 47631, -53079, -89919, -95761, -57042, -82363, 82349, 64476,
+    11430, 84999, -78767, 66957, -41335, 60663, 26435, 53975, -92696, 8782, -97195, 75696, -63189, -48942, 36845, 15201, -40496, 95614, -20399, 41124,
+    -32521, 42993, -71360, 33778, -38129, -72777, -12238, 80567, 69397, 20703, -77252, -10984, 81915, -41443, -46430, 92364, 19332, -25161, 73573, 16034,
+    -8977, 96091, 45635, -59949, -44921, -27270, -67965, -40584, -79826, 14855, -65015, 72726, 6511, -29018, -836, -47966, -95216, 33385, 17669, 9541,
+    -14334, -97702, -80188, -19260, 48795, -30003, 48685, 26969, -53544, 25724, -96447, 80292, 28004, 31799, 75945, 32866, 55474, -53238, -32155, -16959,
+    -62132, -5177, 60282, -77128, 85783, -90979, -3988, -16425, -78080, -45973, 16667, -10387, -41775, -41399, 76878, -86492, 24732, -5704, -3744, -86530,
+    1125, 13607, -96696, 90434, 55483, 9964, 61284, 5130, 1885, -34381, 69551, 21710, 16722, -51737, -97508, 31808, -75356, 4646, 77643, -33815,
+    71834, 74498, 58197, -3573, 9675, -81898, 9490, -92631, -14725, 99579, -48869, 74284, 83934, 80779, -41603, 94501, -26346, -50693, -14098, -76738,
+    66716, 53899, -4198, -19193, 66854, -40379, 74230, 81720, -98011, 99695, -45447, -5644, 95793, -71630, 67293, 90488, 10017, 25304, -93244, 41745,
+    32261, 67787, 46305, 71576, -14742, 6196, 72193, 80904, -98440, 17486, -52038, -56274, -91241, 25363, 4973, -28589, 93013, 25481, 84896, -8804,
+    -96585, -71803, -90141, -99690, -61761, -34664, 44163, -26981, -65450, -25170, 66371, -53464, -6108, -97352, -35923, 96852, -90942, -36396, -94254, -20113,
+    79946, -31048, 65621, -61892, 24545, -20045, -8308, 27446, 51334, 55059, 15119, -96499, -76179, 81176, 47033, 34252, -43789, -86402, 37960, 25413,
+    -29597, -77076, 94117, -68534, -66894, 39317, -55319, 92580, 58848, 66972, 51689, -63751, 42881, 35338, -33848, -76203, -81289, 11915, -98953, 32426,
+    -22893, -7631, -55072, -93164, 15748, 2993, -28691, 55846, -70032, -30494, -23314, -85395, 14919, -10601, 81163, -5796, -80881, -5822, -23, 36837,
+    -81684, -86118, 90782, 17385, 31556, 84924, -45302, -89971, 88505, 17112, -76039, -50860, 70958, 9526, 81119, -90706, 38357, -6551, 52752, -33131,
+    78213, -31072, -23113, -33932, -80928, -16649, -84887, -40844, 83397, 52460, 27378, 82617, -11144, -98898, 9892, -68556, 76855, 79522, -74105, 55072,
+    75632, 28498, 40569, 59329, -30188, 6599, 22274, 7576, 36, -27043, 2190, -6336, -14068, -21296, 229, 60349, -48358, -76989, -74260, 4452,
+    10932, 25781, -26922, 71256, -41101, 1866, 81502, -69372, 36121, -68209, -89317, -28185, 63680, -81155, 39423, 14591, 76194, 81562, 8594, -47337,
+    -32478, -27846, 91018, 52639, -34991, 83202, -10465, -78520, 99170, 8767, 83510, 64, -23442, 41460, 18383, -79178, 80323, 33314, 85887, 62199,
+    72020, 59841, 95516, 15903, 81961, 38167, -84279, -55607, 60261, -3127, 44179, 40524, 29835, -52999, 4271, -8512, -72253, -3912, -8993, 45282,
+    53067, -20514, -5123, -36003, 70162, 48527, -438, -20254, -69261, 22508, -79211, -27078, 39279, 1063, -72635, -59263, -74708, 25933, -78159, -67527,
+    5197, 7763, -79314, 56765, -34066, -89201, -4438, -13192, -90028, 54915, 65199, -26345, 41407, -93483, -5087, -13715, -71372, 93369, -88987, 94839,
+    99383, 16972, 94947, 47561, -20820, -46975, -49272, 40216, -52870, -76947, -93357, -92778, 7648, 18507, -51350, 25149, -24233, -4050, -88837, -31336,
+    -771, 37062, 93933, -38403, 54653, -83039, -63753, 42287, -88696, 70994, 32889, 64127, 2569, 13294, -92500, -55847, 26303, -10137, -185, -90318,
+    1091, -61757, -34415, -39728, 33735, -93036, 45441, 99192, -25379, -6362, -42204, -83501, -79743, -84595, 1558, -83714, -85559, -66119, 42974, 37340,
+    -71457, 66692, -67427, -72060, 35981, -16012, -62721, -67159, 3357, -61785, 49476, 26555, -85416, 58959, -57292, -99192, -98693, -93997, -20122, -52584,
+    1257, 19786, -62343, -92819, -42378, 63795, 44017, -73389, 1691, -51262, 20284, 31677, -24464, 54326, 40215, 77084, 60918, -84145, 73998, -88888,
+    -2923, -82408, 37537, -65491, 6542, -58108, 38351, -31461, 18661, -4402, -20761, 10979, 53670, 77077, 95833, 24074, 19504, 58033, -17475, -42726,
+    92990, -99394, 76361, -89021, -11855, -58031, -69406, 46242, 84677, 18728, 22955, 20053, 5894, 30420, -52228, -12143, 99869, 52451, 71143, 13794,
+    -27743, -22652, 55834, 43490, 70745, -31586, 3112, -77864, -32529, -68090, 12342, -38927, 18468, 60124, -59007, -90504, 7178, -19977, -98493, -74682,
+    -54509, 18839, 30471, -59453, -49854, -58127, -24642, -17687, -58701, 13864, 24519, 50744, -67851, -57043, -11702, 16624, -82755, 69294, 64407, 50410,
+    -57642, -7736, 83275, 75512, 55094, 93380, -51385, -75936, 37187, -97144, 77683, -84046, -49228, 71707, -31203, 77737, 82189, -75607, -80682, 48631,
+    75330, -30211, 87088, -95950, 33008, -53612, 40523, -94330, -86649, 41191, 82148, -27933, 41670, 1573, 25166, 59762, -5826, 84778, -85992, 99358,
+    -75417, 16035, 81331, 2595, 7468, -26465, -70060, -47395, -84329, 82634, 30928, -20391, -6243, -97696, -72423, 95427, 56215, -94772, -82671, 37245,
+    67050, 33443, 45525, -87760, 82521, -53821, 85039, 41097, -39384, 21731, -42787, -28349, 88806, 45251, -85348, 43100, -54412, -75183, 52470, -83625,
+    17333, 61221, -56348, 42372, 41316, -20154, 60443, 15632, 70649, 73753, 79144, 21676, 82894, -6507, 3619, -61463, -63407, 74137, 94139, -78693,
+    -606, -94879, -36671, 17476, 79395, 49523, -23249, 84665, -75549, 30752, 65511, -85972, -5914, -41294, -97288, -53571, -36976, -44597, 97611, -57781,
+    -19730, -14032, -2553, 68970, -50161, 34912, -18493, 84995, 99240, -37747, -62925, 28879, -7646, -6009, 15136, 72588, -68120, -23946, -40162, 15273,
+    -49092, -54851, 1440, 37558, 87644, 23574, -78595, -66464, 92510, -37387, 24514, -58602, -28176, -49530, -40652, 73333, 16528, 67456, 91606, 3508,
+    -32660, -14842, -95709, -18221, -9572, 17685, -84364, 31155, 38901, 97862, -93806, 90152, 55604, -83319, 33432, -43651, 69649, 49338, 64519, -51961,
+    -9861, 22794, -76396, -84597, 98613, 79592, 32573, -9361, -87742, -85080, 79826, -16138, -27522, 15397, 52327, -61649, -21797, 69770, -34284, -95877,
+    -61449, 44112, -58398, -39633, 29878, 75289, -42732, 28915, -91467, -20342, 7312, 60028, -18598, 22960, -48169, -12686, -35344, 26919, -47721, -64648,
+    -38325, 88634, 56048, -23825, 23721, 66292, 71912, -44613, 83504, -878, 70385, -28796, 75982, 1416, -4571, 50995, 55403, -78021, -47273, 91077,
+    -64529, -94887, -39995, 44802, 73514, 41145, -76740, 74507, -55111, 33257, -68966, -44800, 48884, 37494, -34851, -89121, -28319, -94578, -5523, 85942,
+    80872, -45439, -44812, -40560, -85881, 65478, 44193, 36438, 96723, 51289, -44310, -93556, -78254, -62053, -17907, 88016, 3876, 67388, -40182, -28705,
+    -13439, -62459, -27016, 29747, 94538, 48340, -54335, 867, -58849, 7337, 10628, 92113, -17309, -13643, -33951, -32108, 80319, 12856, -13750, 4428,
+    -38037, 33199, 49168, -83800, 76074, 98704, -39071, -18415, 21733, -70822, 39227, 50057, -9378, 48223, -25417, -44933, -33128, 75452, 89605, 21543,
+    -32274, 12460, -39417, 62560, 62699, 73036, 41735, 45320, 32978, 63718, -6786, 72416, 31745, 63512, -53846, 36748, -90114, -26110, -85923, -18003,
+    26674, 68137, 76283, 27624, -6765, 3599, -13815, 14000, 61301, 26875, 8492, -34350, 72254, -17328, 85977, -81823, -45064, 98393, 76889, 47593,
+    65271, 43040, 88329, 67032, 33845, 94158, -51407, 84219, 81928, -90668, -13671, -39021, -29948, -73489, 27983, -58131, 75220, -82997, 16510, -82233,
+    84244, 56178, -61702, 1981, 18944, 88806, -58016, 69112, 85026, 27857, -39267, -33959, 84816, 49760, -75695, 58658, -23856, -27159, 79662, -21416,
+    -66954, 14670, 81890, 75191, 81671, -86963, 21818, 36134, -28543, -83901, 1795, 61039, -1623, -94395, -30076, 35122, -38823, 12023, -34196, 90509,
+    93866, -44330, 30098, -12510, 75585, 96034, 54711, -85952, -1179, -52653, -15155, 16153, -70696, 14385, -87517, 86633, 11200, 2607, -19214, 6233,
+    -79292, 27033, 77416, 58699, -43499, 2117, -89165, -50191, -44248, 2369, 94100, 89502, -32240, -12512, -24939, -78814, -45082, -85056, 14550, -642,
+    -63216, -80445, -51193, -60321, 62707, 31026, 17044, 176, 63551, -36661, -18260, -59432, 42395, -43936, 39314, 45697, 99605, 82583, 85994, -43152,
+    73325, 96302, -36045, 66203, -38689, 2943, -57772, -59273, -59406, -83403, 42384, -55881, -10057, -88717, 97613, 64546, -68375, -42702, -30229, -5647,
+    98409, -56522, -36532, -21660, -73158, 50471, 59082, -31154, -61533, 78093, -54222, 61574, -36208, -70278, -3445, 3930, -74868, -6025, -86274, 51967,
+    98543, -27576, 10264, -92771, 23718, 74666, -2297, 61166, -93082, -2839, -91963, 5857, -26320, -16832, -19336, -15523, -71555, -34524, -47923, -30825,
+    67666, -65503, -79754, -42557, -93959, 60102, 15034, 36508, -6249, 25041, -77054, -50260, -18294, 41992, 20889, -14182, -24475, 43013, 74812, 72315,
+    19240, 918, -82937, -32778, -29338, 93733, -64814, 45654, -20404, -72917, 1877, -20173, -39361, -6630, 39600, 70261, 16802, -75289, 67378, 37957,
+    -81216, 64522, 55294, -92598, -92656, -59121, 22147, 2362, 85941, 34292, -12116, 98057, -84783, 79091, -95875, -28816, -5503, 8764, -95343, -11314,
+    -40605, 94508, -59359, 92051, -2900, -7148, -4593, -6329, -67918, 14479, -32424, -79280, 36059, 47873, 15223, 6875, -59571, 68630, -31579, 58107,
+    -12472, 70408, 6423, 82251, 2094, -14917, -98331, 93686, 10755, -74797, 64888, 93251, 80103, 1577, 15325, 62533, -95244, 83208, -64529, -36899,
+    50093, -38559, -46125, 32151, -95305, 55068, 59403, 86124, 62940, 86578, 48134, -99632, 41714, -63485, 79499, -93340, -9264, -74055, 58505, -7424,
+    93757, 37090, 45532, 23512, 64895, -9724, -815, -24978, 30626, 83263, 90841, -11123, -77105, 31976, -79149, 82565, 5810, -77596, 72048, 28084,
+    37199, -11209, -43481, 80251, 66206, -38944, -28642, -53368, -92274, 22867, -11016, 73405, -52421, -28373, -56908, 53528, -83189, 93566, 75437, 68755,
+    24756, -20086, 72417, 94695, 18407, -48347, -14915, -54278, -70440, 52403, 65533, 66432, 11049, 9409, 77171, 93586, -19263, 67749, -2223, 89272,
+    39511, 21346, -13036, -80207, 38016, 77461, 54784, -12324, -20880, 80960, 64430, -67086, 9290, 30678, -23383, -44473, -86303, -44417, -64469, -18234,
+    88493, -87509, 42802, -71489, -8599, 93324, -88058, -12531, 87951, -35006, -37591, 12992, 52287, -64680, -53858, 98671, -75582, 49466, -51812, -86285,
+    -83428, -7169, -96466, -82574, -72859, 4851, -82123, 61779, -57534, -66836, 97882, -38895, -11378, -56857, 59215, -4240, -93427, -3324, -43806, -22722,
+    32603, -93336, -97651, 69844, -50753, 67255, 55424, -17213, 8903, -65289, 91516, -40232, 81205, -67635, -61167, 50585, -54754, -87379, 93242, -73149,
+    49891, -14938, -49915, -69298, 49147, -71113, 10647, -43465, -6925, -47741, 18296, 75068, -68701, 78343, 54112, -17530, -82860, -113, -59917, -87149,
+    30211, 37622, -95019, -92892, 42925, -95102, 57981, -19718, -26780, -98045, -1222, 13440, 71666, 65603, 32030, -32229, -59087, -94026, 32408, 22098,
+    4413, -13787, 62422, 13536, 39325, -48941, -14371, 54630, -43214, -28948, 41689, 60866, -32495, -2280, 36507, -96304, -59023, 30179, -45470, -52107,
+    -24848, -45811, -74682, 88376, 63191, 56805, -55788, -48450, -76284, -51252, -40090, 85115, -15852, 72491, -16781, 79524, -29408, 37412, -13173, 92166,
+    -82913, -9197, -42546, 25710, -76314, 64253, -50113, -36001, -46167, 73163, 70948, -79342, 14209, -17429, 44730, -28765, -85474, 53659, -58110, 27993,
+    -67586, 76385, -50416, 94631, 10772, -78523, -95492, 87105, -42472, -36639, -87140, 74106, 42042, -65112, 48849, 68920, -8116, -73314, -99700, -51940,
+    -94160, 78473, 8903, 8135, 99558, 6804, 77837, 81514, -74366, 27347, -87231, -11004, -2949, -20349, -16569, -49190, -30137, -60316, -34251, 55288,
+    11072, 12287, 84315, 74623, -16941, -23453, 64791, 32316, -14604, 32486, -49128, -55374, -43367, 4944, 41268, -93341, 54345, 50264, 66180, -42649,
+    -22513, -1352, 62609, 43636, 26236, -77274, 38670, -51086, 62357, 61222, 35889, 30392, -84918, 84853, -96712, 16338, 88330, 38076, 34720, 71784,
+    -47564, 38223, 55350, 61920, -64700, 46716, 91846, 70080, 49529, -17859, -8680, 56931, 69324, -14607, -96217, -84408, -11880, 69133, -39918, -59777,
+    -20734, 58059, -20475, 50943, 24973, -86360, 18494, -77751, -59555, -57081, -21966, -85736, 56104, -99017, 35260, -99044, 80497, 65182, 74281, -99236,
+    54716, 9960, -73887, -49692, 64274, 43676, -46975, -46179, 42568, 649, 82738, -45918, 88834, -31290, -64266, 81978, -17587, 45450, 25398, -62597,
+    -7384, 44599, 6502, -13223, -8263, 60648, 82414, -76372, 83619, 24362, 79041, -88, -99156, -75792, 57667, 44644, 30254, -97952, 89490, 75051,
+    78651, -12999, -16257, -77250, -98665, -69840, 22087, -12557, 75135, 30430, -22931, -64875, -94023, -69955, 96592, 79487, -86767, 37937, 1707, -38889,
+    21895, -15433, -53751, 25563, -45494, -68493, -67334, 42260, -99937, -31818, 11038, 93833, 42108, -87430, 69576, 20912, -17587, 73795, -12282, -95967,
+    36546, 40649, -16576, 91710, 33054, -34809, 33951, 11816, 52010, 17887, 40290, 56581, -50207, -5590, -70287, 57475, -11210, 70077, 60250, -57615,
+    -79978, 32585, 51077, 50117, -87084, -72542, 76106, 50390, 43549, 99035, 90376, 48205, -31328, 12244, -32426, 91458, -39865, 95411, -10607, -17241,
+    1185, 42490, 20539, 58149, -35464, 59096, 59670, 54772, -8341, -29566, 25219, 27149, 90466, 62045, -22410, -21694, -38886, -49373, 35833, 32345,
+    32210, -92283, -19347, -92204, -89674, 41556, 73941, -47931, 28122, 7256, -75246, 25276, 39978, 8456, 67317, -28386, -24003, -5320, -37224, -17662,
+    29709, 32333, -24217, 58719, -16160, 34676, 95786, -42741, 64579, -86512, -93065, 77930, 3890, -79829, 15335, -98946, -73668, 73026, -68361, -19372,
+    -53480, 63008, -42681, 65186, -97460, 60970, -47801, -32329, 65503, -93812, 70373, -39161, 53803, -65512, -8099, 86869, -32428, -79596, -46091, -58547,
+    58059, 13455, -10074, 61064, -44250, 22591, 10926, -70998, -45023, 8809, -23741, -82213, 94162, -10921, -55283, -23135, -96404, 28657, 58249, -10513,
+    58243, 49841, -74085, 76653, -91824, -42927, -18931, 320, -82922, 78080, -72632, 6578, 37136, 1505, -76010, 54544, -24450, 10487, 80764, 54627,
+    -57641, 96572, -26875, 63185, 43584, -64256, 51936, -24252, -62921, -26705, -25288, 95091, -96071, -19012, 13198, 19796, 51117, -85210, 16471, -75322,
+    -26011, -63080, -77296, 42389, 72054, 12690, 30513, -74115, -61988, -42402, -70353, 46279, -5704, -35484, 65517, 2172, 1803, 33207, -90538, -98880,
+    26197, 28242, 95686, 87802, 11908, -99578, 91756, 63048, 30413, 46155, -9994, -97385, -92323, -39386, 63637, -61313, -10669, -25371, -12032, -31511,
+    16680, 19829, -76884, 42151, -60040, 5161, 77521, 77387, -74294, 12844, -94018, -75578, 28268, -27509, -65507, 71168, -38267, -19083, -91663, 98401,
+    54798, -88830, 76866, -24109, -76079, -20265, -40531, 37571, -25840, -97683, 30427, 43288, 69781, 55910, 12627, -73155, -8726, -63209, 1826, 69432,
+    93820, 86847, -94830, -74203, 48950, -94791, -64730, -97410, 87568, -13147, -13922, -54445, -85458, -18343, 29267, 41436, -88697, -68930, 54178, 71599,
+    -784, -36114, 15446, -77087, -98500, 57461, 39028, 12668, 35062, -45354, 47574, 91569, 74443, 40084, -60610, 80436, -82407, 2314, -92261, 26367,
+    -72659, 63773, -42110, -3136, 42547, -58584, -4140, -47902, 21953, -51220, 13629, -7219, 26683, 39993, -29001, -50192, -6441, 67485, -90710, 17663,
+    50823, 59173, 78733, 2416, 12659, 47845, -78230, -46504, 24850, 19796, 49702, 89420, -96102, 35387, -95711, 66560, 81649, 72657, -8232, 76343,
+    4395, -84895, -86113, -718, -2841, 11049, -90889, -84351, 75136, 27911, 28658, 76737, -75463, 57992, -54344, -91841, -31467, -75924, 52786, 88716,
+    -71760, 27404, -21117, 43407, -94795, 27252, -28469, -94121, -4349, 1170, 52753, 775, -83791, -4898, 56216, 79232, -58837, 40116, -8829, 92541,
+    -39014, 50119, -33032, -21434, -57718, 98440, 35974, -87055, 14144, 78615, -2971, -35893, 67699, 81457, -80641, -56601, -35646, 41378, -61230, -10410,
+    -51065, 3368, 6316, 25718, 26036, -2257, 82995, 99883, -66079, -22448, -10957, 7549, -80791, 93631, 17843, -10106, -5592, -46825, -80641, 58948,
+    -53616, -29699, -656, 3205, 414, 7414, 13441, 29622, 64723, -27492, -97048, -48847, -55616, 3125, -37870, -21880, 79481, 26654, -18012, 34210,
+    -98009, -95678, -40022, -58393, 99994, -64166, 7855, 34498, 96751, 53510, 33555, -56227, -33432, -22549, 48611, 76510, 81269, 46675, -12087, -87447,
+    -53380, -57018, -6521, 54154, -11704, 74863, -62533, -56903, 85700, 11681, -64783, 15957, -46233, 81250, 22087, 1011, -28602, -10070, -55549, 39557,
+    29677, 97474, 63848, 39798, 43789, -60084, -18797, 40425, 35311, 506, -43362, 72371, 55209, 48213, 31342, 83099, 95419, -54282, 64801, 22874,
+    16608, -23515, -35349, -17704, 94986, -21816, -45452, -43116, -25131, -44755, 98456, 7897, -8647, -36807, 82703, -24913, 64441, -34804, -34113, 84577,
+    -4364, 38188, -4634, -57676, -31507, 96937, -20151, 94718, -38616, -34613, 82566, -64586, -42067, -87134, 98617, 58515, -9846, 77489, -68013, 84474,
+    -70613, 92542, -54245, -45457, 23828, 60926, -50585, 61893, 3116, -81278, 35813, -98390, 55887, -6119, 32638, 99648, -46789, 17027, 50420, 30651,
+    17740, 35012, 26440, -1229, 76386, -9363, 53517, 12582, -67473, -40403, -39032, 85243, 59194, 56972, 54754, 29160, 42363, -73086, -51879, 29837,
+    97108, -43899, -45331, -46542, 35104, -54054, 97343, 34877, -28115, 24832, 81761, -59299, -16168, 31648, 61272, -93743, -87938, 12647, 38490, 58442,
+    -88308, -96613, -73387, 4494, -10017, -28931, -98135, 11007, -35110, 82827, -83308, -57416, -65367, 22699, 77697, -79328, -13389, -88212, 98416, -77446,
+    -90124, 57987, 89380, 44574, -52515, 21061, -30302, -20104, -53998, 8356, -25565, -24889, 18064, 87945, -72055, 76578, 21752, 23675, -96553, -738,
+    -732, 72953, -54877, -59082, 76273, 65786, -98060, -30704, 51852, -76191, -40109, -38523, -26486, 56187, 22127, -54440, -20634, 26144, 84785, -24133,
+    -30838, 85262, -3140, 29805, 22307, -14909, -52207, 4535, 61863, -18469, 84591, 22742, -64602, 42495, 93317, 30757, 54418, 13232, 62155, 35255,
+    -65679, -86120, 90416, 30334, 23633, -17800, 75347, -40856, 93468, 90588, -99931, -26002, 15443, -53454, -58906, -8953, 75708, 87155, -55892, -47222,
+    95122, 6365, 13288, 89086, -44479, 61077, 69628, -35031, -6928, -82826, 27333, 75567, -54245, -54850, -39169, 37130, 67784, -50986, -72879, 10831,
+    38220, -37707, 85412, 41900, 84880, 65652, 81410, 64588, -23010, 99577, 36370, -51136, 91203, -76630, 66926, 6651, 65827, 82212, -88262, 37440,
+    -23780, 77890, 56248, 98309, -24146, -43156, -93312, -23466, -33993, 3209, -18498, -93532, -20399, 36158, -40034, 45638, -74131, 69206, -28642, -48987,
+    -8346, -74292, -83609, 6333, 16759, 99115, -2895, -1165, -13480, 98006, 80957, -78588, -55662, -12049, -21391, -33840, 78361, -45555, 68605, 37802,
+    38359, -82411, -5734, -12906, 82581, -58642, -97292, -7065, -47694, 86055, 17820, 27659, 69732, -67033, 39654, 1832, -77907, -36807, 13803, 6226,
+    20075, 93666, 34084, -37814, -59566, 1275, 1710, -86575, 2197, -44269, -59512, 17870, -16170, -22951, -36327, -23417, -42684, 95560, -37158, 99252,
+    54856, -31373, 43030, 86650, 53007, 4563, -36123, 21432, -25934, -3829, -49229, 87345, -70759, -38072, -22158, 90004, 7752, 71887, 88153, -39450,
+    -69195, -55561, 81685, 22115, 40696, 68778, 11603, -79659, 29375, 54291, -13353, 40261, 24168, 59015, 28826, -29467, -4515, 94407, -70521, 92865,
+    -5906, -57883, 34291, -54349, -46267, 69264, 50323, -63737, -53750, -98102, 33001, 85088, 34739, 46905, -2369, 40949, -71229, 90357, -25031, 39933,
+    -28359, 98600, 89961, 75210, 39205, -66104, -3349, 97844, -31331, -90977, -23442, -77678, -45782, 90846, -81783, 15043, -13345, -59818, -84645, 42974,
+    74261, 65666, -31969, 15742, 72212, -36110, -24440, 60585, 86036, -90236, 26434, 89061, 61136, -36616, 58947, 27982, -16084, 33873, -90933, -62887,
+    -58866, -1142, -13648, -30905, 65209, -50388, -22734, 32300, -25470, 17968, 58758, -2363, 33977, 21555, 15711, -60920, -47694, -40851, 2028, 75669,
+    98203, 64369, -97650, 86358, 70326, -16680, -56082, -53418, -63809, -99977, -19762, 41087, 62695, 21534, -78768, -18963, 25618, -7046, -39680, 30808,
+    82720, 90461, 77147, 68752, 17519, -29135, 89494, -674, 24663, -93012, 93910, 63176, -55631, -72957, -78211, -23587, -55610, -32520, -16141, 33756,
+    87158, -15426, -62073, 59492, -64805, 20724, -34204, 91429, -26521, -3385, -92135, -11024, 98801, -84072, 9826, -39474, -19918, 88079, -31428, 19107,
+    76749, 76391, -25033, -22098, -23338, -67071, 36275, -8241, -2941, -70368, 60865, -95663, 52526, -34023, -84450, 38775, 51819, 58749, -77012, 57325,
+    86019, 79679, -78851, 99186, -41231, 88960, -64852, 88488, -92056, -24170, -18290, 56849, 26202, -7422, 9571, -86086, -73802, -58254, 45725, -56536,
+    72140, 40354, -19009, -25454, 21781, -46935, 51855, -16220, -18297, -13253, 27095, 40411, -7195, 35009, -16189, 25784, 60933, -42370, 18425, 39627,
+    91334, -71113, 95891, 79726, 40911, -47643, 59219, 58563, 56692, 99162, -27545, -78883, -20273, 36185, -55186, -71845, -12531, -2860, 57285, 85761,
+    40897, 5316, -41470, -40862, 13606, -4528, 32585, -89606, 60547, -46675, -1423, 95722, -60150, -76571, -18988, 9155, 19027, 74323, 56740, -94489,
+    1983, -94267, -46849, 97675, -78597, -76940, 73679, -91683, 18568, -17292, 90874, -32062, -91693, -66768, -15347, 17093, 38642, 73202, -14838, -23518,
+    -23785, 22872, -89468, -38099, -23752, 16780, -30451, -65712, -58110, 20562, 66800, 45756, -50792, -46675, 61345, -71056, -11123, -29986, 39621, 64290,
+    67857, -38022, -77531, 6180, 61022, -54064, -72927, -94244, -37137, -2964, 28411, -86044, -43762, -35339, -64506, 39517, 52117, 59363, -19155, 98010,
+    -68849, 42765, -15370, 24733, -87055, -74684, 93368, 43495, -29457, 85466, 44492, -10889, 18642, 65332, -65450, 99609, 88523, 63757, 93397, -71180,
+    38904, -39018, -79105, 78447, 68465, 40839, 81843, 66081, 78926, -22189, 2122, -15904, 61983, 82602, -43844, 7704, -76489, -62524, 53612, 3641,
+    -82411, 75518, 31769, -55480, 13013, -30314, -62202, 35172, 29458, -74338, 55020, -58122, 31662, -58163, 2552, 2372, -48120, 74174, -32290, 88462,
+    -62395, -3175, 13972, -78391, 69942, 5005, -95205, -74563, 90868, -31107, 35625, -48688, 93057, -24774, 45802, 59122, -31018, 88429, -77006, -11064,
+    7344, 59691, 32562, 48563, -24168, -36010, 472, -21525, 69429, -11666, -60140, 94183, -21972, -31447, -21809, -61652, 59330, 93689, -19625, 54644,
+    -20684, -52461, -14994, -25894, 40076, -61918, 4820, 54652, 26942, -1219, -48215, -97965, 59947, 13865, 37512, -30369, 42642, -6456, 91401, 78683,
+    -70815, 96370, -93253, 71452, 82980, -99411, -73570, 88830, 46607, 81322, 49960, -69676, -21517, -48639, -43475, 77182, 9017, 65675, -36327, -73011,
+    62541, 23872, 29185, -60570, 1750, -58331, -96173, 73542, 76062, -78365, -98919, -18321, 87307, 30865, -67625, 21581, 76090, 88747, 67040, -43501,
+    -3730, -29116, 92232, 81547, -72401, 12369, 87639, 43760, -31341, -98905, 48929, 69066, 519, -46425, -67685, -50730, 26006, 94226, 92647, -48640,
+    30229, 32738, -16824, 85811, -69072, -81786, 1810, 67293, 5187, 74010, 42726, 62962, 85290, 23513, -20255, -93865, 20456, -28151, -7212, 15820,
+    41484, 80512, -13195, 8052, -75177, -75458, -1244, -58303, -23308, 88982, 48373, -54345, -31687, -8937, 48151, -50358, 22230, -37033, -82787, 29249,
+    81541, 73752, -26459, -39437, -54522, -97875, -36195, -3142, 37179, -93616, 8323, 37268, 87555, -22878, -87796, -23118, -75603, 52941, -33114, 33973,
+    -50884, -70209, -38048, -19185, 63517, 7423, 85569, 528, -11136, -73901, 47826, 22263, -24275, 40106, 78077, -33480, 19236, 13355, 56311, 38330,
+    3184, -34007, 35534, 50378, -24942, -26143, 92295, -93376, 41868, -33845, 48617, -85506, -48555, -24431, -33098, -46620, 66884, 88497, -89159, -46085,
+    18460, 77936, 24406, -64905, -67243, 98197, 63341, -34559, -46871, -50829, 83046, 35527, -90757, -60530, 71225, 92521, -20856, 16788, 37215, 67700,
+    40158, -74928, 4933, -2560, 41144, 72294, 51921, 25211, 48919, -9388, -34230, 3635, 38318, -29187, -96973, 53899, -45322, 90051, -95414, -25865,
+    -89818, 11877, 89439, -255, 51949, -11582, -94199, -29495, 48477, 60372, -97928, 74643, -80619, 55337, 48194, 54335, -369, 89540, -18922, -94020,
+    -38219, -75587, -37305, -35450, -87788, -68499, 61367, 63393, 41765, -42292, -96260, 60338, 19358, -36532, -67561, -43082, 94742, -33191, -50709, -93295,
+    -73351, -73085, -3909, 15565, -29437, -74605, -44797, -10078, -97915, 9511, -72853, -61769, 71606, 4839, -55665, 94708, -69468, -8765, -23677, 98353,
+    -84920, 4329, 23565, -93901, 32106, 21026, -8963, 10382, 40154, 24449, 97327, -44017, -8639, 77061, 5455, -42443, 79189, 76892, -66647, -21883,
+    -52213, 52682, 83610, 28503, 93654, 68488, 61860, 60960, 64561, -45529, 53615, -24216, 15186, -19879, 27573, 63734, 81934, 41502, 8932, 72775,
+    -1313, 4936, -25737, 59752, -53641, 56591, -92178, -45697, -28535, -31573, -85787, 58566, 89371, -26151, -45466, -57059, 17303, -5974, -83899, 9202,
+    -67898, 54620, -77103, 3829, -9755, 46388, 98496, 10714, 48038, -59657, -48215, -47151, -69341, 33321, -35765, 76047, 55934, 62462, 75631, -37579,
+    87253, 17190, -37961, -33399, 16326, 42036, 54471, 33832, 95217, -93863, -96878, 71811, -77957, 46975, 8861, 74377, 73125, 53048, -43308, -36630,
+    -93360, -54122, -3220, 28152, 47809, 26015, 70695, 11206, 26818, -93664, 431, -61985, 2638, -32582, -34675, -23923, 76764, -87007, 91764, 9686,
+    25151, 83702, 27972, 22351, 45065, 39431, 11629, 54861, -41742, 7156, -44729, -90308, 12797, 12160, 49579, 55460, 43128, -26197, 71646, 69213,
+    80631, 94881, -1281, -98220, 38053, -2530, -70687, 23153, -7226, -97206, 21994, -29631, 87404, 20287, -80656, 18187, 73208, 15857, -24817, 53910,
+    85905, -58836, -83376, 44358, 49725, 18298, 60338, 34495, 95637, -32591, -35768, 2521, 66330, 23909, 46464, -21868, 55451, 71977, 71402, -97253,
+    -21748, 83572, 42996, 43810, 72870, -47333, -10379, 89770, 82307, 86299, -49242, 65712, -51969, 51032, -46759, -18305, -28597, 81640, 7386, 10452,
+    -5514, 888, -75002, 28927, 22709, 39588, 88743, 53329, 27872, -2603, 13283, -84425, -4164, -61095, 59157, 82965, -76164, 21290, -64355, 32351,
+    -36553, -15422, 3240, -22374, 26788, 83135, -46699, 25550, 84981, -53492, -40793, 14948, 83048, 434, -93442, 10033, 2623, -48260, 33435, -79292,
+    83172, 94283, -59624, 18386, 90307, 65094, -84803, 44798, 59255, 5776, -69379, -8861, 45290, 96292, 9235, 96509, 23781, -46689, -5157, 21734,
+    -96432, 30032, -5279, 52643, 12498, 74559, 25084, 61330, 94175, 9877, -9056, -16942, -75830, 77568, 73237, 12314, -32403, 51568, 55724, 17694,
+    54352, 57052, 56267, 1331, 65321, 31059, -97329, 70751, -58255, -4951, 92260, 40453, -84626, -47481, 58386, -14004, 27959, 3686, -8835, -89610,
+    57225, -73600, 29013, -27957, -17822, 35613, -39431, 92019, -27608, 74262, 12280, -55367, -28209, 27147, -80947, -66011, -88564, 73339, -25800, 19563,
+    49125, -45166, 96158, -34628, 20561, -53329, -11392, 43945, -54963, -63937, 31961, 27363, -14561, 76509, 70612, 25127, 87312, -8340, 34690, 87326,
+    -65598, 49127, 22873, -12857, -71472, 91391, 57364, 32261, 41533, -33076, 59698, 69625, -93254, 2582, -49643, -86548, 20108, 36094, 87181, 97330,
+    82341, 93803, -80311, 22189, -65033, 6988, -58955, -72844, -53258, -81840, 1626, 47149, 65046, -30581, 87012, -53775, 36809, 15553, -21155, 90488,
+    42273, 7150, -50065, -19709, 85954, 67663, -43181, -63926, -6836, -80027, 42052, 83654, -86867, 69143, 92098, -81467, 79849, -52264, -76953, 46829,
+    -89450, -330, 1103, 13497, 82, 70565, -1056, 78141, 33951, -93346, 84225, -3563, -69022, 5612, 63922, 64899, 52776, -70101, 61107, 39405,
+    59728, 91004, 72636, 48091, 70335, -93065, -5749, -24100, 42208, 22908, 79172, 8003, 13242, 86054, 50194, 82933, -56565, 27977, -36803, -23371,
+    -95933, 67732, -44690, -98088, -66840, 73667, 85637, 20818, 9268, 37325, 39258, -82943, 78431, 80889, 44164, 81737, 74719, 49341, -69620, 89805,
+    34339, 5203, 50447, 72644, 6311, 10754, 36941, -7982, -93242, -59325, 57511, -57039, 25527, -92073, -26761, -98548, -56488, 12704, -38860, -37845,
+    -21127, -97870, 70738, -45727, -9044, 40784, 17882, 74534, 40344, -66512, -235, -28052, -71092, -77024, 82040, -16106, -30967, 64623, -3643, -63781,
+};
+int nest(int v) {
+    { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) { if (v) v--; } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } } }
+    const char *fake = "/* not a comment */ // neither \" still string";
+    return v;
+}
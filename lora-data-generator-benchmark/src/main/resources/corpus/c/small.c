@@ -0,0 +1,39 @@
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+/* 简单的字符串哈希表，链地址法解决冲突 */
+#define BUCKETS 64
+
+typedef struct entry {
+    char *key;
+    int value;
+    struct entry *next;
+} entry_t;
+
+static entry_t *table[BUCKETS];
+
+static unsigned hash(const char *s) {
+    unsigned h = 5381;
+    while (*s) {
+        h = ((h << 5) + h) + (unsigned char) *s++;
+    }
+    return h % BUCKETS;
+}
+
+void put(const char *key, int value) {
+    unsigned idx = hash(key);
+    entry_t *e = malloc(sizeof(entry_t));
+    e->key = strdup(key);
+    e->value = value;
+    e->next = table[idx];
+    table[idx] = e;
+}
+
+int main(void) {
+    put("alpha", 1);
+    put("beta", -2);
+    // print one bucket
+    printf("%s => %d\n", table[hash("alpha")]->key, table[hash("alpha")]->value);
+    return 0;
+}
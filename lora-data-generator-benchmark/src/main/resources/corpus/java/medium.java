@@ -0,0 +1,613 @@
+package io.github.marchliu.lexers.scanner;
+
+import io.github.marchliu.lexers.Token;
+import io.github.marchliu.lexers.TokenBuffer;
+
+import java.nio.CharBuffer;
+
+public class Scanner {
+    private static final byte SPACE = 1;
+    private static final byte DIGIT = 2;
+    private static final byte NAME = 4;
+    private static final byte ALNUM = 8;
+    private static final byte OPEN = 16;
+
+    private final ScannerSpec spec;
+    private final byte numberCategory;
+    private final byte nameCategory;
+    private final byte commentCategory;
+    private final byte stringCategory;
+    private final byte[] classes = new byte[128];
+    private final char[][] lineComments;
+    private final char[][] blockOpens;
+    private final char[][] blockCloses;
+    private final char[][] quoteOpens;
+    private final char[][] quoteCloses;
+
+    public Scanner(ScannerSpec spec) {
+        this.spec = spec;
+        this.numberCategory = Token.code(spec.numberCategory());
+        this.nameCategory = Token.code(spec.nameCategory());
+        this.commentCategory = Token.code(spec.commentCategory());
+        this.stringCategory = Token.code(spec.stringCategory());
+        this.lineComments = spec.lineComments().stream()
+                .map(String::toCharArray)
+                .toArray(char[][]::new);
+        this.blockOpens = spec.blockComments().stream()
+                .map(d -> d.open().toCharArray())
+                .toArray(char[][]::new);
+        this.blockCloses = spec.blockComments().stream()
+                .map(d -> d.close().toCharArray())
+                .toArray(char[][]::new);
+        this.quoteOpens = spec.quotes().stream()
+                .map(d -> d.open().toCharArray())
+                .toArray(char[][]::new);
+        this.quoteCloses = spec.quotes().stream()
+                .map(d -> d.close().toCharArray())
+                .toArray(char[][]::new);
+        for (char c = 0; c < 128; c++) {
+            classes[c] = classify(c);
+        }
+        for (char[][] group : new char[][][]{lineComments, blockOpens, quoteOpens}) {
+            for (char[] open : group) {
+                classes[open[0]] |= OPEN;
+            }
+        }
+    }
+
+    private byte classify(char c) {
+        byte result = 0;
+        if (Character.isWhitespace(c)) {
+            result |= SPACE;
+        }
+        if (Character.isDigit(c)) {
+            result |= DIGIT;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            result |= ALNUM | NAME;
+        } else if (spec.nameChars().indexOf(c) >= 0) {
+            result |= NAME;
+        }
+        return result;
+    }
+
+    private byte classOf(char c) {
+        return c < 128 ? classes[c] : classify(c);
+    }
+
+    public TokenBuffer scan(CharSequence source) {
+        char[] buffer;
+        if (source instanceof CharBuffer chars && chars.hasArray() && chars.arrayOffset() + chars.position() == 0) {
+            // 映射文件解码得到的 CharBuffer 直接在其底层数组上扫描
+            buffer = chars.array();
+        } else {
+            buffer = source.toString().toCharArray();
+        }
+        TokenBuffer result = new TokenBuffer(source, Math.max(source.length() >> 2, 16));
+        scan(buffer, 0, source.length(), result);
+        return result;
+    }
+
+    public void scan(char[] buffer, int from, int to, TokenBuffer result) {
+        int pos = from;
+        while (true) {
+            while (pos < to && (classOf(buffer[pos]) & SPACE) != 0) {
+                pos++;
+            }
+            if (pos >= to) {
+                return;
+            }
+            int end = next(buffer, pos, to, result);
+            if (end < 0) {
+                // 与 parsec 版本一致：遇到无法识别的输入（如未闭合的字符串）时结束扫描
+                return;
+            }
+            pos = end;
+        }
+    }
+
+    private int next(char[] buffer, int pos, int to, TokenBuffer result) {
+        int end = number(buffer, pos, to);
+        if (end > pos) {
+            return emit(result, numberCategory, pos, end);
+        }
+        byte cls = classOf(buffer[pos]);
+        if ((cls & NAME) != 0) {
+            end = pos + 1;
+            while (end < to && (classOf(buffer[end]) & NAME) != 0) {
+                end++;
+            }
+            return emit(result, nameCategory, pos, end);
+        }
+        if (!isStop(buffer, pos, to)) {
+            end = pos + 1;
+            while (end < to && !isStop(buffer, end, to)) {
+                end++;
+            }
+            return emit(result, Token.SYMBOL_CODE, pos, end);
+        }
+        for (char[] prefix : lineComments) {
+            if (matches(buffer, pos, to, prefix)) {
+                end = pos + prefix.length;
+                while (end < to && buffer[end] != '\n') {
+                    end++;
+                }
+                return emit(result, commentCategory, pos, Math.min(end + 1, to));
+            }
+        }
+        for (int i = 0; i < blockOpens.length; i++) {
+            if (matches(buffer, pos, to, blockOpens[i])) {
+                end = blockComment(buffer, pos + blockOpens[i].length, to, blockCloses[i]);
+                return emit(result, commentCategory, pos, end);
+            }
+        }
+        for (int i = 0; i < quoteOpens.length; i++) {
+            if (matches(buffer, pos, to, quoteOpens[i])) {
+                end = quoted(buffer, pos + quoteOpens[i].length, to, quoteCloses[i]);
+                return end < 0 ? -1 : emit(result, stringCategory, pos, end);
+            }
+        }
+        return -1;
+    }
+
+    private int number(char[] buffer, int pos, int to) {
+        int end = pos;
+        if (buffer[end] == '-') {
+            end++;
+        }
+        int digits = end;
+        while (end < to && (classOf(buffer[end]) & DIGIT) != 0) {
+            end++;
+        }
+        if (end == digits) {
+            return pos;
+        }
+        if (end + 1 < to && buffer[end] == '.' && (classOf(buffer[end + 1]) & DIGIT) != 0) {
+            end += 2;
+            while (end < to && (classOf(buffer[end]) & DIGIT) != 0) {
+                end++;
+            }
+        }
+        return end;
+    }
+
+    private boolean isStop(char[] buffer, int pos, int to) {
+        byte cls = classOf(buffer[pos]);
+        if ((cls & (SPACE | ALNUM)) != 0) {
+            return true;
+        }
+        if ((cls & OPEN) == 0) {
+            return false;
+        }
+        for (char[][] group : new char[][][]{lineComments, blockOpens, quoteOpens}) {
+            for (char[] open : group) {
+                if (matches(buffer, pos, to, open)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int blockComment(char[] buffer, int pos, int to, char[] close) {
+        int end = pos;
+        while (end < to) {
+            if (matches(buffer, end, to, close)) {
+                return end + close.length;
+            }
+            if (to - end < close.length && isPrefix(buffer, end, to, close)) {
+                // 文件在结束符中间截断，剩余字符留给后续 token
+                return end;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    private int quoted(char[] buffer, int pos, int to, char[] close) {
+        int end = pos;
+        while (end < to) {
+            if (matches(buffer, end, to, close)) {
+                return end + close.length;
+            }
+            if (buffer[end] == '\\' && end + 1 < to) {
+                end += 2;
+            } else {
+                end++;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(char[] buffer, int pos, int to, char[] text) {
+        if (to - pos < text.length) {
+            return false;
+        }
+        for (int i = 0; i < text.length; i++) {
+            if (buffer[pos + i] != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrefix(char[] buffer, int pos, int to, char[] text) {
+        for (int i = pos; i < to; i++) {
+            if (buffer[i] != text[i - pos]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int emit(TokenBuffer result, byte category, int from, int to) {
+        result.add(from, to, category);
+        return to;
+    }
+}
+package io.github.marchliu.lexers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按偏移量保存 token：每个 token 只占用 start/end 两个 int 和一个 byte 类别，
+ * 只有真正写入输出时才从源文本中取出字符。
+ * 不能对应到源文本片段的 token（例如 nlp 插入的空格）保存在 literals 中，start 记为 -1 - index。
+ */
+public class TokenBuffer {
+    private final CharSequence source;
+    private int[] starts;
+    private int[] ends;
+    private byte[] categories;
+    private int size = 0;
+    private final List<String> literals = new ArrayList<>();
+    private final Map<String, Integer> literalIndex = new HashMap<>();
+
+    public TokenBuffer(CharSequence source) {
+        this(source, 64);
+    }
+
+    public TokenBuffer(CharSequence source, int capacity) {
+        this.source = source;
+        int cap = Math.max(capacity, 8);
+        this.starts = new int[cap];
+        this.ends = new int[cap];
+        this.categories = new byte[cap];
+    }
+
+    public static TokenBuffer of(CharSequence source, List<Token> tokens) {
+        TokenBuffer result = new TokenBuffer(source, tokens.size());
+        int cursor = 0;
+        for (var token : tokens) {
+            byte code = Token.code(token.category());
+            int idx = indexOf(source, token.token(), cursor, source.length());
+            if (idx >= 0) {
+                result.add(idx, idx + token.token().length(), code);
+                cursor = idx + token.token().length();
+            } else {
+                result.addLiteral(token.token(), code);
+            }
+        }
+        return result;
+    }
+
+    public CharSequence source() {
+        return source;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(int start, int end, byte category) {
+        ensure();
+        starts[size] = start;
+        ends[size] = end;
+        categories[size] = category;
+        size++;
+    }
+
+    public void addLiteral(String text, byte category) {
+        int idx = literalIndex.computeIfAbsent(text, key -> {
+            literals.add(key);
+            return literals.size() - 1;
+        });
+        ensure();
+        starts[size] = -1 - idx;
+        ends[size] = text.length();
+        categories[size] = category;
+        size++;
+    }
+
+    public void add(TokenBuffer other, int index) {
+        if (other.starts[index] < 0) {
+            addLiteral(other.literals.get(-1 - other.starts[index]), other.categories[index]);
+        } else if (other.source == source) {
+            add(other.starts[index], other.ends[index], other.categories[index]);
+        } else {
+            addLiteral(other.text(index), other.categories[index]);
+        }
+    }
+
+    /**
+     * 把一个 token 的切分结果按顺序定位回源文本，找不到的片段按 literal 保存。
+     */
+    public void addSegments(int from, int to, List<String> segments, byte category) {
+        int cursor = from;
+        for (var segment : segments) {
+            int idx = indexOf(source, segment, cursor, to);
+            if (idx >= 0) {
+                add(idx, idx + segment.length(), category);
+                cursor = idx + segment.length();
+            } else {
+                addLiteral(segment, category);
+            }
+        }
+    }
+
+    public void addSegments(TokenBuffer other, int index, List<String> segments) {
+        if (other.source == source && other.starts[index] >= 0) {
+            addSegments(other.starts[index], other.ends[index], segments, other.categories[index]);
+        } else {
+            for (var segment : segments) {
+                addLiteral(segment, other.categories[index]);
+            }
+        }
+    }
+
+    public byte category(int index) {
+        return categories[index];
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public boolean isLiteral(int index) {
+        return starts[index] < 0;
+    }
+
+    public int length(int index) {
+        return starts[index] < 0 ? ends[index] : ends[index] - starts[index];
+    }
+
+    public String text(int index) {
+        if (starts[index] < 0) {
+            return literals.get(-1 - starts[index]);
+        }
+        return source.subSequence(starts[index], ends[index]).toString();
+    }
+
+    public Token token(int index) {
+        return Token.create(Token.category(categories[index]), text(index));
+    }
+
+    public StringBuilder appendTo(StringBuilder builder, int index) {
+        if (starts[index] < 0) {
+            return builder.append(literals.get(-1 - starts[index]));
+        }
+        return builder.append(source, starts[index], ends[index]);
+    }
+
+    public String join(String separator, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            length += length(i) + separator.length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                builder.append(separator);
+            }
+            appendTo(builder, i);
+        }
+        return builder.toString();
+    }
+
+    private void ensure() {
+        if (size == starts.length) {
+            int capacity = starts.length + (starts.length >> 1);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+    }
+
+    static int indexOf(CharSequence source, String text, int from, int to) {
+        if (source instanceof String str) {
+            return str.indexOf(text, from, to);
+        }
+        int last = to - text.length();
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < text.length() && source.charAt(i + j) == text.charAt(j)) {
+                j++;
+            }
+            if (j == text.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
+package io.github.marchliu.lexers;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 读取源文件。小文件整体读入；超过 mmapThreshold 的文件通过 FileChannel.map 映射后直接解码；
+ * 超过 maxSize 的文件按 oversize 策略跳过，或者按行边界切成 chunk 流式读取。
+ */
+public class SourceLoader {
+    public enum Oversize {
+        SKIP,
+        CHUNK;
+
+        public static Oversize of(String name) {
+            return switch (name) {
+                case "skip" -> SKIP;
+                case "chunk" -> CHUNK;
+                default -> throw new IllegalArgumentException(STR."unknown oversize policy \{name}, expect skip or chunk");
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * @param hash 整个文件一次读入且调用方要求时为内容哈希，分块读取时为 null
+         */
+        void accept(CharSequence chunk, String hash) throws Exception;
+    }
+
+    private Charset charset = StandardCharsets.UTF_8;
+    private long mmapThreshold = 16L << 20;
+    private long maxSize = 512L << 20;
+    private Oversize oversize = Oversize.SKIP;
+
+    public static SourceLoader defaults() {
+        return new SourceLoader();
+    }
+
+    public SourceLoader charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    public SourceLoader mmapThreshold(long mmapThreshold) {
+        this.mmapThreshold = mmapThreshold;
+        return this;
+    }
+
+    public SourceLoader maxSize(long maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public SourceLoader oversize(Oversize oversize) {
+        this.oversize = oversize;
+        return this;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * @return 文件被跳过时返回 false
+     */
+    public boolean load(String filename, ChunkConsumer consumer) throws Exception {
+        return load(filename, false, consumer);
+    }
+
+    public boolean load(String filename, boolean digest, ChunkConsumer consumer) throws Exception {
+        var path = Paths.get(filename);
+        long size = Files.size(path);
+        if (size > maxSize || size > Integer.MAX_VALUE) {
+            if (oversize == Oversize.SKIP) {
+                System.out.println(STR."skip \{filename}: \{size} bytes exceeds max file size \{maxSize}");
+                return false;
+            }
+            chunks(path, consumer);
+        } else if (size > mmapThreshold) {
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                var hash = digest ? hash(buffer.duplicate()) : null;
+                consumer.accept(decoder().decode(buffer), hash);
+            }
+        } else {
+            var bytes = Files.readAllBytes(path);
+            var hash = digest ? hash(ByteBuffer.wrap(bytes)) : null;
+            consumer.accept(new String(bytes, charset), hash);
+        }
+        return true;
+    }
+
+    private CharsetDecoder decoder() {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 字符集也参与哈希，同样的字节按不同编码解码得到的 token 不同。
+     */
+    private String hash(ByteBuffer bytes) throws NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(charset.name().getBytes(StandardCharsets.US_ASCII));
+        digest.update(bytes);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void chunks(Path path, ChunkConsumer consumer) throws Exception {
+        int chunkSize = (int) Math.min(Math.max(mmapThreshold, 1 << 16), Integer.MAX_VALUE - 16);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(channel, decoder(), chunkSize)) {
+            char[] carry = new char[0];
+            while (true) {
+                char[] chunk = Arrays.copyOf(carry, carry.length + chunkSize);
+                int length = carry.length;
+                int read;
+                while (length < chunk.length && (read = reader.read(chunk, length, chunk.length - length)) > 0) {
+                    length += read;
+                }
+                if (length == carry.length) {
+                    if (length > 0) {
+                        consumer.accept(CharBuffer.wrap(chunk, 0, length), null);
+                    }
+                    return;
+                }
+                // 在最后一个换行处切开，剩余部分拼到下一个 chunk
+                int cut = length;
+                if (length == chunk.length) {
+                    for (int i = length - 1; i >= carry.length; i--) {
+                        if (chunk[i] == '\n') {
+                            cut = i + 1;
+                            break;
+                        }
+                    }
+                }
+                consumer.accept(CharBuffer.wrap(chunk, 0, cut), null);
+                carry = Arrays.copyOfRange(chunk, cut, length);
+            }
+        }
+    }
+
+    public static long parseSize(String value) {
+        var text = value.trim().toLowerCase();
+        long unit = switch (text.charAt(text.length() - 1)) {
+            case 'k' -> 1L << 10;
+            case 'm' -> 1L << 20;
+            case 'g' -> 1L << 30;
+            default -> 1L;
+        };
+        if (unit > 1) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return Long.parseLong(text) * unit;
+    }
+}
@@ -0,0 +1,514 @@
+package bench.pathological;
+
+public class Pathological {
+    static final String BLOB = "y\n\\//\\\\x\"\t\"\nx/*中y中//\t\\\"\n//////\\\t中y\"\ny\\yx\\\"\"xyy\\\nx\n\nx中\n\t中//中中\\\\//中x\n\n\\xx\\\"\"\ny\tx\"\ny//中\\//\t//\n\n\\\"中\ty\\x\"\n/*y\\xx\t中\n\"\\x中\"\n\"\\\\y/*\n\n\"y中\\中y中//x//中\"中\n//\"//中//\t\\//x\"\n\t//\n\"////\n/*yxxxx/*//\\/*中\n\"\n/*y\\/*/*x//\n//中\"////\\///*中\t\\\\/*\\\"x\"\n\\x\n\n\ny中\ty\\x/*x/*\nx\\y/*/*/*/*/*///*\t中\\中\\\"//yxyx///*\n/*yy\"\ty//y\\y\\/*\"\\\nxyy\\\\\"y\t\ty\"y\t\\/*/*\t中\t\n\n\t\nx中\n\n/*/*\\/*x中y/*中x/*中\tx\t\n\"\"xy\\中\t/*\\\n//y\\\t\tx//x\\\t/*\n\t\t\n\t//y\t//x\nxyx\"yx中yy\n中x/*\n\t\n\"//\"/*\t////y/*xxy//\n/*y\\/*\n/*中\ty\\/*\t\"x中\"x\\\t中//x//\"x//\\\t\"中y中\ny\"中x\"\t/*\t\\\"/*\"/*\t\\yx\"\"\n/*\ny\nx\\中\n\n\\\t\t中/*\nyxx////\n\\\nyy\n中\nx\\中/*//\\\\\n\"/*\\/*/*中/*\n//中\n\"\\//y\t/*中//\t/*\"/*\"x\"\\x\t\\x////\\\tx\ty////yx/*/*\\中x/*x\"\t/*\\中y/*y中y//\"\\//\"\ny\n//\\//中/*/*\\/*\"\n中//中\t\nx中yx///*\"\n//\\\\\\x\"/*\"\\/*中////\"x中x///*中\\x\\\t\\y\t\"y\\////x/*y//yx//\\y\nx/*x//\n\t\"/*\t/*y\"//\tyx\n//中\t\nyx\"/*\nx/*x\nyyxy\n\n\t\"中\tyx/*//\\\txxy\\\t\n\\\\y中\\x\n中y//\"//\"\"\n\txy\t\t//中y/*//\t//中中xyx\\\"\n//\n//\"x\tx//x/*//\\x/*/*/*\tx中中//\\y\t/*\ny\"/*\"y\\中////\t//\\\t//\n//\"\nx\n\t\"中y//中\n\nyx/*y/*y/*y/*中x\"\"中\t\\中x/*x\\\n\t\"x//\"\n\t\\\"\n\t\\\\中/*//y\t\"\t\\\"中\"//\"\\\"\\/*\\\\x\"中//\t/*\t\"\\x\t/*\ty中\ty/*\n/*\txx\"\t\\/////*\"\\\\\\xx中/*\t//中\"\"//中\n//xyx\tx/*\"\n\n\"x//\n\\\\y/*x中\"\\/*\ny\"\n中\"\\\n\n中\"\"//\\\ny\n\"\"中///*x\t中\n\t中\"\"\"y中\nx\n/*\\\\\\\n\"\n\"/*\\\\\\\t/*///*中y\nx中\n\"y\\x\\\"\ny\\\n\n中yyx中\"\"/*\nx\"\t\n\t//////\n\\x\"\t\"\"xy///*/*\\\n\\\tx\t\\x\n////\t\"\\\"中\\中yx\\\"\t\"中/*\ny\t\"//\t/*//x/*x\txx\t/*\n中\"\\中y\\\"\t/*/*x\"///*//x\"\\\\x/*\n中\\/*x//\"x中x\"yyx\\y\\//\t///*\t\t\\/*y\"/*/*y/*\\\n中中//\\x//\t/*中//\t\"\t\t中\"y\\x/*\"\n\t\t\n\\y/*yyy\n/*/*\\/*\txxx中中\\\\中中\t\"y/*\"\n中//\\\"/*xyyy/*//\nx\ny/*//x\"\tyy\n///*\\//\\///*y中\\yx中\t\n\n\"\n\\\\\\\t中\n//\\\n\t\n\"\"xy中yy//\\\n\t\"y\t\t//\t\t\\\tx/*\n中\t中\t\t//\"x\n\t//\"\"\t\n//x//\"\\\n\t\tx\tx\\//\t中\"x中\"//\t///*\ny\"y\"////y中\\\\\\\\中/*//y\t\\y中y/*\\/*\n\"y\n\tyy\n\t\\\"\txx\"\\\"//中yy/*/*\n\t\n中x//中\\//y中\"\n//\\\\\n\\\t\"\ty//中\t\t\t\\\"//\\y\"\nyx中中/*中\\/*y\t\\/*\\y\t\\xx//\t\n///*\n\n\n\\\\\t\t\"\t\t\\\n/*y\\\n//\\\n//\n\"\\\\中中//y/*\nyy\"//y中\\/*\"x\"中\"/*x\\\"\t/*\n/*/*x中/*\\\n/////*\n中/*\n\\//中\nxx\n///*\n/*x中//中\\\"y/*xx\tx/*//x\\\t\"//中x\n\t\"x/*\t\t\t\\\\//yxx\\\\x//\ny/*中////\tx//\\x\t\"中\n\\x/*yy\"//\"/*\\\t///*\\\nx中y中\n//x中\t中/*/*中\t\\y\ny/*/*中x\t\t中//\\/*\"\"//\t\t\\\"x\"\\\"\"\t\"xx//\tx\"x\"//y\"\\\"\"y\n\\/*\ty中/*//\nxy中\\\n\\\"yy\n\n中y\"\"//x中x\n中\"\t中\t\\x中\t\\//\\\n///*////x/*\t\\////\\//x\"\n/*y\\/*\"y\n\n\\中x\"\n\n\t//中\\\ty中\n\\中中\"yxx中\t////\\\t\\中\"\"/*/*中/*y//xx\t\"y\\\nx\\//x\\\\//x\\y中\tx\"\\//\t\"\t/*\t\tx/*\\yx中///*x中\"\n\"中y\\中\n\ny/*/*\"//\\\nxyx\ty////\t////y\t中\\/*/*\t\t\t/*/*/*//\t/*\\\t/*中//x//y中/*\\\"\txx\n\ty\t中\\\n/*/*中\\x\n\n\n/*//\n\"/*//\\/*xx\\\t中//yy\t中\t//y\nxx\t\n//x\t\n中\t//y中x\\\n//\"yy////x//\\\n\"y\t\n////\\中/*\n\"/*\\\\xx\"\"中\"y/*中x\t\ny\"/*///*\t/*/*\\x\t\ty\n\"\\中xx//\n中\n/*\"\n\"y//\"////\"中\t\"\\xy\n\ny//\n/*\\\t\"/*x\nx/*//中x中//\"\n中y\t中\n\\y//\"////\\y\n\"中\"中\"x\\////\tx////\n\"中\n\"y\"\\\"中//y\n\ty\t\n\n/*x\"x\"\"\"/*\t///*//中\t\n\\\"/*\"/*xy\"\"//中\"/*\n////\tx\n\t//x\t\n\"/*\"\ny中x//中yxy中x\"\\\"\"////\\/*\"\"x/*中//\\y\t//xx中y\n\n\"//yy\"//x\n///*x中y\\//\n\n//yy\n\"\t/*y\n\ny///*//////yx/*///*/*y\n中\n\\\n\t\n\n\"\\\"xx\\\n\ny\t\\\"中//yy\\\"中/*\"\t/*y中y/*\n\"\t\nx中\n\\\t/*x\n///*\n//yxyy///*/*中\\x\"/*//yy/*\t中/*\n中y/*\t\"xxxxy\\\t\n中/*\n\n\nx\t//x//y中\n/*\t\t\n\t中中\"/*\\/*\t\nxy中中y/*\n\t\\\\\txy\"\n\"/*\nx/*中\ny/*yx\n//\n\n///*中\t//\\\\\\/*\ty////\"//\n\\\tx中x/*中//\t\\\"\\x/*\"//\t///*\t//\n\t/*//中\n/*\t/*\t//\\\n\t\"\t中\n\t\"\nyy/*\"中中y中\"x\\\t/*\t/*yy\t\"yxx\t中/*//y\"\t//yx\n\t\n\\\ny中\\\t\n/*\"//中\n\"/*x\\\t\\y\ty\\中x/*\"\"xy\t/*//\\\"x\\y中\txyxx中\\\\\\y\t中\"\txx中\"\\\\中/*中\"\\\t\n//x\n//\"\"x///*\n\\//\t\\中\\/*/*x\\y///*中xx/*//x\\\"yy/*//\\y/*\\中\t中y//\nx/*\"\\\\x中\t\"\n\"\"\ny/*/*/*y\t\t\"\"中\\\n中\\\t\n//\"\\\n中\\x\ny中//\ny\"y\\\txyy\t\t\\中x\t\t\t\n\n\t\"//y//\n\\\ty中\"中\\中\\\t中\"xxxy\nx\"\n\\\\/*x中//\t\\\t//\"/*\n\\\t\"y\t\\x\\\\\"\t\\y中/*\t\\///*\"//\"\n/*\n\"中\nxx/*\"x\ny\"/*/*/*xy\t/*/*\"中\"y\"xyy中x/*\t\n/*x\ty/*/*\n/*\t\\\\\"\\y\tyyx\\\\yx\\\n中\n\n/*y\t中/*\n/*\ny\n\\中\\xy中\"//\\\"y//\"///*xxy\"\"y////y\"//y\n\\\n\t中\"x//\\/*x\n\\//\\yy中y\"\n\"\t\t\"\\\\\n\nx\\中x/*中\t\"\"中\t中/*\t//\\中///*中y\"\n\"/*\\\"\tyy/*//\t中中xyy\\\\\n//中中\"x/*\t\"中\"\\/*\t\\\t\\\"y/*///*\tx\"x\"\"\n中y中\ny//中中//\ny中\n/*x/*yxy\"\ny//\\xxx\"中//y\n\ty\nx/*\t\\\tx中\"\"x中/*\"xx\"\"x\"//中x//\\x中y/*xyy\n\"中xxy\"\n\\x\"\\yyy//中\\\t\\\t\"\\yxx\"/*\\//\n\\\n中/*中中/*\t/*y中//\nyy\n\\\\\t////xy\\\t/*中\"\n//\t\t\t\"\"\"中\ny\n\tx\ny/*\"x\\\t\n/*\t/*x\"\t/*y\tx\"y//\"\\//\ty\n\"/*y\"\\\\x\"\\\n////y\"/*x\"/*////\n\\x\t\t\t\n中\"//\t\t\n\t\\xxyy\\\n/*\nyxy中\"/*\"//y/*\\\ty中\t\"\ty\"/*y\\y中x/*\t\"\n\\\"\\/*x//\ny\"y\"中\\//\tx中y\\\n//xy\n/*\t中\\/*x/*\\\t\"\\/*\ty\"/*y\n\\\"yyy\t\\//y\\\t\t//x\n中\"\\//\t//\"\"/*\n\\\\/*//中\"x\\\t//中中xy中\t\t\n/*中\"yyy\t\"\\\\中xxy//y/*中\"\n\n\n\"///*\n/*y/*\\x\\\"y\n/*\\//\t\n///*xx\n\ny\t\t\\\n//\n\tx中\"/*/*\"/*\\//\"\t\t///*\\\\y\nx\\/*\\\n\"\\/*中//\t\n\"\"中/*\n\"x\ny//\n\\\"x//中\n中y\"\\yx//中\\/*\"\n//\tyy中y\"xy\\y\t/*\n\n\\//\n////\t\n///*x\nx\nx\n\n\n//y中中\\\\\\中\\\n/*\n\t/*\"xyx//xy\nx\t\"\"//中x\n/*//\n\t/*//中\n\nx\"中\"\n\"/*\n/*中/*\"中\n\\中\tx\n中\\\\/*中\"yy\n/*\tx\nyx/*\t\"xxx/*\"y/*\n///*中\"/*\n\t/*中/*x中\n中\t\n/*x\t\n/*\t\"/*\t/*\"\\x中xy//x//中中x\t//中/*/*x//x///*y中x\nx中//\ny\t\\/*/*\"/////*\t\t/*\n\"\"\"/*\t\tx/*\nyy中\t\t\t\nx\n\\\t/*中\t\n中//y//yx\\/////*//\n\\//\t/*\ny\nx\"/*//\\y//\\\"xx\\\t\t\t中\"\t中\t\"/*//\\\\\\\\xy//\t\n\ty\"中\\y\\中yx\\/*y/*x////\"\t\n//x//中y\"//中\\\"\\y中/*\"/*xy/*y\n\"中\tx\\xx/*\\y/*\"\\\\\n/*/*\"中\\\n\t/*\\y//x\"\\y\t\\x\\\\\n\txx\n中y\\//y\t中/*\n\\中\n/*\n中y\tx\"\\中\"y中\n\nxy/*//yyx//\t/*/*y//\ty//中\\\t\"y\"\n\\\"x中y\"\\中/*\n\\y\"\\y//\n中x\"x\n\\y\t///*y中y\"y中\n\"xy中/*\\/*y//\"中xyy\t\t中yx\n中\"/*\n\t///*\\\"y中\n/*\\x\t/*中\"中\"////\n/*\nx\n\t\n\t\"y\n//x/*\\/*\nx\ny/*//\t\txxy\"/*/*/*\t\t\\\nyx\\\\\\/*中\\中y\\//\"\\/*//\\y\t中\ty/*y\n中中y\"y\\//\tx\\/*y/*\t//x中\ty\"/*yx///*\"\n\tx\t\n//\t\"\"中x中\t\t\n\n/*\t\"//y\\x\"\"\\中\\/*y\t\\\n\\中x中\"//\t\nx中\t中中\n/*\"\t\n//中中\\/*\t\n\"/*中\\\n\\\\\tx\"yx中////\\y中\"中\"\\\ty中\t//y中中/*/*/*\n\"//\"\n\\/*/*\t\nx\n//\n/*\\\\x////\t//\t中///*中yx\t\"yxx/*\"\\\"xx\t\ny中//\t/*y\t\t//\\xyxy/*\n\n//中中xx/*\"y/*\n\"y//中/*/*//\\\"y/*中\"中中//\ny//\t\"\ty\t//\\///*x/*x\\中\"\"x/*x\t/*\\\n中中\\x\"/*\tx\\/*\"\n\"\n///*y\\\\\"\\/*//x\t\t\nx\\\"yx\tx\nxy//\\\"中\"\\\t中\\//\tx\n中//x/*/*//\"y/*xx中//\\/*\"\ny//////\"\nx\n中\n\tyy\ty\\\"/*x/*\\\\\n\tx中\t/*\n\n\n\t\"xx\\//\\\\/*\"中/*//\\\\\ny/*x/*//中/*//\\\\中\"\"\\//y中yyy\\\\\"\n//中\\y\n/*\ty\n/*x\\x/*x//\t\"\n中//中/*//\\y\"y中\"//\"///*/*y\t\"/*/*\\/*中\\\\//\\y\nx\\//\"y\n\\\n\"\n\n\\x/*\\//\t\ny/*\t/*y//y/*xy\\y\n/*\"//\"y\t\\x\n\t\\xx/*\"\t\t中中\"\\\n\"中/*y中中\t//\t//\"/*//\n//\\\t\\\n/*y中//中\n\t\\中//\t//\ty\n/*\"\t\t\t中/*\"\n\t\\\"\\\n中\nx\"/*/*x/*\\\t\"\n\\中y\n/*\"\n\"xy\n//中xx/*y\n\\y\n\n//\"\n/*y\n////中yy\"\tx\"\"y\\x\n////x\n/*中x\"xxx\"//中x//x\"//\"y\n中\t/*\n中x\n中y//xy//\"\nyx中//x\t\n\\x/*y\\\n\n//y\n\t\n\t//中/*\\\t/*/*\\\t中\n\t/*//\ty\\xx\\\"\t//\t中////\t\n\t\"\nx\n\"\n\\中y\"\"\n/*y\n/*yx中\\\n\"xx\\\\\n中/*中/*中x\\\"\"中x\t/*yx中y\n\txxx//\\/*//y///*\t/*//\"\\中/*\\y中中\\/*y\t\\y\n\"\"中x\n\"\t//\t\\\nx中x\\yx中\\中y/*/*\t\\y\"\"/*\t\nx\t\\x\t//\nx\\\ty\\\t\"/*\t/*\"\n\"/*/*//x////x/*\n\n\"\\y\t\t\ty\"\\\n\"中\ty/*x\n中y\ny/*\tx\"中/*\"\tx\\//\\\t/*y//y\t/*\"/*\"\nx\n\"yy//中\t\n\\//\\//yx\n/*\n\n\n/*/*x中//\"中\nyy\n/*\nyx\n/*x\\x中\"\tx\nx/*\nx\ny\t\"\tx\n//\"中x中\t\t/*y\n\nx\"\n///*\ny//y中\\\\y中中/*xy\"xx\t\ny///*//中x/*/*//\"\t\\\\中\"\\\n\\\"/*\"\\\n/*\"中xx中\n//\"\t\"/*\"\"中\\\t/*中/*中/*中\t\tx\"\\//中\n\"\\x中\t\"////yxy中y\ty\t/*y/*\t\t/*/*\\\"\n//中//中y\t中\"\\中中\n\"\"\ty/*中\ty\ty\n中\n///*中/*\\//中\\/*y中\tyy\tyy\n\n//\ty\\\t/*/*x\\\"/*x\\中中\t\\y\t\ny中\ty\tyy中\n中y////\n\"x\n\"/*yx/*\"\t\"\n\t/*/*\\中/*\t\\\"y\"\t\\//y//\t\\\t\t/*/*\n\t\n\\/*中/*//中/*x\\\tx中中\\/*//\n\t////y\"x\"\t/*中中/*\n/*\"\ny//y//x\n\tx\\\\/*xy\n\"x\"//y\n\ty\ny\nx//\nx/*/*/*\\//\\//\nx/*\t中//\"中/*中x中/*x///*\\\\\t\n\ty\n\"x中y\\\"\\x\"\nx\"//\\//\\\n/*\\中x\\//\\中中/*\\\"中//y//\t/*\"\n/*/*yx\"\n中\"x//\t/*\t\ny\"//\ny\"x中x\t/*//yyx\n\t/*\"\n/*y中y\nx中\"\n\n//\\\"y\"\"\t\"x//\\\n//y\t\t\n中\n//y/*\t/*\n\nx中//\"\n/*中y\"y\ty\n/*\n\n/*\t\nx\t/*\t\n\"//\"\t/*中中\t\"\t\"xyy\t\n/*\n//y\t//中\n/*\ny\n/*\\\"x/*\"//\ty\\\\中//\"\"xy/*\tx/*\ty\\/*中\\y\n\"\\中\\\tx\\\t中/*x中中\n/*xx\\x/*//\"\t\tx\n\nyxx/*中\"中////yx/*\n/*y\nxx\"中x\t\t\nx\\\nx\"中\\\nxxy\\\\\"\n\n\\y中\n中y\t\\\"\t\n\t\"\\y\\x//中///*\t\ny//y\t\t\ny中yx\\\t\t\\//\"\n中//\"\n中\t\\\"\\x\t//\n\"中中\"\"x中\"/*y\t\t\n/*yy/*\n中\"/*/*//x\\yy中//////y/*//y\n\\中/*x//中中\"\n\t中\t//y中\"//xx//\\中\n\\yy\\\\\\\"//\n/*\"\n\\\"\n//\\yyyx/*y中x\\yy\nx///*\n中\\//中xx\\/*\\\\\\\t/*\\\tyy\\中\"\\y\"\\xy\"\t中中y\"\n中/*中\n\"中\t\t\n中\\\ny\n/*y\n中/*yyx\n中\t/*////y\\\"y\\/*\"\ny//xx中y//yy\"yyyy中x\t\tx///*\n\t\t\txy\n\n/*\\\tyx/*y中\\\\yxy/*\\/*yyy\\\t/*//\t//\n\t中\\y\n\\/*中中\t\t\\\n中/*\t/*x中\t\"\\\n中y\n\\//x/*\tx\"y中\ny中y\t\\/*/*/*中y中\"\ty\t\\\"\"\"\"\\\\x//\n\\y///*x中中\\中/*\"///*\tyx\ny\\//y//////y\t\t\"x\t\\x/*\ty\t\"/*y//\"中中\ny\"\"//x\n/*\\\t中yy\\xyx/*\txy\t\n\\y\n/*y\\\tyy///*//yy\n//中//x\t中\\//\"中\\\n\\\n/*\"\\\nx\\y//y//\"y//x\n中//\"x中\"y\\\"y/*\"\"x\tx/*/*\n//\"中x\\y\"yx\t\\/*\t\nx//y\nyxy/*\n\t\t\t/*\\//\n中\\/*///*\n\t\ny/*\ny中\n/*y\\x//\t\\\ny//\\\tx/*中\n/*\"x//\t\\\"\"\ny\\\"\\y/*x//x\"中\\x\"/*\"y/*\"\tyy////中中x/*\"\t/*\t\n\\/*\\中中//\"中\n//\"\\//\ty\t//x\\x\nx\"\\///*x中yy中//\n//\"\\中\"///*中/*///*\n中\n中\\\\\n\n//\n中中\\y\\\"/*////x\n\ty//x\"\t\t/*\\/*\\//x中\\\tx中\"\"\n//y\"/*\\\\x/*\\中\"x//y\t//\"中y\t\n\t\"\"//\n/*/*/*中中//\ty\t//y//\\y\t\t/*\t\"中yxyy/*中/*/*/*//\\/*\\\"\n\ty\"中//y中//x\\x\t\tx\ny\\\ny\\//y\"x中中中x\t中///*x//y//中//\t//\t//\t\n//\n//\"\n/*y\t/*//\n\\\t\n\\\"yx\"\n中中\n\n中/*\\中/*x//中\"\t//x\n\"中x//中\"\ny\"y\"///*/*//中\"xy中\t//y/*\"\\\"y//\t/*///*中中\t/*中//yxy/*/*\"\"\n/*/*y/*x\nx/*//y//x\nx\tyy\ty\n\"\\//y\\\tyy\"\n\"xx\\\n\\\txx\\中\"/*y中////\"xy中\\\"x\\///*中x/*\n\"/*/*yx//中\\\\x中中\\\t\tx\nx\tx\t//y\n中\n/*\n\\中\"\n\\/*yx\"中\n/*\tx\\\ny\\/*\\yx\n\"\nx中///*\\/*中\\\nx中y/*/*\t\\xy\t\"\\\\/*y\tx\t/*\n\\y/*y///*\t/*中/*y\n\tyx\"中/*x\t/*/*中/*xxx\\\n\t\\x\\/*中\"\t\tx中\n/*y\n//yx中//y\n\n\\/*\\中\t//中\tx中\"\t//中\"y\\\n中\\\"yx\"x//x\n\n\n/*/*\n\"\\\t/*x\tx\"x\n////\"yx\n\\中\n\"/*y\n中\n中\n\"\\\"/*//\"中\\\t/*中y/*yy中x/*\\\n中/*\n中///*\t//\txy\\中\"中\"中x中中/*\"x中\"\"\\\nx\n\t\\/*\"\\\"\"\"//\\中\t\n\"x\n\\\"/*\"\"//y\\x\t\n/*/*x\\\"x//\n\\\n/*\"x\\中中\"y///*\"x//\\xx\\中\\y//\n\t\t\t\"//\t\t\\\n\\////\\//中\ty中xx////\"/*\t中\tx/*y\tx\n/*/*/*中x\\x////\\\\\t中//\\//\t\n\\x\n/*\t\n\t/*\"/*\n///*\"////\\\\中\nx//\n\\\\\"/*\\y/*\"xx\"//中\"\"y//\n中中\n\"\n/*中y\"中y////\\//yy\\/*/*\"\\\"\tx\t\tyx\n\"\txx//\nxy/*中中\"//\n\\/*/*/*\t\\\"y中x\n/*\\/*\\/*/*\n//\\xx中\n\"\t/*yxyy\"中\\\n//y/*y\t\n\n\n\ny\"\"\t\\\t中\\\n中\\\"\\\"中//中\n中y\t///*中\\/*中xx\"\t中\tx中中\\\\\\y\"\n\n\"/*\"/*////中\t\nx\t/*yx//\"\t\\\n\n\\//中y/////*//\n\\x\ty\n\t\"\\/*中//\tyy\"x\"中y中//yx//中/*\nxx中//\n////\t\ny/*\n\"/*中x\t/*\"y\t//中x//\ty\n/*中x\\\\\\/*\"\\\n\\\"//\t////\t\t//\t//\t中/*\\\\x\n中yy\\\\y//\n/*\\y中\"中\n\\\n中\ny//////\n\"//中中/*\t\"中\n\ty中中y//y/*//\\y\ny/*中中\t//中\t\ny//中////y\n\"中x/*\n\"\"//xx//中//\\/*\ny\n\\x///*\n\"/*y中\"//\"x中\t//\\\"\"\\中xx/*中中//x//\\//y\nyxx\n\\/*x\n中/*\n\nx\"\\y\n\"\t\t中\n//中/*\t\\////\t\n/*x\nx\\yy\nyy\n\t\"\\\t/*\\//x\\xx\n中\\\nx中yy\\\n\"\t/*\t\\//\n中中\nx\"/*中\nxx中yy//\"\t\n\t/*\\x中xyx中\t\t中\\//\\x中yy\n//\"\\y///*y\"\n中\txxy\"\tx\t中中x/*/*//\n\"\\/*\t\"中x\"//中//x中/*////x//\"///*//\t\tyxy\\中\n\\x\n中\t/*\txx/*中/*y\"\t\"y/*/*/*\n\\y\t////\n中//\"y\"中\\/*x//\"//中\\xy中\"\\\ty中yx\n\n\"x\\\"x中\\x/*\n/*y/*\ty\n/*中\"中\nxy///*\n///*\"x中\n/*\\x/*y中\\\\/*/*\n\ny中\nyy\t/*x\\中\t\\x//\n中\"/*\t中中中中\n//x中\"\\x\t\n\n\\\ty\\\nxy\"\"y//\tx\nx/*\\\"\ty\\\n\"\\x/*\\\n\\中x\ty中\n//\\/*yx中///*\tx\n中////\\x\t\\\\x中x\\\n///*x\"中\"\\中xy\nxxx\"\"\\\t//\ty中中x\\y\"\\////\n///*\"//\t\t/*中xx中x\t\"/*\n////\n\"\n中\nx\t\"\"中\ty\"xx中\"\t\"\\//\"\\\\\"\n\"y\\/*\\yy/*\\中/*中\ny中/*中x中\\//中\t//\n中\t\n/*\n\\y\"中x\\\\/*中/*\\/*\n\t/*\t/*y\tx\\\\\t中\"中中\ny\n//\\yxy中x//\\\ty中y//\"\n\"/*\t\n/*中\n//\n/*/*//\"/*\t/*/*x中\n/*中\"x中\"\t\"\n\n\t\t\t\t/*\"\t//\n中y/*\n\"\\x中y中\n中\\x/*\\\ty\t\"\"\"x\\\t/*yx///*\"\\\\\n\\//\t\"中\nx/*/*/*///*中\n\"x\"yy\\\ty\nyy中\"///*\t\ny\n中/*\n\n\\\\\\/*/*y中\\\"中yxy\"y\t\t\t中x中y\n\t/*//\"/*\\x//\n\"x\n\t\n\n\"\ty/*yx\t/*中\t\t/*\n\n\\x\"\tx中xx/*\n中y/*\n中\n\"\t//\n中\"//\n//yy\\中中\"\n\n//xx\"x\tx///*\\中\\//y中//x/*\"y//x\"/*x\n\t//\nx\"\n\n中\n\n\"//\\x\\/*中\\中y\\xx\\\t中\n//\\y\"\"y\\\n//\\y\"//\n//\t中x\t\"\"\t\"\n\t//中\t\t\\y/*\n\n\\\\y\t//\\\\\"/*yy\"/*/*x中\\/*///*\"\\/*中y\t//\t\n\t\n\t//\ty/*\tx\nxx\ny\"\n\nx/*\t中x\"\nx//\\y\tx\n\\\"中\t\n//\"/*x\t中y\"\t\\\"\"/*\t\"中\t中y\nxy\\//\n/*中\\\"\"\\\t\ny\t//中中\\y\\\ny\t\t中\\y中/*/*\"\t中\"\"\n//y\\\t////y//\"/*\t\nx\t\n中\\x\t\t\"x/*\n\\\t/*中//中\n\tx\tyyy/*/*\t\\x中x\nxy\n\"x中中x\ty中中/*\n/*\n\"\"/*y\ty\"\t//\n\"\\\n\"\n///*\"/*\t//\\//中中中/*\t中yy//中/*yyx\t\n\\中\n\\中//\"//\\\"x\\\n\n\n\n//\"/*//\\\t\"/*\ny////\\x\t\n\\中\n/*\t\t\tx中\ty\n\\/*y\t中\t\"\\中\n/*\t\ny\"\"\n中\n/*\"\tx/*\\/*/*y/*y中中y\"\\y\\中\txx\"\\y\"//中y中\n\n//yx\\y\ny中中/*////x中\"\"x\n\\\\\\//\t中y\tx\\\"\n\"y中\\x\n///*\\y\"\ty\"/*中\nx//y/*\n\t中yx\t\\\"\\/*\n\tx中\\/*/*\"中xx//\\中/*\ty\"/*\n\"x\t\\/*\"y//\\\n//\\x\n\n\\\\\\\"\"\"//\t\"中\n中中\"中中/*中//\\x/*\"x\"中yx/*//中yy\t\"\t\tx\n\\//\tx\\xxy\"x\t\\/*\t\tx中中y///*/*中\\\"\n///*\t//\"\\x//xx////y中\n\"\\//y\t//\n中xx\t\\\tx中\n\n\n//\\x\n\nxy\t\"中////x//\"yx//\"\"x\t\nx中y中中\t/*//中//\"//\\\t/*\n中\t\n\"\\//y/*/*yy中中\n/*yy\ny中x\n\n中\"\\\t中/*\n/*\nx\"//\t\\y\ty////x\\y\"\"\"\n\tx中\nx\t/*//\\\"\t\n\\/*x\"中\t\ny中//xy中xyy\\\\\\\n\\\ty/*x\\\\中\t\"\"/*\"/*\t\\////\"x中中\t/*中/*//\"x中\n中//\\中\nxx\t中\t\t中x\n中\\x\t\\\"\\\"中\"yy\t中//x\tx\n/*\\yxxy\"y/*中\"x\t\\\t\\\"/*x//\t\\x\n中y/*\n/*\n\t中\t\n中y\t\ty\"\ty//\\中x\\\\/*xx\\//\t\\中///*/*y\nx\n\\xx\n中\\/*x/*/*xy/*\ny\\xy//\"/*x\t/*中y\\\"\\x\\//\"yx//y\t中\"y\n\ny中//x/*中x\n\"\n\n\\\n\"x/*\t\\y\n\t/*y\txy\\\"/*\t////中y//\"\n\tx\"x\"\n\n中/*中\t\\\"yyx/*\"中\"\t\\\\\t\"\n\nx\n\ty\n\n/*\"////\"//中/*/*中/*\"\"/*/*///*中xx\t\n\\y//\"\t中\nx//\ty//x\\\\\"\ny\n/*/*yyxy//\t\nxx/*y中\\\\\tx\"中中\t中\"/*\\\n////中/*///*\\\n/*\tx/*\\x///*//\n\n\ny//中中x\"x\"\t\\//\ty\t\n/*\\//中\"x中\t\tx中\"\t\t\"\n\"//\n中\n/*\n//\t\n\\xx///*//\\y\"yx//\n\\//x\\中\"y\n\\/*\n\n中x\n中\t\\/*\"\n/*//xy\tx\\\"\tx\n///*\"\"中\t中中//\"/*\ty\\x/*/*\"x/*中\n/*yy\\y\t\\\"/*\ty/*/*\nxyy/*\"x中////中\"x中y//\\\\\"中\"\t\\y中\"\n\\\n//\n/*xxy\n中\t\"\tx////\\//中\n\"\"\"/*y\\\\//x中x\"中//y/*/*\\\n////\t\n\"x中x\\\"\t/*中y\\中\"\tx/*\ty中yy中\n\n\\\t\\//x\t中y\t\tx\"\tx/*y/*\t\nyy\\中\\//\ny/*\n/*中\\\t\"\\/*\"y中//中中中中\\\\\t\n\\\n\"y//\nx\\/*x中\"/*//\n\t\n/*y\"//\n\"中\\\t\t/*x中\"/*\t\"中xx\\//xx/*y\"\n\\xx\t\\y\t\n/*///*\\\n/*\nyx中\t中y/*x\t\\/*y中\\\"//y\n\n\n\"\t/*中\\\n//y\n\"\n\\\\\t\\///*y//\n//\"中/*\t//中x\\//\t\"y\n\\x\nx\n///*\n/*\"///*\n////\"\t\t\\x//中\\\"\\\"x/*/*\t\\\n\t中\n//\t中\\中x\"y\t\\\t\nx\"\"\t\"中\t\\\"yx/*\\//中\ty\"\n\n\"x\\中中y\t/*\\y/*\ty\"/*yx\"/*\ty\"//\"/*//\\\"\n\"\"中\n\\\n\"\\/*xx\\\"x\"\\中//xxyxy中\"//xx\n\\\"//\t\t\n/*/*/*\\y//\"中x\"/*//中\t//\n中x/*\\y\\\"\ty/*\t\n//中/*x/*\"y中\nx//\"中\n\n\t/*x\\中\"中\t\tx/*\"/*中\n\t中\"\"///*x//yyy\ty\\/*\"中x\\x/*//x\n//xx\"\ny\"\\//\"\"\\\n\"\n\t\t//y\\x//\"y\t\"/*\\x/*////\"y\nx中//y\\x\t\n中\t\\//y/*中\ty中//x\"////中x/*\"y\n\n//////\\x\"y\n\nx\\\"中//\"\ny\\\\yy\t中x\\///*x\\\"\n\\\\中\tx中\t\n\"yyx/*\tyy\tx/*\t/*\ty\t//\n\"/*yyx\n\\y\ty中//\n\n\t中中yx\t\"x\t\\xxx\"x//\"\n/*x\ny\t\t//\ty////\"\n\n\t\n\t//中\"x/*//\t中\ny\t/*\t\"x\\y中/*y\t/*x\t//\\/*\\x\n\nyy//\t\ny\t\n中\"y\\/*y\n\\\ty/*\n\"\"\n\t\\y\"\t/*x/*\t/*x\\/*x\\\"/*\t中\t\\x\nx\\/*\t中//中\"\"x\t\tyy\"x\t\t\\\t//yy/*\"中///*y\\//y\"\\//中中x/*\n/*//xy\\\\中\\y\"y\\/*\ny\"中xy\nyy/*y/*x/*x\"\n\t\t\"\"\\/*//\nyy\\\"//\t/*//x\"中y//\"中中yx/*////\ny\n\n/*\\\\y//\\/*\\//中y\t\t\\\\y//中\t///*\tx//中/*\ty/*\n\"中//中//yyy\\/*/*中////\\/*中中y中中中中y中\\\t\n/*\t\ny\t\n\nx\n中\"y中\"\\中\\y中\"//\"/*y//\\x//xx中\"\n/*//x\n//\\//x\\yy\ny\"\"\n\"\n///*/*/*中中\\\"\"\"\"x/*中x\"///*\\\ty中\\\n\\\t//yx中//中\ny\t\t\t/*\n中\tyy//\t//y/*中\n中\t中\t\"//\"\nx\"中/*中\\\t中中x\n/*x/*\ty\\\\x中\\\"\n/*\n中y\t/*\"y中\n/*\"中\n\"//中\n\"\\中\n\n\"/*\\中中\"x/*\"\ty\"\"y/*//x//\t\"\"\"\n///*//中\n//中\\\n中yy\t中\n\"\"\"\"\"中/*\"\t///*y///*x\t\"/*\n中\n中//\"/*中中x/*\"//y中\t\\\"\ny\n\"/*\\中\\\nx中\\\ty中\"\"\t\\\n\\\t/*//xx/*\n/*/*\"y\"/*中/*/*\n\"\"////x\n/*y///*/*\"//\n//中\tx\n中中//y/*/*\"\"/*\t\"\n中中x/////*\n\"中//\t/*\\/*y////\"/*y\tx/*\t\t\n\n中xy/*\"//\n中x\\//\\//\n/*x中\n\"中\"yx\n\t\n/*////\n\"中中\n\"yxy////xy\t/*中/*\nx\\\\//y/*\ny\"//\t\t中\"\n/*//\"\"\"/*\"\n\t\"yyx中\"//x//\"\n///*\"\n//////x\n//中\\\t\\//\t\t//\\\nxy中x中xx//y//\\\"y//y\n//x\"中//y中//\t中xy\nx\nx/*\ny\"中//\"\\///*/*y中\n\n\\x\"\\//x\\x中x中\n\\\n///*\\yxyx\t\"\nx\\中/*\\/*中\t//\n\"/*/*中中中\"\t\\x/*/*\\\t\nx\t//y\\\\yx\nx中//中\t中\t\t/*/*\"/*y\\yx中中\\xy\t\t/*y\ty\\\n\n\"yy\tyx\"\\\"\n\\\\\txx中x中中中//\"\tx\t\"\"\n\n\\\\yx\nx\t\\\nx\\/*\\\\y//\t\\\"y\"\n\n中\"\"\t\"\\/*\tx\\/*\\\ty中\"\n\t/*/*/*///*\"y///*\"中/*/*中\n/*\\y中\\\n\\y\\yxx//x\t\"/*//x中/*\\\nx\t/*///*中/*\"\t\n/*y\"//x\\//\t\n\n//yy\"\n//\\x中y\n/*x\tx中中\n\"\n\\y\nx///*y/*\t\n\t\t中x\"\"x\t\\\t//中//x\\\t//\t\t\t\n\t中中\\//中\ty\\\nxy\"\n//x\ny中\"/*y\t\t\n\"x\nxy中\n中中///*\\//xy\n///*\t///*\"y//y//y/*y\n//y\ny\t/*\"\"\n/*\t\"\nx\"\t中y\"///*/*\\\"//\n/*x//中\"/*//\tyx/*//\n\tx中\"\n//中/*\t\\/*y\n中//\ty中\\/*\"\"\"y中中y//\t中\\\n\t中中\"x//x\t\\\\\nx////\"///*y\n中//x\ny中x//\t\"\ty/*\"/*中//\"\"\t/*中中\n\t\ny\n\"\n\"//\"/*xy\ty/*\"/*\t\n中//y\n\n\t\n\"/*\t\n/*\"\t/*//\nyx\ty\"//\"中//y/*//\n\"x////\n\n\\\n\n\\y\\\"\"\n\\x//\n\t\\///*//中\ty\"y//中//中中中//x\n\"\"//\"\nx\"\\y\\//y中\\\ty中x\t\"中//x/*x\n\tx\ty\\\\x中y/*////\n中y\n//\n\\\\x中\\x\"\\中xx\\\"\"/*x\\y\"\ty中\\//\t\n\\x\"\n\"/*x\"\nxy/*xx\"/*//\nyy\"y/*\"\"\"\n\tyxy/*\t\\\\//\\\n/*x/*yy/*中\"\"\"/*/*xx\\/*\n\\\t\t/*/*y\n\\\n\t\t中\"\"/*\"\t///*中\"//\ny//\t\t/*\\//\t\\x中\n中中\t\n\n/*中/*\ty/*//xx\ny//x//y\\\\\\中\t\\y\t//中/*x//\"\"中y//\t//\t//y中\n中中\\\"/*\"\n\n中中中/*\"\t\n\n中\"x中/*\\xx中//\n\t\\/*/*\\\\中\"yxy\n\\\"\\\\\n//x\n中/*y\n/*x\n/*yx\n/*中中\n\n/*中yy\ny\\/*////\\\n\t//\\y\\x\t//中\"\"xx\ny\\\t\"/*//\n\t\n\n\ny////\\\"\\\\/*/*//x\\中\\中x//xx\t\t\"/*\n中中/*\\\n\\\"\t\t中\\\t\\\t/*\n中\"/*\\中x中\n\"\"//\\\\/*xx\"\ty\ty\"\t\n\n\t\"\t中y中\n中/*\n//中中\t中\n\n\"\\\n/*x//\"\t/*y/*/*\"\"\n/*\n\"\nyxx\t//x中x\"\\xx\\///*xy\t\t\ty\nx中\t\"\"\"\\x\n\t中y/*x\ty/*x\ty//x\nx/*\\中yy\n//\t\\y\n/*\t\nx\t\n\\xx\nyxx\"y/*中x\t\\\\//xy\\y\"//xx///*/*//\t//\"\n\\x\t//\n//中\t\nx\\中//y\n\\\"中\nyx\t//\tx中yyx//中/*\ty中//\\\\//\"//\\中//x中\tx//\n\nyx中x中\n\t中yy中\n\n\t\\x中y\n\n\nxx\n//\\\ty//\"中/*\n//\"yyx/*\\y/*\"\"\\\t\t\"y中\"yy/*yy\\中\"\n\\x/*x\"\nx中中y\t/*中x//y/*x\n\t//中中/////*中/*////\t\\/*\ny////\n\"\tx中y\"xy\t\"x\\//\n中/*///*/*中\t\"xx中\n\ny\\y//y\t//\\\n\"\t\\\tx\n\t中x\"\t/*x\ty\\//\"\\x\ty\txy\t\txxy\n\"//\ty/*\\y\t\ty\\\t//\n\t中\t中yy//\"\\\n\\//x\t\n中x//中/*\t\n中y///*\ny\n\n中/*xx中x\t\\y\\y\t/*\t\t/*\\x\\x/*\t中yxy\t/*y中y\"xxxy\"/*\t\"/*y\n\n//\t\"\t\n\\\t\n\\中\nx/*x//y//\\\ty中/*中\t\"\"\\中/*\"中//\"中中x/*x/*\"中\"\ny//中\t/*y/*/*yy中x中\"xyx\"\n\\//xyx\nxx\\y\"/*\n/*x\\\"yx\"\"\t中\n/*yy中\"\\\t/*//y\"/*x//x/*\\y\ny////////中\\\\\n\"\nyx\"/*\n\"y\t\\x\\x\"中中\\\"\t//y中\\\\\"/*\\\t//\t//x\t//中yx\\\"\n\t/*\"//\\中y\"\"\"/*\ty\\//x\\yx/*\\\\/*\"\"/*中/*//x\\/*x\t/*中yxx\"\n\"yy\t中//\\x\\//\\/*\n\"\\y\t/*\t\ty\t\t///*\t\t//\\x\n\ty\t\\x/*///*\t\"///*/*//////y/*//y\ny\ty/*///*\\\\x\"\n\t中/*y中y\\x中/*x\t\n中y\\\"/*xy\"\"中\t中\n\n\t\ny/*yxy\nx\t////\"中\\\t\"\t\n中\\\ty\"\\\n中\ty\t中xx\\/*中\"\t//\"\nx\n\"//\t//\"中\\x\ty\\\\\n//\"\t/*中\t\\yy\"\t中\"\n//\n\n\t///*\n///*/*/*yy中y//\n\"\"y\n\\//\n中yx//中中\"\\\\\"yyx\"\"\n/*x\\\\////\\x中\"\t\"////x\\/*\t\"\"\n//y\ny\txy\"//y//中\\y//中\"/*/*\t/*\\/*y\ty\"x\\//\"\"\n中\\\\/*\n/*\"yx\n\"中y\n\\\ty\n//x/*/*x/*//\"\\x中//中\\y\\/*\\/*//中\\\n\t\nyyx\n//\t\"/*//x中y//\\x\"\n//\n中x\ny中/*\ty\"中\"\t\t\"y\"xx\t//\n////\n\\中\"/*x中/*\\\\\"\"\\\"/*中/*//\n\tx//\\\nx\"\\/*\n\\\n\t中\n中\\\\\tx//\\/*\tx\"\\中\t\\x\t/*y\t\txx\t\"\t/*\"\t/*//y\nxy\"yy\n\n/*/*\t////中\\\"\"中//\\\nx/*/*/*中yyx中y\"中////中中\"/*\\\nx//\ty///*/*中/*//x\"\"\\\tx/*\t\n//y\"\n\tyy\n//\tyy\t\t\ty\t//\n\\中\\\nx\"//y//\"\t/*y中y\\/*中\n/*中x中\\/*y中\n/*中y\"中\\/*//yx";
+    static int deep(int x) {
+        return ((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((((x + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1) + 1);
+    }
+    /*
+     * 把器切口给法码小注注数中器分把机中析机码号口度分命码调代并窗给据练数释交口成机存源成词切中词命调分并词的分源交命调口机器
+     * 调析交器中率调源训分命把窗析口数大成器口分分的中口处的代分数文给交记发率码词窗中并小交口代码注给析源大理器交命分代析据存
+     * 机机训随理中给代词分随文随词文词并法法中交注率发练大把度中随大中器分析号中数率分度源训并词随析词中中交词源文分分器机代中
+     * 并理大中大文切分中切文切词词存练命把中析中调记据中切词理小缓器口给理词随析缓分的器号器成切码数大训码成中小切分的练记注缓
+     * 度口词中成记大注窗码词小中中率据口器文代给并成数并度练词源发随成注注码理词释的率记交源大切小文大析记理小训随析分缓随发释
+     * 数处释数分并代析练交机法码口成缓调器分法成源中随训发命把记交发给析发分随练大器处发释率把析交释大词随命的把中率中析源分并
+     * 小分练法中文记词给切发据处存中中中据析成中度大的小口分中分释大切切存调据代调随存源给分调窗交码析记存调理码缓代机器析中号
+     * 率代分中文析词析理成成码器理理器器处法小码中训代发代理小小注号练并调存处机存大析调代分练训析词把词处中切练中数度析分窗据
+     * 处给交记注训命练窗据注器成析处分代成小分中码切号数发注源词窗释度交词分中练词把释训码口数窗中中中词交调号练据窗器机把成给
+     * 器率机释注分缓析大据练记中中分分法交发中大随据调的号词小词数法处理中源器的发大的调中中码随中文窗切率存切代中把器随给分分
+     * 给法注分率分数中把给处率命命词度窗中切的中中处分交处码的存练码分释中把命数的交源交率注缓切随词中处把缓法大给把据窗分成发
+     * 中中分存给据缓度注小并析注度训练词给机给理理调器发中记调机号训随小把中随词率分口发分并器中文注率法中处理大处分小器机练把
+     * 析记切练训小缓的析切率切口交练分词注代发命码析分给分成大文成存缓码词给记词代中中发处码给口给代码分记窗成源注代注数随分数
+     * 记号词存词大命中号释注中词号切释练练机训口命代缓法分词码法源源成随练号处切并数把理并源随器分大词析码机的机记中号注代的大
+     * 缓码缓析度给切命析词号中处注法器机把分中码文口分词分词调中器成分词发中练机代据度析分源中调口注小度命中分小率器器机口给中
+     * 命率随词数度调中法记调小处小分器析分号释练法据并切率机注注据缓释窗切机训中注小代号中给分源练码把据的缓把调记理率给口小交
+     * 把析词据机随文存文口分缓大并记代缓存释率中分分器中文记随理缓理存处小缓理法训数记中切器码释缓给度的号码发缓的把中缓把词发
+     * 注给文码随中处成随存机中法口发存练缓号随析度号的码中分释词缓的号记分发中的词发注注释器文理训交给中处代分交词源中命处据缓
+     * 记分析词器发并中处交器数词的法把并分文法窗缓训发析文处小交给词窗源释切给切法成交分处调中词记成的中释率词释大分度数小切口
+     * 数练析号随成并调处存分中中随中词处的大训存注把中率窗代文理数词机机词分据调中练命随注切号命切命码释存成数成源器据释器率号
+     * 训窗交处命文词命大器词分练成据词源成法析中口析口器源分的口调并命分缓号文器并词发练口代口分训数大号文把理把练把交析文数据
+     * 分窗器练分机给文发口口随文号的代调号交中器号率码练法法器成小中中码码随分练并号码记机口析分法存器号记法口大度中大器给存发
+     * 发代口调器记的注机并词分器的数中词率注缓数法给切口给发理发中源中词缓码中词中大析小数存分窗小机并调成发随度码码处分分处文
+     * 缓命给交口随号法存大文的代代处成并中中理代代存交号存口记度练中度记法小并并理分大词释器率小析器交数训成处机中记调号分切口
+     * 据练记分法分成源法据调的并度机文训度分把度理据词切随率成码析源中词训成口大分析数注口中号随并切码中中大度注词记的给处调器
+     * 法率中数大中器缓窗率源词注文法数练文词析大分存给中词窗的存记号练词随析理窗成把随分训词文处注交大缓命处缓大记数口注调小练
+     * 训的切大词命器处代词把码把器词词缓训分释缓训把中码率器释命源口理小分口中随并存析缓成码分率词词理率分中中词发代率率调码给
+     * 分器记注给中存度并代注存分窗码调代给释记练器机命分释给并窗注法中把命词随随率法据命度的据分法据分析词训窗分机度器窗数分中
+     * 成命度机并缓注码词的器释训窗代命的词命分并机据代率数窗法据口交中发源的分记号窗训成率小器率析数练处析代析分机分析释源析大
+     * 大训机命分释口口的交词练练词文交号随窗度中的率器析据码成调命并命据成把给存处释机处源号成成发存练把代切缓小训中大器处缓小
+     * 码切处词分练窗并度随把分发小数数法中小文代析器度存文法理处把把成理中注率分并词发中发中法法交记度分发机窗交成命源记器分分
+     * 率把法并存交命分分把文小源率器成理处据机并理注发中存数切注度度的并窗并析分把文小随中源把数数随的练分小调调释存大小的度法
+     * 成缓注发发据器据小词交器大把并的词法注并分数法随理窗调调数大分号词析的训小存理中词交给源器给中练交分调据代分存调词成分法
+     * 中源命数释命大理训记存命给并的处机把代中注中号器小中中中理中训码率练号器器缓随并给存调注随处训词切窗词度分命中存窗大中中
+     * 交交命法把的交率器分切处器中释中词析析释处交的析成率命中注度注练把器成记文词发训中率据注率代并分存中的命率窗分号器源大记
+     * 训号窗大分词分分存号小缓给据源交代源记器中释分把数分词分命成小口练的切口存码析中源据据把号中词器释据码窗把缓法中大训交中
+     * 交大中随号切法法随法把练命发器中随词大中分切机机器窗中切分分机训率把析交分大窗给中发训口机分法处给源小存调成成法中交代缓
+     * 器机缓窗号理并分理数大小度调数机记的分法记并理发大练率存码调窗器记词大析据理机度切窗口数随注词机文练率处据机机给据缓大中
+     * 注发器中器源训器窗调号存源词调分存成存中练源器并析把处小大切析码数窗分分码随源率分法成机把数析调中度交窗词码中成的注中交
+     * 码大文分法处分的交理的数分训的交把给据训号给文词理给窗并分交词命口器源大大随率度大词大理词号把词并调中理源析分口分码词切
+     * 据把中源法小发析调调词代码号源数机窗率机注码词度释小交释词分存析分号注小分随注处度中词随释随大源注训释释源理成词缓率度存
+     * 词发数的分器窗中窗存中把调分机数大中词机释理分词词缓器中窗存记词处文分调随分词机并把法中命源理数释给发法成成缓中注注小据
+     * 练缓词据中发析词词码分窗理随训法小处文号调训切记训器据命中缓大器中交随口记注窗码器器调记调切命代法记注交记释小码命成并给
+     * 分记把析分释命命小命释中窗练切中处文分率理数训命机存码注词缓号中把器机词度器切练率交中度理成分随口文训成数理码大词器率分
+     * 器词率器分切发口成随器代代率存窗分交机缓源文练口析的度并发交器中代数处切源交词窗分析度代词中据给器发的机随缓器文据的析度
+     * 给源分处分号文据器文成的发码大口代命中代器存器中成率并记记的小词存并练中率存调析数码把处中命分数把法器词把交调中把析处理
+     * 处词据中率分词给把中词注代号分命器分词源词把率号命率法分随分交法中调法分练中号存理码词代存切器切释发调分记处练分练发交口
+     * 大机中器机词数口器训法度存的注成机的存大并并切把器的的码记分度数小大法析命记并词存中机代机小存机并析代大口的法命词码分释
+     * 率中率窗命给处分的处代的注注中分给中词文中数记文词度理分分切代小分率器口命口口切机交分调给源据释存交分器成存处窗号切训成
+     * 器法分并缓分源注机练代随口器并存缓率分析切切口析窗率源码机理记分处文存度把发机分词中成码命大分释处并代率中成号存器发器分
+     * 析度练文存词小交析分释并释释文文记理调分号调码练度小给理存口处码分给的的交窗源分源存数命法器记分码并法机把理的切交给命窗
+     * 率缓命口成的把度调机缓理把命交分窗码率交训率并大训大词注口析器窗随给缓代机随口存数数记并记分处发析率分率的词并中缓据析释
+     * 释法代发记处代率号中发口的小发中文析数理中大法词的成记交调交分中大窗析器析号记文释的率中数并数练器析成窗命口理调大分处训
+     * 率存窗器释存随度文析词数处注中中文中词号器理并器的交记记缓器随词词代处文法析发析分词缓注机源并号词记存口分词释并代分中词
+     * 中中把法机中率度调大大切理记记词码切法交记机机码口分释器存口号理随器练给码切析词度小分的切练口理发文数的记把给切命缓口机
+     * 随小理中调法中发词器代命处注器给注成中理中号号记练大据窗交词率注分处大发大数练释小调释成交分法存法文号文并分文据析交发的
+     * 码小成源命器练注中口析窗号中析词小发并随训释并注器调小调据记小率码理大文大器文率中随给源中切处中缓训小中交处理切代器词的
+     * 发发分并析把记随法释号小器大练法析码大机分器词文交器据词缓给码理器口的分注的分器法据给数处切小大口把源度器源切率号存练源
+     * 注号练法中源口释分度码源码度器机的交据源法注随的命词切器给窗大机注小成口发记器数码词并析词率词分并码切的注文大器记注分源
+     * 词数缓码源小练词存记并中中代机码析分小记口器文存码发机调机的器命存度文练机窗的发率交释命注注器分器处记码度的窗度号处器代
+     * 的文器调中调理据器号缓号释度练源号调成成把率切率处中度率码处窗词器大存命窗训据的训度缓码词处存处缓大度切记记把随析分把成
+     * 分文分发释理析数理码号给命源器分训中率析析小度中中随据切据小析调成记小度理大的机切码率率并缓并数小切法度号号练成命释练的
+     * 给成法号缓存词率训小码释小词度记文口代码释器分码析练发给练中发缓中分分号大的注存练分号度文存码切命析词源处分法中训源并器
+     * 率分存文码释号代小把命调析并中发命把理处命词处大调代窗词命码词训机度注练并成成号器机度命分词窗法号窗分器码切练析中并训存
+     * 小练据分号理训理成号词号交窗的给缓析口号小窗词调中分码切分词给注器成中缓码成注大随训法词分注中分把度练分机注随给率文口把
+     * 中代析据窗法注理文词释源器据处发成词交释器析机源处调缓存分文的分处调缓代注号缓窗练调中小中法码调率窗分大据源随交处释给词
+     * 大机大分中给的词释交并调代切器数发文器器交分调随训器大并并分的并随缓据机器小调的中调的存分代练存给中口发数中并器给口切随
+     * 法切码成的分窗数交析的词的调存成处训并成法缓分中分发把词训切缓命并理度中分成存小口并机存记交析分缓存分率分把机中把率记命
+     * 度切口发中度析析数词调切随中命给器大释分把调器代调码的分成器词中成据文源器练号的法窗口注切据窗命分成中号口窗源命理释中大
+     * 器训发器代词号释存并分法号法命中窗给调器的训号分法给调文随成窗随大中训交中分存器据存词小词据代分调机小中小器号据理器码小
+     * 中数机数中给口口率给给窗分法发释注分度练释中注练调成源器号分代练练的把把码存窗记大练词训号发口数码机代词缓的训训释析分据
+     * 分词存缓发释调训小分切释据分小小理度注源代并词记口中器切数把分练分练命处号大理训据大文小训中口练器词给随成窗分给源练注分
+     * 率交数窗机码注随号处析的存码文器记存码窗处并器器记记分码窗窗释命法源口率析文源把注分词记器法码器号中命文调据调词器分析切
+     * 给并练词文分器法号分注机度小源代中中数率把理练器记词窗释析中并练记交小训机分的缓发并词口文存调记分码切码率分分器缓给据号
+     * 处分数分小存缓大口析存缓器交练理大理源交给切切源机存小存的并文分交号存的词练注缓中析分给训器释号给分分命中注分分存命率把
+     * 大号中给处词号文处词码机中成发并命源练分大记窗据数交度代注分并小词代缓数释中存析调命析源码文析率文文释调中处成数调码器练
+     * 小成中给机存分缓码练小分分率训交析源交并练中法中法源存处数训大词法小发训注分词释词把练窗调度调调缓随中据随据随号小码分交
+     * 分命命器中分中处处成分并给给器中词机分处率号随率源训交词数切成分中交命词中命器大把释中词给给文释调的切号分注分机文处数器
+     * 词存命释理度法缓分中析中的法把号码源分器分中练号口源处代分机理训随口代器法调代命器窗数交处切代文中器源中度析度号分器训随
+     * 训缓口发的处释切分度发小分成随窗率号数词并代随析文中分号词大分据命注法发窗代机的代给机机缓窗理命号器小中词率分率代分度词
+     * 器记口存机率存中法随随代给中大词命缓文源交机析并器小源分练成口并给据发号训分命注中分码注练率号号交分发器分口法存分的词命
+     * 交命缓小码词中随器存把切切随文器随析小数中成处成缓器号窗窗口分词给数随析命法练码据缓据缓口法切交调处度命口发缓分并代把窗
+     * 号随文析小处法法大调注法大练中调切中分码文器交分率器机调词码缓码法源机并随记成机文理率法训中成口中记分源码发源处源随的器
+     * 分口机中据代中器机口词命中词随号文文中把数练缓释注成存记机分度析器命的存码大理小词把机源并中释中并随分分释分随练注交存释
+     * 分练分理的分文发析分练处注注练发命分调调率调发处分法分词分码调源分交存交析小发大中中码处发窗调并成随理切度切练大分词词析
+     * 度缓记中数记文练机词中分代口交记调随数练练码中分数交存随命分训度大发机析注数窗析数分交器中码命析词中调器小文据大窗词析中
+     * 器缓训大释释的词口大词分把释文小处析据成率命析机机注切分的中文调度窗词存处分分调据处缓法并理交发记成中处交器给小随词分口
+     * 小释分分析调文词的释释理析号中号中的切器存训机命存小训练代的发命分度数器分口代中法法练码源把窗成命分发口训源并并分号数窗
+     * 器率器分成把中的器码交记理据发法的分理号给缓机中小率源法存分释成中切释代号文训文小小分并的记调发成释注释把机命并数中处中
+     * 据器分中度切把率词存号存理分释器中命发据词并号文练代训调中切数中率命率理的器交法并成号记窗析度处训源交切窗数交分文切源分
+     * 调的理器代的练数把小理成码分中数随中发练代随交的命小中释中机命机法代号窗把析切中源存词词的据练源中中分代中缓源训号析词源
+     * 中器释小中源命析率码窗数随理训中率训器调随切口并口率口词据释分释成词并分给码文窗练调器中训把分并词词析切命词把中小给代口
+     * 中中练处释命分分分发大析交中给并词训训大并存命小练交随分分据给理中并调文并号小交调命机数码并口并率大并小小文代给练词存率
+     * 理命度源中命法口理小数的中器发法析小码机理缓命发法中分中分词机把大练词词法器分处小小理分代给码训缓交存器记器把记大缓源窗
+     * 率分练大切机存成代析随命窗代训词度号器记理记率数词率切词词记调交给源发器器口发的命记把码析分据分文号词代号记给号据把缓析
+     * 调分中训据分分器小存中随的数号码分据源口词分析存注号分注切中码度析释据命记分器注的释号交切词把中分并中口中中代数源中中大
+     * 器记释法中文小器训器命析训文窗成度代训词源切缓词记并存据随源代调口分随法把据析交存命分小把口分窗词理词调析记度把据码调中
+     * 中命数练据中词随调注大大记随分调把分机存词记分码发数中分存度分切释成注文交释注理随发度率器口机度中交数理数析小随中注码析
+     * 器随度器缓数数处大的器处窗源代发存注发法器窗中口切数中口窗中号口词记缓率分中文分给缓训文词注发把缓析理源处缓练的词切切析
+     * 据成文释并小交窗处析成窗窗给命分调代训成窗析数交词训注机号缓口中词机缓小源处分法命中率据成中交析窗释调命中训源切数的数处
+     * 交词练命分度发成口词处切的训并法随释词代练给分记训度中注大随文记数分法小成机的缓源命码小注命率码的注成法口并数号训命处中
+     * 分数据命大词词训词训缓词机码分中中中词释码机练处分代命理代机机调缓缓分训给器中析练切切释机率存词大词存训词率注处口的练交
+     * 并率记的分机命把据交中口给中切存析分训大源文交码给切随口存词机理词处释口处度源发训词命切分注处发窗析给释的缓数窗把中小器
+     * 并窗处分机源分把词大记率度切词缓器源源代切词率据注机中随口存记存号释训释处窗器注记分代练率记缓词存存命命交命分释码缓切练
+     * 法练据机数随小切存法记处注注数释法注中分缓理代率中法并源机分词码调成的理代成号把法源号中缓器机随发法发口发随练源词大并注
+     * 据存中数成器机训据中命练中的中码词小交号源给口训度练记分中词窗中率注分器据码给词机释随源词代训析小据器发率率给词词率调的
+     * 缓词词码析数释文注成交词注记词中号把中随器大度交调度记释源分记码词口中随据注词命存成码法析源词码切给训命率大源源理注中存
+     * 注释小法存小处词号命机注窗注口把分词释机处训中法文切分调理分释数词中练存处码分词的注源度发文器器处代理的机词代窗练词训成
+     * 号机命记发大训随代交析号调发源据切注口释注调据给数代源训度分机分器成存口号号中器分码分释分文缓中命率器器词分窗练分中器中
+     * 码理词据分中的数的数小存发中分释数词小注词记源号练中中器缓析缓释大切调释成释中分释代的随缓命分中并练词度大发析切存注号大
+     * 词并析成中分文大分释器处机给词分号成缓小码窗器练大练把文练号代注切分中缓练器释交率发存窗释发随理据据命中并并小据发发记释
+     * 率词窗处分大率词中度码词随据交调命小的存源窗成训中存交窗文器处分分发的发分注中分成机大析代词缓训数小率机分训训发中存据窗
+     * 的分窗据的训词中理词码码发代分中发注中注随器法分度发词的号口小据度码切器文随机处码词分发号交成据调把号发词存法命处文代练
+     * 大成把记的分号理分处分理中词代中词法分源给中中率数练度理分度度码处器法窗词中存小析中命训据给据器源注记命词小机法处成析交
+     * 理据练中据训小给并中存机调发调口注据中中率处注中理并数的据据分缓析据分训随练号词法注成释析码成存中中析命记给中器把给的大
+     * 数器调命率析发大源把词存调中源词分号存数记并词发命分小记命口分切的给词器并代率代析小大调并的命理析注分交率注码码析交法器
+     * 文训析处中中注口器数器命记的给分的源机代代度释器词调存小中代词大发切并中窗据中据给交存注练并理释随文据中发代大记词训交号
+     * 处交代分小文度码命发存码并发中机代码器的中随释率机机随率成析机分词分据文成理理分号器存缓词码词处随据数度率缓窗发词析把中
+     * 词训存交分存源处词数小调小机理分调率分释小中中交处大记分交训命据窗处词分练器成机理大小码缓给法口把注处分文器文命切率词释
+     * 命发源词号分机的号练器命度并析成中并度注发随词注发口器练随据交法练中据析据的器器发训中发号理分的记调成中码练窗分分处分率
+     * 源切机词数给窗中成处成并释号数调析练文大码随分分窗小切数注注的分号据分小存分词窗并存释窗训存析存释文小分小大析器数法训存
+     * 据率给记记大码注注器切释度释中分命的据数调小切号切代器随器处注口记注缓器练发小分随发把理注缓分度机码释窗分注并命的分切把
+     * 度数命大词词给源中记度存发码释缓发随的中中切训码码度中理练中处码交缓训词中词并中度口中中分中代据窗练中分交分率练记交词随
+     * 号中练口分机并小切词成并并数释代器调器交析词成词命分调练处分器小发码文分中析训处记调据机给分号小中码命注中中码记交命练注
+     * 把大机交数码机分给中中中率成随率源窗据发存把释存大口码据切理交给调号的切中理词命法调成命分给率率命训注文分词并器中号码并
+     * 调号练词成给器词口分交调窗率分源中成度训中交中随窗窗源注数机分的调小词把调码理交号存注交分分据交切口源度词释给记器代记成
+     * 练文率发调机词分分度缓据记分口文源器给把注小源机中交源析小文法命器随小发机析法率交率注释分器并中器成大成调法调发法记成分
+     * 法分文机据命码析词分训调切把命调成存大文小法练文口缓训据析的成切把法度窗释中成命器器码给随记调练器器处码释文源口理号发交
+     * 交窗号大率注切数训缓存文交中成分分号口中词存中代发文中源注切代中中注分处分分调口词词中并词注大析释中据随存训器命中把数训
+     * 口给中数口缓成调号代大记理的调缓法源数小度中释法给中法训口器源词窗数分发号代训处据代大据中注的机随练记释的缓把的给码中口
+     * 源中缓并处窗分练调的度分随码中中窗中小器大存率词源度词分分注中器释词文小中给训法源度大大口大词法代口代小大并处分词源器器
+     * 的率并据据大号处中度练源中词成数据交器随存分数分存法切把器分度命中法注发把机练练法器缓文释交练处中据发窗调把处中分随中率
+     * 大大理处分词释代机存给缓号注的法释缓源小命调码并机据机窗号释发分机中析切交小号小词文法中调存码记大中机释法并发分切的的中
+     * 词的度文机释源文小口调析处码训中词代存析切交机数理器处成交并词码分交训发中给分源窗据口率并码度调给大码器分口口分度码把中
+     * 析释缓释注中代存码码分器中词小词器命释理度分中处释交成率率窗度给处命度释分的注词发给据源调源机记口词成码中并中码并调口分
+     * 分并词中处记的分器窗处代口号给分交口代并中中度交数存分的处释源分理给据度代分代中号器调并练给器切给源交成码理率数机把给分
+     * 中调号训中器把把调给分大词码训中文交窗发并法代小源率训文大释分把口给文口中缓大交随词码发源存码数练注分成把度交文词法口随
+     * 机发口存把码度词分器窗码度析训发存中切的随缓据记存命的词发练并度词成窗词缓法中文数大分据把注分词据交交把率存记中源器机析
+     * 缓命分源口并注析中小记分释文练源器分分分词释切大号记给码缓大窗交中率文切处命训率机交发交记分随中练理器切记成理分随交并中
+     * 源数记文中处命分大中器据成注机把注码代切口分存窗窗释把小中交发据源发交机码成释度源词注发机据分文释随命发中调发随器训代分
+     * 析释中码数分中理据分理把中给调词窗的率调中机码词的口切并率数口练成号分据把中窗成度随号口发词大发小注分命中分析调把析中口
+     * 器释度据的练度析词析记交发发码并度大窗词度成练代分练词处中处的随率理处代随代口分切分机训发窗分析机数把缓词分号文中交随源
+     * 训代处码文小析分法法成处调号中分码词度器中文中据释缓大小码发缓数理小记交度口源处词文把命析命记代代分器交随词分代源词交中
+     * 注给中小大注文记调词分中分大器器处缓号中命中训成中的分调命机注并释度释词注并代器分机中释缓给析器注随器口成机交词号存口并
+     * 分缓练文中词给命并命度的中并训度把源给训把交率数码的中代代据调成中记中窗命成代数分处代调中口口码口理随器存分词记口命训器
+     * 把调词词成切器注把存数注号理处分释给词的窗小析并词口词切据成析文率中数词器交分把给的号度随注给释代口中大调发词释分度中发
+     * 析中把释率词机大成成器分大分机命把大缓法成源中率中给机文号词记析口释大度词命大分分分词把号器命存中号的分代训分率训机并源
+     * 机切法词随器练析代注发缓分机发的交法记代的把缓法文码缓窗并分析法缓注缓存中成数分随发小析大发源随中度并中号中成器调中的发
+     * 度成数释训分度号分随释代记大率析号记释切记窗分中交调据法给器切窗缓处练交度代口代释度释文缓随训码缓注窗码率窗分给命切练训
+     * 码练把析释法记法训文码交处中大器分练大词的大码数码机记词中训训给练源代率口文中注中发词释交注把理词给给缓中口析代小给小口
+     * 随训给器词机率缓中中器记大分切理调数记练代源析代随词缓记记分源机中中命器中分随练分机中并成并成词据训切词成口器分训缓机中
+     * 并分号号交处号并度训缓词大训随的中给练成存并切释词缓数调练大大率成法调词切小注成码词命码代分率中大中随小号分率据发器词切
+     * 把缓代代切并练切分文缓切理训口给练口把度析练记分大中中大中理理成调率文器释大成中分并中率练分处法分窗中机中随率大法交把率
+     * 分数调释器代切器存器交交号发析大大分命词器并口发分存注练器记码器词存代窗小交数据练机度存交把中窗率器大切切的发据把成口命
+     * 随发命分存析词中小分法把分码存把注命中码随器窗缓据据分训代给释训释大调器码词注源给窗分机据注机口记口释器器率调大给中口训
+     * 源处码处存数切把窗分理源发法给命练存码存器中把代中器率法器中成记并命器把练的调词口口口缓训大并中机命数理中口分代器记命词
+     * 练大分命码口切分成切口词词中切号存文分分中命词词中存记析记分存法中据并记命训分给率发度分训代切训给随中文口把中度大小切并
+     * 分文率源大存释发存释练析器随随代分率中中小中并交器注率号练号词词中交率给注存分切发口率释文窗成代缓中的源处存练交机码率理
+     * 理度并发中大中器数号中代词析器法中文训窗分的处数把切练代练机词注分记码度号大中切分分据处据切机源中并记机码析析小分发命练
+     * 的大器随中释随小中析分注号分数分源分器的记调存小发词处注据发发器据口词中窗中并器机切命把并分率率注率命中中法大把代命分注
+     * 器训存数度器并口交法分机据文机器号词法释中交文中缓成文注器码成发号词处中码号分存理发窗法小把词存交发法词器窗码号据命度随
+     * 器分码口词率窗号成释中分数数给训大随注中缓分缓缓切大器处切交分处并口发随理窗理大器口词发分中率率法分法随度器中调法中切调
+     * 训代成并中训成注成析机并缓据随度器分交析分分中切分口机把代词给存的分分机调处号大缓号处机代注大随号析发发发随分存分码释记
+     * 存词训码练切理中大给切的发随口交中训器存记机中机代交分成析分缓交切词大缓的的数度理机命中切源中度析小号率小处交分度法把存
+     * 命析把大缓口命号训发机据代随给存给率分发法度码词存中记缓机窗训数交机口法码大率码把法源中随小号中据器词分号数率机口源词缓
+     * 缓代处词口记器分口释机大处分度码理数代数号源机器理率小中随调器并中给训法中码代词训文中文命率词分法存据训代口存训码器缓大
+     * 词调分成据度源代成词号记法分处切器号数中随并训分成把词机并小缓调中中给口存大中发给注机交分窗注分处小分给大发率据的分率调
+     * 分词中析切中中的记成中文机给记交理分码并随中发训中命器代数代度法据分存释器处的分数代理码的分度分机码记据注的词源词成器缓
+     * 词中法源口成窗练交释法率窗注机的释缓分文分并码分练注给器给调口注器随文分代给存处机大析数并度切分器缓理理度法记析率窗交源
+     * 中分分小号随给码理器存交口口词调注小缓中法释析机词注切练大中源处缓析命命中小词练切理度中文文小切练度词理发记词随词缓码分
+     * 器分度分随率中度大交词词注中中大数中度分代中文存率处理调词析调析器码大命度代口口中中源文中号的析记命小码中数理给据源分记
+     * 交分文成分词交成分数代释度码器缓小释并把理并交成率码代训文处分号器大记记中交记源中中中窗成词切缓口分注数切大据机号释释号
+     * 器练命器记分处析记词词注度注成发中成窗随中分中据号机器练注号器处交随命器析器交号交发分器发命释度率词文器代理率词处缓源小
+     * 文据窗小分分分度处器理并缓大处码词记分口中给器器记处窗调命分小处发率窗法释法处的词度口的训大并分训训注训交机词机调调切机
+     * 器机中调练代发中文据随分文并词器词命度口度切窗度调命给切文号词口处机交理给中调处器号随析源缓并记大中记给号中大调交码练分
+     * 口小文的交注器器代据命成大率词源法随交处小器成器发释交数法口成的器处法词给大给分号词缓器的释度机把词的切中法数切理记处成
+     * 器随机大命随并并命调词率处分处的大分据词器注析缓器中理机号缓数把命记分随发成练中率率释缓给分析注源中小器并分词中训大缓切
+     * 练释大中词发发中率理给把源析交调存数中词分中器训训训练记中词处法随调注中存命理理切的窗中处度切注机分口分交分器中大中析发
+     * 词词释的随发机源小器中命析分小中率记成随的注词器命器机中分切代切窗训中中释把源文记缓给码把存分分代中练码源分分中法码切据
+     * 训记成调率释训中器大数码的器分窗文训并存词调词据数机率给命小处分给给分大的成文记器号口析源训中发训练练大存机缓存器处存代
+     * 存窗分词成给给机分注成随缓度切数号析交词源码代中中缓数口码发器代交练随给练中给器命的器文分交分训的命源存数成窗小缓据发法
+     * 调中文处存缓码处并器数代切记记释把词存源记代处把小词注调分中代分窗命度发成给器据度练随度码中词器机代成源训中中的中发存理
+     * 析源中词注小调注注析号号调码数练码调缓中号词把器注交口交率给理并数分法代存释文器训缓度存器号度切器器度存析数释中把练数处
+     * 口中命代并窗词中中注缓练码处器器切小分切码存率成文器发命交并调处号号中发号窗中注成析分给文机训机把释分度给器的分练注练缓
+     * 理中词机切源成据切训记词分器中释源交法切记给代大源率中命中给窗缓给析切分发代并小切据口窗数成法成数注并训给大法给切分器大
+     * 小切分器代释理分词交存中缓释交窗码记释释命中法调析分随分分号释成调率分中理训词交据缓释词小分记器注注口练并缓词把给把练分
+     * 代的法切训窗中源大据处给的词把机词源成练的释分中据词中机号中析小随小码发源率交的练机中数机分源的小源码号中随小中号中源分
+     * 器释器器释释中中注随处小度交文机分给分度成分处练的代练记调口中给分源口中切源器词法给代大记率把切命器练据命中释成窗据随率
+     * 大调码发中析机析交缓码机率释中缓分分交的成发析处代训器给交的分口把机率记注词率交把中缓机命存分口词调数调源代代码数调器号
+     * 训词度窗释度释率法率法法把交中法词法器据率存码交器代机记大切释成随调码中分存窗数数的中器释大发命练据并分文注记记器随词注
+     * 发小码调给中交口源法交词文并的存处把词调文记理中交的词把器器号缓源理并据理理率据分据给中调注码缓调注发给把口代练给码训的
+     * 析析文词随记发的中注号代命发码度随注随号分的分据理窗成把中中切码并切大分中练给注随成处口给率释切源源窗代并口分据析发分切
+     * 调理切口发存缓数训词小调命调中切析成分窗成大命并交中缓把发析命缓率码析器的窗切机率缓源存的号随随词法记释小文法据文交的中
+     * 码分调词记词码调中源数分度分交号器记处据中注大交器注析记中代数源法存中窗口法理存器分口窗缓率分词处成度词中释据器中度词口
+     * 机源调发词中机切词成切码码器度交切大数析小度口切交处器度率词理源理分的缓窗小分小大文并记释机大大命理大器缓大释分注命给数
+     * 注口中中切交号中器代处口发析调词中码随发命理分率码中数率代窗号度发分文分器号机窗分器处窗数练给释小数中练词器发命大词记据
+     * 率理窗存码释中中法处词缓器代中给号命大源中器训中词器文记口窗发命代给大窗码源口据法中词析大并把度中并分中机源注训中成据率
+     * 词释调据源分器并器分代并机记分口分词并中练处窗并存分注释率机文释注码给器词中析机训随交大号练训分码据处存大切据器的源发小
+     * 缓分存分中词文率分数注据给调小中法训分切率数代注命缓练中代把记窗把记代缓练源记机率源并练训切中练窗中的给发命随释注机器发
+     * 成把并法随词切发器给理缓练法理据据处随并练发给存发大码口器小分把处随中记的大缓缓法训代度存存缓中分源释源器代训分调代处中
+     */
+    static int ops(int a, int b) {
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        a = ~a ^ -b >>> 3 | a << 2 & b % 7 != 0 ? a-- : ++b;
+        return a;
+    }
+    int spklqmjskrcbsc7uicw4hce4444bfd6agvqbrno3aorwnf3nza64khie03qrd5rr7dwwq9yygimz64fblxnoo9bhgf18vp2k8onkq4izydagxgcje7tlvtdj7rfr9d84jrepmh_tyscyzlau7bxufbead7rxr1cues61ew1di384v4gzdo2_1g6bt82l7dbelv17uop7xez5cr11_dvifzss0dfqqa72_adovo0nlhvp2uvict38li9g4e8gm6eg98qn_7xduigq6y67k6aic4q1ix209sfe_mg3lvy30_foippw76wd9oszl6c67zyusj83jk3w8lbg934hrkmjf76osjdd_qfcrbkhgmb5cha81c3pwwq7oa6nss2abz28qeava5_sd7hprw2yj0fo8encv7ebcoh4c2jvnin5_wljz8w799lvlp9epiq2w8j1ykwxsfu3u3kqw5z2qudtk6ui5qu1xg31pzyvu0og1zo3sjlmkfifru1nr87jbmlvlxq3zcitzf1juddajlrzuemrra1ykj6cb2in1bqxmj4b5s1c1_xtvhs6z_q7jsq_ccb9q4rm2davo43b3oosvroha49xj0tfp60dxw2ffy9p2_zs9to17cn782bkopu3lfs4p_wdjvjilmwdlullboepshcmnvoj_zvvqdtcsrhjmneflmi4t72kk284mmn80z4slw97bd81bu060miq3w3usmoyf8pi82cqjxf2avtned9j17n5erl5lw_orat7asfhfhxv4eskwq0rao43c6eyvweb5go6e3kco4dwiumgpc60ammvwow4jljuya3rtvpfeexpnj59kpxhdk5aap1ot6f9siz5nialsaedx11c7fy8jx_a2fpos2lw7rzot6w3wujci_5kfhb36rcq64t1fiet8_4a9h0a3ml3y9q78tcnpj0xhyyw7p7b83mcv44ax20na05szihg8r1fss10_bv4515ihltfl5yvclcg60d1vvmoi0sic9bpiz6pv249jf8myertw6u5adj311vlrga59o1ztir4azqfurpmphnfle05chn7fdo2ygme1i3qdmvul5zthb5a5j26yrj0cgm42r4kl9ogzciv8u6yp7vyak5wvre_2hay8xye3qp3qmgz4m3z2x0e0evozac8e1m5_qtevewuyt9jh5ilqs46tmg1weo4uqobnw1cty_8j1udzcdftyuwzb9m61ktfojpoay__jiulcj_p9hbxs5czbar5wzsz7fh12zdc3bhthj0meo27ci9c7z791a0i4g90x06obhdr1akctbk9y81sc4iiju_vu6bbkdrt9_ic9buqwlkre8r5tms14mamuctevk6_ml5e_4s1v5f7qmlzx7zutvrn5pi4cca1heikmk3wz69wchccepho4jpy_a45x9im37eua0xk63umv5a2yzxfv0syi9daw3npt579ovgz8hh8boxitiz9v6_0hylrcdi1564220tqq1qc8chjgtk90qg0yhrd3uppkmi5e5bac2l7cxygwjyuc6ixhtd1ccv3e2o5bzx1ggpj00xyj1dq9hxg6bfe2fcxysqcf9mkw_th_0ylfauaz8fi_nwmwhkc1fe9hi18dhn3kx2iw4m9i2af34dq5ir2ffq85m3ydzg75xtnunyusx058ptb59fa2wkkfq87sdotuu8d3o3cv2ks8h5ik1lh6udnokbhte32qejw3xsqx0npm550bi5tcxyvxpa8cg7hx1gc3t0yfjpxvrtb3eot97jyy10uey4bi50leagvx2wnmkdhe2ano25wiho0v1csp32hg_7wm602e26v9mynyptl1h5bv_uqsowu2qwn34m6bq3sm5aq79b4vec8grq1tjna6f6ishhoye50yp00uwhzf49xvqfq3p8_pb2gk0b8s2ufewrx5pc3pvbeg8rox37wwxt59034q_hqv0sn4rc4opjent30kd1ul3hz6mq8dalgqvaxvauuivhkvxtgod0q6juvbo7m6h46zqevczeiksusgr22bqc2xjjr7hixoc8sk38g14zzrpah2mw51y36bnj8zxjz7dznx9h2fhnf9z4ixdwyekjs2r2_kiavy92pablek53gd9r2jkjw30ge0gyg4wejqwc7u88hnztean10ev416nxgnlq7g72xkno2cfg7ybbgz7_taxp76hfpfynes0p0ypcvx8jbkwksaugbwyo5gehctn1gla3rymh6bn7bdo87c7ibc6c1ughwh05e9u03g5o8t3e7imcz_5pfbgaahsycpdfosn1vkm5bz47sqnxxqqpffkk4pyv_jt529tzyonqr2pd20h8ivb8ehjzkqguphzc2_c9qiv160uw6q6ts8wj8wrm2glm321qgl4bkglmyf8pct5kwkso48eajwvhwwn1eeq5nn_uh0a6n43fhs4s11omz1myw7u60snxkjezwanos2i1frk6tcqikz6qv4szd7gqxgqvbnqh1_4_7uw4ibrt_hda8j2gmrtd_41t5pvr473spsucjl0tsw6_cyg8zvq8vqfggl5bh9yhi28chude0lwtzipipaj63vktrcq355ura9_t5709jhcwy39fiyo9og5qdfysmaec0zjvxvput2ta22l1zbxcf6acayhoqspg0fmy6abd3q3aeju11k3dwgixk4zazihw8klu3o8kggkxfedjkmstwt0w32nwopb29i9dkzk8oik7a2nvabhj9xt80kllhv5x0d70vbu8lcqqhi3wtf7ydpnmko4pw3421d_gar7qnmvmy_kun05tn0ha96h4me47jndu_1eo8ja482ihms3rfh426gy2qkkj59u4q_vhowcwqahwfqoviko5p0rg98qsfozeigdhy2bmv9e40lyl0pdfk_k0q74k2j0xp5a6q1g53xc_a9bth7_2mzb__6qi76_c2zcaoxoboq0yzkbhxye9bcl5k69jjk36_9xio60txpkvknvkkfo9va4tmtk2emvrm05_2oy62vttfayjs9q0oi8q91c5uy3tahko3c5dhi02ov3mkuymwndae3qyiztf29ga1vq3ynwgx6dt6scqtwoh_53zzroj4lqxi1kh0e8htzp783q7e64vjocip1g5_wkyfl1sk56bu5939yiygbm58l3gr_lpmwu1o4qje1wdt7u0adkdyfr3y56w5tft1xm5f0wr5h4xt4lwzlwmn6g7nw2_oxvbrcaf4u5_kysogz9v7w45_wrfnx14rbzqgxp3q0k2l_jpsdy6e08ak71sy9klkkct3wj973i7u0u_6jyey6jim5a9rjiliksxg8jpnoihl65gce403jtpu4mkvy5yx9drsjlsxfdvi8exbatys7xelm11hnykgf68cwwgvxm0lz7_ng1e9j9y6vq_qbih0ob9imq9aee1nmwb875pg3tcegh8vnkrwv30siqu8vzjxqfno72jdawcsxg3f0d6go361531dshl4tx4b4nsl5ewietncra09sr7r6_mhhzjfg3xduhti89aza4f2wb3ozxxq5hj6rurkpvxnxoq4nu8mlwaemjxsetiootrnpczbn_cxpum0mf6pmwsnn1_e9_vffdukfkidpc5i6137vf2_i9t7e1_xrrwf6jj33y4fmknjceznkyivgihktz_2hnydf1rvtet9itvjkedw9nwo5r1f1jaqgl092ffeyd0uu8ox1dm0s8q094yrstdzc8jep9gx2p43f5gnyw0k69vcpl4bf4zdixpr8grn4wehsdvn5fisdiqf9tg05bv_39shpc19q2hob_i19dasyf7u36yo1cdnqgf6spxgi2u5afj61bzuth0s3ionraazxfi530liyma7k7m0z_csw4sw6ye7e_axbose2fql4lohjfg5_b_g14u4ooijrnxzbiklwmy8nr8x6jsuso7rqha80dw = -1.5e3 > 0 ? 1 : 0;
+}
@@ -0,0 +1,32 @@
+package demo.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A tiny LRU map used by the request router.
+ * 最近最少使用的条目会被淘汰。
+ */
+public class LruMap<K, V> extends LinkedHashMap<K, V> {
+    private final int capacity;
+
+    public LruMap(int capacity) {
+        super(16, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        // keep the map bounded
+        return size() > capacity;
+    }
+
+    public static void main(String[] args) {
+        var map = new LruMap<String, Integer>(2);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.get("a");
+        map.put("c", 3);
+        System.out.println("keys: " + map.keySet() + ", ratio = " + 0.75 * -1.5);
+    }
+}
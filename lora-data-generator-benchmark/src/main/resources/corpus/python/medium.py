@@ -0,0 +1,175 @@
+#!/usr/bin/env python3
+"""
+一个最小的任务调度器：任务之间有依赖关系，按拓扑顺序并发执行，失败的任务会按指数退避重试。
+"""
+import argparse
+import heapq
+import logging
+import random
+import threading
+import time
+from concurrent.futures import ThreadPoolExecutor, Future
+from dataclasses import dataclass, field
+from typing import Callable, Dict, List, Optional, Set
+
+log = logging.getLogger("scheduler")
+
+
+@dataclass(order=True)
+class Pending:
+    ready_at: float
+    name: str = field(compare=False)
+
+
+@dataclass
+class Task:
+    name: str
+    action: Callable[[], object]
+    depends: Set[str] = field(default_factory=set)
+    retries: int = 3
+    attempts: int = 0
+    result: Optional[object] = None
+    error: Optional[BaseException] = None
+
+    def backoff(self):
+        # 0.1s, 0.2s, 0.4s ... 加上一点随机抖动
+        return 0.1 * (2 ** (self.attempts - 1)) * (1 + random.random() * 0.25)
+
+
+class CycleError(Exception):
+    pass
+
+
+class Scheduler:
+    def __init__(self, workers=4):
+        self.tasks: Dict[str, Task] = {}
+        self.dependents: Dict[str, List[str]] = {}
+        self.workers = workers
+        self.lock = threading.Condition()
+        self.queue: List[Pending] = []
+        self.remaining: Dict[str, int] = {}
+        self.running = 0
+        self.failed: Set[str] = set()
+
+    def add(self, name, action, depends=(), retries=3):
+        if name in self.tasks:
+            raise ValueError(f"duplicated task {name!r}")
+        self.tasks[name] = Task(name, action, set(depends), retries)
+        for dep in depends:
+            self.dependents.setdefault(dep, []).append(name)
+        return self
+
+    def check(self):
+        """检查依赖是否存在以及是否有环"""
+        for task in self.tasks.values():
+            missing = task.depends - self.tasks.keys()
+            if missing:
+                raise KeyError(f"{task.name} depends on unknown tasks {sorted(missing)}")
+        visiting, done = set(), set()
+
+        def visit(name, trail):
+            if name in done:
+                return
+            if name in visiting:
+                raise CycleError(" -> ".join(trail + [name]))
+            visiting.add(name)
+            for dep in self.tasks[name].depends:
+                visit(dep, trail + [name])
+            visiting.discard(name)
+            done.add(name)
+
+        for name in sorted(self.tasks):
+            visit(name, [])
+
+    def _push(self, name, delay=0.0):
+        heapq.heappush(self.queue, Pending(time.monotonic() + delay, name))
+        self.lock.notify_all()
+
+    def _finish(self, task: Task, future: Future):
+        with self.lock:
+            self.running -= 1
+            error = future.exception()
+            if error is None:
+                task.result = future.result()
+                log.info("task %s finished after %d attempt(s)", task.name, task.attempts)
+                for child in self.dependents.get(task.name, []):
+                    self.remaining[child] -= 1
+                    if self.remaining[child] == 0:
+                        self._push(child)
+            elif task.attempts <= task.retries:
+                log.warning("task %s failed (%s), retry in %.2fs", task.name, error, task.backoff())
+                self._push(task.name, task.backoff())
+            else:
+                task.error = error
+                self._skip(task.name)
+            self.lock.notify_all()
+
+    def _skip(self, name):
+        # 失败任务的所有下游任务都不再执行
+        stack = [name]
+        while stack:
+            current = stack.pop()
+            if current in self.failed:
+                continue
+            self.failed.add(current)
+            stack.extend(self.dependents.get(current, []))
+
+    def run(self):
+        self.check()
+        self.remaining = {name: len(task.depends) for name, task in self.tasks.items()}
+        with self.lock:
+            for name, count in self.remaining.items():
+                if count == 0:
+                    self._push(name)
+        finished = lambda: all(t.result is not None or t.name in self.failed for t in self.tasks.values())
+        with ThreadPoolExecutor(max_workers=self.workers) as pool:
+            with self.lock:
+                while not finished():
+                    now = time.monotonic()
+                    if self.queue and self.queue[0].ready_at <= now and self.running < self.workers:
+                        pending = heapq.heappop(self.queue)
+                        task = self.tasks[pending.name]
+                        if task.name in self.failed:
+                            continue
+                        task.attempts += 1
+                        self.running += 1
+                        future = pool.submit(task.action)
+                        future.add_done_callback(lambda f, t=task: self._finish(t, f))
+                    else:
+                        timeout = self.queue[0].ready_at - now if self.queue else None
+                        self.lock.wait(timeout=max(timeout, 0.01) if timeout is not None else 0.5)
+        return {name: task.result for name, task in self.tasks.items() if task.name not in self.failed}
+
+
+def flaky(name, rate):
+    def action():
+        time.sleep(random.uniform(0.01, 0.05))
+        if random.random() < rate:
+            raise RuntimeError(f"{name} exploded")
+        return f"{name}:ok"
+    return action
+
+
+def main():
+    parser = argparse.ArgumentParser(description="run a demo task graph")
+    parser.add_argument("--workers", type=int, default=4)
+    parser.add_argument("--failure-rate", type=float, default=0.2)
+    parser.add_argument("--seed", type=int, default=None)
+    args = parser.parse_args()
+    if args.seed is not None:
+        random.seed(args.seed)
+    logging.basicConfig(level=logging.INFO, format="%(asctime)s %(levelname)s %(message)s")
+    scheduler = Scheduler(workers=args.workers)
+    scheduler.add("fetch", flaky("fetch", args.failure_rate))
+    scheduler.add("parse", flaky("parse", args.failure_rate), depends=["fetch"])
+    scheduler.add("index", flaky("index", args.failure_rate), depends=["parse"])
+    scheduler.add("thumbnails", flaky("thumbnails", args.failure_rate), depends=["fetch"])
+    scheduler.add("publish", flaky("publish", args.failure_rate), depends=["index", "thumbnails"])
+    results = scheduler.run()
+    print(f"{len(results)}/{len(scheduler.tasks)} tasks succeeded: {sorted(results)}")
+    if scheduler.failed:
+        print(f"failed or skipped: {sorted(scheduler.failed)}")
+
+
+if __name__ == "__main__":
+    main()
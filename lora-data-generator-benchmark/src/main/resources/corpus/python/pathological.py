@@ -0,0 +1,2449 @@
+#!/usr/bin/env python3
+BLOB = """
+"\"\"xx#''
+
+x字'\"'
+
+字#\"字"'字
+字字#
+字#字字字\"x"'#\"\"\"'#"x\"x字字''"字
+x
+字
+\"'
+#
+x\""""字
+\"
+"#\"\"x
+'#x'x"'x#字
+#
+
+xx""x
+''
+'\"
+'"x#\"\"\"字字x
+
+""##'"字
+字字字"字'"
+\"
+
+\"字x\""
+"\"""字\"""
+
+
+"字\""'\"x\"#字"
+字#"#\""xx#'x"#\"'\"xx\"###'\""
+#字字x'字"\"'x字
+x
+"#"##"x\"#\"\"字x字'\"x字#
+''\"#'
+#x##\"#
+#字"
+#"\"'
+\"字x''
+字
+'#
+"
+
+\"\"x#字字#字##
+字"字x'字\"
+x'\"#xx#
+字x
+字
+'
+字
+字字
+字x'#
+"x""
+字"##x
+#'"xxx字"
+
+"'x#'字\"
+\"\"字''字'x字#字'
+字#'x#'
+
+x"xx#字#字
+\"\"'xx字"字##"'#"
+##x\"
+字
+x"x#"x#x\"x
+#字#字'\""\"\"x字
+''
+
+"x\"'x'"x\"
+"
+x#"
+
+"
+#'\"#'x#字x'"##x"x#
+
+
+"""字x##字'xx''
+'x
+
+字#\"字'
+
+字x字"##\"字x##\"x"\""\""#\""\"###字\"x#"#
+\""##
+字'#
+\""字x'#\"
+"#字\"#'字字'
+x
+字
+字'"\"##
+'
+'"##'x#"'x
+x
+"#"'字"x字#字\"x\"#x#\"xx"
+\"#字字'#
+'#'\"x字
+字
+#"#\"#\"'
+x
+#''#xx\"'x
+"""字字#x
+'"''
+'
+字#\"字''\"x"\"'\"
+字字\"
+xx字#字"'''"
+#'xx字#"x
+xx字
+\"字x
+x\"#字
+
+字x'\"\"
+
+字"#字'"x"字#\"'"字字x#
+#字""x'#\"#\"xx'x
+#\"x"字\"'\"'\"字\"""\"
+xx
+x
+#"'#
+
+\"""x#
+x\"\""
+#x\""
+字"x\"\"""字"##''#
+字\"#'
+"x'\"\""'字"\"
+字#\"#
+x""x#
+"字
+x#字
+字"\"
+x"字字\"
+'
+\"\"x字x#'
+字"#x\"字x字\"字\"字"'字字''"
+'""
+x
+\"''"x#
+
+字'\""#'##'
+\"'xxxxx字##x'\"\"字
+x'
+字\"#
+#"
+"字'\""\"\"x"字"\"字字'#"字'xx##'x\"""x
+''
+"字
+x\"'字'
+\"x#'#x#\"字
+#字"'\"
+#
+
+x#x\"x字#"
+#x\"
+字'x\"
+##
+'#
+字x'字\""
+字字#字#
+#
+x字#字x'
+\"x'#
+xx#"\"#x'""字
+#"x
+'字\"x'#
+x字x
+\"#
+x\"#\"\"字'"'
+#
+'#字'\"\"#"
+'xx"x字#\"x
+字字
+
+字##'\"
+
+字\"
+字"##
+'x\"x'
+\"''字x'""
+#'\""字"#'字'"字"字字字#\"x'\"\"#\""#字#''\"字x字##\"字#x'字x#xx
+#xx#"
+
+字x
+'#'字''\"x#"字"'字'字"'"xx"字\"''字
+字""'x
+字'\"\"
+##'#xx"''x#xx\"''字
+
+
+'xx字'#
+字x'
+'#"\"'x
+##
+\"x
+字#x#字\"
+字\"#'
+"'x
+\"'x
+xx"'"#''字
+\"
+x'x"x'\"x字'#"#""##\""字
+字字字'x\"#\"""
+'字
+字
+xx\"x\"\"字"\"#字
+x#
+x##'字
+\"'\"
+xx'#
+#"
+\"\"
+字
+
+'x'"#
+"'字#'字#x'"
+
+"x"#x
+##"#字
+'"x字#
+\"#"x字
+字#x
+字#x字\"字字"#字"
+'"
+字字
+x"字x#xx"#
+#x#\"
+"字""字\"字#'"
+\"'字"#"\""\"'##\"\"#
+"'x#
+"x\"#""\"x"\"xx\"""'
+\""\"\"
+
+
+""'x"字\"x'字\"\"#
+'\"#
+x'"x'''字
+''\"#"x#"x""字字'
+字字#x\"'
+""x#""'\"
+'x
+
+字'"'#'x
+
+"'字\"
+\"
+#"\"""
+
+
+##字#xx"'"\"字''x'字#'#字"##x\"
+\"\"'"
+'\"#""字'#'""字x#\""x\"
+#\""#x
+#x
+#'xxx字#x"
+#字字''字
+
+#'字##x字
+'字\"x字'x"#字"字''
+\""'x
+字""
+'#x字"x"'x字字""
+字x#"
+\"#x\"x字字#'
+
+\"##x字'字#字'##
+x\"x
+#'
+"字
+'\"\"
+#
+
+
+x\"'#x\"\"字
+字#x\""x#\"\"\"#\"''
+#'
+""#"'
+\"字x\""''"'x"#字
+#字x'#x'x\""'字\"字'\"'字x'\"字
+\""\""字字#\"\"x
+'x
+
+\"字#
+字字#\"
+字"#x''字
+#x\"#x"'"#字"
+
+'x""
+'##''\"\"\"#字
+x'字字""#x\"x##
+字
+x
+'xx\"'''字字x#\"字x#"#
+'x'#"字#"xx字
+
+'\""##\""字\"\"'字
+#x#x字x"字#
+字xx#
+
+#\"字"'
+'#字
+字'#"'x#"#
+'\"#\"
+x
+''#x#x"
+"字xx"x
+'字\"'x
+字
+#
+#'
+x"\""#'字""#
+字''#\"
+
+\"
+\"#\"
+\"'字\"x字"字字"字'"""##'"#x"#
+#'字\"
+"字
+"#x#\"#\"\"xx\"'''\"#'\""#""
+#
+\"x"#字x\"\"
+#\"'字"\"#"\"'字"#x
+字\"字字字\"\"字x#xx字'字x'
+#'#"##字\""x##x"""#\"'
+'x'字"'x\"#x字\"\"\"\"\"""字"\"#\"#x'\"\"#""
+'"#'字\"''字
+\"x
+字#x\"x''字x
+#"#'x"''xx'
+\"x#\"''#\"#字x
+字##"#'
+x"字\"#x\"""
+"\"'\""x字'\"##x\"\"字x'
+"""x
+'
+#x'#"字
+#'字x字#\"x"'字"'
+"字x'#'#字
+x
+\"
+'字
+\"
+字#x字"
+x'#'##x\"\"'
+
+字"
+
+x\"'\"\"#字"x'\"\"\"#\"x#"#xx'字x'''字#"
+
+#字"xx#
+字"\"""'"字x'""x\"\"\"
+'
+'\"\"字"x\"\"\"xx字字\"\"
+#"'x字
+
+"字"\"
+\"
+字x\"'字x'
+""x
+#x#\"'x#'\"字字\"\"x"
+#'"
+字\"\"x'
+'xx#\""x\"\"
+#\""##x
+
+
+字
+字""
+
+
+\"xxx''\"字"#"字"\""''
+#'\"x"
+x字#x#"字#字字#
+
+x\"\"
+"""'
+\"\"字'"""'
+x"\"\""""字\"'#''"\"'\"
+
+"''"x
+#
+#字
+\"字\"x字'"字\"字"#x字#字字''x'""字字'x#字字#"#'\"\"\"字"\"\"\"#"'"'"#x
+\""x\"#字
+#'字''x
+
+'\"'"#x字
+'
+#
+x'\"
+
+\"'x'x#字\"字\"'字#
+"\"\"
+字
+'x\"\"'\"
+#字'字'#xx'x\"'#
+''字\"x'\"\"##x'#\"字"
+x
+
+"#\""'\""'x'#字
+'x#\"字x\"'"x\"x'字
+#
+\"x
+字\"
+
+\"\"
+字
+x\""字'#x\"#xx"#字x"#"x字\"\"'"
+\"字\"#x'
+#
+'xxx"x\"字""#\"""#''#
+#字'#字字"x
+x""#'\"\"字'
+'\"\"\"
+##\"x\"
+'""x
+字'x'
+"字\""字\"''x
+字#x#\"#'"##"x字"
+'x#字"
+#字x"x#x
+
+##x#
+x'字
+#
+\""字#
+'字'"字\"字\"'字"x\"x'x
+""
+#x\"xx\"'xx
+"\"#"x'x"#x
+\"'x"'"x#'
+"\"'字"字字'字x#\"字
+#"\"
+#"\"#'x#字'#x字\"#
+x""''#x字x""#字"'x"\"xxx"
+字字
+x\"字'
+#''\"\"\"#\"
+\"
+
+
+字\"字字
+'#xx
+#
+""字
+
+x字#x字""'"
+'x
+"'"
+字"#'x\"'字\"x\"'字\"x"x
+\"\"#字#"'"
+#字\"'x字字x''
+"
+字
+x'x字'字字'x"\"x字#x
+'
+x"\"#x''x字#x'#
+
+\"字"
+''字\"
+'#
+字"'\"##
+\"字'"字x''字
+#xxxx"
+"
+字#"x#x"
+x字'\"#\""xx''xx'
+\"
+字字'"'##
+#xx'#字#"#
+"
+'\"x'字#"'"x'#
+\"#"字\"\"字\"''x'
+字#''x
+\"'字#"x字x#\""
+x'
+x字字x\"#字"x"字字#"'\"\"'"\"""'#
+x"
+\"
+x#"\"字\"字x\""字"\"#\"##字"#\"\"'"""
+"字##"
+字"'x字x'"'
+x字
+\"字"x"'\"\"#字#
+xx"''
+\""x#xx"字'###
+\"字\"""#"x字"#
+
+'#
+x\"'#"x#字'#x'''\"''#x#'"字xxx字"'#
+\"x'
+\"'"x\"\"\"#字字x#x'""'字#"x'x#字\"#
+
+"""#
+'#\"''#"\"x'#
+
+\""字"\"'"
+
+
+
+x\"字\"
+##'字x"'#字\"\"#字字
+字'""
+字"x#x"x
+#
+''#x""'字'\"'"
+\"'x#\"##字
+#"
+#
+\"'x#"
+\"\"#字\""字
+'\"字'x
+\"'
+#x
+"字x
+x'字'字x字"字
+字\"#"
+x#x\"x\"
+
+#
+字\"'字
+#x''"
+
+
+\"x"#字字"#x\"#\"'""字x#"\"字"
+
+
+字'x'字\"
+'x字
+'\"##\"'字x\"字字\"x
+\"字#\"#字#字'"\"#x"
+字
+#"#
+
+#\"\"#x'"
+'xx字'
+x字
+"
+\"字"字xx#x
+'#字#字"\"'
+'x
+'\"x"\"x\"""\""
+字
+'x'#\"#x字"#字"""
+'"#\"字'#'x"##\"\""\"#"
+"
+字"
+#'字x#x\"字字x#\"
+###
+x\"""''''xx"\"
+x#'"#字
+''字"'#'
+x'\"'\"
+
+xxxx"'"''x\"
+"\"#x'''
+##字x\"#
+字\"字\"'#字\"'x\""字
+'
+\"字"
+"\"'"
+x'\""x字"xx"
+x字'字\"\"
+\""'#'#\"''字"\"\"字##
+"\"\"x'x"
+
+\"
+'#字''"#
+
+\"#"字
+\""x'
+""##
+x#字x\"xx字#字x#\"'
+字#字#
+#'x#x字
+"字\"字"x
+字'字
+'#""''#\"x\"#"
+"\"
+#\"#"
+'#字\"'x
+''x\"""#字
+字""""\"""\"
+##字
+x
+#\"字"'""#"字#"x#"\"x字"
+"x
+'字\"字
+
+"##x#
+x\"字""\"
+\"\"字\"xxx字'
+'
+x字"#'\"x#\"x"''
+\""""\"'字#x"x#
+\"x'\"#
+
+x#"##\""
+字x"
+
+"\""字'"'#字'x'
+字字字#"\"'xx"
+字字字字""
+
+字'字#"'#'""#'\"x\""#字
+"
+'
+字字
+\"""'#""字
+"\"x字
+'字\"x字"\"'\""x
+#\"'xx
+#\"##"\"x""#x字x"
+\"xxx#字#\"字''\"xx字#
+#\"\"x\"'
+"x\"
+"
+
+x
+\"
+x
+'字
+'\"''x"'字#字#"'字""#\"''
+\""字\"x
+'
+''字\"#"#""x\"''\"#"x''#'字
+
+x'x#'
+x字##"字#'"'"\"'"#
+字xx""x"\"'字
+x'xx字
+\"
+xx####字'"\"'\"#\"字"#''\"x"
+'xxx'#x#字#'字x字字
+字\""\"
+字"
+x字'x''"#
+""字
+#
+'"字x#xx
+
+#"#字\""'"#'#\"
+'#"字\"''#\"字\"'xx
+"'"字字
+x
+#字xx字x\"""x\"\"x"字字"字'x"\"x\"字'x
+#x\"'#\"
+"\"字'#
+"\"字'\"####'x#
+""字'字''#
+\"\"\"#x
+"
+字\"\"#
+
+'x
+"字'字'#\"
+"#'xx'"字
+#''字字x"字'xx字#
+
+'
+#'x
+#x\""x字x#'\"\""\"\"
+##字"
+
+x\"
+''"x'
+#字x
+\"#字x字\""\""'##\"字\"''x"
+x
+
+'x"'x#xx''#x字'\""x字#"\""x'\"
+字#字'x'x'\"\"字\"\""x""\"\"
+""#'\"'字"#字x\"#字"字"x\"字\"\""x'\"'#x"\"字""字"#字'xx#
+\"x#""x字\"#
+xx字x#
+
+字#\"''字#"'#
+
+
+'##x'#
+字字"\"
+"
+
+""#'x\"
+字字
+x'x字"
+x\""字x
+字#"字'字xx字#'##
+字字字\"x\""x\""字\""\"\"x
+
+
+
+#"
+"x"\"\"\"字
+
+"
+#字
+\"'''#字#x\"\"\"x字
+\"#
+x#'字''\"
+#'"""字字x字"\"#\"
+##'x'
+字"'x#"
+#"#\"\"##x""
+
+'
+"#x"''#x"""'"'
+"#""
+\"字
+字""#'xx\""\"字\"x"#"\"'#'##x\"x'##""\"x\"\"字'字#字\"字##'\"#字字
+x#x字'#x"\"x字\"x'\"字\"\"字x字'''#'#xxx字''x#字\"
+#''字x
+x
+
+字\"#\"
+"字\"\"x'\"
+"字"#""''#"\""\"'"#\"x
+xx
+'"字字
+'#""
+字'字'#字"字
+"\"""\"\"'字'字\"字
+
+字xx\"\"
+'\"字"x"x\"'字#'
+'x#'\"''#'x
+\"字#"#\"x'字
+字##字#
+#\"\""
+\"''\"\"'#'\"\"字字"字#
+x"x#x#'"字#字#\"字x
+\"x
+#\"#xxx\""#
+
+#字
+'#\"
+'字"#"'\"字'#\""字
+#'\"字"\"
+xx"
+xx#x字
+字"''字#
+x#\"""字字\"'''
+#\""字
+\"'#\"'\"#"
+"#字\""'xx'字""
+"字##\"\"#
+\"'
+'#
+x\"xx字'"
+字
+字"#''
+\"####
+"
+#字#字\""'字"
+
+#x
+字'"'
+\"'\"字\""字\"\"
+
+
+
+字x字""
+"
+字'x#x
+"字\"
+#x"#xx#x字
+#'\"x\"x字\"x'字字
+\"#'#x\"字\"字\"
+''"\"\"
+'"xx\""\"''#xxx字字x"x
+x\""#字x\"""\"x字"'\"x#"'\""
+x'#"x#字x"\"字
+'字'字x'\"字'字x'xx#\"x'#\"\"字x
+x字
+
+
+#x''"\"x\"字
+'#字x字'
+字x
+
+
+x
+'\""字"\"
+
+'"字"'\"\"字"\"
+#x字""
+x
+#''
+'
+#字##x"x'##
+字'字xx'#"#'##'x#\"x字#
+"\"
+\"x""
+字'"#"字"#"字x'x"#'"x##"#x
+''字"'"
+x
+""
+\"字字#x\"字#\"'"'\"字#字'''x\""x
+#"#''\"##"
+"\"
+"\"x
+x字\""'\"\"
+x"#xx
+字
+
+
+字'\"""'"
+\"
+x'#
+字"\"x#""\"x#'x"'
+字\"'"字''字#
+xx
+字#\"
+"#x""字xxxx'"'x''
+
+字\"
+字#'字\""\"字字xx"
+字\""#
+x"
+\"#字'字"'#"字\"\"x字"'\"xx
+#'#\"\"字字字"''字""'x"\"\"#\"'x"
+字'
+"'\"字'
+
+字\"#x
+
+''字x"
+x#'"#"
+xx#xx字
+字"
+"'字xx#'#\""字\"\"x\"'字"#字
+字'
+###字'
+"xx
+#
+
+字'x#字#字x字x
+"
+####
+x'字字字\"#字
+#'x#"\"'x
+#\"字'字\"x\"\"x
+"x"'x'
+"
+'\""
+"x\"\"x#字x#
+\"
+x#字'字#
+''\"#'字'"x
+'
+"'"#"""
+字'#x
+\"\"#字xx\""#"'#x"#x#字\"字字xx
+\""字'字''字'字
+'"\"字'\""'x\"
+x字''xx'
+"'字字\"字字#字'#x#"\"#\"\""x"#字x\"#x\"#x字"'xx'#\"''#\"''\"x'
+字#'
+#""'\"'x#
+
+字字#字'\"#x#'"x\"'
+\"
+x#\"x字"#\"字字####"'"字##\"
+字字#xxx'x'#字'"\"x
+""字""
+#\"\""x
+
+'x
+\"xx字''#x'\"\"#
+
+'"字#\"
+\"x''#'x字#\"'字\"\"x字#"x#'"x'"'"\"
+x#""字字\"
+字\"
+
+#"'#\"\"'#"
+x字"#字'#\"""\"#
+'\"x
+
+#字x
+\"字xx"字\""'字\"x\"x\"
+\"#字'\"'
+
+'#
+字##
+\"xxxxx"
+字字
+'x#"""字字\"##
+x\""\"#\"#\"x#字字\"字\"字'\"#'
+'#x'
+\"''#'字字#\"\"##字\"#字'字
+\"\"#'#
+x"x\"\"
+
+\""'#x字\"
+"'x'"'\"\"""x'x"
+字'#字"
+x字#\"\"''"""\""#\"\"'##x''"'\"x''
+x字字xx"''"字#
+
+#"'
+
+
+#"字
+\"""'"
+字x\"
+'
+
+x""#
+#x##xx字
+'x"x'"\"xx\"'
+#
+\"\""字x'\"x字'"\"'\"x字'##xx#"\"#xx#字'
+x"\""字#x#\"'x'x'\"#'字
+"\"#x'字\"x"字\"""'\"''x字'"
+
+#"\""字'
+字字字"x"字\"\""#
+\"x##"\"'#"#'字字'"字'####x字x#\"字\"'x\"#\"字"'\""x
+字'x字\"'字'#
+\"x字'字##字x\"#
+\"#字
+"字字\"#x'\"字#\"''
+"'"
+"#
+字
+\"x""x
+x""x#xx"\""x\"字
+x字x"字x字字
+'"
+\"\"
+'x'""#字"字\"字\"\"x字#字x\"x
+'xx'xx#
+"#''\"'字#
+##x\"'#x字'\"字
+\"\"字'#'"
+字x"
+'字'#x"""#\"
+"\"'字\"x\"
+x字
+字\"字#"\"'x"字x
+
+'
+#'
+"'\"字"'x'x'字字'#"\"\"x
+\"x#\"
+'
+字"\"'"
+字x#字\"\"字"#
+#
+\"x字xx字
+
+"'''#\"x字"\"###
+'\""""字#"字#'"字
+xx#x"
+''
+"字"\"\"#x\"#\"
+字
+""字""x"字
+
+##"#x
+字\"
+\"'\"x
+##
+x\"字'##x\"#
+
+
+字x#"#x\"'字\"\"#xx字#x字xx''"'
+\"
+'"""''"'
+'x#"x"x字"\"\"\"\"
+"x\"\"x'
+x'
+x'
+"x\"字#'"#x
+"#'"''x"\"#"\"#x\"字"字x#"\""'\"""\"\"
+
+
+字x
+字字字\"\"
+
+"x字#\"\"#
+'
+#'x字
+""字##\""x'#x'\"'
+字字'xx'"字
+\"x字'
+'"'#
+'""
+''\"
+#''
+\"字字
+x##字字\"\"'x
+
+'字\"字x#
+"x
+xx
+'字#"
+
+
+\"x#xx#字xxx字字##x
+\""\"''
+字'x\"
+"\"x'字xx
+字字
+'
+'xx#字'"
+字#''"x字
+x'#\"x字\""'字字字
+'xxx'#
+#x字##字x'
+\"\"字\"x'#xx#'""\"\"'x\"\"
+''
+"
+字"#xx字x""x'字字字字
+x
+字'
+#
+字
+"#
+#字字x字
+''
+\"'#\"字字\"
+x字\"字x'x字字#'"#\""
+''
+字\"'#字"
+字x"x'#
+"字字#x
+'\"##'\""字x#x'x"字\""#\"字"""x\"'字
+
+字\"字##'
+'字'#x"#\"x\""#
+
+x\"x\"'""字\"\"字\""#'\"#x"x\"
+字
+"\""x'"\"字
+'#''#\"
+#
+
+
+"#
+
+\"#x"'#"'\"x"
+x'x'"
+\"#'字
+#x\""
+x字"\"'字'"'\"#x\"字字
+'字
+x""字\"'
+字''字#
+"
+\"#\"#'字字"字
+""#\"
+字
+
+\"\"\"
+字字\"\"'#'xx#x字##字x\"x
+
+'\""x#
+
+字'#x
+x
+\"#'字'#xx字"#x'#x\"x字x
+字"字#"
+#字字'##
+
+字##\"x'#\"'"
+#
+'"
+#
+xx
+"\"\"x字\"字'
+'
+\"\"
+字
+x'x'
+\"字x'x字'\""x\"x####\"##
+"xx\"字#'##
+''x#\"\"'''\"""x'x'x
+\"xx\"'"字#字\""\"\""字#"'x#"#字
+字
+"x
+字
+"字字
+\"'
+"字"'\"''\"'###"\"x\"\"字字""xx'#\"#
+x字#x
+"x
+''
+
+'"#"x\"
+
+'
+"\""\"
+\"字x'#
+'\"\"x"
+字字
+#
+
+"#x\"\"#'#
+字
+x字\"#\"字"
+
+x\"'字#\"\""#字xxx
+'"x字#xx#x#\""
+字#字\"x字"\"字字'
+字字x#
+
+#"x
+\"#'"'
+字
+##
+x"x字'"#"
+字"x
+字字字
+字\"\""
+字"""x'\"xxx#xxx#
+\"'\"#"x
+"x'#\""'\"x字'""
+'x\"#x'\""\"\"
+'字\"x\"'\""'
+字"xxx\"''"字
+#\"
+'"'"x#
+\"字字字\"#"
+'"x#"'
+""#\"xx'
+字"字'
+"x
+\"\""\"
+
+'
+x
+x'"\"x
+x
+#\"x"''"字
+xx#\"\"'x字
+#\"x""字'\""#字#x"\"x
+"xxxx字"#x"字'字#''#"''
+字字#\"
+xx"\""字\"x""\"'
+字\"字
+""\"
+
+字x
+#x"
+
+字""#字
+x\"
+#字
+字
+xx
+
+"'#\"#\""x\"
+'
+字'x'\"字'
+\"x"
+
+""\"''字x'
+#'\""'xxx\"#'
+字'"
+\""x字''#x""'字
+\"#字字#x
+#""x\"
+\"'\""字"xxx''字"
+字字"'字字字'\"
+#字
+'x\"x""x""x
+"#字'"#字'#"''#\"\"
+'"x\"
+'"x'#字x#'x\"#
+\"'\"''字"x''"#'
+"字\"字""\"字xx字'字
+'"x#\"x'"#x'"'字''"
+xx#'"xx\"'x字
+
+x\"'\"字x字x"\"x#xx'
+x字"xx\"""#'#"x''""字
+\"
+#x'x
+字xxx\"\"字字字"\""字"x''字\"'#
+
+字'x字字xx\"x'
+字x'x字x\"
+\"#字x字"字
+'"字#'字
+
+#"\"字#"#字"'字'\"'#\"\""\"
+'\"x#"##\"'x字字#xx"字\"x字\"字\"
+x\""
+x字字\"#\"\"'x"x
+"'"字\"
+
+
+x'#x\"#"'"\"''#
+'#\"x
+xx"字"#"'\"
+字x#'#字"字字x\""\"'字"'x\"'"\"'#x
+"\"xxx'
+#字
+''#
+\"#
+#\"x\"x#
+""\"字'"xx"'"字
+x"字#
+""'
+'""x\"'
+\"\"字
+xxx
+x""\"字x字#''\"#'字字'字#"'\"x"x
+'"\"\"x
+字'x#x
+##字\"
+
+\"x\"#
+\"字"\"\"
+\"\"#"
+\"
+"x'x字'"'"'#"字'
+#\"'
+#x"
+
+"x字字"'\"#x#x'##x'"""'##'
+"
+x'\"'字"#x\"
+字#'''
+
+\"''x
+
+"x字'\"#####x"#\"'#\"字'##\"#\"'#'\"x"x字'"\"""字字#字\"字'#\"\"xx字#
+\"'#"x
+
+x#
+x''字
+
+"\"\"#\""'"'x\"x#"\"'x字\"字##
+"#x\"字字#'#
+x""
+\"''\"字"'字
+''x'字
+'字xx'
+\""字##"\"##字"字字
+"字\"x"'
+##"\"xx#x
+\"xx'字字'x
+"字x#"字
+"
+x字\"x
+"字字""x'"\"#'x
+x#"'x#x字#"字x\"\"##x
+"x#
+x""字'"x
+\"#"x'\"#\"##字x"\"\"x'"#'"字'#x'''"#字"'字xxx
+#""#
+"字\"字字\""#
+x#'##字x"字
+#字x#x""\"x#'\"x'"'''''"
+\"'"\"
+x\"字#"xx
+"""\"#字'\""'\""字字'""x'字"'\"#x'\""x字x\"\""##字x"字"
+x\"\""'\"#字
+""
+#"xxx字字\"'\"#\"字#x#
+
+x\""x"xx字x字#x#'字字\"
+
+\"\"'字'\"字#字
+\"'字
+\"'''\"#\"字\"'"'
+字字'\"
+#'字字'xx"x\"\"x字\"'#xx字字''"x'x#"x\"字
+字"#
+'字
+\"'字'
+
+''x字
+字x##"\"x""字"#"x"x###x'\"\"字"'#""#x#'#字"字字
+
+"
+x
+\"
+"x
+'
+x字
+\"'\"'
+
+'\"\"#xx\"x\"'"#字""
+#字'字x\""\"'"#'#"#\"字''"x字"字字字x字x"字字
+字xx字'\"\"x#"x##
+"字\""\"'字'x"\""x字"\"字'
+x'x"'字'
+'"
+x\"x
+
+"''\"
+
+
+\"'#\"字x'\"\"\"字\"
+'xx"\"\""'
+'\"#x
+x"'\""\"\"##字"
+'x\"
+\"''#字"x"字\"'字"字字"x'#\"x'x''"#字x\"'\"
+"'##x字x字字#x字'\"x\"字'x字"
+'"\"\"字#""\"\"'#字\"\"#
+"
+x\"''x
+
+'"
+#x
+字xx\"#字"
+'"#
+x'\"x
+#"\"'\"'\"\"x""#'x#"'x''"'
+\"\"\"x#字x
+#'
+字字'字'#x###'字#
+'"x'#x"\"'字
+x""#'
+x字'\"'\"'
+
+
+
+"字\"#字#"字#
+字#"x\"#"'字
+\"字"\"#
+\"#\"''\"\"xx#字'"x"x##\"字
+字字""#""#'\"#\"
+
+""字\"x"#
+#\"x字字
+字"'\"
+\"'x\"
+'x##"字
+x字xx\"#
+'"
+
+
+字xx#\"'\"#"#x字#"\"
+x"\"字字'\"字#字#字
+''
+字
+"'\"'"\"\"字xx\"#"字'#"x\"
+字字"x'\"
+字xx
+"""字x
+
+##\"\""'字\"'\"
+##
+"#"#
+'"
+"x'#""字"x
+'
+\""'"
+\"\"x字#
+
+"\"\"
+
+#字
+字
+#'"'#
+字
+字
+
+
+字\"字#字#"字字\"#'##'"'字#\"#字"'"字'"""#'#''x\"
+\"#\"\"
+"'
+"字'
+'"#\"#"#x\"x'\"""\"x"字
+\"x"'"
+\"'#'xx'字'字x字"'\"
+"''"
+#\"#\"
+"\"##"字"#
+#字字
+'"
+字\"
+'\"#""字#"'\"'#x字#x"
+\"\"\"\"字\""
+
+"\"#'x'""字\"x字\"
+'#x\"#字''字\"
+
+xx\"
+
+'
+x\"''\"字#xx\"字"字#"'#\"字
+'"字\"##字#\"x'
+x字'\"\"\"
+
+"'##字'字
+字#字##""
+\"x
+#字'#
+
+字字#\"#
+"x'\"x#"'\"\"'字'##
+"#字#'"'
+""'#\"''#
+'
+#'
+\"
+
+'#'x
+'\"\"#x字
+xx\""
+"#x\""'#
+\"\"
+\"'"'x\"x#"x"'字
+'
+"'\"
+
+\"#
+字
+
+"x"
+\"\"#x字x
+
+'"字字
+#x
+'"字\"字#
+'"\"
+
+"\"\""#'#x#x字##"字x字x#
+\"字"#"x'x
+"x"x"字字字"'#\"
+x#x字#x"\"字"###字\""x#"'x\""\"\"#字x
+字\"字'"字'xxx'""#字\"#
+\"
+'#'#'字#字xx\""
+x'\""x#x
+
+字字x#
+""#字\"字#'"
+\"#
+#'"""
+#\"x
+x\""\"#"\"x\""字"""
+\"'"\"'#字'''
+x\"\"
+#字字"字字
+字字#x'x#x"x#x\"\"
+x字x
+字"'\"'"\"'\"x\"#'\"x
+'\"'
+'字\"\"x
+xx字"字字字x\"
+'#\"字x字'"字#"字##'
+
+x
+'
+\"\"x'字xx\""x'
+""'
+"x'
+字\""
+
+"\"'字
+
+\""#x##
+字#"
+"字'""字'x#x"##\"字
+\"x字"字"""'\"字
+字"\"x\"#\"'#字\""xx'\"字##'##x
+x#\"x
+x字
+'"\"''\"
+'x字#"
+\"#字'""\"
+
+xx"
+"
+x'x#x
+字
+'\"\"
+字#'##'字'\"#"'"#
+\"x\"x字'
+##"x\"
+
+#'字
+\"###'
+字
+\"x\"\"'"#'#x\"
+""xx\""'\"字'"'""#"\"'
+字#'字
+#字"x#'"字\""字"
+字
+\"#""字"''""
+"字#'xx'"x
+\""字#字'xx"#x#"##x#x字字x"
+
+\"\"x#x\"'x\""'字"
+''字##"'""'x'x\"''字#字#'"字'x\"
+
+#'\"#
+#x#
+
+"#
+"\"字#
+'x
+字#字#x#\""'"\"'x\"x\"'"字#xx#\"x"##
+'''#"字\"'\"''#\"字x
+
+
+''""
+
+\"
+"\"##'''x#'""x#字
+字x'#字#"x字x#x"x
+xx'\"字"字字字\"字'\"#
+#"
+"#'
+字
+x字
+\""x
+'##'字字字###\"#\"
+#x'"'\"x'""x\"'\""'字x
+#
+'x'''
+#'字字##
+"\"'#
+字x#
+"#x#x'\"x'#\"x
+#
+"''x#
+\"
+"字#x##\"字#
+字x\"x字\"'字'\"'x'"''
+""#'##'\"字\""字x
+'x"#"""\"字#'##字
+"\"'
+
+'x""
+字'\""'"xx'x#"\"字
+\"x
+#字\"x\"'x##\"\""
+\"x字x
+\"x"
+xx字\"''
+\""x\"#'
+"\"'"\"字
+
+xx字'"x字\"
+\"#
+字#
+xx#'字""字#"字"
+"
+#'"\""#""字"#'""xx字"字""字"
+'x""
+"字#''"
+
+'
+''
+#"####\"#"##'
+字字字字xx
+x##""x""字##xx'\"#"\"''
+""\"\""'"字
+x\"x\"字\"\"字"#x字字'##
+字"'
+字#'#字'x#"字x\"'\"\"\""#
+'
+
+#\"#xx""""#xx"#x#\"#\"'\"x字"
+\"\"'字\"字""#''#字\"x
+\"'x\"x#"'x#"
+#"#'
+##
+"\"\"
+x\"字"\"\"x#'
+字##字字字字x'#\"'
+
+#\"x字字
+'#
+\"x
+\""\""字
+字\""'
+x'\"字字\"#\"字x#"'\"字'""""x字
+""\"x字''
+#'"\"#
+
+#字\"'x字字xxx'"
+\"字
+字#
+#
+"#字x\"'"字xxx'x字\"\"#"字#""#'#"\"
+\""字'#字
+x#x#"\"\"x'##'#'
+'
+字x字字
+'#'"''x
+"xxx'字字\"
+xxx"x"\"#\"x\"#字'\"
+字#
+
+'\"##x字字#字x''字"
+
+""x
+x字\"
+\"
+
+"##x'\""x'字xx字""#"#
+
+#"字x'"xx#
+字""
+'x字#
+'x#x
+""#\"字\"
+字
+x##字\"
+字#"\"'
+"x字字字x'字x\"#x
+\"""#x"\"\"#\"字"
+字'
+x\"
+x'字"x#""\"#
+x'
+'x"x"##"字'"'"x"字'
+#\"'字
+"#
+#xxx#
+字"字字#\"\"'"#x#字\"\"#'"\"
+'
+
+#\"
+#"x字字字
+
+\"'"字
+''"x#"\"\"字#字
+
+
+'字'"
+\"#x
+\"
+'
+x\"\"字#\"\"x"x\"
+#\""
+#字\"
+
+'x\"
+\"x字\"\"x\"#''xx#字x\"字x
+"#字''x\"xx
+\"字'字
+字"字"'\"x\"'字#
+字x
+'
+x字字字#xxx"""
+values = [(i * 1 - 1) ** 2 for i in range(1) if i % 3]
+table = {"pbly5wky": 287452710, "bholz0j7": 918586989, "t9cw7t5g": 27964290, "2rkguk0_": 300719948, "u4hrzato": 40240602, "da3ygo0f": 363852480, "8vhsb7yg": 318583915, "0bpw8e1a": 548179797, "x90m4hzz": 839337970, "ud6xiszp": 415797657, "_75dk2xe": 52258634, "s1t8hlne": 454189021, "snq91zjc": 909914575, "0n4vvig3": 558613875, "dw7a_zbj": 218937068, "v4qtz8c7": 292656435, "i0so1ngx": 86043788, "fz3k0z55": 14354657, "3x9souyi": 293233682, "xd8hpzl5": 961695454, "hf7_xl0z": 934840267, "udak1f4u": 898500255, "gjfy5co9": 583253844, "majd_hif": 838325756, "2s4ri79v": 637920002, "1ig67rp4": 113754013, "5x2a_hgb": 484932787, "cmgg93gy": 419075776, "wu066tyh": 111103371, "weh17ax_": 924364362, "pvapscxo": 523747195, "lye9llpj": 245168184, "8wa9qzxq": 69388245, "ekk85kvh": 435287752, "v4sphdfb": 460763660, "_jsn_c21": 110178290, "qba_x71f": 861547455, "pqmg8jay": 641890979, "g7sm09wa": 784417186, "2oppeqmo": 944312188, "vpouj_jc": 393873959, "um4wcd93": 530329708, "6p8hunns": 154427137, "edj075eb": 627753380, "tflb__3p": 552484231, "k9y31sx7": 15613320, "cdx4c15b": 555510799, "lgdkkfvj": 333967443, "ub0lai04": 473562728, "x2ap4bvv": 129325529, "x1q4xcfh": 307273826, "o9wzcgil": 972665492, "kpzrh5qb": 132851423, "q7gq9rj_": 342550967, "46kr0kaf": 791688870, "8rldz66b": 710648981, "xmy6591g": 33145189, "oy9iacl9": 387838617, "cli0bssn": 348566055, "myzhf5ry": 581351405, "di19j9mk": 443545287, "wyxn4c7e": 27205521, "5jg12cuk": 902728387, "1nix7vaj": 315283034, "lk_xx_4s": 991104891, "_7j3mncy": 151679109, "181v1qm8": 988427655, "1dakra66": 667053493, "x72q2w67": 689427306, "91o0oljn": 442557657, "3dlon_a_": 773699927, "nf2elr_w": 394030559, "rhlwm8d5": 677725446, "kzv9ux96": 163546102, "ucdjhop0": 966659872, "z2jhqs_j": 295057184, "hwcgtlfv": 640597389, "et49xrda": 111348124, "sjr_dkyr": 122305007, "5mwevk1u": 500113859, "dqif2gec": 41043907, "pnt1_cst": 443138101, "_d7dezn9": 798102215, "8gdbmoqd": 144655552, "4e8vste2": 19584177, "sku2gqni": 326262874, "7zinegba": 676562921, "qoyf_r4b": 6104550, "r4yg99kn": 146549416, "xuaj1pc3": 417901740, "ngo7nwo4": 870016044, "yyfpi0_n": 607112337, "nqd6cv6e": 234505818, "cd3bbmli": 493333918, "gvrh2b1k": 344523093, "csd2rar1": 218201701, "xuyvyqif": 704048968, "u0dtqqin": 538479583, "ozsciwfz": 874548081, "uxvch406": 561518403, "ox0lccrx": 313130455, "jvbb8iia": 150208620, "qyd_rx_n": 188667796, "p6zrl4d0": 354765584, "94wzmdtp": 755247816, "6wddatl1": 399748060, "101uiexh": 121834511, "lek83z73": 570346964, "8xgzhqlz": 291719675, "7u0qybql": 696544929, "3_s0f_es": 252544863, "k6unkii9": 653692932, "zm2nuoy5": 594395999, "to04uhjf": 861052578, "d47qujqi": 622143671, "r5fkvej8": 692952839, "bg0sg867": 296920905, "ad3ulwqh": 62020232, "zkuhi1c7": 902212588, "lbdxrsxk": 201775919, "3h2cfftq": 719754978, "ioyiqerj": 133608001, "ttmnt_bc": 459136325, "oyltj9m3": 902690015, "9cdby69e": 109704654, "ezl6vtnq": 906636039, "km37kmfy": 320371995, "fpubp28r": 535955034, "d0psgotf": 440068486, "f84ttr_9": 130647900, "nl13c2sk": 972856883, "6r56oyob": 799347997, "bfshlobf": 520655197, "zs66950s": 625367323, "7dh5vktx": 859047817, "if3nn_sf": 744334235, "pp5b_2g_": 377960003, "9fagg1_0": 213939128, "qv09koq2": 358140916, "vmxs_az8": 321933421, "5ljvyf2f": 156808577, "zyk6asbn": 207841957, "rw_hejba": 985528049, "t24sl5so": 485042117, "0c4mmng2": 716098236, "4i7pwrub": 222214982, "9mtrpixm": 401497822, "xhwn5xbk": 388313133, "r3jvx2of": 247771787, "nbd8by4x": 390856352, "01qux_a3": 91010407, "9numkto5": 938607213, "hsbpdqbj": 310319410, "cj3zkhp6": 555812470, "qngwt33l": 843638761, "k0nd12on": 244749167, "frcwpilz": 969619059, "mvi9wmnx": 825661195, "wh5h5t12": 649951721, "0ayo3shi": 163243837, "68c9jz8_": 873206238, "qs4a50q_": 754837152, "rv729chw": 537465569, "lqlaxgep": 638404132, "mywccw36": 650508429, "1g0r9fp6": 471900380, "5cp1qny1": 320616696, "hr263ygd": 89233849, "f87icc6y": 891326055, "djt93r1y": 764679141, "aiyb1_24": 253205088, "ikt6l7gd": 857361781, "c2_5_pgl": 943892688, "1r4gpk2_": 453785524, "cvm9_onn": 65088213, "dc6xyfb9": 260263817, "q29288pr": 943747078, "s1c4pdgp": 583470774, "30i4jw2h": 145167090, "5zt62w8l": 452308700, "zcavj3rq": 958582274, "2w4egi11": 177298742, "bjdkafp1": 399386752, "irj134yc": 475774227, "1jfwlqgg": 447471464, "8kox19t5": 797722863, "wru5h3nq": 309519185, "365x986p": 355062221, "1gwniz5w": 150257782, "b9cj1de9": 131429456, "l3f16yc_": 232263440, "gdrekcj5": 912053481, "bjyhpy0i": 901043043, "4n9udhd9": 489794197, "nes3ubkt": 648653638, "ze0xq11f": 613094485, "b0nhcinp": 670419054, "ni_83oup": 753572142, "o0mt8rfl": 408215961, "eb0f6mim": 687729312, "exan8ecg": 987439152, "dxcw8dgc": 984409060, "27dcmln3": 264220940, "l3bzub1d": 858426630, "iau1cxzf": 555187950, "mtuq40xp": 693859176, "9vzug2fj": 594675731, "3z1xayd6": 688667067, "vgop7jhd": 869619313, "r_lonims": 673005779, "rhrnhkue": 127908391, "8o5rve6y": 27324016, "1g639bx8": 854048435, "2kkozwdr": 954428568, "bwd2ssrt": 822470283, "k06r3awo": 463764822, "f0lqv77s": 643195433, "0samjkvb": 239711029, "qj1josq3": 906806199, "khdy8m12": 249145689, "6d837spb": 488967936, "9mzqaxpb": 304832371, "9f3yiujr": 79307133, "mohezsb5": 889772013, "g15zfl80": 178850473, "es6aljla": 472680949, "v3xriu8g": 123608578, "i22y1i5e": 390126219, "uln69q6d": 623151500, "f7nyh3ah": 174190955, "nodiwabm": 317482511, "78ekdgrj": 673429799, "lq3fxaj6": 603498314, "0yq67h7y": 76592018, "ys4h3gi2": 157506772, "6wqoscff": 324993452, "jaz3nlb3": 66800762, "w5bafvnn": 436354163, "um5z3bxh": 131062463, "d8dpal8r": 153967173, "hjlaerp8": 700735109, "rjd1_hme": 850609291, "hohuh0uz": 513208084, "nap0dhrr": 477950138, "_np3e3i2": 376856714, "_7soc17p": 886116583, "0wz5jlwt": 635254172, "zg_g9eqo": 132906171, "943gtqbd": 9236900, "l8jphe87": 798077432, "0lhtv44j": 967146357, "emarut2u": 585666011, "04fxlymn": 889932913, "lk6hq66_": 180783816, "qykfm1oj": 638236842, "ew27po28": 358322786, "vqhfcnq5": 549422107, "7ca1ni1c": 309583158, "6mmjke36": 929701646, "skkfkdoy": 428226399, "iq_x7fw2": 653533053, "qrvh2dvi": 888924458, "1xxwig05": 825117353, "zn0rj8xz": 229147685, "jn3po_xe": 436273915, "y1wn924u": 535258279, "34db9itm": 253888960, "d1bcrq7_": 359581895, "fb6gw6al": 132590005, "jmqpc9yf": 972259424, "65v7oevg": 235604670, "7bg_q2h2": 838972302, "lv4497fy": 768455254, "osa4fs69": 782702913, "pd_sfeq3": 118507814, "wdd20tz3": 637723731, "y88czyby": 137759127, "bveadra7": 265469327, "pyf0t2jt": 451493439, "_nxfoc0q": 658276312, "7dy6er57": 644620619, "my0ewjtf": 295618805, "zjngqvtp": 434468287, "rhag2n2r": 927931420, "vgg__f3_": 601399548, "zfj_8904": 814278900, "197__sjm": 779337387, "90zf7r6c": 800048995, "fohx9v96": 74943983, "xftwitdl": 47418140, "orjdtm87": 978157925, "4m8_8pte": 435005600, "u2x2y0b3": 481249159, "1kv899nu": 483649527, "2aa1d9u9": 348752335, "31ud4ir0": 187406356, "h3gt7t31": 753206709, "a33vcutz": 956720714, "cpu_lvxx": 758129426, "wryh0zmq": 413084926, "hq9uhy70": 414133798, "nizpn4w8": 486657319, "9ntnm0ym": 365152620, "hvozr7g3": 435646088, "9w25pjbc": 287421117, "s7n7y96s": 971684948, "rp5ede61": 932519933, "mvxak6t8": 315831526, "k_6hpnyy": 108641723, "hlzgcs0t": 728808661, "0nk4vgdp": 301217956, "ci93itfy": 62652639, "jep8ea92": 376682635, "0eg2rxpz": 233334440, "3aqc6vx3": 733489324, "irhuto95": 365931244, "vz9iwsl6": 792920564, "4n74n1c1": 775264591, "jeo6s8wu": 87201142, "in4gyz5c": 751407276, "xofdls5i": 626603870, "0263656v": 497122252, "4uc1_c0t": 576735863, "bgjlpf7b": 491824439, "_y64005b": 628156125, "lv_us07i": 206379274, "htktn_0v": 538334805, "5ult5gqe": 20305576, "7yx7f_nx": 884639751, "79ys2_wx": 692041054, "goe7a6se": 811506289, "g8gcmcy9": 214355765, "g0jn_gvg": 106340538, "jjzvrt9q": 493450087, "mb1aur7r": 781548805, "ikdi93jt": 810050547, "gh5ark4g": 154501400, "hff66kwv": 588100710, "qr1h4gnn": 945699513, "ylzdb57y": 789720051, "svqeih91": 951510042, "6ax05lct": 121539689, "arv5a_ti": 762047551, "qpj5dvjn": 46776993, "a2frcsij": 278472824, "211wk56r": 813820485, "hfy53b2a": 890267470, "sis7uazw": 495495184, "2ttwd49d": 927265394, "t8pohahl": 949614491, "04ebx1l_": 805316301, "n9t50zmm": 155205318, "dnaw5h51": 795585448, "a_r9xyw1": 92251417, "6vq58vtl": 292767007, "vh4zsjoy": 800796450, "0pj53xtm": 878304037, "_0i4ohpd": 968099889, "o62t9ixa": 556615843, "gjxb4_81": 74034974, "xuhf6_sw": 119612187, "j0y_6te1": 408679837, "i5c8gnml": 37523100, "ygd_7iep": 161620782, "62_b5i31": 29144623, "wydk_1wn": 212637956, "yc106kia": 91746757, "rkgmxrp_": 193980016, "hfgkje_j": 549418206, "c3ljqvlk": 409936076, "_gd__p7w": 999756369, "9knr5r01": 22472096, "0239i2id": 815347024, "m2phkyx8": 955347417, "dx4u5ofr": 725349381, "8key_o80": 867544163, "nmjc6azg": 610585942, "seqyvc1t": 456207572, "tyky3ml3": 392348562, "954kopi8": 568901219, "70f7yvv2": 340338830, "c_wuq5j9": 7088413, "d9yh157y": 852284575, "blo7okzq": 339091483, "gzeyyt7d": 34400478, "i1mby8qx": 387242324, "ldqbjpmh": 605121618, "why000l0": 740270214, "pjna4ls7": 477133694, "nm7_532u": 703437676, "8o7jsdz8": 156787271, "lho00nn8": 783563491, "6vk7jibo": 211893160, "ehz4_bqu": 837370599, "d77yqa0o": 363782982, "natll2fu": 86352273, "3sud4u_v": 281430643, "l_ar1cu4": 640619192, "68rfv1eg": 178878761, "yabkzv53": 540337333, "w4pf4qw0": 357394617, "nqtomddc": 125119524, "j016kvku": 962123222, "s1eqbb5c": 613998983, "bqtmmu21": 923814154, "uekxk_s9": 978497944, "zkhrfu_1": 252740334, "9t5nuzge": 529191151, "e0i6q7df": 998397455, "rhtgvkg9": 756178928, "0r008iit": 580099454, "pkbkap2p": 149973915, "zwcoxq9y": 18740871, "bu3crax2": 999033730, "p1dbmnbu": 967172635, "icugqet4": 695970902, "vlt7pktc": 449043121, "e2er0kec": 692910311, "_iow4yqw": 736913577, "wvij7p2j": 375017634, "bu6o5cce": 171306276, "gawk78w_": 174783624, "jldr_lwn": 17191772, "qy4zdhsu": 54601586, "n0tmtqdg": 435732622, "m13tqbpd": 810787571, "dfb1b08m": 759469353, "muzkkydg": 92429652, "b_hdwv0c": 499930089, "_1_rb1fe": 305544230, "vket7mbj": 292597631, "edza4s2r": 887561238, "ka3_pfqw": 374323739, "mzwos6nb": 176235235, "gtujz1sx": 573624116, "_txny79i": 574548503, "pehqeq_u": 713877076, "hsw7yy23": 400935917, "pkgf12__": 359002597, "lmh9rj2o": 257948199, "d2kx_mkg": 884828926, "c_b3xv6_": 369261357, "8qn8op9r": 970949657, "u4en2_vk": 982657916, "h8afp64g": 124622063, "9wgkfo7e": 17584754, "ppvw9dqe": 43389267, "qi86l93n": 23427881, "9z4jurc6": 20371079, "jbgl58df": 579207493, "4w6qg0ig": 678994846, "wvqoqysl": 242943128, "w06wm0h_": 41183418, "wnuoyi68": 749841255, "9mfzk32h": 540014202, "5r195ke4": 420513958, "h7d8lt0a": 218888124, "8z6wva0y": 315793860, "agybah9c": 783083662, "8dwdw2bm": 412820231, "hmukeigj": 554435777, "aai0g77f": 80775615, "9uk4gp95": 559075055, "hdgpp6ng": 910394431, "ez7v5mmj": 32390703, "9anadqvz": 915850535, "mihsk8uj": 897328930, "jki2gs_t": 838885485, "gtfvf5lk": 3412500, "9dqsefxk": 127434651, "fbb_3_uh": 882024895, "lrxypwc0": 786622810, "mzmub__n": 274389747, "l7be1fvm": 146542687, "hbqmrojt": 96625077, "3yupw82f": 238107055, "zy06r7vi": 936485204, "2b395808": 841155707, "g2j_opon": 729470773, "2bocp3os": 335063163, "1w7b_yle": 373599825, "4og9jsre": 36980191, "e14jxh_w": 24283286, "nfjqbp_h": 759217301, "sod7wcmn": 385168353, "bb0z0ba9": 719940285, "ceq8n8_7": 480508641, "0entd2jt": 180051300, "0k9x4jp3": 64416904, "a9hzzohv": 673709589, "a5mkbcy_": 106637935, "k2m6xvrx": 145113913, "9g043ms5": 907404498, "qzs01bih": 269096439, "7u_ph15s": 992485004, "k96lwvok": 580265040, "89nrldrj": 360943292, "b5o4d_dg": 856719197, "h8qgtl8t": 388063113, "danclhd5": 826687850, "wmt9jhxw": 84328581, "pvory41q": 297053097, "95efdfrh": 255472911, "atgf6ap5": 87369549, "1ml99gs9": 345493772, "m9k3_7no": 414300970, "wmdke1p0": 745430293, "_vp8qo8w": 208244065, "5cqz5z4x": 24598648, "85ftoyng": 218641341, "vmt9tv2s": 831187178, "3_5uqbuq": 138913936, "t8v8ujld": 52852520, "plef5m5g": 572557582, "neik_j_l": 523493440, "pv3ixyl5": 789394249, "d5tx5x4y": 54156803, "4ztde4be": 5097009, "v86omav5": 336864909, "qtrr2sbm": 34260586, "czb58_go": 920995583, "ezdbwlkf": 594421720, "rjqh_6vh": 584662222, "04fd9ac6": 604510257, "g38qjhct": 710057436, "wupma47n": 526729766, "n8gscnh_": 339380334, "imnu6m4u": 57975743, "ila25oxi": 490472853, "rxf85ftm": 536076005, "o8co5xs0": 531289628, "_4kjas0y": 660085725, "t4chae8s": 563691256, "1ruqo6hp": 890168631, "0rwyevdo": 518224765, "ey29_wyl": 577285182, "fsn48kir": 829434371, "t8yx90f0": 47003516, "t5zzt66l": 498741868, "poz7n9vk": 940151501, "tfrltti5": 664173699, "d10s2l_l": 828139985, "pljj0eab": 817242232, "q9zrukg2": 953964303, "ti20rza_": 970032378, "7yt0es6s": 225948499, "hezaa_az": 21763603, "wrfpuysx": 424070320, "2zg5vx2q": 289075654, "qt_1t8cj": 781069700, "qjhvbquf": 234805726, "b89ftte3": 516192762, "l0bhtd2c": 3964874, "2v5zolg_": 936798099, "1xh1vaj9": 564324418, "2omqricb": 400677154, "i5xsu2kg": 135440394, "z2l1t5ik": 160073230, "mv7xaocw": 678553703, "dsofx7k3": 988041984, "skskgbkw": 339308840, "6v7i76c9": 786921344, "65llir8y": 976943384, "5lq0tygh": 910993994, "n96mrdzj": 716734827, "e9flb2dx": 514741591, "m_299on0": 291987590, "kagn2fje": 8141834, "jogtrzjz": 586231031, "g23ecquv": 700730645, "im55gh6b": 209817737, "yc8bv_ks": 436779452, "xu4k5j_1": 885537196, "_xxqqwsj": 564654399, "23p0gl2t": 893285985, "p83ef5_g": 491467258, "2ffy6c4n": 436901919, "fpxry_gv": 368376981, "jvpcb6d0": 511892061, "c7c0tylq": 274552000, "ikbm09mn": 847218068, "7q514i_9": 684652676, "4ycpijbm": 895161236, "bnr3icps": 353280214, "d365dnwm": 181209662, "j5pycqxl": 565080858, "88z4_u66": 556271211, "owey4ddb": 7183757, "11ms6x7m": 616764974, "7ispavgb": 638279151, "7rhds646": 91023977, "c5tdfyht": 844675573, "bt2c30b8": 349146307, "le2qyc1b": 842746632, "n4j3d2ua": 371929692, "_zr_c_7k": 926532232, "45_5regh": 607737862, "rbvll6d2": 936782286, "6s27ga5_": 723305688, "g3q_4kjz": 262810224, "ffchl1ka": 351846724, "rc6vujb0": 591496034, "fijjhzw1": 2319862, "srls2fg3": 448467301, "re5vdbz2": 921127984, "52grof84": 450650654, "7bmukw35": 16257917, "9w5zsxp3": 279727216, "385tbdii": 889583418, "28n6pqe0": 104954093, "zgdw42bs": 110827611, "rtx4orhc": 463788476, "amco_2rw": 167186277, "l9fn8npe": 267726989, "02lc_jbb": 261669420, "s_eh0gm3": 507143222, "1lortiy2": 158162830, "29u024_y": 834791402, "l0iuogwr": 324637547, "_qt1yunp": 15748383, "5j28ghwx": 95747330, "zo810tf2": 545261745, "hld_kxt_": 398994885, "z1brg4jk": 543706179, "kbpsxk1p": 998443891, "4bh0nuzx": 173751433, "ux7rgk_i": 983355197, "ox833zey": 221701126, "bhl3cx2q": 269731367, "kkx0u33w": 802613574, "fnfoqxfj": 729251199, "f2wpo4l2": 191032364, "v4pv9zwi": 209887687, "2sq0a971": 348037077, "9sjyj2yj": 810552990, "rgoct13w": 177592191, "tqwi5tkc": 537768973, "zqaqqgls": 197436086, "2hab3xp5": 20106258, "dzaufbr5": 588153207, "b1fwmwo6": 79878005, "g01pirj5": 240946813, "tmq1rnon": 886060075, "js0uc2sj": 104971002, "qsfvszmf": 11868007, "vg25vfn0": 136698376, "lwo7i2sa": 476902295, "oq1wfvfl": 363192618, "e_carg23": 157355014, "t1dduadi": 634834551, "xg7s6b0u": 282561956, "8coz30t3": 797345950, "9g6xc2ld": 453675271, "wyc4_5ud": 7769747, "6pr_enyg": 655624413, "ritylnoo": 642448588, "sbh6frjl": 497677613, "xgz6uj0l": 307435004, "pgns6sld": 680964506, "dvd84v4o": 517095453, "6q86rrfd": 919749659, "c1k8arrn": 254300136, "e5qghef_": 16702416, "xmqarvsm": 444491645, "8hzp4sp4": 651593629, "71jgndwu": 751060500, "ur274yng": 881106642, "61gg1kie": 277829895, "td5x944e": 603605845, "6rlbjl3m": 451717160, "b2zgw6ag": 661352019, "fa2hfh_y": 340947028, "oozaqqw7": 901458890, "2kebq0u5": 279411820, "iqb6esvf": 1725891, "lg6p19rl": 241854134, "dkb9cd4g": 967953666, "0jccy4de": 54192020, "2g_pc5f4": 842307562, "tlew18bk": 95063629, "3emyxie8": 447328827, "o1udfv9b": 34267577, "69tiaepo": 390137639, "hp5lzk6r": 287060238, "jc8jgs6r": 421077185, "6_90pfdu": 929590301, "k1r1pbzw": 258047353, "nly421f8": 198568336, "l0gyj7i3": 359078035, "3xcrxk40": 739937970, "utn5zw4c": 667389085, "e48gabil": 454497106, "ff1uvs45": 654048428, "yhsp06vb": 803304685, "mtmbya4p": 807124792, "5gsj21z0": 712712089, "0mo7n2jk": 779209202, "yebxdmhz": 1877331, "bvt0g0uw": 436603133, "i6bgtam2": 523878100, "2d3p4sxy": 1643067, "21clpzpe": 747460503, "udi8l7_o": 314825999, "o2q0aubs": 660601004, "dafz3673": 523416538, "7cf3full": 242163943, "vbm3idcx": 238057461, "ujjy9cvp": 715187993, "tllrer9l": 180631897, "hxefwx67": 97428370, "p91e_gpg": 786460804, "lcpjyd_7": 53599402, "xm6xzbg7": 33425634, "flcb8cjb": 26350492, "rf0m30s_": 738120202, "g8dw19nb": 402639698, "s9u0oka9": 121329567, "kpup6rku": 74637791, "8z905rxp": 769612861, "c4e58yph": 969935833, "6eywxzhy": 834207442, "29j1ih5v": 77554739, "oxi31k1p": 861712497, "2s30x8nn": 849166293, "02zse1nv": 123186181, "8rfaeo9t": 705169942, "10460ynb": 477015301, "n6k4qhvo": 412209134, "lqie_55i": 770024598, "ti9rhm86": 251030722, "_257y51z": 704402782, "p0wumbn8": 559989266, "ze_g3rm4": 767664690, "whncjmmn": 264811845, "wd91zx9b": 739318074, "1bqjsg1a": 855924339, "enf4kvtz": 129656846, "f1aj3ert": 386864177, "btnkhdtc": 835852700, "eq8ypc5k": 870963920, "yqmtyf72": 637102775, "qffung3_": 280018686, "x9n2rrt3": 786455278, "p8jfmzxo": 626859175, "e9sdha5f": 74949431, "d75y14ii": 291568079, "lfa5oef5": 827914692, "vmlpr2ht": 914111719, "wa2_pmmy": 463358252, "7nryric7": 319809840, "jh_h2zby": 202643475, "9tds0pt9": 456962042, "g3jfbjba": 349222875, "g3_z7nqn": 907201277, "_rj71vh_": 825119122, "47gyziph": 60237624, "0is1ff41": 871588774, "5cour6qf": 493906817, "3vixxlyr": 40753781, "fonhpaim": 692499607, "a7tnjkp3": 702381373, "2am5ydnb": 248053835, "6bjldnk8": 420097561, "vjot0ays": 101000994, "c3f7uhzk": 186274871, "19_z9rvh": 917184449, "z7c41892": 334744887, "34jj8a5r": 608452063, "xr7_r8b1": 113239780, "z2fsf2dw": 567680996, "lxfgg_f3": 994536230, "5zs7lcuk": 70550454, "_ai_ea70": 199708118, "caamkj8m": 765714768, "r6o8azp6": 379512975, "a_pl4jvw": 869921159, "pdk7jogb": 175814263, "prlecd4k": 190895213, "h6hmoywf": 423211313, "_bzq0qc2": 694546778, "annemh6v": 415147334, "npob0fho": 118088177, "g2vsytj9": 857159025, "oh1ovewl": 959401939, "ty487t3i": 920051684, "xe45a2_b": 986638435, "87wp80df": 412153906, "z8a5lncr": 789660780, "u9z53_7c": 21042239, "kblis9l5": 913559803, "xx8khg4a": 930120575, "aer398yy": 607613737, "v5_bbqa9": 445624776, "8cly7ioc": 352829846, "29aswgn1": 927696563, "pqh0dg7u": 990921660, "nsw5wlzf": 698906887, "l31joi6u": 612648953, "nta0vspi": 875471203, "o5mrfjrr": 206546479, "jwcr_ttw": 181898125, "0ik1rk7_": 721610274, "po9ki88a": 559150818, "ry8qcb2b": 465885320, "we6ue7o9": 793185455, "90qo_3u1": 836231971, "ynyq5jah": 822564971, "ok68pnbf": 294993582, "ls34w8az": 10535174, "zpm0ioy1": 670651793, "97n_hpn8": 309308919, "bxomjh3_": 472039768, "27cqo8ng": 493676477, "ibcmr55i": 829688492, "xhzkz6kr": 652515831, "msnims8t": 971595448, "vz3ww81o": 726872055, "ped6rdl3": 692927721, "g6bh20t7": 513322518, "_crge0fz": 807563795, "cu2k44f4": 530555206, "k_qdqirf": 180218241, "wr4nmnn5": 815948595, "6xy3uinx": 193936908, "d9bzbpxi": 535994073, "jtffm2ym": 963962196, "gy2jqjy7": 340155749, "lnidw47b": 936112268, "ul_lp6in": 160763646, "l_039k3l": 397454229, "exwu3kem": 920982580, "2rffrizr": 597701133, "9sp29bf5": 769323571, "ui3mgnhs": 427255067, "v0cs1cuq": 826385791, "r49s2f8b": 21299655, "vkc1s4p6": 277395213, "jfpuhxij": 2320724, "zmu0c24b": 725582222, "j1k73i57": 126342596, "lcjkk8zf": 952679420, "88ib353w": 155913436, "js3sem8q": 703898637, "9ddp8qkl": 675268329, "a824dd_7": 391951236, "ceemb7nk": 364813183, "y0e_xc3_": 495241049, "0wyhrmui": 569085241, "6jtwsxev": 903085763, "wy1ay03a": 278257945, "_pk8ex6e": 585462804, "230aowrg": 291962342, "w3becmx3": 775436272, "lvrqrh8v": 162064057, "8pllu1w0": 872334915, "ol4syzrb": 101143599, "u9rwx2sl": 983178992, "xrbspw26": 661968384, "ru4zb6hy": 371254247, "kl6ifv1c": 77519764, "2ettja19": 178890863, "oo8qwt8e": 147617176, "cgrlw0b6": 253610896, "kn34gzi8": 51358482, "3f8je6kb": 530469134, "drdf650o": 842670443, "6o8pq7lt": 580103535, "yzbkyq0r": 441778728, "5da5r2o0": 599929869, "vxt388_p": 424983750, "tyqc37ud": 243476397, "_nwevbhd": 104376518, "9muj75ho": 585583005, "lid14jfb": 975206468, "d9o89o9c": 11204318, "2xh8hifu": 953256710, "y4jufij_": 632846613, "sw082576": 311539142, "1dhpoobg": 470686076, "zf_ff4tl": 866850696, "czspqj99": 559702010, "ajasooge": 90556816, "ps9djao5": 223782058, "glx1qrnn": 777548071, "77vbkhom": 437670417, "k4naqrmc": 627490357, "xk9igy58": 258462941, "9ykyntfx": 377522266, "4c9loiyv": 192805100, "_zuwht1b": 218254295, "bzgm8x5c": 506162843, "uby_695p": 885482995, "1__zvosj": 762758720, "zjoqjxn7": 865978148, "5hali4n6": 73817655, "0p7s_n1p": 228960657, "bqnuf4do": 921401417, "sposq10t": 457479581, "3tw03wbb": 880456534, "c2aa9xtq": 930953429, "w0uiznpa": 392928289, "2fz49zat": 189678657, "9lddzpxk": 568769548, "9z5d3hs0": 882309892, "pzdgc4ih": 910576116, "76zt1buf": 139360846, "4d7c64tk": 599840553, "b12uae66": 433426882, "bmx0s1sg": 727766190, "9g7uex3k": 101654213, "rhr82cd6": 700889041, "k550domr": 848637336, "1q08o07p": 615640593, "37phbqv8": 468052518, "f04tip58": 566238998, "awe3t3e1": 916110054, "vg2zyv6i": 124112980, "kbiax92v": 260237684, "a5dnl5ql": 802685185, "ytudl1jv": 619861232, "mnqq73fo": 73690853, "cihosh0t": 546482457, "jkq63n66": 559834417, "6d2wijcx": 599116876, "gz6es3m5": 857795731, "c3qal9pe": 837240361, "kuhd69hz": 406918125, "0q1e4ro3": 177214069, "76z6x4zf": 590287314, "63uy32hp": 288698023, "427ubpqw": 425890293, "qcsyw833": 705570864, "heleli9_": 919865305, "dd4mgxvj": 703852778, "3pk28p2r": 260838357, "_chre8mm": 982151585, "o0vi9ys_": 414652325, "84jp53zt": 934546835, "nna7o03y": 118598787, "ysowr_30": 371389772, "6ays48zs": 357041584, "3miwxdfa": 716156882, "omdmkdt0": 824405264, "k53kbynf": 171585491, "eun2r4nr": 340312929, "gthpb4g9": 104951798, "f0pfmpwb": 614692142, "asjcpy_h": 609435350, "bm2ne8xk": 815191219, "k3aqb5qq": 266114271, "3xiwzran": 705720827, "wm4hw_z3": 677548788, "ryu77hzb": 479016574, "yas9mrim": 341206568, "nskaxyq2": 375999982, "jwlo_2jk": 242040476, "pv6vqu68": 16342968, "dp545fem": 957198124, "vgfj5hjh": 889294868, "vucgupqt": 86646589, "q1vo349c": 353246770, "ys5aav4k": 747787757, "xxt2owy1": 513878179, "qnfj37zw": 994152342, "kze86ru9": 591318289, "qiig9eo5": 739338388, "6rx2xntd": 181228469, "h0jm7n73": 375279723, "dw5hjcwf": 302451312, "nr9hddw2": 489800635, "c1dw9ooq": 575302768, "u0mnfyhf": 378074951, "9lxykn75": 825182352, "pyeorucw": 244423261, "48ejf7n9": 603152387, "b0txehk_": 892333247, "rgk4mbs5": 375166252, "g4zkne4n": 91026932, "zy6owm8g": 793428952, "a5mhmnix": 210468940, "u4khvf5q": 248884885, "yr3xlun2": 649944184, "mg5_z4tv": 807588867, "s3iewu5w": 363563549, "gxbvdcn7": 576240350, "n4oxvs1i": 315224279, "5juyxmgu": 210044206, "m725nejn": 59848678, "4_o9j4ve": 791856296, "ewb6l3c7": 223652993, "xxszfqm_": 806926453, "s6u2sbmr": 595360773, "wd65mg53": 101708335, "a0lj02m3": 101863812, "_ppizyal": 486356706, "a0yeg2nw": 637719292, "mh9fjh5h": 277258194, "dfzaauo7": 441436933, "w5r96tiz": 21104255, "_a8ww38a": 910241747, "tmctgrg2": 323007131, "nqwcbfut": 729142876, "7u43v5hl": 716344629, "ymnyhtnn": 565561615, "34ie0yo8": 709564124, "y80wwcbm": 209479417, "cm7oq3sy": 749548025, "1ih4y1jc": 916379374, "4_74bhfs": 378520840, "686dxhgg": 209700285, "wfg466wx": 608073085, "w7gmh621": 341901052, "wh9jyyv6": 295108287, "2wobmg55": 268331844, "vrajtwtg": 358405299, "bvun1ow7": 375202451, "o6rsudnu": 624343245, "w9azl4bj": 152039807, "q9zr7xj8": 435048380, "25cd3x17": 822195196, "u8gelvg7": 203327072, "l3f9e5x2": 639872700, "5nnvaiy8": 947844626, "r9bd89xn": 486645292, "xa0ohh4c": 939041811, "sptp7nj3": 593213149, "wpgck6vi": 684145441, "4ezmzm9g": 496643748, "2r9l78_w": 798259822, "5kw8dtlw": 719483113, "c2xctojp": 45186099, "7wztlc22": 155277433, "rjzz7v7r": 562019372, "wbqs2sav": 514549841, "1ko3qaj_": 106401222, "8fqcx5el": 898805327, "1a9qz0d1": 355106593, "y9htime1": 483368829, "yslc3vk0": 864619302, "6m2nvrlf": 772685832, "qkmgn1xe": 361000413, "gxa5skja": 612297855, "5ynblj4h": 492279527, "z84b8kjw": 507672406, "rn8dobs8": 833851917, "5r0tsv56": 822268791, "cb3mggem": 489068531, "e67y1gvd": 559736436, "kao7wj4d": 974551986, "mbo98619": 523796684, "p05zlf6c": 775148891, "nltx4i4z": 334096229, "xl83qquq": 241005450, "qa5dug10": 670487086, "zt_7tv9x": 247971860, "06w1ef1d": 372621540, "b7l94b1d": 59061727, "zxc8jdfu": 279108619, "_pc0x9ps": 246062742, "g9uhhomo": 608313954, "0h227wjl": 671413426, "u0pthcc8": 252111120, "4zm9vlt_": 835112769, "e29wm8es": 281157706, "tw62kkhy": 742927150, "wogdkxnl": 814227394, "0t_ix69q": 804302860, "u3mc19n2": 949306033, "ccro2uki": 597264443, "ops46wfz": 768215554, "yf760r30": 237797112, "zwewd669": 589441425, "h0jj6ahx": 29682283, "vmb1sx1g": 279105603, "dt_un21m": 526517088, "9qzjyjv4": 296935040, "_lblqy6y": 436304341, "mekxnslj": 792582902, "ftjkr3_g": 476587259, "q0bkhhe4": 798726532, "6oq5yzic": 640298185, "h1wuvu8r": 825846850, "7a1xfrb1": 505888638, "9r93e2k_": 608685228, "cao_7ldf": 152920942, "2iqa8hkb": 827065449, "w1xzp58x": 543606983, "23v375x8": 349711701, "uasu57o5": 436945975, "9687cnz0": 103624874, "otqh6a_h": 382788393, "c_t5b58r": 909670032, "v7t7cht9": 861762954, "zsnaf2cw": 709055725, "hqw95ajh": 412022704, "4vcswk_o": 947198656, "ms2l7qcg": 351792884, "t_7oz1fi": 288292855, "d8g6b3fs": 177523563, "fkfipwjp": 451376000, "lvd8vmdr": 368319325, "2r0935pg": 564141962, "ue4da_0j": 420831825, "y2o_neys": 550065213, "kw8twx49": 688890603, "e8j6dspz": 65382853, "a0oarh4k": 783694700, "ec8qcc8a": 977784025, "xzaoe938": 380518255, "jp_55ix1": 411790489, "eer81d7_": 86929975, "5ih1ve3v": 364469133, "mffi3_3f": 995981132, "0tog9z1p": 555736326, "1vgyrgdh": 576205359, "btux2d8n": 112640957, "hwi0wzag": 641404630, "gx4mv49s": 346097573, "tcyowgsk": 520699455, "44w8voda": 518903664, "zb2sbfl2": 34176639, "gnhdhd7j": 547062453, "xa5eqsc9": 133549856, "rhx1azzj": 23719638, "gi3gqpky": 48941148, "44xszfa_": 721171786, "hg88x10f": 613096197, "z2w9urpn": 448436458, "recrtl4s": 697637820, "9i9ttc5o": 802694057, "82542n_7": 276626254, "zw56iarb": 108519856, "cgy7a4ax": 123367261, "5wgqldsm": 83234700, "20n8bfyj": 891136362, "1ya6o5zp": 79074073, "v_2qn3wi": 742932423, "4k4qrk0e": 209411594, "7ttojumd": 308514445, "7towblnw": 702990861, "fk8_c3cv": 231286328, "e6frm_jd": 607381691, "8yc_u6rq": 728653436, "uefzq45p": 633409259, "amam2b1i": 868416178, "ne14f9_j": 220941987, "jp8kd_0e": 834300823, "7z_w8_5h": 179403057, "gg6ww6h9": 672906923, "ismsy7a7": 168793713, "ukv1z2cc": 895903459, "s65cwf3y": 637545593, "xduns5o9": 913080537, "o8zhbwiv": 486255639, "mozp_qg_": 201797200, "_yu7lqyk": 519921303, "cdpqvnmx": 949067152, "kvtw_q0a": 341425219, "cpjudh38": 703316189, "0x7jt0ei": 179711442, "ixfc_zb3": 943980429, "l_dlbwk1": 314810683, "jmfb8pg_": 911812825, "uge56x99": 377016307, "rpcgt1_q": 870379855, "ha2gx9md": 999792265, "ykgjw6gs": 867836633, "62d7av7i": 697500144, "cygkcas0": 975259317, "88lwpzyj": 470440920, "hbcnubww": 848064294, "530or1bj": 146949731, "axuois57": 586051987, "0rroampr": 675222345, "w0jphzb2": 523397239, "u7rf4nts": 240828021, "ynw69eap": 595225249, "27aj3zkd": 680816182, "x23vr91s": 674080434, "6j4smked": 685860188, "ev9g5f2k": 92945173, "hw7mjj00": 999124448, "ej332p_5": 722814185, "jasqqz7d": 57585082, "3m7iuuck": 760603826, "us4lci6f": 955522209, "dusbq82h": 804038479, "25m0xh5p": 915310031, "9hcwjimc": 873072636, "24q1bfn3": 247972460, "u7u1d4yr": 229959714, "p33p8h2p": 411362810, "sqkgjhtj": 722932905, "4tmj7b0b": 916631727, "g0hfu2ko": 974871560, "jv23fa14": 494302830, "69nsr3rp": 615760215, "0cvvr5vy": 612844376, "vdyeqt23": 853138233, "kiabny9s": 612857341, "fgqc63il": 658641368, "7fgje411": 800597918, "be3lhi_3": 77120012, "70o1sm8p": 992443699, "ju4e7os3": 73124860, "vao4xpfh": 294773646, "sl9_1v_6": 529230862, "2rff57wj": 813659465, "v28ycznh": 450348639, "99opcrpn": 340558653, "pe1q02xv": 620809849, "x60_eqlr": 335476305, "px9805sk": 107012160, "0b9jhjhb": 733725232, "w72_de53": 769384884, "78z24lec": 950225941, "kkiqrcoy": 319354207, "48374l9g": 249327137, "ekp3ceo5": 665978115, "fif62lox": 216870887, "_qmql44l": 325659372, "rg_92cyx": 538694116, "6_dddew3": 2304588, "zuiwyd4b": 598644471, "b8byp6lk": 224411019, "wvrcml2l": 231157592, "1r_ffrws": 618053728, "kg1bkzfv": 832391045, "wzd3o6sa": 238809164, "zh0vv6hs": 188120662, "a_2odbhj": 743215667, "_x_rpx2v": 940993632, "0ziq3dp4": 278375722, "yskcb05j": 355311027, "lzxr8zd_": 10540974, "qahni49u": 313236197, "5fzkj366": 111805790, "bcftsxwn": 761286873, "ti10w5jp": 771538057, "vrb4su0t": 488111347, "2qrq4_t2": 411438003, "dp2e0fvn": 634151941, "jgon3ooh": 647264390, "13f2br53": 389266522, "i_1vm2yh": 423451788, "5_laegxk": 139121996, "085w3wc5": 572128415, "n6xtumca": 883287059, "i04aotzr": 124186411, "r6dhktd3": 954217159, "1jkjzf1z": 199242002, "c6lz78yt": 55788555, "3c_rhrm9": 237826815, "mb8jdjt6": 531880336, "tfqf50j4": 882044086, "ste52jd1": 142369950, "v586d26c": 993317775, "5g7369xv": 739940579, "miypw8xj": 99466932, "o1fbd8co": 945624998, "lhlf4vfs": 935697141, "b3j7e4ib": 516512749, "03m8j6xw": 324498256, "5a43ce00": 844342116, "o43ti492": 936740090, "fip8egal": 725699440, "t9pj989c": 39533833, "1yc494hh": 17352085, "zjy2u99h": 74531727, "4fxcyupw": 178061208, "27uze3kn": 316666069, "ki0ijwy2": 271917112, "isxxrmm2": 949948981, "t0lgu9bf": 151926991, "pl11z3qw": 689083236, "9x445kqq": 644877204, "n5i4vhnu": 460056061, "y3ej5i8b": 457472840, "vqq8mw6r": 908442291, "s_vcd2z7": 359396168, "31s998e4": 250420857, "v166vwvj": 995801260, "oyvluj4x": 991666553, "7hq3av4p": 893174451, "phjvfyd3": 524485937, "h3jncbi2": 150621934, "mfb2lvl5": 772204072, "rdyq3wkt": 911537267, "azemqnwa": 497367031, "9177o5_2": 279753566, "s5o8v7k2": 566488481, "6fo2j1ku": 756992547, "0z_njwze": 51680168, "yjbm7neo": 746364404, "kszfgacj": 596241048, "aj5x63uu": 325463283, "hh7uqcd9": 628133088, "u60lu5ct": 196664353, "vk3wyi8_": 765052071, "_rjnwcs2": 899045791, "jaj_pxml": 679726881, "f8yn9gjl": 283415789, "zw2j5hjn": 537457031, "vsu52s6y": 712118273, "xcpw26bv": 725998338, "1dx2cx2m": 118761826, "7xi9_1ej": 398825387, "wrh02q6h": 555378436, "s_tb8m1x": 727552384, "34vblvu_": 950926921, "vipa4pw6": 898134981, "53g6vi0k": 113962285, "kabxqaap": 581448465, "t7yk1yem": 207531270, "ol9okbgg": 303653964, "nrkwnk12": 332400234, "0et79_gf": 541926241, "ca0w5roi": 664255981, "c76m_6fl": 92367507, "lmxf13s4": 160168804, "ejqby3te": 229028534, "r5ehqnj6": 264954034, "doy1g7ak": 222376207, "3di3_imt": 159207739, "34s7y9cs": 471272811, "nkdyysau": 538222617, "i7s9c5s4": 633856494, "6g_o49o0": 883340451, "hwa3a2d8": 528221646, "5hzo7_v2": 775049623, "tok6mp1u": 138796397, "tp99rnd1": 128935080, "ly5m4f3c": 137301380, "_ww1_obd": 7782111, "jq5ipg2j": 612991104, "8b106y0m": 295700389, "y6uz8qfk": 850524072, "xwe0tdn3": 170993142, "0_pomnbk": 967429128, "fka18ry8": 636624191, "g1dx0dv4": 721397581, "pt1_nl43": 242541193, "qwc_0j5z": 661790177, "gige0ggc": 964007376, "mip1kj_w": 485686683, "jf_fw9lc": 79193836, "05kcyude": 621815566, "ahsll3au": 750756211, "t85jp3ot": 441508486, "w9830tzf": 194679980, "f2wq8aj9": 587137336, "l19wlbex": 804565325, "khegqaum": 499667358, "27ekz6yt": 124411095, "1hd9cxl7": 243994544, "4znsnf7c": 420927856, "n31gytut": 248444755, "a3pbhh12": 913618228, "4c_rarfk": 334699244, "_7pnpyo1": 217684453, "t_v0gdoc": 872591790, "oa4v32j0": 839225807, "1kjyz_yr": 223399462, "ozc3a8ha": 957091623, "2pthqzdr": 200932051, "73hap836": 991461392, "0ep7v_tp": 951038733, "5_dfj469": 925928406, "e7loki72": 867369867, "tt4w96l6": 398532993, "awapx5co": 172471864, "wey3tjo9": 79631713, "ljh1pbv8": 383280113, "wjkrx3eb": 142945588, "nr7jwkpz": 481166176, "1tkogc4j": 982432062, "324obcrx": 966708946, "ntf0i5tw": 663294608, "u5z3tpvu": 298728709, "hy_h5ohy": 154473321, "3akw1qjv": 24712137, "xanyr3gs": 266586937, "7zimbwho": 900673592, "94_s8fzd": 646575556, "n0pf9rz8": 972424730, "detkchjc": 457429740, "_16v7zci": 934490426, "amnvjg7l": 29462777, "r7c7f2rn": 486772728, "8dwmysl5": 896650149, "qpmnklyl": 349188536, "3glnp9hc": 182789058, "k002n00q": 704360433, "5i9fptne": 68457630, "pwypqrwo": 237292067, "simoqbym": 562516309, "fmtrkeu3": 389195700, "x1_o9j36": 788029267, "liffnzie": 390546818, "f8bnbjw4": 508148660, "5nx8x89f": 445308116, "eklkq41n": 101414674, "o1ldu5j3": 922964980, "laio70_c": 886486220, "ddq8mt6a": 698110657, "x3tf3zvx": 880541923, "vt0lta63": 799143565, "x6uj58pn": 802910050, "xzti_hhx": 278514497, "77snw8t0": 265063940, "98saim8x": 42274646, "h3pma_gd": 348541247, "cc_irc7o": 715161697, "kzo1im9v": 984491225, "i5tb00by": 729430210, "_v5zgsqj": 741621543, "lkn9ewkw": 113072235, "w5zyvx0e": 2808088, "e6rmxdlo": 341795038, "967hhbxn": 26087203, "8vl3ywo_": 724593633, "vf7krgy9": 97676368, "mtgg6bph": 45450610, "5rnp6_av": 233532655, "c_v_qvnd": 709760759, "4bnkag5k": 170157118, "zupk2cez": 993136123, "knmz91f9": 425125990, "xqyyu5fs": 280952695, "m3ao6psy": 632439958, "r0ew0gfx": 773716308, "s65473ne": 365410911, "hw8_o4h1": 538052424, "xg1ykowu": 414948279, "sfq9ce2_": 953417552, "oy4fpspm": 732953572, "qy5cgnes": 164647023, "fhclvyhv": 517179010, "wzm_gogq": 704607286, "gaem2go1": 264017380, "md_ivc88": 1931462, "zt6riimh": 203385477, "il6nwfal": 62190049, "rm65dzv1": 818087001, "pp2vdrof": 914664247, "av_p7uz5": 79692466, "m6wrent2": 782429189, "voubyelf": 981049992, "gtlqly_z": 685649791, "kgyrn8e8": 627742311, "8uo4q38v": 494048490, "5663o5hr": 677118345, "_wg2h76q": 949887761, "cv637tyb": 848348735, "ilv32vuy": 234583814, "e0_t3uhe": 149807990, "43bxv_eq": 255828774, "_zq8zc2r": 80573659, "wykxny6s": 752326856, "y24c2c8j": 781709731, "3i1hwo56": 327912132, "dn81zgyy": 806651648, "zxro6_b3": 950989548, "rftuvd50": 450495966, "ndp1etv1": 304818142, "azidprmf": 233896785, "1n7mvvjd": 995989285, "qmj798qz": 602935257, "iwjd_e73": 893114048, "fqzqn0k5": 637750342, "2dkjk0ok": 948442047, "y3s9d4km": 966165292, "dx9xryu2": 328851885, "g1ene1qo": 468332808, "1fq4vi6h": 615943484, "2kxxa68g": 954113016, "9eyhulz3": 586640891, "bq14fb99": 347588232, "7cefsk4e": 965470131, "2b8f_x1l": 525668339, "w63d8awv": 588746759, "2aw0pocw": 707859895, "hh83abqx": 902736099, "0evxtwbq": 914786380, "cqqicot8": 513715943, "deaviltx": 999623736, "j6uje3ry": 822754078, "4l49jc1h": 994175687, "r4_gtxk9": 874228189, "3h9anhr_": 858792018, "uzv4c8uu": 522863197, "1pqeynom": 7576315, "ugyi1osf": 459367833, "m0wbb7gk": 640594834, "xri2906e": 138569718, "eomh68og": 842939305, "a_088w2a": 38743754, "jkepeh1c": 801138578, "xyiy3q9q": 417127911, "gmjcdh6u": 288719626, "3buf47t8": 164417661, "1lh384i1": 880101657, "qzqceu1e": 580527786, "qtel300x": 302391495, "75jgy8fv": 867794394, "b55u4ajj": 708479537, "puz16l7u": 171599149, "unnhiuf_": 834405181, "fvjcsxz2": 185491727, "khvqoqmv": 597005189, "e8kljxvv": 644930766, "zcjpfox8": 89556675, "g9f8eine": 19543243, "n6qhubi7": 880527195, "or7k74b0": 89402312, "_2mxvtfm": 619283936, "m_zppxkn": 164701679, "qf34nome": 566370910, "w06undqs": 943925610, "3tmsl3wz": 336623859, "5sag0pt5": 428779578, "y_9pay4q": 302408241, "glgmwbtg": 282112550, "_0kv46cv": 128002544, "t987k57f": 525441987, "k1_3ypc_": 24695229, "0awoz_6x": 874881661, "tmo36a18": 775365149, "kays9n8g": 474117750, "92fuz55s": 823379077, "vom8iwrz": 208041661, "movggim2": 695018346, "i80zojzn": 838790396, "q9ukq_4n": 161793106, "ymn07dc5": 275674287, "2y7j8y06": 130853869, "fcjft68m": 256256983, "inmuji5o": 719527332, "ywl0kqog": 798672352, "qatrncud": 83296119, "1ewxamur": 946904335, "fwmj9am3": 285077920, "0u53p77u": 260409203, "k6w3y6yd": 392797306, "7i3kffc6": 96753045, "kynjgvv7": 615513357, "at_sn1vt": 186794908, "oodr164m": 830617623, "spodxlaa": 827673018, "l70ear2i": 129013104, "66su964_": 204452781, "v0025wo5": 310271813, "s2s603yi": 807610872, "w5f1b_m1": 31780102, "ubyeais4": 97689084, "qq_jktvx": 987036737, "j8ihac48": 170957416, "yyiiz2uj": 483495652, "ghpsv9ad": 687973267, "0xhh25p4": 543212086, "ubvihlic": 550280068, "as6_f2bn": 727180270, "c4znbd0b": 816566306, "nj9lkehs": 751105673, "nlry11yf": 382084407, "id2rtnyb": 242158622, "xld1gqt4": 744001575, "gclte_gr": 827083870, "889ebya9": 630446442, "yg3fugkg": 689986494, "efynft7u": 918161722, "yxw997q7": 80915641, "b5ijd4e7": 384044391, "y994txce": 648083888, "ugitja8m": 571634882, "dbkx7bbr": 609162152, "8j8i4uhm": 956331878, "33p5z0p8": 576457920, "5ol1ob6s": 563257721, "595c5zex": 372798150, "0wgz35bz": 877649361, "cmow49i_": 286893503, "9gmshy9r": 286702576, "4hzj4ppx": 904978523, "5othshbd": 796940402, "zbyhdiav": 311829871, "s0dfy72h": 788773927, "7g3buv94": 139322689, "9xwirjco": 442378878, "ng_73tfw": 858564754, "m_gfrpcc": 73609304, "jnsh8z_9": 600472684, "k98_4__f": 755427379, "id9qn7v9": 387999997, "mu_1p7hz": 410760450, "k7364cd_": 683251234, "rlo5tpn3": 361278607, "z4hshk7l": 569309510, "4v1rzpx3": 364524698, "kav0_r0p": 808137249, "fubuqv9w": 108121694, "drvuv48t": 262580012, "6u5rpmxu": 9791924, "9cbaia60": 500878611, "lyz6idal": 372234492, "rh88c74c": 248183023, "fuv0ylfm": 997933199, "plh2zjhn": 953734449, "kj9xgqb3": 259788536, "kwbediwa": 929437157, "0202ftmp": 352236607, "tcowxjo3": 410163045, "_zh9b6_8": 375930447, "_cvrfu_m": 629534906, "ej5vsme3": 174853485, "dmjyozla": 171960313, "zh54jw_b": 222892963, "o9w28hyh": 491559692, "41n64_jy": 170795031, "bzh5jjm8": 745794732, "nj1q0qrz": 788628097, "jfq93bpj": 974105717, "qbskkeh2": 693244590, "mbskj_hn": 779754248, "t0uoqi16": 253688133, "mqeq0fxm": 433316627, "0w6naip6": 973332071, "2ehulfno": 243032184, "ymuv186q": 420073680, "wsxy4itb": 584967084, "nn03dev9": 986513581, "3ikox00i": 750708227, "9nv4l38o": 764881487, "tohmhqkn": 576644915, "7zugztep": 421028178, "rqh8fdgf": 805821481, "oxxq57qu": 732534491, "jyqk61gj": 653016612, "8geajyab": 230056880, "esbhzsa_": 884417751, "ewi1ajlb": 977854524, "m7z89v9a": 984760028, "q74717gw": 853519952, "fefgetsn": 677299928, "h1i0ohpp": 924554416, "ysq8cyyz": 171958114, "l62_gu5g": 418280934, "sx30weid": 259219975, "u04mscdk": 235178583, "hiujwsda": 369405201, "il2vrxuk": 522822768, "o71rv0uo": 257699983, "19seticu": 427348951, "8x8alrnm": 142460895, "bpgoc43d": 477317667, "l600mpd2": 693092330, "wpr4maok": 786190479, "i98a20dr": 667768867, "xe7xeqhr": 606625338, "icr_8oco": 337386854, "s_h79ico": 26592224, "re7y5pqj": 626193830, "jogaap75": 967012832, "j19udrnu": 31004863, "6mq32ga5": 831077447, "0cqy34ws": 976197257, "w6basb0r": 17928777, "y6rb84g4": 41175552, "c88ypnv8": 218095570, "6i0_ic7u": 71795297, "r5145jvk": 824485689, "qy8wig16": 980569030, "rlr_dxrx": 713221664, "bocfh9nh": 844033891, "9c061bgz": 658866826, "2g_d0eb1": 956538095, "4k2bh2jv": 194715173, "pvdv8auv": 950839653, "cylpx9_7": 231892853, "wpm4be_4": 549909010, "as5kakbb": 62860965, "d3feiqb9": 417411391, "ybumofcg": 585303856, "74eb09n_": 246734714, "43jgdfjh": 424978062, "kcadhl00": 925001713, "notc4_ra": 495980606, "m2nkhrwe": 158586766, "22qgljy7": 293496930, "7wlu4q0v": 595770812, "uq4pcbq3": 12892404, "4l6evg3g": 97830744, "j4naqp_l": 711691889, "3m4yqegq": 742082314, "c4vw866z": 321937839, "845_l8l_": 789478745, "ms5vxge5": 431469481, "6g8lm8e7": 254375936, "al97ogj4": 958240119, "0lcb8yb7": 797110845, "y42qzi5y": 24177119, "47gen821": 31885204, "lz4z711q": 504716598, "3ambcufh": 132884631, "_3bs363l": 246475796, "drd2r4ur": 95244743, "im8lmkff": 899338135, "8og0ax5l": 91705355, "6xbgbok6": 132447643, "iqd1xsxk": 379190860, "gekux9p7": 872755861, "33ty9v01": 10009174, "o1bfwd7r": 261319232, "200heur1": 445856719, "5m1cwkq2": 265223732, "ybs_byt2": 390911808, "v7cjj3jo": 939456319, "a7kfrj92": 82678096, "s2741b8e": 697181583, "0au581pj": 274725308, "hdxsajnb": 230965921, "bmc63x62": 505518842, "mzs1ph8y": 190859818, "yag84poo": 802791563, "v2zzg9t7": 866692804, "ug6q25q5": 579079289, "rwvjjwf_": 479671931, "ns5k_g_o": 602188709, "ja1753m_": 776299317, "7j8tu30j": 175865003, "7wi05ylx": 540161021, "8r8ri59w": 224225942, "r4q6lmhc": 930720619, "85_t68li": 653251076, "1jmm5a5d": 567561997, "3_u_x43l": 243098723, "x5o5_x6w": 604656966, "_l80_ys8": 935434863, "wo6k8l2u": 468759827, "j5pzwp7t": 791184107, "zxopko4q": 619735382, "rgzekh79": 83076369, "eouev9vt": 527639192, "_1lnpry5": 598219371, "j8f3dys6": 154080649, "v9fnpzi4": 936324553, "56nmq003": 877574185, "ka0zsdqa": 41924874, "za6abavh": 814195425, "hl6pr04a": 447122424, "6p4g_of_": 72580979, "i33_f_uw": 917676034, "5c2d5c8v": 108932299, "b_wgmaal": 385518139, "c12uh9vw": 822541320, "cvhq0v54": 696877420, "aatpion4": 500166216, "e6az1eib": 84219003, "bi5c0vgf": 406062540, "vlbja02j": 743045681, "w7mkqisi": 382112125, "59fe5euo": 338095898, "spa5pco0": 175075848, "_wr7qrbu": 646228299, "ax3flftb": 417115777, "zxtlq0_h": 701496288, "xxwv1tk0": 824356070, "9psrbrq_": 580786254, "6dvys8l1": 319192422, "1ykkd5_p": 143332858, "q9lsh5_d": 201688759, "ssqn4uch": 261055662, "71iblas3": 511798979, "elqd_zbd": 981304650, "fipt_57a": 327097910, "jlfcialo": 256693352, "8spwhp8_": 595064293, "u6nqj6ay": 133823784, "bsrf5xpm": 406888197, "vx9336oa": 286264898, "yg9u3jns": 925595228, "f_622081": 132628995, "6nhctl0f": 582788748, "hvx2esqm": 90798883, "akebrcms": 857072273, "agu_ua4n": 797621213, "p2n64qxl": 631197290, "yfzwa6dl": 61168587, "x51rwa9s": 351769154, "wwdtdeo0": 711721115, "e6o2due1": 720868665, "hjzq_eda": 551341640, "zre2f8ys": 176115989, "by0zb98c": 435711772, "_ksvb17m": 364231078, "wz09jqrx": 400302842, "uii1_a5p": 54845068, "__asbw5l": 613448652, "qqbdbr9u": 365044320, "1b8omkax": 919419506, "7m544hz_": 643758477, "o8dad0b1": 342500848, "61m9k2l5": 572924529, "j0f_z6yx": 239222859, "xgux89bs": 86533677, "8rxhnqd0": 231937838, "kaixcci5": 269329612, "wpwb_3t5": 511567144, "hzzm6pnc": 453739743, "masr4tkh": 26696270, "k0rs09a1": 433309958, "78r6o8h9": 279972350, "jb92qspx": 519959776, "rx59bi1r": 795779192, "2nwh8oc9": 317618708, "0xu05vd9": 440416239, "jmo8oc69": 729339283, "6xk5cqkl": 38501988, "94oh92hy": 285683455, "brdltbg4": 904821103, "jgee8hxa": 147482914, "aehy3jls": 299821303, "_p4ubosq": 126925026, "k82ad0hh": 399222831, "rhmzwzxx": 505476502, "hayyh6kx": 144644326, "7zi9nbjn": 900975954, "rdnjvqpt": 326076630, "1nc3dmhs": 665741832, "9s3meqp6": 824927614, "z57fu095": 545023696, "jtdwo7bf": 864169191, "io6awg3_": 740195019, "1atimre3": 638930425, "fs2azhxy": 232663156, "_19douao": 302877581, "drav8s6_": 988691627, "zfzaz2si": 90802637, "0pkhis1q": 49882086, "oo4fatqb": 459918602, "ahe10fqf": 992529172, "vqui8f__": 186504105, "5hvoccap": 284698203, "7uollbve": 719040744, "a14cfl5w": 88947068, "cqcnypj2": 932201019, "9ibz21jn": 571373379, "a2t404s2": 898468026, "8wa4ay8c": 355657991, "envro6vb": 397759113, "ebz96gu3": 140469441, "_zt_u1lo": 985240674, "3kvtrlxn": 570784326, "atpdujgh": 570493528, "flfbyh06": 136176537, "jlgp_1z8": 478860989, "76k0676m": 406960321, "obh1ef7_": 214151917, "42t8c62r": 112880524, "tnvjystp": 615840869, "ml7llw3u": 800646418, "p_a_d24f": 128773069, "041q95xv": 605139164, "8ugg11he": 898188384, "pwickaim": 816793968, "lri76e66": 41650124, "6mnzkncu": 375525243, "72177dr1": 864781246, "9dqg7i1p": 761997191, "6wlo2o1b": 270042856, "568ovh8o": 401000626, "g_jec_7w": 309739777, "mfe9ohc0": 331885177, "w28ilk0n": 334163812, "vde7zy2k": 368146590, "lriy8p31": 569465497, "e_f6k_o9": 917552942, "tvo78k9j": 135539694, "ywpblrvz": 925190159, "6rngkkko": 862507383, "b4c6yhy1": 950808390, "7iry88uv": 785002413, "xq3krv_0": 549576577, "mbb3fq7l": 556303000, "ptq8o15y": 981447862, "zrh0ab94": 722457799, "2g81yj41": 900055387, "p0emd544": 541930379, "3sxl_cik": 149439057, "lsnv8g3d": 570159228, "hzq5_dp8": 617218110, "8jo3gbuz": 528038812, "1xl7ot34": 23238244, "3fgjx29v": 808731359, "ecq6i21o": 807966366, "tklex241": 575414424, "e5vh3re5": 311580891, "yiw7wnf1": 43370898, "k3e5szye": 111724686, "2b_q4_tf": 842842401, "om4fn3an": 768099179, "nrqnbx6y": 500005958, "2qhu5m8v": 596141956, "cakm13pl": 967926681, "tthwa115": 445646293, "2a21jbgu": 530737081, "1_jq3ozt": 375706479, "mm8cufdh": 866905120, "9hwoohwj": 930973858, "mi3e16gc": 682294549, "jlskc3eg": 655987050, "y6p0z_6h": 243734819, "hicmzhug": 614332128, "pndsf2yj": 43587755, "54jkko0c": 120537334, "r4ui7d7z": 86337409, "29agipic": 408891742, "5v57e36f": 402236086, "9irei4da": 954430841, "2mp8y7gi": 679764972, "67lo4jl6": 146987068, "fw28rzvm": 198669605, "381drc1w": 38164851, "x0mrm1pt": 52850322, "242_0m09": 916884328, "0btjan7g": 818262493, "beu7iv_0": 160794508, "wa3x68o3": 690812672, "4o8h3zwu": 837386594, "zd1a7q_i": 97169530, "_7g0tzui": 444155152, "o1px2um4": 338087833, "0jsy5hk3": 305040798, "9gnl2mgd": 421029649, "nxjn9jp1": 651106127, "hnn0ez7w": 352630244, "eyztkrqv": 684996843, "ecjfr9ek": 548737940, "dsdw3bq3": 112154199, "_fc6vjb0": 484034947, "z6wjpjb4": 247972570, "oe5mk8r7": 502872303, "ntmtfmdu": 98073099, "r7lvaym_": 555551516, "2_g_ekqb": 670530621, "e0kug2kz": 651799725, "7gshvgeq": 730072244, "bya2qt6y": 807604928, "pmpn7ypm": 794223358, "4vmwo6dd": 822028712, "pd7vrpsb": 516249951, "1qq2yx3n": 466864201, "v3x1ruza": 80931165, "rg_5_qn1": 232505932, "dg184hm2": 465612915, "4wef3iyk": 344356097, "_0ql3lzu": 778511566, "38jtkm6o": 812749840, "q1asi0g6": 707087153, "1kpccwmm": 77666785, "94l_1s6y": 920833124, "3abcz9z_": 890369197, "ajssdv9_": 66692027, "13jrpu2c": 130385293, "1mxa08us": 778086751, "osedutwf": 417986604, "5netugd7": 959148716, "507t3l_c": 438918368, "261dsbs5": 201678718, "1zrbqnmt": 671989200, "cv4qn_j4": 749960808, "v7910voa": 52893105, "_gyuq239": 127843495, "tay1eoly": 947419872, "l_o3jkgz": 537666002, "dxwamefe": 152555596, "42lh4c9w": 309938439, "3hqbyuzr": 513074586, "0ivp6vum": 698834900, "v29e7wkt": 647422018, "zt6haghp": 580590719, "t9wmymk2": 447627807, "wc6coc35": 490254337, "sxaijv6i": 12493914, "6v1xnq5b": 972929499, "s72j4zoa": 565782724, "bh7mudmv": 2540991, "85g_sagm": 518513565, "ed2xu6wv": 358927524, "p7ng3gzs": 43525948, "vb10mf37": 641477621, "z2oby3kz": 886554916, "ppwei_gu": 746236330, "hhkwql5s": 898208683, "vu4u7pw_": 440650367, "sauoyv2z": 391780486, "zd0yvijg": 540467263, "63yylz5l": 11478276, "e_77tysb": 534530157, "biafdr18": 341689960, "ces3ow3h": 670886712, "zzaf7rqz": 998702249, "qw2qj8el": 667797257, "brg323ck": 562088299, "6knzan1b": 266235212, "8y_j8_61": 169172526, "7s045l1k": 945972582, "ru0mf8oe": 524090009, "bghv_6wp": 299787592, "2j2d_mbc": 115635364, "pofujvb_": 354232536, "n1tv81y1": 383738255, "z1t0qlph": 821558805, "4tekzrzu": 949711475, "2vwgqrhx": 787947947, "ejkccxp7": 471424866, "razwrb2b": 578750414, "kkm9dx_d": 202518700, "kg6cs61u": 64989208, "ne1r_tad": 764977893, "iopklcb0": 175734637, "rsgjvbc0": 362344970, "t36skvo_": 444678596, "6wuwba7u": 523042313, "24yxbr75": 104018274, "yzf5txf4": 901552367, "lmgsvn37": 578221401, "mvyfkv2r": 878974564, "9k3zrbid": 894668453, "wlcfpo_y": 492006261, "qjofbbbj": 714951526, "psy90uq3": 521584407, "gz_j_tko": 337438283, "m33h1c_1": 422684695, "1ge_itut": 969300533, "5sg4ida2": 772055867, "rkss1glv": 989129841, "aiqdi9x7": 118583251, "e2h49f1k": 929023759, "z8ejb2rg": 529192707, "z20goy0w": 142147264, "ngdwadzc": 780312720, "4e56gsiy": 275901703, "hcm3ya2i": 306659994, "4_5hxlb0": 281709075, "9rlcsplu": 39374187, "za6_jk7h": 829130164, "0siqz2f_": 972642268, "dgxwfkyn": 83428755, "bq3c60od": 56981468, "hetkvkvu": 706030204, "pvet5jya": 799542377, "ljlsiy8a": 466016104, "g2x1w0bx": 854534688, "pyq7gi8c": 751650946, "_6xu2gsu": 993395538, "whxpweu8": 283444752, "g5yl90aj": 243772462, "f6xjck6q": 595350173, "n59qbqlq": 190961246, "40s7uumi": 359583762, "83_vai6d": 418107819, "wa2l922k": 92405419, "3n7ahhwk": 380903723, "j1f8il31": 502751164, "jkt6iaj7": 93248843, "dncshki3": 274400490, "uzl7dlwk": 794052117, "lx12yz3w": 840544422, "7ah1gzep": 47905744, "6czk9js8": 496487290, "8pr3ogts": 850523115, "xq0t3gg2": 960667024, "4aylm4g7": 60453981, "rhoth2gi": 330120603, "wqg6m7a1": 495940569, "7acm6q75": 198912578, "b2u7pbsv": 586906906, "poj6xja7": 415720962, "wqmbm9hr": 916313359, "6luvxelq": 507740458, "e7ol3aj6": 993938547, "02ob206r": 65241076, "uh6dy6xi": 661271439, "n_7fhu7t": 329834069, "vm3_we14": 11104752, "w770qtqz": 11067366, "qpfwcizc": 538844780, "autbojuy": 52101585, "iezd2560": 956333039, "z4jcclrh": 478171482, "pjajt9du": 47804010, "gxa6ag6b": 556755244, "k8ucgdyg": 170467611, "dkbp77dl": 923341235, "ki2cx7cq": 72555327, "dhub7k9d": 655602258, "uvrimfpx": 329495422, "j3avodhn": 572564070, "0mcpztfr": 698229577, "2nm30r25": 707637633, "2mrh21lx": 162179099, "9ffg04pq": 483551690, "7j971bv5": 123946021, "2pa0ky_3": 526853009, "hnto9__h": 766787472, "s18q8_xc": 877466655, "aaarqf8n": 538529586, "nlv_08vi": 39465574, "dvapptah": 512287896, "472gpowc": 193468454, "0v2iknl5": 70560261, "4_b0rzan": 985828341, "tw1br5qa": 281710062, "ajoip9ho": 205337097, "ius94cwt": 30484268, "nqb7ohfk": 452794686, "lq592rj2": 968547949, "2ny76y8f": 429292324, "_icspt1f": 551746524, "9k37rvl5": 479488949, "gq2frj4j": 89121952, "ibtl0fi0": 930216090, "qil2gndp": 376460010, "zji73ywx": 303559561, "iosqhvcw": 665578791, "jl7ck3dl": 821148225, "ljuj72bi": 825542808, "pt4ot1xw": 246408143, "h4u4dwga": 150812727, "o14iopw2": 780215784, "gevp2zc_": 778427300, "depseoxi": 622101805, "fblm79lu": 595187803, "fd0lg_cs": 682852941, "dmw54f13": 805922291, "pg7r366h": 570143771, "x3o28p5h": 171160942, "urtsrtnd": 679695718, "rcxgkn7n": 218137902, "mdrv0ip_": 3959058, "cwkwj0qa": 827224977, "7skbsnlm": 458396389, "x3h73pfl": 773505992, "fktxpmmc": 44093822, "8vedm2cv": 228678743, "1k0apvsq": 54262351, "z2yspf6h": 563523456, "5trvenmz": 703766382, "2bt_ac7k": 750576010, "ki3rgevx": 100970966, "kzcn3isr": 997020670, "e_d_i1xt": 40482526, "vzs5b2i7": 900281007, "8lmwkqd5": 211560586, "qn8c_l66": 48335422, "txn2yn3v": 557453553, "ral39h4w": 249228901, "fd57dacm": 460332674, "q4qcrr8f": 188966988, "vsymumln": 203884939, "_o1xg8xr": 153832072, "uqdxcszf": 57275427, "lk43kapj": 725707251, "b9jmcf2z": 147950801, "ct53_5f3": 8840566, "bu6gn1q3": 117995575, "n8k8_uvs": 853330896, "h5k88r55": 746106884, "fuut01bz": 441248096, "7hrv8tx7": 787926988, "3uje4rz1": 184102222, "m8mluogp": 695230825, "tw4rksj9": 372293731, "qqcn4rdw": 40382701, "1ztx8fqw": 76167242, "b1atcq6n": 182337493, "pgwy4ol6": 441406958, "_m7xvxao": 175159545, "xr90oe7p": 953877594, "0jcr0_zk": 992878278, "o5bd4vil": 582991882, "fp1_lelf": 697620829, "ttpafnss": 292555787, "j6n6k9h0": 183803051, "krnoshhe": 973798293, "xp472ora": 525974196, "o45drcy0": 486976860, "vfpgzz5d": 548965235, "05nzd79o": 397441723, "93lx2joj": 674528749, "ca7inggs": 149813345, "5zch4gjl": 757033895, "vkvj2nnv": 822679866, "bhi73q05": 682029178, "9lc4sxym": 195425176, "bgzcf9rg": 314789681, "r5wubrxs": 574869058, "6q34trnt": 644451189, "wefc40eq": 475695719, "pvpybktq": 108175181, "6fa5oukv": 529286991, "9s2x7a17": 450563276, "zrgetm0v": 649938317, "ffd1utje": 291014999, "xv25_hc0": 831753379, "2qc4zsz9": 774107392, "xr1d4xio": 744368067, "7z4ciet6": 271391532, "dazwr332": 397106618, "ure299hv": 114585557, "e9ebb161": 56822692, "3vanthfs": 108502620, "py6mmpd0": 880229841, "gi0296hw": 591662309, "bacr88uy": 59142877, "2vb_oss3": 819031412, "2zwo575f": 682030126, "ydc343ii": 938352777, "s_qs9uk8": 555455704, "331lylld": 985841269, "mv9igqgc": 856521480, "j0en4s91": 563900188, "2wtt6jup": 135649941, "db1y0mwb": 805149675, "ylssa2c1": 948775223, "fblbogyt": 305258262, "t1yx6pa8": 424033877, "1mupz0mx": 86880767, "5z94gqp5": 765126038, "wo1qn0em": 697093267, "l8k0wv58": 92770214, "lndj6inp": 494219903, "wk92dr53": 106008019, "ry5bkhab": 988449631, "6bie1ivm": 729552244, "663htpg7": 522799541, "bs1iy13y": 470583460, "24_dl1x0": 474169371, "9lthok84": 7355377, "_tvdxu3y": 11973047, "sgk912o5": 927659355, "ao5j9bpc": 190193155, "t5ec3f51": 86951116, "6sgtllkf": 153604106, "1lo95wbr": 301960888, "q6rcyz2b": 469330592, "3uy8qtva": 255206985, "4re2ywcy": 377618643, "1ingv_4p": 272967224, "4dashauq": 328186450, "noaa1npf": 390250437, "qhkylsby": 5527235, "6fcf6nyf": 801711349, "84rjgnzf": 242061259, "zd1y1mv9": 468262236, "pul6nqj_": 84907485, "sw0x_7p8": 615678397, "gaqnydjx": 728930594, "kmg45ve_": 381088997, "set_yvor": 808639584, "se44weak": 302052867, "myd1b_uo": 905916911, "7klkb9gm": 233136433, "jirywixp": 865117812, "77qwd4z_": 312510504, "xwmmy6_4": 654231984, "fk2czot8": 120124013, "14mzfbby": 705095905, "_nanl0er": 914426034, "f53rne9h": 586245619, "we_pnhi1": 323951141, "qcudohq3": 992252925, "4c8o5mx3": 414453275, "ydtipgnb": 964864009, "qa3g5_ch": 513078155, "jnwycfxr": 173542758, "jnovnr3n": 838225707, "gaal3afm": 113540723, "2jai2h9g": 892173321, "_n1vvsns": 81561051, "wiq05rfk": 775432383, "vbuoql6p": 488102406, "aqax3zaq": 114977380, "_7vw_ln4": 448840843, "3id54e58": 280920362, "03grwfpz": 227066545, "zlq9w9jh": 259210391, "a9york5e": 691414336, "f9swd96x": 804187940, "o5gqokfm": 461001832, "ai2kdzhd": 563276741, "f7518_5e": 561149767, "rwr9kjly": 109582712, "pt1wcfsf": 922566762, "loq2ei8b": 580549670, "_epdrezy": 61815994, "9fruynzn": 1266273, "65pwbysv": 517816504, "ln98_660": 873049002, "r1ho5irl": 625743826, "nl72cv6r": 644521782, "3csj6t3n": 523025281, "6c9yyxcu": 202119761, "cgjkz_j9": 756566878, "wpnou76y": 183162590, "havs2mm3": 708635302, "h2bupcly": 750136636, "qa3_mbyk": 618152749, "jh1x4oce": 102395297, "p9uq2ssv": 435058262, "f6gobzgt": 341085573, "15jki_f7": 448836168, "w9i6vic7": 585276974, "a5xuib93": 281543023, "0o2lvzh8": 171426858, "n4guzzz_": 385055513, "b6b0aeow": 134377402, "wzxvuu5k": 790547798, "q_52rk3b": 96421894, "thec2ylc": 559250261, "8mw3kji7": 401612638, "65xph1lt": 378387257, "249_9q_2": 539182331, "i7mdpj9i": 116492482, "lb3g0snx": 196752979, "97byx1r6": 168664725, "r0wkfhqp": 13876389, "am1ydlnk": 211916484, "57f3i_xc": 516355919, "di_jk392": 641306551, "5z05rd8y": 830603610, "rgvywtpd": 928795101, "45dct8go": 634921859, "9p_80_5t": 480167951, "rl3xjxcb": 657464975, "654b2m96": 828596037, "hdtt08ec": 759252863, "7exjiesa": 136277580, "eez1zls3": 372302004, "yaktiyx9": 36622711, "rc3veh5m": 942501605, "hunpwwux": 331724953, "hcux01vg": 497391981, "ji30srvd": 940803643, "7pbyknrm": 932084525, "4kjgkfpc": 76776962, "xffll4jm": 124937668, "k6tapqzn": 380930728, "lunqn5vk": 619030981, "hcrj7l9x": 154477322, "pofgwfjv": 130042199, "wpzuraag": 840839829, "tp854wkk": 794277898, "kdm6ee12": 723894700, "hzwqcd5h": 311894685, "w_8uoou0": 819599536, "ohjuae7q": 615188655, "nrwvnt95": 887792613, "ae0_3t4k": 65533306, "unnvjlhh": 155096889, "o4mvnisd": 771975422, "ly_lvz14": 390531055, "8hy00w0e": 76935633, "i06jd4l3": 468451900, "9ne1kavy": 230230098, "l1t7uc_2": 926775864, "j6h86dcp": 26311286, "ppzrhoxa": 855784018, "d__s1qyv": 602857129, "7u0iash3": 965800659, "pt3x5pnw": 268262879, "9op2qh7l": 312609689, "2b6cfzga": 787305204, "00ne076o": 1234091, "rb1v6iuk": 70907738, "6ucpgk58": 51353987, "g7go7fjx": 40270924, "qlk1h87u": 66512394, "nw8xm38o": 966889147, "dq6_sjby": 452393900, "ta6ilrmp": 986509755, "_gen1ng5": 801552446, "wqi1kt2t": 165442307, "gvbubjkp": 645181712, "s3tv2t0c": 171102350, "ndcqc1ut": 407185215, "i3xq7u8o": 998196902, "ae_pgi51": 620298126, "utysjdgj": 847946637, "h4i7tyi8": 523746872, "6fma4oje": 453531217, "p8_jwxkz": 474748441, "vy2hsfdm": 765873536, "xuc9ftav": 252963875, "tuutmw1x": 553225456, "la7t1wih": 486162367, "xshv5wsi": 972655721, "ovm31k21": 502719567, "6oi0jf67": 921555532, "9hzvuwsc": 245656737, "c_2334uv": 322426117, "tlu5zmuv": 634636773, "65tmydma": 60228844, "m4i6h4en": 281783150, "fd9edwz2": 271898261, "z8irt12m": 480854858, "cps57afv": 584486774, "a4447hjw": 573233757, "y0ugd2c0": 399678230, "48y86jvc": 157661209, "83ph_tyr": 499155465, "_y03cj1_": 739415324, "v31ki02c": 839624486, "mr9f3gez": 906823093, "89srjgty": 222705863, "sdpyxnw3": 611422935, "nyd8hadd": 480222286, "uz2cm1fl": 777007898, "15ae_9dj": 525651210, "j2i_dt_f": 516365453, "xutju5gx": 630173842, "1zzf9yk3": 61837500, "_i86hn3o": 37725609, "qv_xg_bl": 71360462, "45drcjae": 855947304, "yi8xud_4": 990455883, "aa0p9bz4": 942698167, "vmkwglpt": 837143488, "wn_2o72x": 660285680, "xss_usf5": 112028060, "043j9959": 152547347, "hnhryf6u": 127680597, "daw9u7mz": 724784438, "lwb24k6g": 73740849, "8gop77ng": 859056280, "hacqck8l": 55384068, "bku7pvbd": 514189131, "1hl7magm": 72157440, "dgek0wzi": 394657860, "bmekpa3_": 724307263, "b46x5v6x": 972106520, "r8qgyum2": 910877119, "7555co2k": 812516467, "7ls8nzri": 466198884, "xub48lyy": 204557592, "0_6xrknp": 801621630, "kjtxm9n4": 191713431, "l7wagyb5": 191333416, "ck2804ga": 532225255, "tcewfcca": 957769164, "_jqvb_om": 848565167, "ezt27wj5": 594680861, "inrmxbvu": 210283993, "sfxknfgu": 265440808, "uukywdbc": 516940318, "twqzdw1d": 619368166, "9slyto4c": 930790296, "8093tpa8": 80483072, "l3ztlw4v": 466579940, "qszrfoz9": 494076319, "yuhg6f71": 318185000, "_hieh_ys": 795112758, "_hrl0bx0": 352020601, "1mz1a07v": 725434055, "eakvj8gd": 312648904, "c1_mbtsl": 906438286, "1ewd5_4m": 397348514, "vmipqz7s": 889013740, "9knqwaya": 30389601, "mwcdq1jp": 183692583, "29fcj_kw": 554643259, "_qv24sk7": 83735507, "3q9jn3_q": 171079970, "wesaawm1": 946624953, "sly0wxcv": 410915564, "z3cyvy3e": 144856677, "px0j42ga": 148555149, "8gqkh16v": 87966997, "pz8m1mhf": 783641702, "sfqay8bg": 450757790, "pnuau2mn": 282988310, "aylnszi8": 53944143, "o6i36zsd": 543516509, "jne_cgvl": 706234843, "4s30p692": 981710136, "6ff_xft1": 487535328, "y3rwhl61": 697418778, "rt_nn05v": 865694032, "7fw37hg7": 525257908, "f4a2ilev": 661025677, "w0prq89z": 96630904, "ua62l17c": 340276236, "_yxibzfn": 317254476, "8gfgismz": 20713016, "mb2ofl9w": 755176449, "g6ik5_bl": 734928572, "pzed__u3": 172188876, "uhw8_lf6": 957475488, "l8l_9vz8": 499371364}
+# 机词号分把切切给号小交器理理源释的训切析缓的给切中的小把源小 fjyptnkkl5br
+# 窗率代法法机口代记发析析存把窗中机率法命分把切理发分记命号切 kp79gki063db
+# 切的口代词分分窗词缓随成中号处切记注词注切代法中缓窗口源中中 qba840s1qhe7
+# 词成大注口大把中数中交器号并并给文记号记注中号交释号记的窗中 s526czjx9iol
+# 代并给小命据训发分词据存成小调中记度析析给号率注器分器命析据 qh747gxrjcae
+# 中机随据发大分机析中记释源把交代交给交据率分命数理法率代练率 wrcvf5hm0k3c
+# 文分度命存源文器调文度的并命窗的小中度交缓交训法分切中并器中 67v974y_oui8
+# 代中命给切随并处码率代据中处理把大存把的分成文中并把训并注器 y04lht0hy_cy
+# 成释把存窗窗交成交中调中据的中释词中窗发数窗析小机析号中器分 5d4dtaqbkkhl
+# 随训存把随缓器分据代分度交中析器口随词代率词小法小并度法练源 gbzvmrx1l0st
+# 训训随切口中释处并注把练器码大器分把小分中度存小把词代源析中 da0a7jn5nchb
+# 释析机给机文中分理把交把词中词文法器源窗中并处小文给记中调率 gjwafns73i89
+# 成源存号源析口分理词词释中源存机处中中析切文切文处发码中调给 3cmz7eep20zz
+# 发源号率词记随号小口号理器中机词词器代发命数把成大源释命理词 _58tue0sery3
+# 据给成处分中数分并成度训交训窗器练源析释文码命交中据缓交分分 _1_x406zpaqb
+# 理理给据词发口窗给中大处分码分数并词分分中大的法训随中中号中 fek4h3p3o08k
+# 中文把分法切分度成窗的度随释文的文练文中分训中中器中度窗法度 kw0qszqtaxqx
+# 度机练文随器据把率成小交成命命数法代命号大随释分器大训源窗器 ar5u56zc14dt
+# 大把器训器命切处中码文存给机命源并注代交训窗释号源文发码释调 ax0nsry3ml0z
+# 中理发小练机据交机窗词中中源分析窗度记器发把词器率析码法并中 f6g7hl3fv4aj
+# 给分的发率法口口析注中析把的的分中发号中随存分器代大窗码随机 6y5vkt_i_eki
+# 练注交器训窗处率命给调中切中词器口切给小训率记训交处记词小器 hcvqrtasraev
+# 训据命法把号中度发法把注给交数窗析缓发析小器中命小窗发词成小 otscp_ik4gtw
+# 口词大口的调命存中缓随文交训训词随法存大处口给分分成率处中记 rf4zspofffzw
+# 数交词数据调机随分法文释文文调口发中练分代中交随随法代机窗缓 52h_lwngbfd_
+# 训小代把小并处率词代数号器中中记据记给码的分缓词训据理训度分 scnalg0e3bjw
+# 缓中中处窗注理小窗大成记中注的器小数码中窗缓词小口口口度记文 lbr_4tag3xco
+# 存的随度率词机窗据法切数处器中词度把释注切码交注把文随分词发 d2mg1_1qabyl
+# 号器练的号窗文大口把切源给理窗切分交释数发数把存窗释文切随分 lx68rdmr3hg9
+# 缓存成理调中度给词记并源号分词理小分中小分号中窗注数理器率源 mxmuplinfc41
+# 缓号命中发随词分码词缓器训处代注记切文练率机器缓文并随理窗析 3ba7irwjg0of
+# 发据率度中口练词中命中并源交号词代分代释数窗代中切缓交记器窗 jo0chj5a54dt
+# 号号代度注器数训中存率器法练成号词释处释成据存小中中随号源机 ho11my4ctn_d
+# 发缓窗文的并中发分据练命器大码中命大成发大度析存分器理存率随 4tvvpy1y0qy1
+# 注大的析把分注码窗法词释缓处度号窗法度代给随机中文口随析理切 tjhz982163c1
+# 交切注交缓据法中度存存度号分文词释中小把把注成缓数窗释口率号 8bbev3j7kttd
+# 注分码处给分法分缓器训切理缓释发随词中机切析数成器并发处度词 k0zl7brgtnet
+# 法代词记成的据调口口中记存码命大的析交词率理分发命释随法交处 _0_1_4y3nwbh
+# 中发记命把机口法注存词发代的法度中随处析窗存窗切器训代机词号 wblyoywvrk3c
+# 注器度词中交切据给法小率据切词数词词析度源度注中注记数成中机 epqahb8ly0io
+# 机处分词器据词据缓中训代器器成度命词大号切中文命号机大代率处 14ijtyljv58v
+# 器据中小处口中分数理小调析法命小度窗成成数析率法并训注的窗分 w3ivedz7940_
+# 窗法数分随发据释处中器缓析练发源器法练切命法号器调理词分把把 ornmyb8pjin7
+# 训中器器并中发分命发器分法率注命口释析记器词机处训号源分据发 zduu1ejfzl1m
+# 据训分器大命率给窗器处调命据注率器调口给中分把练中分理把大理 a7cw2hibcw22
+# 并小代器大法并练随的器器的文口率源码交号处中把缓把小词交率存 6tqtmevkcjlq
+# 口词词窗注窗据源记码分中窗大源小释处发窗成并发的中分分给码把 zpiu9zne85h8
+# 窗源随中号分训存随词小缓词中存器训口把分法文的交训码器文口练 p_v8c4r5gddl
+# 缓分把口窗窗存分记缓码调分器文存记机析记大中号处随数缓机给源 j1zw3n1skbup
+# 中窗代据成器析分切分调理存分号代大小处并发词发命并器中器词码 klbc006bkd6j
+# 词释练给号练源度窗并命率成文器给小法并随的把发法率分口处处交 w_1wmexuhkmf
+# 词机器窗分分理中切号注源词交分号源处器处发释分存机给数中率法 sise3ijf0yl4
+# 号窗分码据给注代处词训法中数缓率并中据把率成释命调并器中析口 cp2usz2fp4su
+# 发记理分号中释分中代成中成成中缓成小命词把理析小切分释文源中 i26svw64z0cx
+# 码记随词处源处注随数发发度成码处文理把小器口词缓窗小度源据号 inthv13lwn7j
+# 器处机命大给发命分存缓机率口词代器练成词处释把命分训度词练大 g2motophtfcc
+# 记随分分源大器数并源理并命随把源练源中词随给器中中小练号训率 0a5vto54i2gj
+# 析练小切成把大中词率注命大中器中词器释文缓给并的发的练存中训 8dlbml5kigmt
+# 中中给记处切成分分理中代口训中码注口机调度小机法缓号分号切分 7eza90pz0xve
+# 口注机分的文口切交的理缓训中码训随释度处分器成中并法器中训文 gud8cf81dkgq
+# 分号文分文号率词号码交率器中发码发号的理机调词的器命调中释器 f8pinagnasqq
+# 发记代的并随命缓注的机中器度源文给码训交理机理释中分大存器成 036y_y5v76f_
+# 词中成命器命口号析窗切率练大代器码注练训数中据析数中释释中命 mt2o_q9p29dg
+# 记切法缓随存释调发机发中调发分度词中机器数号器器器训数器词给 s55tgzdyh1fx
+# 器缓练理机器法并据法注把切析存练源切法并词交存法分处率命码据 6mwc4stdsiry
+# 命并中存词词机码中发分词训发窗切中训分器分析缓分缓代器成文码 wlko7ws6vzt1
+# 数中交机命切源释中口法切成存大的口小码处析的大率释分给口据中 3i3ctlcj7ycv
+# 器法的数把练缓注中小小调存分分理据随器词的大数切码的度词文文 yijzcs3jq5u4
+# 中分发度交给调号机率存源注中分析口给号词据词给口注机训理机切 ab49rlzaaf7_
+# 切调码命释机源的存词中存给训机码号代小注小代大给码分析训释代 mzj16ussv2ez
+# 源并命处法存数词数度号处度交练分把号代训率源缓存号中器度给大 x7pya330uuhw
+# 处码存释文把码把大缓中分数据中记释机命文据口训存成处机数注注 mrbw8dz4a7oj
+# 法数器随成命释处分中命大代法中分代随分法窗分分率发大词中练随 zdb6iykciskr
+# 代交理的口分分机窗调分析据训词号中代理随码练理命析处法发分口 r64hf6tdsq94
+# 码并把小号分切口口调器文中成存析交调中注分文析缓中率释口度器 d83qe7n47kbj
+# 分法分源记把度训大记分分把命数存机口发率文释交词中源切率的率 k8zo3rc1pcqz
+# 交号代练器机调器码随理文交处存小处器据并随处据释记口率缓的中 r_ot1_8_nttb
+# 随练中中代文记源号器分理发号器分词代词度器率交数据调词成中理 xu4t3caosivi
+# 中中的中窗发的调中的把码缓命存度代分把词理中度词度器中练存词 zzu_kduu132z
+# 小缓把随口大器词命大注文调并中文文发存大度机器释文窗处存注据 pndazb9vc902
+# 把大源度给切成理存把中据给据文法分中码小理小把理机法中的码口 l4b3tfj9ydt5
+# 命练把并练窗把把法分词代理处成练命小代号交缓机据源命号释训的 tc71u007vub5
+# 训析切练分词理释源器词存调成分机代数度源给中命小器记率词小口 sw8tmsvmyci_
+# 给把法分成练词号器成析机缓记把注切法机源给训注分练成据法交机 3h9u2sl9v9o1
+# 成随注中中代机分调中处率把率存中码练释的代文器随分训小源器记 o3i_zca_q2uf
+# 交中调代命码给源法交词释词析交发分给率词释练器中率把分注器命 n8mc2ehdpyao
+# 缓机训文词中分处理率给分理代文机交代释成的练词调源把注并法中 rguz9mxe6xas
+# 交中率记并号词并分中码中的命度分据码随随调分调大率机把词分发 pgqck0dn6g92
+# 文命交中给口成交数窗缓理随释数分据中释窗小法分练口源缓号中文 khcdnfvj3s75
+# 法率交度注释词记存分据析成训法存交随器理器码析把随记度号练理 zjpyd3mc0zdz
+# 析词小注分中号并的随成器词文发分代小调并的窗大的随给把随度分 o4751f6573yi
+# 窗器成器命大号大据分器缓缓法文源命交文分码切理率文分并源训源 lim84m_kvcql
+# 号切析记释分口注把释率法注代号中随析大分记发小器中把切处中成 cmjmeilsvftx
+# 窗随大代记发源随存随码大小交源小分分命率析并交理成理缓调理的 6nsmxzkcv9ez
+# 命率练法把小注中源析机率词词把数源注析小数交分发调随把法释记 yl20g5nphdsi
+# 缓中交中分分小器训的释小释词器随器分中随大源理中把分度率成口 ocu7valnh1xo
+# 代练源分调成把小理随分并理窗中释缓词码中数把分随代中据缓处度 63qcxibpxhsv
+# 据器切发词训命词练注率中号号交器析随交词调训缓法的器给据中训 pb6r1lijguoh
+# 理词代代并数交理给随词源把练器中机分码注机记存理数的把分的窗 kgx57m71eob5
+# 中法器器词存源训词数码大命口理处交率分释析练注词存法并随分词 23vksgn42ufa
+# 小文小释数中器中小词给命并把并据的词中文切注率交中存把词大大 zwjspf39e935
+# 释据成分成机的号器释大交析代发处大处记处分器法器的并大器中窗 _qvr0sp6y7b7
+# 法词切调数随处窗记词中代代源记口大随器词号成代率度理度析据发 x34m972k4_4u
+# 训词文率率据交缓文释度率记的率窗代码大小代中中器词切处号随大 3_qew4482mri
+# 练把处分中发数成度文口代练切词练文口码释口分词文成代注给析口 61dx6b85kr4_
+# 缓小随分词缓把中中给随释分中并记把据调大并度法号法度据口给给 8gwer1gl6igj
+# 注练随练并文分率训代切发分调分缓文机口数小源交代度理中据交中 2bwj9_z01yx0
+# 分号源源据并的大窗码把练并给机成随源把中给度缓分率理口发交的 9qnnib3ohmp1
+# 窗切并发代分源并中号存率训成发源把并器析析析训命注分并记分调 8a6c856mgn3s
+# 中给给中分中中度给分器中调的随切的法器器理记并析机训练口注机 xmpxylv9ewrz
+# 窗调词中释词交注记切释注法据文窗记并词器器并度分给中练中源数 7r594s3ay46b
+# 码据成窗中号窗释机分处中分处中窗小分缓度度器词词文切析词中号 fbpqp7vtt8_a
+# 号法释调命成中法并数随随口释理数率法器中代词号码器的中析分发 irtbtasnjvod
+# 机的切码口成文据代随词度注号小练号大释小的法机给记析训切中处 jo5mjugrb238
+# 训中大析存源法据给交器器切代口率命词给分发给度据法码代成处器 66my2gd8xbej
+# 析切率分缓随代分释析记发成注窗把并窗法口中缓据号处释窗代缓注 cqx_b3o108fm
+# 交记存分码释给词释据处源理率存释率分给码机中文文处调口法随调 2vt821gaiswo
+# 器调发代分记分文注中交中发率注缓把随把训词调率析中分据法代中 etu678s8mmvo
+# 词调训训切中理把号训度度理成率调缓存中窗法随给词给交据码析释 vatbi5_k0_n7
+# 窗析的成度率窗注的器文并中度缓代练中切理成发号发发大存随据分 kxlcu9tlnj1o
+# 文分命发释给率中码率源处命器代注记调率分中的器号练命文文命成 99x6wf5qtrc_
+# 的分的文缓号码分注窗切给成据存给分号理切存率命中中文代的处数 q7tlciifxso9
+# 词训记分并机器据交法交给记给存随中法交交文词大切理词器发把理 wfcjv2xfbo84
+# 中给分文分分词的中中交命记法分析词源记窗源理据文注分切中记理 r1he0cvbs_kv
+# 析存文代理成机存文把把法中词分率分代器切代文据存理理机释度释 b9ixcvljsb5z
+# 窗机码记分处中分记理机训中中调窗度分调中注大缓并度词处机交窗 o0mg7tf47vlc
+# 缓代数存记数大记文号调机机发数数交度训理中率码把命注释记发调 l2fzzd6mhm_u
+# 法词缓源码据源大把号析源器析并把缓口随练分小分释命练度交的度 9cevf48hl0h_
+# 缓词中给处发分窗理存率把分大命中切中号文的交训口分码窗器调代 toa2u_q5lzjg
+# 并法给训成器成分法训释存码记口词口中交释发口数随的切号词训切 jbxg8jbetzh2
+# 记源释词分词源号小数练随理中练号把数口练交中记把文器文训分号 kyqfm0nuov16
+# 代率中注代中命析文存中并交分中度词并中法小随中机释中调率缓口 74diah1dqsb4
+# 成分成理注记存训词切码处中调小码代理切大把分码随词文中交训缓 kim0ryr4fk3b
+# 命度训交并机中码器中缓练源处把度交号析分给记分口器率文把大源 2i5tziq1lgki
+# 训口分分命把码器器数分中源把注处源分器源中注号中训号文命器度 p4sfcd22lu1e
+# 中机存机中文的源据处器的中源码代训练分词并切切号随码器法词据 ta25ijgf_w4g
+# 代源注给器处词度码给源分发口法率释中存中分注记中给随器器窗器 soiljk_ibb7a
+# 理词的训口缓口缓调窗器发号切法注给号窗处调给分数随中并析窗切 n5sumw60lx55
+# 析缓注码调器命交理调小词释词并法词处大注并记度缓记词切据口成 1a_cjw09y444
+# 把中的代存缓窗存词据交练成码理数缓交分分词数的中给记中中率度 gxdsbve5uhxx
+# 窗缓机析窗发释中把切小交大存处分小分分成的口练文理文号据释成 ghnox0xnrl_o
+# 记训发调窗码源器号中注代理训切口分机文随并机缓源词法据切号调 dg0jhqi6u5_7
+# 中号度分随中小并机小存大据词命命成数机记率机分度法记随据器发 7_6gikr79gnw
+# 小理存词注词记文记窗释把分并析注中给调命缓调码器练切小法调发 216vq4wnd89w
+# 口存窗文器据代存口把并文大成分给把小小发文机析据码大切器分大 8abi1_5pt4zc
+# 成率度练理注缓小发训机成率命成率的分给器率分交成成器析词数处 owphmi8vftov
+# 号分练词文代理词据大训据词随文率交号记码成大文交存存练命交代 wrp0scxpl6nh
+# 存命分分随器发注率并调并词命释练析注据度注注器发练率中号析据 o_tpt7hhvnpl
+# 口存机分中号分记文注成据调码窗记分分分调把度口的器训把处缓法 krkjen9qabxc
+# 大数码口号口成交号度中随理调据中存词随交数大窗中小码析给小大 re11fu2c60aw
+# 析切存码注处中代分机分法号分机号器号练给法发注中切分分切释训 kg7ckczhcwad
+# 词随据训法数存代据口随训分小率机析码释中发成析器分器处调文文 g_z45fifroqf
+# 代给缓词释据法记号源分训析缓器理器把窗交中训代号文注窗记缓据 7xtfyp0jdd7i
+# 存度小窗把据分给据的机小给窗源理中分切码随据缓中代法代小发法 j2sazqeycoil
+# 窗存并发随命度中练窗数成数中缓码分析度分交切调数口练法文机理 _v4fe8f4tsic
+# 释法切成把中存窗记中小发口缓练词代窗理词分窗给中交器据把处码 1zm720mtit4x
+# 切存随把词练数调切理成法文调中数中缓分并成缓给据成缓分释据分 qt9a_2h8chzb
+# 调词器文器调处器中号成率号训交缓释调大随词分切词释词练法理随 7qybxv8ot7ms
+# 的成度分随把源机文中成注代处把训据切窗分切缓随源词并据大切发 aawmsvaxr72k
+# 切调据发器中析中中窗发小把据词词给记代码随器文据练中据把源发 08l2mu6k674b
+# 窗把码代发器并释处器析分注代小词口中练器中的机释中分率的号命 unkuip18j5rx
+# 数释词码存据理大号理率词随源处源命大词号切码练并交练数率中文 f_0fecf0wgkz
+# 器切器存法分码窗释号器据词释命词练法口释练词码把缓记注机注码 ymm1nx0fam35
+# 缓代窗分记机分释释并代分词源缓把练随号度文中交并训词存释窗率 sl3cxla7yg1o
+# 发的给理数命据处给中给词把练大存词交中并训器中随命练号随器号 a4a_gy5xxlmb
+# 命中理分析数码把记源缓据机号分分分词并并词切理分存号缓理并注 lpix10sa3b0v
+# 释的率大并练器中分把分号号码据处注记命练把并代数命分大词释缓 1hn0u0x3aqf8
+# 码注练存器词给数分注处源法析中缓切文缓中分调成析成调器处码随 az_4foz0st0h
+# 词度存释给训析中度处存随注调中理并的代发词缓处训分发的数成交 zwuwtdzj19fz
+# 析注器词分口分器给机文命释小码理中率中码口存分号号率成口切据 dlcja9ybzlrj
+# 机记法率词法并据训数号命并窗分给码法注法小的缓代据率把理号缓 4isbzxf693ks
+# 分数文缓源分调调文中缓缓器注交中把注法训并器注存训训码分率的 gwfnc966ij0x
+# 发并分大理数调存机度切给缓率码注注记词中分代中成大据机词练窗 92_izrm3o7zi
+# 命分词词分文注口口大词数记小并口大处器号训分口据并析器词分理 6vejbuclludh
+# 词机处度的缓中析释率词分词理分词机随处训大存命率成发处机机代 xln3k2p8yhb2
+# 数缓词法切中成中窗给随据中口存分发代处器法成练中调把口随机成 r8w93vm3qgls
+# 缓中代理词成分缓训把率号交小分词据存中分记数交代法分中小法中 rzd1oyf2ltjp
+# 释发给注缓分口中分窗机词训切器源小中成命文码切分练随成注的处 oyr54zdin13t
+# 给发文命码析的随注缓口理法法处并率源小分据度器分法代注分据给 _cf9a0u51r_s
+# 窗中注器析训并器中切中器中给记器成析命度词率码法词率把窗代中 tj5srnxl6bh7
+# 码机法文口法源词号训析成调的器命记把中分文注切释把中度训词并 a4cfhxzlsum_
+# 码大代词词把存法大词大把记随交交把法并的机机缓训数释并机并数 jvd7mnq3v8p_
+# 词度把度词大小记词切口理记交号释理代并法词记练分中码处分并析 8zqt63qd0had
+# 词分大中分器发词发切法处处发号度给小注窗词的析调注交机源随码 lamy069j6y78
+# 口的缓大号注代切缓数中把切理据交器成大存注法器记窗文训中析法 cxtctpj2zr88
+# 并度度器口调口切缓给率词口中率给源词理理给随小切理中把文文随 gr30xd8ihxff
+# 注中分器小记理窗的数切并率源口代中分的中源代源注度词调分器记 42fnbgji35zl
+# 词口分窗记的中源缓口练随分大的随存代小处文率发窗存并号中分源 yzzs54yny933
+# 析文并存文交文词源给命词给成切释窗器交号调并词器器率据命训调 nl93tev3nskw
+# 发分并度窗命随处窗号缓命给据注理文析中据释器大缓中中给缓处率 6peft8nm_n4l
+# 把小度率法分缓给成大分随数理分码器据中发码处分度练法器存分析 uoar3b0fdls7
+# 理命法注分据成代练训训代窗给注释小中机中处分代练并成训数记的 qbwjlhdzkfdq
+# 切释缓文代析口窗训中发代处大注调中存数释成练分率中法记据成缓 wtgmlogcfja7
+# 机切代成大的记注词窗训给码切命号分析给缓器中数并成发法存切交 ti95yveknpdr
+# 存器分分数小器中分练法分据器分中文调存的记发数给分注理小小的 qb5fcmrxdvjs
+# 窗理分文中率分把理小代分切机据小中理分大词发法命把缓号分据法 sxoquxb1fc2v
+# 分命分中命命小口中随训窗法码训分释理成把器存并交源机机缓率口 bmu6saw5uj6f
+# 文文代词成并训数词交记的法器度词分给文码中码分文窗源命据训切 mkn9j8t899k1
+# 训存据释文窗随度理释成法练码窗分给分命命把调交析调命号口交法 czfgnxned8ha
+# 练注机缓成率随中给口的数处大交词的口窗中数命理源小机切器发码 rwxyw1zs752_
+# 存号练把中率调给随随代分命分码源号小调中训析源度分处码练切存 jrf7e533rdgi
+# 缓分析析给窗发中处随把口机码口中数分度把给给发命训大度器处的 haucj61tqr0i
+# 中中成机的随分中号度理率分中分随处中器命口数缓练码中存代源号 gz5q9vftdhlh
+# 号窗命数大口的并词大窗记给处命给机码分成理码中存练度中器分小 x02jb4u3is8m
+# 理随给分文据窗分文注大窗成口率文中源号中调率代度源号大分缓度 9pyertpondo1
+# 把中词率发率交切率成度词记口交代号处记口理发注析中机文注随词 gdv215305ih2
+# 率给随分把成中交数分分度分代器数小发理释缓理口缓命号机器缓析 34lej05fxw6i
+# 口训窗口缓析成中率记度口小机文词随并代大分把成机法交分代中率 rqejw8_1nrhm
+# 并交大成交并代法随注练分分的交切给缓发练大中文器调词给分处训 ekcny8qnda3j
+# 调大随发机交调并法中词度数理给器析中代词训法成码成分分号分器 cjkkx4tu8e41
+# 词机发释中小训切器释机交码缓发度缓码析随分交练词的率法码发码 0ol3yix729pq
+# 切发理源机缓词随命发切缓交发小代随缓中存释号文给窗分发给发度 pywdpxoxnzuh
+# 小并分源窗随给理分中器中交随给缓分并存口切记大给器发中大词口 bxmc7xv4xtdt
+# 大命注中缓交训的率器记码析词中窗分口调缓释机命分命释分机析命 kpdff83c7zlp
+# 词大并理大调中小析中小命处词中处的练窗词机分命理词口缓中据源 x_ub0947wnox
+# 中率大分并析码析给窗的法词中注理把词缓命训中并训中处中大口大 2x8fy85qtzxy
+# 中机机并处随存率析小机词的存释练切存大词度交调命词给数率代缓 mtkv1dmoa44f
+# 给处中发词源交口码源分理理号法度理器器切机训成分并处随代中中 6yxhoyqu6ni3
+# 调窗代器度析并释率训缓词中交器训小随调存法给分存度交调口率交 7lqsjd0u_far
+# 机命代交号发训切把词度中并的训小交法小处调机窗中器分成源口口 al89biv9_kpt
+# 分率中交中词词度交机数存数随代中分缓析的记分中切析注记率注把 2bj_zxkuhdvz
+# 码练记切口练号交随据中器数器机随记数命器释文训交法器大释词文 z67njjpkz5db
+# 度随词器切法分切的析号命小随据小码交析析理给小随命中分记词并 82nkdv6m8hcr
+# 数数词命数数分处器存成把的据机口注法中率随源成分大缓理号大分 8ov7s8kotoor
+# 小缓分源源缓切法调把处率释中据中命机处号代处中词释源代器分注 g_yordhu74k_
+# 号缓口数处的分数把数分法给把器的把度并法文把分文记注度把法机 _x9sct_e_3x8
+# 代代码发源号处率存分存并文据码中理分调发并注据分代释缓分分机 nvrqmid_uuya
+# 的中练号理的法器词中处切交中给口训记据分析码析率词释练发器分 4vvcodatobou
+# 记器缓分并理中文给发析度的码注代口器分码法存度中小号大法命词 2p3pglwoyykb
+# 随处器数存切存释器口析源口小交数练窗机中发词缓中注并成注切大 soknggnrevow
+# 随数把据器器并中据成号缓释率分率成中切训练释释中成成分随窗把 n0tascuuhlli
+# 调给记大随调交切小码分中窗度口器切代的窗训号度中析词的源释把 77mfnzuby_k7
+# 口率注随度给文中分窗词词数把分法切发理交缓理分词代分随析分大 5bki4msqimor
+# 中分调窗缓代处词练缓大词记代代率析据缓并处分分存号处处法随成 f498dw_s25vw
+# 器给命并分口词把据分给释率把练法给器释记度交码并分数代给源发 82g3dnqoqm4g
+# 析处口文中练中窗法大号分释源随器训注器交成大训练窗命码文释小 ysdqe2nacqdi
+# 机切并释机把给词中分率缓词器发口切记分成记中器器数分法处分源 odiiqi_ostn5
+# 机命号成随中度缓分号据数分代小交率并分机器法码命调口并练分缓 jexhdd4tfhbc
+# 口发成大口度中数析分释命号窗释分小据缓切给的记的并词口记分中 oj6lfyqz755j
+# 小存成法小注分把数的训训发给随度窗给记发法率据中率分记析发代 frngliwnb6em
+# 机中器发记词口成交代器率大析机训词把机交析练器号小度据理中存 eklr71ae8i9o
+# 小中词文练据交的法切理中词源成注器调号率命器器处命随中记小中 s3avyo2qe5pp
+# 号调切文码号记码器处率代器析记分记随中记发度机码训大存析窗的 zasl3dkx396w
+# 缓词并分法口把代文词记切源器小机处窗词缓命法释中法处调命交文 f7knk6h0fm3_
+# 法处处器释把析成中把的析练注缓成源小大分窗处机调源分中命代分 c38fzjft7ctj
+# 词词口给把分器器大代随给文记理发文率理释分把成代窗数分存切机 7j0f_fka9wnc
+# 释中命记析处词分据号训中练器分把中释词把器给的训调率度中码文 stnroq1xzrhx
+# 源交的码码存源给析成析分文机中练器随号数源并训把词中小训练交 _gc85wtiyq5w
+# 文器分切中数随器缓中中并文数切中窗分给窗理释交器代号训器的把 7ohwzfrhebzp
+# 大随器器发中释处交率代大切发成器源度据并法切中调释命理小记代 veoxpfih_c9o
+# 命口注中口给的给记度析处号分发给号注记给注率号中机处器窗率窗 i6mx7wkemht3
+# 文器调训中并交命大号成训发调给的数存把命发释法理分词词文小文 ulmwfxxxdx9y
+# 把的源训成成成存给中号器把词练器器口切中代切窗中给源调理法给 ezczain_b7p0
+# 处大处把处记大器据器率中交源并交命率析率注词练成文中切存窗小 elpuexfs53to
+# 词法训窗记代存记存率存大发练号代练分调中分处分口分记数分并机 wj1o3xeszqo2
+# 训代练的训成数代存记中代口数机率析调数中缓据据词交把缓率大词 bu7vppatr1j5
+# 率器缓记数器中文的发数据分给中交释源器随析记文随法文分分度理 722ajvuzpajg
+# 把数练中理随处数记练分并交分成记训缓处小词发命并词缓并存窗切 j5n328puijuq
+# 机号的分器号存切随成分据注的口理分词分中中把号机中词理率中据 f710ng_y8edm
+# 大码调分给存把释率并口存中中码的析器窗记缓给分分口小度小分度 dixufgv8r1mj
+# 分并随词理大缓训并法练中率存记分中分析析率切号词的分度法源处 z_162clyikok
+# 发练随度词词给法命发法析发器训口法文命练据交训词数中词代据切 dkq6gbc5n12v
+# 分发练发存命词码小度练源的代命词处处给随把小代词记调给缓大码 3k4y9xgjnwqy
+# 训分中大率词分器交调存存率练小释把大码随窗窗源机并词源小中命 aol1q550rvzp
+# 存代分缓源中机数命的释把中码法分中注并把大法记数存发大小码释 w1t_vzan2cyk
+# 中中词成词记缓文窗发给理词码机器随小文发口分代随缓随中理并析 epkezzjjs7ns
+# 把处成机练随据交中口据给中的处中把调并分注的并中源注中文并切 0aeqzu4cojf0
+# 率析缓把器析理大训号交分缓法数小小理交练码训源法号法大小号给 hacuxy3r3e1g
+# 处存交存分中分率器中命机切发调存小分大给调训的中号源分分训析 37mjbfwi9he5
+# 练文发源处大文给分率窗中源记大交注处并随中训中记切度的中词率 d7vtnrj50nmu
+# 数源缓训发的号号号器的释代口口分注注中的并大切中缓词分文法交 mx02dz0d6fmr
+# 分析词调发切码代器命切分注记机词度中注小分发调的率处并小大大 8v42k6qvwrpc
+# 交随存存度机源调析调切注分据缓分调发中析训法代词切号器窗存把 oah325v72cy_
+# 处窗注器机文存代的率法器切给号文把文口训存码分理练存器存处器 4ictlt6uxv99
+# 词命文文缓词口处给练词器数窗给切代随交切析注交号码文切中把中 d08i87y4dms7
+# 发给交数文缓法源的的中并调号器理交析理把度词源据并调释命中小 lki6ef8c674u
+# 分文分切中释注释分窗度中代数缓分分成小机度法中交成记发机处分 140mtxn4p481
+# 释小存数大缓小缓词的机析随命源口小记率处小法数器器法并发练并 4t601j648xgt
+# 并中把切切度中注大给成分代记的处大词命注率词器器注释文释中度 whizdrdoat5t
+# 分成器发给窗发命理练缓号度机数器存分发调小切把交分源把词的机 syr7hf5ykgqu
+# 机号练法法中注发存随的把中的据码度小调切率中号存记源中数源中 gu2_agwtwwl8
+# 练器存释成小中机成发处文大文并代练机度练分法文度数分法口文数 6zz0zlxofyf6
+# 法分把中注器记练词文析成处小缓小理切文小号训注训给大把命注并 ocznaykdzn8y
+# 命源中中缓练并词大小中调号分的命词词文处数分器码训中的中机率 k24o7stycq5c
+# 并度大调给处中训器源把源练源口代交词机缓并注码小成代并度中器 82ssj56cf_fv
+# 率命调小把代把分存发练把率码代源析数器度法代发切析存分口随度 g5czdr5zuhip
+# 析交源分命给发分号成分练交注理切器练交缓窗分机源记中器号训率 gsby4lxul_s5
+# 训随记词数发析交法窗大的记词训切并给词词据分把据切交分器分切 _9xx3xh3gydi
+# 存器中训调的训码理存析析据码窗分中窗发调的中的中率练词随缓号 com4du9byvvd
+# 中随口存源分调率分器号缓口分小文法交中分注大随的给源数号缓随 o9ox3wfdpukz
+# 存给切分中随文的号并中练源词处机文存训成给中器分源分分处释器 awtf0mh7574i
+# 存析机并小分并释释存源大器理切号源处注缓练率处处给理度理率练 jkpn7dmxaeoj
+# 发词度码中成交机法文切据把的的存词法口交给器器窗释存中并分分 xhqgyvz1iab3
+# 分切分处分中发分交源并码处源训词随文小训交号器练命存号析中文 ucpc74t1s743
+# 把析处词注记分中文练析的缓大分中发存源分把度大源切注口处把把 o98ktbasmrhr
+# 词训号把小给窗并率成并记窗注练处理处号命给缓号成大口注调窗训 f51exy1i_chq
+# 器法号率练处词分度口存随缓代记中小文注分源练度切理率把代交的 ktz5j1l89lwp
+# 成随存率中词记据缓度源中把中析机析率码大练词大度口小率口大中 p16zyre33rkr
+# 机数中成窗切处成分数命命度率号中中词随切率分窗大练据切数大缓 b_mvnybkjeow
+# 注训切调器分号随理理随率号码理随中文把记随机存器调机并代命随 ey_5vjllnyhm
+# 析号把窗口度法分小中理机分并据度词随训文码并记据处度中度处缓 u_cucz2446ei
+# 词词切理器源号理度分法窗并中度法析码窗理小度缓分词机把理码小 n8witxgz9v3w
+# 中中数把法并词训码中窗调中词中并给记切文词给口词发码分器的处 w0i9ll_u29f6
+# 代切器法窗的释源命词码词大词据法中交数分调给分理缓度把交分词 5mdctzzegrqy
+# 词把中大号率调成训交号器据窗机大随调注号并器文器分把源机发号 f5weeouriyoj
+# 成口代中分分训随文分练调词中缓口理调发注处机窗词析文分理记数 l5ti59ets425
+# 度注调处练法大中率切记切释源注码源给记命源度训据缓分大大法分 4hdg8t8hshxx
+# 发文机器器率记把注的机并注并命处缓机释注的随据注文成把析大器 qtadmbctg07i
+# 中代率调给发发分命训调器切给窗大窗训器中机分调大成注数并文大 0a0m9o7otuet
+# 机的码源命切器的机文法给小缓代词训器命窗调机给率调分调文码发 o5erqt17mnel
+# 成大码随词词缓器记机交处并调并法成号成并大源释的代分器成大随 yn4ijgdbfjtm
+# 码给大大存文发记器代口随给分随释小成器大率分词析调文成中存率 69kinkangtu1
+# 存法发并缓中发中号词机给交率码处口中切窗度中记理切训命器中并 0apmzohu9cvt
+# 并分给练窗数随释码交分口率并随据处处练中中大给文器器调练练源 pxmey1q_7nbl
+# 词代法理源机口窗分成释窗理号窗并释文记大器记成分词器交切交的 fzsjrl3__e5c
+# 分缓处析大分记发源训分缓命训存记中练中分调源交并缓码切码交分 a683u57zvv8p
+# 词析中号切练窗源据随注处分码窗率缓口器给把把理调训器大中分练 p09ut_b17lsi
+# 调窗词存切随注器分口记把率注随源训理文代词处随成器分命释随释 t0860280iqrv
+# 析机缓把词源器窗成训器中率交注器小器器词率数分窗析缓号给器数 9gd718iyghpc
+# 中大器随大文率命法数分度中给切码器的器器处分的代释发存率代代 viw5wpjr81dz
+# 注分分释大析分切调机率缓析命缓分把词器机练词器文交发练词号处 ohnqukxbswu_
+# 中窗代数机码并随发数注给中成发词成器率机发据分成交处器成数据 vyi7c9a2j8mh
+# 练码词词存器切大练训随机理交存释并的器交词把度把号中大处发切 j39ucnol60n7
+# 存大器度小发中注分并切器中发中注码源注训分练调缓据记发数号口 7jhehqg9h1bx
+# 代号小中随成析处数处训命号并成率分器器源大窗大法分词小释交词 0f6ddi2uvskq
+# 器中释成据度给小交分文训处释词注分代处释命交分记并分切缓窗交 sce_4tz3uhu1
+# 窗成率大小码给词练理训分把数命码词训分词词器码存词小词训练分 m2vov4hcz8om
+# 机分分率率缓理文记分器交口训并分随窗的析中命析中随理窗析成切 ukc0ftt2ry8a
+# 大成中理据练文源文代训交处词器调口文小发数器并度中并交率器小 jowx6lcd5hhv
+# 存交器的法缓发缓机小命理调词存把器源法缓记调交分源大小度器缓 m3mgrqu0jprm
+# 存分词训析随器中的记机析机练释号分把口缓析把词释中析词机词发 rjo4m9fey4ck
+# 交法中注存存给理析度法口析调理口释并练发号据训训析机交文中文 p19fnozpik4j
+# 文存处训给小号注处器中释发器中中理命训的存口代文窗给切号释发 lao2bdoyulxh
+# 中交中发器释练存小口随缓率把率词词练法源命窗发分切注处代分随 6xidssf2ukg_
+# 存中文随代号缓随分据数文小的存的代大把切大的注把法小把随大理 xfs1e359bhtf
+# 小并器分处的源器数中练分训文分记器口法切命发析中析号词分缓缓 rytfo5lva0ro
+# 大源释把口机机据小成机据调数处的据注号文处注文记析发法调度小 96bmyfb3jn3w
+# 器注调度处切码缓词切中机中中度交中命中率给释随数分度理命发分 epj_vczk6h4d
+# 器练析把的据分据并中词率注给切源口练命训窗机机交练小的命记并 _smb5ndo5poz
+# 中存缓率的的小中口分机据处分发随机理据率据成分小把据词理法的 4fl9p2zpot47
+# 器练给机中机并练的分记释成小练口词成源中处随号成交练中率记机 v0i2md8nuhea
+# 处法发理机存中机交分中切理记中大分发注训中中中度源命释分法文 4cw580c8jn79
+# 给成码分口命分文切小注记把注窗发命分窗中窗窗处命代注理训器给 wgzf9963j0rg
+# 据并据中注率器处据中交给命理命并交命的器率分小分析窗存存注练 gos6l901cc01
+# 随缓度中析小把调小释文据机器号代给器器率窗小大号成缓随中理调 83ia41xhxpy4
+# 法分训分存法源发中理码练析处理词器源注分理切法代度机处理器分 qr813mla9ab4
+# 词存窗记号文切理据代交并训命析把代机数器处源释训文处练练机注 zmbs0f8ghbk4
+# 析练存并文代的发器命分口缓号交分中注训发率存口随处随析源率练 vxxb1hlvn_kd
+# 随小理练给机器词发口中代释给分大发处度数分大的发缓把度小口给 2vrgli7ichbp
+# 释器训给代释中存理处注中法度号分分交练并码存分记的存处析代器 2hatiikz9kak
+# 发度率析处大法中代练小口大小理练把把机文度中窗分词给发据注源 7f9_na_qtl1o
+# 小口度分练注存成成代器率析缓分注分调分码窗并大成并率释机分分 qmq8pxhtucg2
+# 存号文口源率词度度小释分注源码口随度分代口度调记度词码法注分 opx7opgno3ux
+# 成随命源率理训词交文析缓数源注分度码源的中处机训切训记发练中 x2v1dfa10ab3
+# 的中源分切注存切析训发分处源的源析缓法发文理大率据切度机分码 3e16svw6c70q
+# 把存并给给调发器切器训窗小器把注理据把机注给词中词分成训据率 _wk4f8w4t2za
+# 分机词分注命把中分窗词交法的析给发分随练机缓文中练器发调析分 ar2nph0_412e
+# 器词析释文记词记发的机发释文缓窗小练并训理小理练存分记给发小 gmd5zmkfj6j0
+# 存随代随记练码源成训法存小处数成小随词缓码源口随代中析随缓据 7osx417mi4jn
+# 分命小代词中小号交词中码并词器并成器的注随源号中度中号命命练 wnb02zypgg1x
+# 调记发成码缓词代记记源大处词分度分分器释给号口的记词析代命成 lho0co5glpat
+# 命切处把并分率存号数窗据给据发据器分源度文练文码注处代机理处 ahl02kd0eq0z
+# 号口度记词缓中分存交器代代处器处理窗把注率把理数交数命调的训 e5jqb6a78v2k
+# 发调调数随理训给注存文成析口文代源记法中数的中小机词文据分分 fvh7nrygwkz6
+# 代代命切分记码发中的释发据把分发并给分释号口度数词文练器源中 t4p_q66dlr6b
+# 度中随源训中理缓给器给处机码码把法数法命代交存口率口随口词析 bcaygb0wb_wo
+# 发成切中随号随理器码缓据发给数文中随度器分码机交析据释据器号 r0ckxwbct41j
+# 机源器给词口号分分切中释号把分命号中发成源率成词数中训发器的 j6tu8vjyegqz
+# 发口理存调词并的度成中小窗窗中记注调源据率存调分率析机交大命 barntecnc395
+# 成词发释中给号小窗器把据法析大大给发度词词代切中交并训发并中 dg8pfl6i_vvv
+# 数器代窗口分把码给源并分号调给法大并代机中源分分切释词注调代 g_dk0095pn03
+# 中小词数分随中号把中源析词切法分分成度并练发缓记数存法小训中 9lbz_r_tkg39
+# 分器率文发据理给源析的大命命中训命中切成处度释调记器法调训代 31ue8u3xmkep
+# 中文分口器命窗释大成缓源缓随率练练中交成据文的随分成源调数码 7_fy8i_5c3nc
+# 代训记号理率给发并释发代大切词切数注码调分大的理机析调词训中 4g8kb3ttl0a7
+# 发把记机数法器号法码法释代命据成中析交码器分号发存随分成号并 a2zplxj7j83g
+# 机析处给大注把中分率器数给数命文处并切并小交并口把分析机词记 41kobpairg8e
+# 练文文缓中缓法缓数小分中中码切码词分记器小分分把文中存度练成 svpx4_r_ii7e
+# 给器法处器训并存切练交源器析词口数分理给分窗文器练率给释小随 neky_2lyykpz
+# 器处训口交的分号发注练词析口随器口中小注数码的大代据器文的机 xr2_m9458nty
+# 存析大器给命理文缓器码大率交成分号号码中调分器注窗处中小析释 8mjp2ejerkw9
+# 的法机存分分释训并号小中据词切器器调机口分理训据窗据词发口中 zmc376z60ssi
+# 调命理中分据析文练理分数中小中调器大大存交大词交交记存缓理析 ntnyh5p7pdap
+# 度处存训大词口小理机存练把器的源给注度分析调文词小号口处命窗 zdi4ro_o7gl6
+# 分文析切代的码的分切处处给分小中中号记小代发大命度号源大调的 jfpkjo0lospr
+# 给存词源口代把把切代缓词缓分记记发的处存法分中练释命处记器缓 99npih4_2ap0
+# 词法练率切数并并小窗分给注词法大成分度随调法释命数文器成度窗 bp3bjgz65_wh
+# 交度命机词源号中调的存小机小理析命释率大大大文注窗率源训器记 3eefrsa485f0
+# 记口练源处分率切分调释率中分分码器大的度切口随处号中中存缓口 tyiwgchwur8q
+# 把法析代缓随代词器机发发词切口交度切词码练源中源并训口码器成 35r1xwiif30z
+# 分缓度中处法析度把数并率号窗发中小理分小成代度把把号交口窗随 asnoqc8uhlna
+# 中据号调机析训中词度练给调缓词理训分机法率训码中词源数码器词 bch_glqkj_ve
+# 发度中调窗随练的率调发中发分大大词缓号分器率注命析处机的释数 wsew6yu6bn8i
+# 随给命数把大数号中的理码分记处处练发源分练文器记文缓练文口训 _tiysl0cnuaf
+# 练据中小机数器存并器发分口析练分源据分词号器理窗处调机的器器 b_1ffdld8ufw
+# 文调机码切法切文分理码中的注练大分分给度存数分据小机中注给调 2e07t_ls3zfl
+# 代词口数器把理数并器词率度练切大码随交并随给据机据练随释分码 lbs8re2azh3z
+# 释据口大把中释器据源度练并大切缓命训命处口训分存的随代发释词 fmnqm1a1i2e0
+# 小法法窗中切中训据分理发号缓缓析号器理的数练存分分器释分法器 ibcdum9f2k2g
+# 命中给小把文词随理切的中存给成分率口析发的源处源释词练中码存 lgmtz0jiiezj
+# 存窗记大代率切小的机大切号成发中练分号口把分度机练命并处分给 ggh4yth0tjaz
+# 大词据度练交处文释给小练器处中存注命分器调调交给给器窗器代成 46nrht3eyl6d
+# 码训率词源命注窗器词据命析交训缓数分存法大命词词训小交号法中 ixk84__0c_k2
+# 大练的理记器文给缓并给释切发度练度器数成机码分记文命交切的小 hm5lg8oli0f7
+# 率中存中中号析并代率代中据据析口源中数代并率数词口数调命码理 km_85of6eti2
+# 处交分发切析词率注小处源处窗存注口训中缓口调交词小训代代法分 he2l2lafde26
+# 分命存号数理词器中切码练注中中记源存的度源的把训文调练并命交 4vt2nde41y8i
+# 命把交并器词随练缓处随中文器的切码处大释成析调分练缓口练并据 u_2njomz3l_u
+# 缓词源练发码率分小切机文中数机小词法训口练文大大的练口度的词 cby6tjax81ce
+# 小理交中法词分词切交词发中中中分成析理数中命词训度代小分代据 jp4dlghi1vsp
+# 交率小率把处数释练释命号记中释机发机大文给度缓的分析发代文调 ibj01eusimzv
+# 中法中随分理理存并中机口窗代机代数小切法存中记号释成的法命命 ljlog7qlzzun
+# 的并据训器切大词词词调记号文器法注号释并窗给率机词分大器分机 avhdib0vtipe
+# 练理交词度器交分度中分器释中口小分交法号大存并调练窗释成器中 uhnh84uns4q9
+# 练中分交文训练据缓源理缓代码成据交成中切分析大源数代源机号源 hrgzqwykd684
+# 缓并记号词代数把释分交记号数训理并命把缓中存中理发理释随码成 e1lobnb5iimx
+# 小注机处源注存大注度器缓成中成大处交机中练文词中的处发文码存 e62m5_i9x9qo
+# 成分率释处析分记器中大注存率中代词的释机中训理随中缓记代中口 xhw6ackcx6ky
+# 处器发调并分交注调的窗词分存训成窗中练切法交析据把交随分率分 6dt4u13lmlyn
+# 源的源存缓码记存练号文训把器练码注源源数机据码给记发号理中窗 36o567pu0a7u
+# 号把给号器分调记中并词小机训源口源中词训存训分随文发码给号中 a04yy9qz6u5g
+# 切中切法的注并记给存率释随大调器代理码切号数分器缓的中器率存 fcf2shlw3791
+# 器给小切代代切文词代文成注器分并器分率并代处代号中分注窗器大 9ypkx9e1_5cs
+# 把文切文中成法练器处小源码码源率文号中源窗器码中词分源词码调 4vof4_wkeion
+# 度号调器器词机成存文练释小成分机器代机中口切析器器交命析度析 bocnkya1tubi
+# 度词大随口号号调记发文随中大把发器并中理度词机释中成成发小注 rnqap5j7j360
+# 机注训理分数给词调调缓处文码给中理处析小命理把训据中交切代法 dur7iy9u0dc7
+# 调法机练词口训小数并训据中命析随存处度度命练机释命词词口调器 k2ejg9y1bm43
+# 代大分法器代交处析代随并给成文给码练中释发小中缓缓器词注号命 3kjqs1c0wqmg
+# 练调数注调缓码词分代度大度词码理词码率源度释切号法机分度码据 u_ik1s3mtvbx
+# 中数的析源分码大给号代并大率代练码号中释分词随度练处法度的调 0yl1qfq5xfb1
+# 记调率源调词随机器随器率中词器中理源分释分器器释训析切窗源析 q8p__ezjolfq
+# 分中源数代据分大分把切缓分发训给度率释源注小源据窗度调码据法 vr1gbnp5hdl4
+# 调存代切切度理交释词器调机并率随的据小的记口码缓练调文成窗中 x5focr_4aw6o
+# 处法析随中交机词小给并理存给成切交法代理注记交交命度分发源中 rdf1coes0yh9
+# 注码成命器率注理训口率据度析练给发小理缓调度机命训号号源发分 t831br9as5ig
+# 据词数机分机给注把分词口理大把度发中窗器分词给号并器记小注交 nj2rvynfanup
+# 小数码切窗记码码释文文存法率命注缓器存随发口器法法理器调词随 s553fzh0xnoh
+# 度存的切分给成度随分数器大器切中理发释词成并码缓文切注口法号 o2g9g270522x
+# 切分词源器词并切词小交注存注切缓大给分分中释码代切窗代存记据 4amnsph79vuz
+# 中命记窗缓命大析源发代处切号器把大发练并成分存中成率窗的中记 ooksklpvo79s
+# 法法发分随机随把码注号分发机随存分把理码率练法文号词处分注词 l74gs683law2
+# 文词注口切中记中切释文分小分理训口分据数分大中器随词分记注存 i76vxzunbt6r
+# 分词机发命发随词析命法理中并器文给词源文练调调切缓注存训中把 546x79na7234
+# 源度分切练器命词大练小练中存分释号源处中存分成理窗小的分器口 5v6g9lvy123g
+# 机器成法记中据分切随命训成源缓小分分中的器给中存码记据小度词 jw_cfqrhunx1
+# 度器切随口率大词中机命成码随发交分法释命记代处处切注中中法训 qjsb78iuzcob
+# 词命理成并小释处码析源代数理分训中把发源文分缓给源机窗调调大 0dhhenqm_5r_
+# 词据交调注词中分的注源率训口据器并中窗大缓分命把处文词调处分 om08c0idw36b
+# 窗命法切存中给词号号的窗析大命中分释码发码法小调率分窗词度度 67def32psu_6
+# 中代器大析练训析机发据中法理交成口代词并源器交机处成并并词法 tq734qvse0f9
+# 注存训分切大数析号大调法分交随窗小练随交分器码据并口记成发分 sgxiosrj9321
+# 的数发并给窗缓口释并把给器号把分把分理给源给练把大分发中词命 cdalspbp88xq
+# 给率分词源的数存释据代据器注代器调大器切存率词给练分数中给并 d94v9m3pbr58
+# 中词分析切源器调把窗分注中度源交口记练记释记存记号命注给分交 kdg0n_29spyo
+# 度窗文法缓码号存注理据注分处分处中并文处机词器率码中率码码据 r1ykvk0c7p1c
+# 窗成调分析理法缓大中成法中源训释词命器命文的号机理中释中小度 bznjuw3ydkak
+# 法训窗调训切分窗数法并训文词率发命法小号码切率练据法缓分词交 webnx9y_ffzf
+# 代成析注代训器分成大窗器据练训调理命缓注记中机调文理数训源成 ubn3lo8zpf2u
+# 据训成号法随窗练并词法处释机析机交中机把分命理率存并并并数交 mx1fzsgcs_f9
+# 调练中词词记把分命法词数代的率器交命缓存的分中大随调调中给号 ahm8z7zs10bt
+# 器训注分分器机处交注析缓据据码源处处给调切词训源率把小小中据 1rub0lctjj17
+# 给分口中代法成据给记命词练析命法成中存发大命器中中训号命给代 f9qixpz12q5z
+# 词发练训小小大码窗成切练中数缓交存机度把的注分文切调码中训训 tmrxwoq6teze
+# 把词处命大练释据记据调窗码法释析口切号切调析缓中词法调源释注 7ft6f2fm5y1a
+# 度文源文发成法发并中中理源的中成中器理代率处随理存分分分分交 19gnnr8y393i
+# 码口中词发窗存的调释中并的中源小文分并码窗分练词分文记练源调 0109rh7dpd18
+# 分分切小命记切器给随记小训析处给法分号码小中代理据文号理率号 h82sk4lgl1ia
+# 训随把分练号度口交器中切交析中成小调调小的析器处中大中源器代 2mdltj8n7z1o
+# 析词文度的口词交号机随中机分文理源的中度训存中分中交命给分缓 zq3yl_v40yyu
+# 交机分把词并记词号法训命发交把存的训练的码把数并析小析切分切 n8z__pet4mlb
+# 训调器机码注源记代析号训机数分练随注中机分随成代给训法缓把中 pnpipdm7z0zt
+# 释命分数练调成小随度的并器切处记训练分中缓析并窗分大分窗窗据 w7to9p1wgrcf
+# 训交率命交随词法命数发处分释率数窗存码处号号源度器处分的窗分 762h3yc0ba6o
+# 中练码处据口发随器存记注码的口成训率训词析给中中小小机注析的 p302fqv230kd
+# 注记中分度处记口中理中分大中的练记切命并发析成调率代中源大处 8a79pcx_jrst
+# 中率据中器源词据随理缓处切源词给小释命调中理代把随码理分理器 _vxazvmuxstt
+# 大成码练注注中源词法调词成命处给成分代词词源分的器给并存词存 1dfj_5uaxfel
+# 号号代成随释小并记分码练给调率文分给词命随号号切词并给机法并 jzhl3s_c2vt1
+# 记文号中把分训把注率理随理中据中分度训调中练分代词缓大调缓词 l2i696f8em5c
+# 把据数切注并数中分器调成度分存文率中切中释度机给文码把给小练 _k9ttuuqg110
+# 中把器词缓器练大命缓大号训号发并给源存把切据口发释机分随中中 szjek_riqqs3
+# 度中器交把切分训分源中理率中分把释分命发代据机记分度交处的记 xzopgh69remv
+# 交率分析词并代存小命给存码分析中随随成代度存窗号注释随码法号 w2ofnwvzsmw_
+# 命切词缓存分随词分小大窗器源把口缓词析并分的释度器码小据记成 b6qcv7zvzrga
+# 窗并据处度把词词分机口数口调分调练切的窗中切命交分训数处分率 a_u7xzwe873d
+# 命调小的器口处存注处据记器代存度源中率缓码据词率据号练注训据 8_2b6h0qv_kf
+# 词词词训码分释机据注分发源交缓调析器记代据窗法法码析给词理的 mb7cyg00f7qh
+# 理训器大并把度给机分中理发码器分中中数小分并代器把注交把处文 004nl7flposg
+# 法调处训中给词交代的大词器大分法分器的器度分小源缓窗处口机机 5nays1szjwe2
+# 缓号器切度源小分器数练号词据把命中率记把源率把大发小发据大理 qjqd3t1fpc0m
+# 存把器把口中命给源率发号大命中理随调代率代文小法率号释存率调 vp6mx513lmq3
+# 法源窗中中处缓大析并法文小练据数小发成缓成大分词记注文号理中 _23qp_x0mlg1
+# 器码命码给小中度存命代机器释度并数交代交切切分注器存中器码分 yt8w8_0j5f_r
+# 口号器缓代文器中记训器理并释中练小发给把文词分法处训词据号源 lh_m8q3b9b1x
+# 文器理法代号文词源存大文据存注训并小切处词随存法分注法分度率 sxvs0z9ogzz0
+# 的器分训给切成词训交随率机成中数据把缓中机大源号文号注中小命 67ifw6y5riwn
+# 分释词命词发分中注处机中度词据的释记给机词命分号机法率命并口 itf9efdswyy5
+# 中处切把中把调存分发随中成训器窗分理命中交析中成窗据记机成并 hvlh5q132dcx
+# 注存大理源给数记发中随度处码切存切交源成数码据号数词文给调词 7ji3glb23n76
+# 中训随给数成并练法给发释缓释器切成并交据分交发代数词存中训缓 1xcpu799emtz
+# 析器数机率随大法切代注发中器释数号的交并把词法小口分机把处把 tstbpa5v0dfr
+# 释缓并中记中随率中交的分缓命成口处源理代交窗理源发代词口数码 knqyxbwy6nqq
+# 大交释中词理命器法数的词率把释源随命器注小的率器中文度发交号 hl9eq4xajo4s
+# 文数分分训把并理器释分随文源机分的处给的理中命发记注随发处缓 sjx7v0nybl93
+# 分法机练词词调率注度码源记随处练度器中理缓析并代词并给交理器 pcvih5b7hsie
+# 析窗分切口号析法数注调训存大法给数释率号源器分记分随训交存器 g_4ftkeqo4ij
+# 命交机词调分析把的小小率训机的数口给并窗数器口并练器并器命法 hp29q4bdtkd2
+# 号词小号机理词中小把窗词器释源小中调释中分窗交小分大缓析缓把 4ie_gpneijm9
+# 词据文随号中发命机把分词码中分注词数调度窗分文口训率词调释机 bmd98n0956cb
+# 法中中析口窗口分大器调窗给率析发中代缓记成理大释并号源文小分 whl8ipz8y88_
+# 口词法码大机训注小词数分训分交切析发调分存发数释中缓命小大码 pt4rqtvc1qbe
+# 处命小口调中中记法析据度大缓训大分处记理分命数随词调分训词注 lw8ywnyjiwqz
+# 号窗度切小数随口的法调机口度度处存并词并处缓命机窗文练切分交 5j4m3zb3qvza
+# 的记注词文分度理缓率并缓词文中中命口词度把据中析口处据器率源 chmbqafa9_gl
+# 存口注发窗分的注处中分注注分窗分训把源发源的练分源中词成分分 lx332xmoxbix
+# 文记给发词练号的号词存率文析代命小交法分练分命度分码码交率词 onu2hcmlf_26
+# 注处源存分机并据的的大析数率度记理练存缓代存交释据口率析中码 ixhh1qt4x250
+# 调据中训命命率大缓把随分窗训小器训训发词给释命成数中文随分号 7an_homv0q9w
+# 成口中调数中交机记处切交号据练记切数词文并分分并率分注随器分 4v0zgtyxyv93
+# 中码释发释窗注切理码器练给小交释交交词处训源释调口发窗切词调 vk1zdmx_6gx2
+# 注发随分把命分的中度练成文缓处大代号释给成注存理器注并数训源 dbi9vkp2uvdy
+# 分号器注注给法率析析存释窗据练器中交中析中器训析中代发大交随 02xkp8zfag16
+# 据据口口缓注调器切理源中号小分器数理小并词发把交分中窗词给度 7id193_dbafu
+# 器据度词代分并大小中文练成分度把代分存号口的大器析存窗注词码 qeb42fi9m7hm
+# 随文命并发器理调小码记释小器机词练记处分器析源训词分中窗器记 wkx3tm_ap7lf
+# 小词数理的分命法释交给数据小调训度器器码缓分随器缓小口缓释词 nvyvt_79epfz
+# 记处交给窗机法器源率器的交训交大切把中分文分器练并法命数词的 lpfa9zjepeg2
+# 理缓中缓小命器交切大调发记小注随词码中小词码训文文分记释器的 jkaaywbqg_jk
+# 随中机据率器把器把给器数缓随给缓据中中窗给中器率调并文处文给 nvypqolihmjj
+# 缓并器号大切的号度率分中处词度训切注器号大文释中成命口成成度 j6y4ojt94wzk
+# 度处存中号记处代词据理交中释把练的词把析词理率缓大并小存记交 qb54n8weiohg
+# 发器词随训中器分发度缓码命析代窗分给分随存窗词码代的器理度给 vxf4mvs4xd75
+# 训把中理命器给成词分率度调成把给文中率度码分器文存练并法处数 ea_sbn80lqmy
+# 数小记练分切并给存据释词数器命机中的练析数码词中中法释口代处 oe6dlmkiggpy
+# 发把机成大词发码词发分法码把释切释命记训机练记分代练把号释缓 0njbbbz0knet
+# 调随中器的机缓调的中源把度存小窗成号中的分切代成发小号器并号 w77ab4vfxjx3
+# 把口小随处数存法发分率记中词析词缓命切分处处中给率调中口注文 swjwhd7u853y
+# 交缓分号随率练切缓处把随发号号成分小调调缓度文成存释词数码词 ne5fq5jr_xds
+# 切据器存训处注切词给中中文口中析法率小理缓器口记中文口窗中法 gw3oj7x8wf9e
+# 文机缓处切的的码把交口析机练并率析记并大码并数窗记释码分码文 nrps5_bq5y0j
+# 释中训随中交中给练器中分命口中文给码成文中文小给中分分词率存 7wgbobozu4ll
+# 并据词源小中记中成器分的器调大文词词注发并并号器处析小数切注 64wpxu5wrq5s
+# 交中发法窗成词中的文中随发把给率分率大码度率成发训存把析器发 av12i5_l2_36
+# 数成存机的的分源分窗并中发词调法并练理号成器记缓据注中度度分 yrxqyihfzbbk
+# 分把成缓练数文释源据缓大交发器法中中窗训缓把码交据切释小器训 gvoy1gc412hp
+# 分析练处交器的练中注中数器随随注代调据大小码口码释窗率代切文 58zl0r51d1bm
+# 器注文词器器练的调中大号的切给词随记释中的度小文交窗代法命器 58son9dp8odw
+# 练处释码理缓代释文处把源调理切口词切分据度理释号随器随分调给 cpiqtfg09in6
+# 缓把中中码缓分分号器法法存中率大词命处源数分法器小分文口存数 05jnv5ng5qz_
+# 器给源并器码法率代命词法中析大训练中把析释率器发释中窗记释成 lqtmp8a8qt_i
+# 器代注练调分分调中调词源成发释并词率度析训发给源发交训词代理 sdhv_mbmbucj
+# 并并析源注中机分调调码窗的分随练调给随命给的器数练给码记练释 nuu7vjqyiir9
+# 文窗注中交率调器词的窗记切窗中分分度数文分代发数码码率窗中号 3i3c5vjt0txm
+# 并训窗交数处缓存分文训注源分中据练数器据处分分发存分存度器分 m9grwhhwvpgx
+# 调把代调成处分切数注据窗码成源法给理中注窗并词切小交大处号数 dkmai32zlxur
+# 给交存调分器号率的分处词调成词理把器号缓器分分分号代源度大缓 hmr7t26uk5ds
+# 度中调练交率随词处注调分词中窗据源窗小度度码数给文切代码给成 coaepcvu91g0
+# 码中数调中命码发存口缓口据给度分代文据命发据记码源给交分命率 hfaurm8qsyfj
+# 的器命率理率交小命度源并把释源注中分注分数词中注的机分练交给 k7xglvtl505l
+# 词成并成大器分中中法小器分口分注随调缓调数训发中释中文把注释 ilgepa8lesb8
+# 切器法缓训切据数缓大理切数理发中度代率数口度发码析分随并器分 lxe2t21qw042
+# 法成度度率词交缓命度窗码代分调缓随理词据机据记调交词机释并记 ml4fsklbz6z0
+# 机分据随分据分口中注大析练小法分注把把记中处文分的分中大器切 tbai63t783nh
+# 大调中度注数析记处大处源的注把处数并词交窗口码分成分发分分号 vjumih25w482
+# 数缓码注口码器处度调给源缓器词率交发缓交中处把的调号窗中训率 0usxuwqivsgi
+# 器理把法器注命中成并法器并释给词码中存代中代发切练度词处中法 nwjipkz5kr5h
+# 记分的口给码数注窗给率调源码文法注释口缓小源源分机发分存记理 htyk2s7bz7av
+# 存训存存中小随度存给中率切存注训机交词器调大成成释代中调数存 btnntoxrd3on
+# 把源分交法的记词理成器分把中成发把析分的机切器大文小数缓给器 8ol2c_r3ln5h
+# 处分存代训交处处度注析缓大理交小号理交器窗的器给率文分中交词 6icqosjj82br
+# 代分源缓率码命度机词交切中分中代缓把分调成数把调口口给文给口 3nkno1oiztui
+# 器注中度文文中发的中释号训器词率的随的号中源词分机中率码发法 vhiqfr1mpbcs
+# 随缓文分训中把度据源据的训法机据释率发并的交率口成大缓口词分 7zto1qqpry8u
+# 成训释词交释并成中注数数发口存中分发的并大中码交分发机代分并 v80vfa79hd2z
+# 交注器记把训把词析交代练交文度度器分中分法词练中发号处数存中 wh1okvxsf3bv
+# 中的分给发词文窗源练词词交据码据并源大给注训法器切法机释训器 f7chyu1_pwwe
+# 器记分交法器词机调中词释词处成缓小析练分源发分把成小窗器大率 s00olx_0_vje
+# 理数注理理分分分源训训中词切释器号分缓器器成记词中随释注给切 emjr1asu5z6_
+# 小随交中词记代析大调训器并成的分发随命随口把文文切率小器成交 txlxg4jd3lav
+# 大文命的的中发给码给缓度记随法训器分号交数码训记文小分并把分 w46nwc06byfw
+# 分文号分中切据源命存训分随分的处发理器随文源口命交记词据中调 pcjsnqwwenfy
+# 发的词码数器析命大中把交分注词据析发度注随析缓练练据文号中切 et1f5h5qkxap
+# 度率词处中释器源号器器中注中缓号析数缓法口的并机器文训训中窗 uz_umqbi8w2e
+# 切成小分口切调号器率词交并数训随随分度析数析代源命存把源据分 266d6_sb6zp8
+# 把理交小词注器中代交分练练法训存发法中练法口法理命分训析文处 7whq8j082wj_
+# 存处并度中词理码词口分分文命分注切文缓器随中口交分交训随词口 0adebj56_ctj
+# 分交分器率的词注源缓中随分中代命随号释窗器代器小并器交练练析 ga7p9srkk84x
+# 缓切释切中把机号给率词注注分并给号命发的随分训并代的口切率法 yctwk5gtwwkz
+# 的小度据词切中缓切训码的代缓中随理给交机大注给处调发率法率处 g0vxho4tfrxn
+# 切中词处法文词记度源文数记分存把缓的成析源分中窗号号法存法调 4iuy03p9r0i8
+# 的号发调成分码给器大处源调把切大注大分中源调记数分注训法析大 sr4402pxypha
+# 数并机发率的词源法分切码析度中文并大号据法缓中释法分分记把练 pmd6rtdtth8q
+# 中记中法分存给处给并练词器口据源源练中代练窗命把析析小随数代 ox0dh0g3lw1q
+# 小把号交率调析练法训成释词窗中处并随数切法分数器分的释切练窗 q2pr1wffbhw9
+# 发缓分理器发处中中窗命数代练词小交代源代记注注器调把理并析调 clplhsm80549
+# 存理率口分存析发并词数小度中的注分中注器码口词理存小把率分据 9epim7ipzplh
+# 把窗分窗词窗文处口给词缓分中据存词调窗度分释处机成词口交中给 rzhxv3fok52m
+# 切度口成析训调分词训交机发大中据分分分度号器器器交文中理数发 __d3fhvz6thi
+# 机口给源中理度理器理率中法口法器发窗中命词器器发命中小中给随 wwrgl8lr59b8
+f0 = rf"\d+{0}" + f"{f0!r}"
+f1 = rf"\d+{1}" + f"{f0!r}"
+f2 = rf"\d+{2}" + f"{f1!r}"
+f3 = rf"\d+{3}" + f"{f2!r}"
+f4 = rf"\d+{4}" + f"{f3!r}"
+f5 = rf"\d+{5}" + f"{f4!r}"
+f6 = rf"\d+{6}" + f"{f5!r}"
+f7 = rf"\d+{7}" + f"{f6!r}"
+f8 = rf"\d+{8}" + f"{f7!r}"
+f9 = rf"\d+{9}" + f"{f8!r}"
+f10 = rf"\d+{10}" + f"{f9!r}"
+f11 = rf"\d+{11}" + f"{f10!r}"
+f12 = rf"\d+{12}" + f"{f11!r}"
+f13 = rf"\d+{13}" + f"{f12!r}"
+f14 = rf"\d+{14}" + f"{f13!r}"
+f15 = rf"\d+{15}" + f"{f14!r}"
+f16 = rf"\d+{16}" + f"{f15!r}"
+f17 = rf"\d+{17}" + f"{f16!r}"
+f18 = rf"\d+{18}" + f"{f17!r}"
+f19 = rf"\d+{19}" + f"{f18!r}"
+f20 = rf"\d+{20}" + f"{f19!r}"
+f21 = rf"\d+{21}" + f"{f20!r}"
+f22 = rf"\d+{22}" + f"{f21!r}"
+f23 = rf"\d+{23}" + f"{f22!r}"
+f24 = rf"\d+{24}" + f"{f23!r}"
+f25 = rf"\d+{25}" + f"{f24!r}"
+f26 = rf"\d+{26}" + f"{f25!r}"
+f27 = rf"\d+{27}" + f"{f26!r}"
+f28 = rf"\d+{28}" + f"{f27!r}"
+f29 = rf"\d+{29}" + f"{f28!r}"
+f30 = rf"\d+{30}" + f"{f29!r}"
+f31 = rf"\d+{31}" + f"{f30!r}"
+f32 = rf"\d+{32}" + f"{f31!r}"
+f33 = rf"\d+{33}" + f"{f32!r}"
+f34 = rf"\d+{34}" + f"{f33!r}"
+f35 = rf"\d+{35}" + f"{f34!r}"
+f36 = rf"\d+{36}" + f"{f35!r}"
+f37 = rf"\d+{37}" + f"{f36!r}"
+f38 = rf"\d+{38}" + f"{f37!r}"
+f39 = rf"\d+{39}" + f"{f38!r}"
+f40 = rf"\d+{40}" + f"{f39!r}"
+f41 = rf"\d+{41}" + f"{f40!r}"
+f42 = rf"\d+{42}" + f"{f41!r}"
+f43 = rf"\d+{43}" + f"{f42!r}"
+f44 = rf"\d+{44}" + f"{f43!r}"
+f45 = rf"\d+{45}" + f"{f44!r}"
+f46 = rf"\d+{46}" + f"{f45!r}"
+f47 = rf"\d+{47}" + f"{f46!r}"
+f48 = rf"\d+{48}" + f"{f47!r}"
+f49 = rf"\d+{49}" + f"{f48!r}"
+f50 = rf"\d+{50}" + f"{f49!r}"
+f51 = rf"\d+{51}" + f"{f50!r}"
+f52 = rf"\d+{52}" + f"{f51!r}"
+f53 = rf"\d+{53}" + f"{f52!r}"
+f54 = rf"\d+{54}" + f"{f53!r}"
+f55 = rf"\d+{55}" + f"{f54!r}"
+f56 = rf"\d+{56}" + f"{f55!r}"
+f57 = rf"\d+{57}" + f"{f56!r}"
+f58 = rf"\d+{58}" + f"{f57!r}"
+f59 = rf"\d+{59}" + f"{f58!r}"
+f60 = rf"\d+{60}" + f"{f59!r}"
+f61 = rf"\d+{61}" + f"{f60!r}"
+f62 = rf"\d+{62}" + f"{f61!r}"
+f63 = rf"\d+{63}" + f"{f62!r}"
+f64 = rf"\d+{64}" + f"{f63!r}"
+f65 = rf"\d+{65}" + f"{f64!r}"
+f66 = rf"\d+{66}" + f"{f65!r}"
+f67 = rf"\d+{67}" + f"{f66!r}"
+f68 = rf"\d+{68}" + f"{f67!r}"
+f69 = rf"\d+{69}" + f"{f68!r}"
+f70 = rf"\d+{70}" + f"{f69!r}"
+f71 = rf"\d+{71}" + f"{f70!r}"
+f72 = rf"\d+{72}" + f"{f71!r}"
+f73 = rf"\d+{73}" + f"{f72!r}"
+f74 = rf"\d+{74}" + f"{f73!r}"
+f75 = rf"\d+{75}" + f"{f74!r}"
+f76 = rf"\d+{76}" + f"{f75!r}"
+f77 = rf"\d+{77}" + f"{f76!r}"
+f78 = rf"\d+{78}" + f"{f77!r}"
+f79 = rf"\d+{79}" + f"{f78!r}"
+f80 = rf"\d+{80}" + f"{f79!r}"
+f81 = rf"\d+{81}" + f"{f80!r}"
+f82 = rf"\d+{82}" + f"{f81!r}"
+f83 = rf"\d+{83}" + f"{f82!r}"
+f84 = rf"\d+{84}" + f"{f83!r}"
+f85 = rf"\d+{85}" + f"{f84!r}"
+f86 = rf"\d+{86}" + f"{f85!r}"
+f87 = rf"\d+{87}" + f"{f86!r}"
+f88 = rf"\d+{88}" + f"{f87!r}"
+f89 = rf"\d+{89}" + f"{f88!r}"
+f90 = rf"\d+{90}" + f"{f89!r}"
+f91 = rf"\d+{91}" + f"{f90!r}"
+f92 = rf"\d+{92}" + f"{f91!r}"
+f93 = rf"\d+{93}" + f"{f92!r}"
+f94 = rf"\d+{94}" + f"{f93!r}"
+f95 = rf"\d+{95}" + f"{f94!r}"
+f96 = rf"\d+{96}" + f"{f95!r}"
+f97 = rf"\d+{97}" + f"{f96!r}"
+f98 = rf"\d+{98}" + f"{f97!r}"
+f99 = rf"\d+{99}" + f"{f98!r}"
+f100 = rf"\d+{100}" + f"{f99!r}"
+f101 = rf"\d+{101}" + f"{f100!r}"
+f102 = rf"\d+{102}" + f"{f101!r}"
+f103 = rf"\d+{103}" + f"{f102!r}"
+f104 = rf"\d+{104}" + f"{f103!r}"
+f105 = rf"\d+{105}" + f"{f104!r}"
+f106 = rf"\d+{106}" + f"{f105!r}"
+f107 = rf"\d+{107}" + f"{f106!r}"
+f108 = rf"\d+{108}" + f"{f107!r}"
+f109 = rf"\d+{109}" + f"{f108!r}"
+f110 = rf"\d+{110}" + f"{f109!r}"
+f111 = rf"\d+{111}" + f"{f110!r}"
+f112 = rf"\d+{112}" + f"{f111!r}"
+f113 = rf"\d+{113}" + f"{f112!r}"
+f114 = rf"\d+{114}" + f"{f113!r}"
+f115 = rf"\d+{115}" + f"{f114!r}"
+f116 = rf"\d+{116}" + f"{f115!r}"
+f117 = rf"\d+{117}" + f"{f116!r}"
+f118 = rf"\d+{118}" + f"{f117!r}"
+f119 = rf"\d+{119}" + f"{f118!r}"
+f120 = rf"\d+{120}" + f"{f119!r}"
+f121 = rf"\d+{121}" + f"{f120!r}"
+f122 = rf"\d+{122}" + f"{f121!r}"
+f123 = rf"\d+{123}" + f"{f122!r}"
+f124 = rf"\d+{124}" + f"{f123!r}"
+f125 = rf"\d+{125}" + f"{f124!r}"
+f126 = rf"\d+{126}" + f"{f125!r}"
+f127 = rf"\d+{127}" + f"{f126!r}"
+f128 = rf"\d+{128}" + f"{f127!r}"
+f129 = rf"\d+{129}" + f"{f128!r}"
+f130 = rf"\d+{130}" + f"{f129!r}"
+f131 = rf"\d+{131}" + f"{f130!r}"
+f132 = rf"\d+{132}" + f"{f131!r}"
+f133 = rf"\d+{133}" + f"{f132!r}"
+f134 = rf"\d+{134}" + f"{f133!r}"
+f135 = rf"\d+{135}" + f"{f134!r}"
+f136 = rf"\d+{136}" + f"{f135!r}"
+f137 = rf"\d+{137}" + f"{f136!r}"
+f138 = rf"\d+{138}" + f"{f137!r}"
+f139 = rf"\d+{139}" + f"{f138!r}"
+f140 = rf"\d+{140}" + f"{f139!r}"
+f141 = rf"\d+{141}" + f"{f140!r}"
+f142 = rf"\d+{142}" + f"{f141!r}"
+f143 = rf"\d+{143}" + f"{f142!r}"
+f144 = rf"\d+{144}" + f"{f143!r}"
+f145 = rf"\d+{145}" + f"{f144!r}"
+f146 = rf"\d+{146}" + f"{f145!r}"
+f147 = rf"\d+{147}" + f"{f146!r}"
+f148 = rf"\d+{148}" + f"{f147!r}"
+f149 = rf"\d+{149}" + f"{f148!r}"
+f150 = rf"\d+{150}" + f"{f149!r}"
+f151 = rf"\d+{151}" + f"{f150!r}"
+f152 = rf"\d+{152}" + f"{f151!r}"
+f153 = rf"\d+{153}" + f"{f152!r}"
+f154 = rf"\d+{154}" + f"{f153!r}"
+f155 = rf"\d+{155}" + f"{f154!r}"
+f156 = rf"\d+{156}" + f"{f155!r}"
+f157 = rf"\d+{157}" + f"{f156!r}"
+f158 = rf"\d+{158}" + f"{f157!r}"
+f159 = rf"\d+{159}" + f"{f158!r}"
+f160 = rf"\d+{160}" + f"{f159!r}"
+f161 = rf"\d+{161}" + f"{f160!r}"
+f162 = rf"\d+{162}" + f"{f161!r}"
+f163 = rf"\d+{163}" + f"{f162!r}"
+f164 = rf"\d+{164}" + f"{f163!r}"
+f165 = rf"\d+{165}" + f"{f164!r}"
+f166 = rf"\d+{166}" + f"{f165!r}"
+f167 = rf"\d+{167}" + f"{f166!r}"
+f168 = rf"\d+{168}" + f"{f167!r}"
+f169 = rf"\d+{169}" + f"{f168!r}"
+f170 = rf"\d+{170}" + f"{f169!r}"
+f171 = rf"\d+{171}" + f"{f170!r}"
+f172 = rf"\d+{172}" + f"{f171!r}"
+f173 = rf"\d+{173}" + f"{f172!r}"
+f174 = rf"\d+{174}" + f"{f173!r}"
+f175 = rf"\d+{175}" + f"{f174!r}"
+f176 = rf"\d+{176}" + f"{f175!r}"
+f177 = rf"\d+{177}" + f"{f176!r}"
+f178 = rf"\d+{178}" + f"{f177!r}"
+f179 = rf"\d+{179}" + f"{f178!r}"
+f180 = rf"\d+{180}" + f"{f179!r}"
+f181 = rf"\d+{181}" + f"{f180!r}"
+f182 = rf"\d+{182}" + f"{f181!r}"
+f183 = rf"\d+{183}" + f"{f182!r}"
+f184 = rf"\d+{184}" + f"{f183!r}"
+f185 = rf"\d+{185}" + f"{f184!r}"
+f186 = rf"\d+{186}" + f"{f185!r}"
+f187 = rf"\d+{187}" + f"{f186!r}"
+f188 = rf"\d+{188}" + f"{f187!r}"
+f189 = rf"\d+{189}" + f"{f188!r}"
+f190 = rf"\d+{190}" + f"{f189!r}"
+f191 = rf"\d+{191}" + f"{f190!r}"
+f192 = rf"\d+{192}" + f"{f191!r}"
+f193 = rf"\d+{193}" + f"{f192!r}"
+f194 = rf"\d+{194}" + f"{f193!r}"
+f195 = rf"\d+{195}" + f"{f194!r}"
+f196 = rf"\d+{196}" + f"{f195!r}"
+f197 = rf"\d+{197}" + f"{f196!r}"
+f198 = rf"\d+{198}" + f"{f197!r}"
+f199 = rf"\d+{199}" + f"{f198!r}"
@@ -0,0 +1,28 @@
+#!/usr/bin/env python3
+import json
+import sys
+from collections import Counter
+
+
+def word_count(path):
+    """统计文本文件中的词频"""
+    counter = Counter()
+    with open(path, encoding="utf-8") as f:
+        for line in f:
+            # split on whitespace only
+            counter.update(line.split())
+    return counter
+
+
+class Report:
+    def __init__(self, counter, top=10):
+        self.counter = counter
+        self.top = top
+
+    def render(self):
+        items = self.counter.most_common(self.top)
+        return json.dumps({"top": items, "total": sum(self.counter.values())})
+
+
+if __name__ == "__main__":
+    print(Report(word_count(sys.argv[1]), top=5).render())
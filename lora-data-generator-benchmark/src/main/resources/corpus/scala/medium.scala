@@ -0,0 +1,146 @@
+package demo.graph
+
+import scala.annotation.tailrec
+import scala.collection.immutable.{SortedSet, TreeMap}
+import scala.collection.mutable
+
+/**
+ * 带权有向图以及几个常用算法。
+ * 节点用整数编号，边权为非负的 Double。
+ */
+final case class Edge(from: Int, to: Int, weight: Double) {
+  require(weight >= 0, s"negative weight $weight on $from -> $to")
+}
+
+final class Graph private (val adjacency: Map[Int, Vector[Edge]]) {
+
+  def nodes: Set[Int] = adjacency.keySet ++ adjacency.values.flatten.map(_.to)
+
+  def edges: Iterator[Edge] = adjacency.valuesIterator.flatMap(_.iterator)
+
+  def outgoing(node: Int): Vector[Edge] = adjacency.getOrElse(node, Vector.empty)
+
+  def addEdge(edge: Edge): Graph =
+    new Graph(adjacency.updated(edge.from, outgoing(edge.from) :+ edge))
+
+  def reverse: Graph =
+    edges.foldLeft(Graph.empty) { (g, e) => g.addEdge(Edge(e.to, e.from, e.weight)) }
+
+  /** Dijkstra 最短路径，返回每个可达节点的距离和前驱 */
+  def shortestPaths(source: Int): (Map[Int, Double], Map[Int, Int]) = {
+    val dist = mutable.Map(source -> 0.0)
+    val prev = mutable.Map.empty[Int, Int]
+    implicit val order: Ordering[(Double, Int)] = Ordering.Tuple2[Double, Int]
+    var frontier = SortedSet((0.0, source))
+    while (frontier.nonEmpty) {
+      val (d, node) = frontier.head
+      frontier = frontier.tail
+      if (d <= dist.getOrElse(node, Double.PositiveInfinity)) {
+        for (edge <- outgoing(node)) {
+          val candidate = d + edge.weight
+          if (candidate < dist.getOrElse(edge.to, Double.PositiveInfinity)) {
+            dist(edge.to) = candidate
+            prev(edge.to) = node
+            frontier += ((candidate, edge.to))
+          }
+        }
+      }
+    }
+    (dist.toMap, prev.toMap)
+  }
+
+  def path(source: Int, target: Int): Option[List[Int]] = {
+    val (_, prev) = shortestPaths(source)
+    @tailrec
+    def walk(node: Int, acc: List[Int]): Option[List[Int]] =
+      if (node == source) Some(source :: acc)
+      else prev.get(node) match {
+        case Some(p) => walk(p, node :: acc)
+        case None => None
+      }
+    walk(target, Nil)
+  }
+
+  /** Kahn 算法拓扑排序，图中有环时返回 Left 以及环上剩余的节点 */
+  def topologicalOrder: Either[Set[Int], List[Int]] = {
+    val indegree = mutable.Map.empty[Int, Int].withDefaultValue(0)
+    nodes.foreach(n => indegree(n) = indegree(n))
+    edges.foreach(e => indegree(e.to) += 1)
+    val ready = mutable.Queue.from(indegree.collect { case (n, 0) => n }.toSeq.sorted)
+    val order = List.newBuilder[Int]
+    while (ready.nonEmpty) {
+      val node = ready.dequeue()
+      order += node
+      for (edge <- outgoing(node)) {
+        indegree(edge.to) -= 1
+        if (indegree(edge.to) == 0) ready.enqueue(edge.to)
+      }
+    }
+    val result = order.result()
+    if (result.size == nodes.size) Right(result)
+    else Left(nodes -- result)
+  }
+
+  /** Tarjan 强连通分量 */
+  def stronglyConnected: List[Set[Int]] = {
+    var index = 0
+    val indices = mutable.Map.empty[Int, Int]
+    val lowLink = mutable.Map.empty[Int, Int]
+    val stack = mutable.Stack.empty[Int]
+    val onStack = mutable.Set.empty[Int]
+    val components = List.newBuilder[Set[Int]]
+
+    def connect(v: Int): Unit = {
+      indices(v) = index
+      lowLink(v) = index
+      index += 1
+      stack.push(v)
+      onStack += v
+      for (e <- outgoing(v)) {
+        if (!indices.contains(e.to)) {
+          connect(e.to)
+          lowLink(v) = math.min(lowLink(v), lowLink(e.to))
+        } else if (onStack(e.to)) {
+          lowLink(v) = math.min(lowLink(v), indices(e.to))
+        }
+      }
+      if (lowLink(v) == indices(v)) {
+        val component = mutable.Set.empty[Int]
+        var w = -1
+        while (w != v) {
+          w = stack.pop()
+          onStack -= w
+          component += w
+        }
+        components += component.toSet
+      }
+    }
+
+    nodes.toSeq.sorted.foreach(v => if (!indices.contains(v)) connect(v))
+    components.result()
+  }
+
+  override def toString: String =
+    TreeMap.from(adjacency).map { case (n, es) =>
+      s"$n -> ${es.map(e => f"${e.to}(${e.weight}%.2f)").mkString(", ")}"
+    }.mkString("Graph(", "; ", ")")
+}
+
+object Graph {
+  val empty: Graph = new Graph(Map.empty)
+
+  def apply(edges: (Int, Int, Double)*): Graph =
+    edges.foldLeft(empty) { case (g, (from, to, w)) => g.addEdge(Edge(from, to, w)) }
+
+  def main(args: Array[String]): Unit = {
+    val g = Graph((1, 2, 7.0), (1, 3, 9.0), (1, 6, 14.0), (2, 3, 10.0), (2, 4, 15.0),
+      (3, 4, 11.0), (3, 6, 2.0), (4, 5, 6.0), (6, 5, 9.0))
+    println(g)
+    println(s"path 1 -> 5: ${g.path(1, 5).map(_.mkString(" -> ")).getOrElse("unreachable")}")
+    println(s"topological: ${g.topologicalOrder}")
+    val cyclic = g.addEdge(Edge(5, 1, 0.5))
+    println(s"components: ${cyclic.stronglyConnected.map(_.toSeq.sorted.mkString("{", ",", "}"))}")
+    // 反向图上的最短路径
+    println(s"reverse distances: ${cyclic.reverse.shortestPaths(5)._1}")
+  }
+}
@@ -0,0 +1,1806 @@
+package bench.pathological
+
+object Pathological {
+  val raw = """/*\*/\""/**/""\字""\\
+\/*x"字
+
+\\/*x
+/*字\
+"
+/*
+"*/\/*
+"""\"""""""\x*/""*/\""字字\"""*/x字""/*/*x/*\""
+"字/*/*字\/*"""""
+字""""/*"\""*/\
+"
+*//**/\""
+\字\
+x""x/*字/*x*/\"
+x字/*
+x字\""\\/*"""*/""/**/*/x字*/"
+/*字\字x/*""*/
+"*/\
+*//*\""字/*x字字
+x\x字"
+x/**//*\字x/*"\字
+"""*//*\"x""字/*字/*\*/x"""字*/*/""字"*/字
+"x字*/""\x/*/**/""x\"""\/*\/*字"""""/*/*/*x\\x\""""字
+"""""\""字
+
+/*""\*//*x字\x\
+x字""*/
+""
+""/*""x字\\/*""
+""""字x
+*/*/x\\字x\"x
+*/"字*/"x*/""
+""
+
+""x\"""""x"""xx\/*/*""字""字"\*/
+\字字""\*/"\*/\字*/\*/*/
+*/""字\字*//*字"
+x字x\
+""*//*"/**/""/**/字x""x"
+
+\
+"\\""
+""
+字/*字字*/""字xx""x"x
+x""字字*/""
+字/**/""*/字xx\字*/字*/\x\""*/\*/"字""\\字""\/*\"
+"x""\
+""字/*
+\x字"""\字*//*"*/
+x"""字*/\字/*\x*//*/**//*
+"/*x*/字\/*/*/*/*/*"""字/*
+/*/*
+""""/*字xxx
+
+"*/字\/*/*/*/*/*""x""x"/*
+""""字
+"""*/\*//*\\\""/*
+""xx*/x*/""x"字\字*/\*/*/*/xxx\""字字\
+"xx
+x\x""/*""
+
+x"""""
+/*/*字"""""*/字
+x"""""/*x"""/*\
+
+\*/""\*/*/""
+""字""\\
+\/**/\*/
+"/*""
+""*//*字/**/x
+字""\字x*/
+x
+xx*/*/""""xx
+
+\字"\""\\"\/*字x""/*"x/*"""""\*/""字""\
+/*""*//*\"字字字\*/"""""*//*"x字/*x"""
+
+"x"字\\""字/*x*/xx""
+/*\/*"""x""
+\"字字"
+"字字
+\\/**/
+""*/\""x""字""*/字""x""字""\""\*//**/\"
+x字
+
+/*
+
+/*字/*/*""""\"/*"xxx
+字x\\\""x\
+"字""/*
+"*/
+/*
+""""x*/*/
+""*/*/x字x\*//*字""/**/"""""/*x""字""
+""x"\\\*/""\x"""*/xx\字xxx"\""""xx""""""字\/*
+/*""x/*x字"字\""x字*/*/\"""*/"\*//**/*/*/字"字\x*/字*/""字"\*//*
+字字/*
+/*/*x字"""""/**//*xx""x/*x""x""x"""/*
+
+""\字x\*//*字字"*/"字/*
+\字""x""x
+*/x"
+""*/\
+/*""字*/字xx
+x\
+""字字*/字字""字\字*/
+x\""\x""
+字"""/*\字字*/
+\\x""x/*字*/字字"/*
+字/*字/*\
+字""*/""字x
+*/""/*
+"字"""*/字x\字\字字/*""""""字xx/*"字
+*/*//*/*/*字
+\*/x/*/*
+/**//*"/*\\/*x""*/字字x""\"""
+*/\\x/**/
+字"""x字*/"\\/*\
+*/x字x\字
+/*x\"*/x\\*/\x字"x""
+/*
+*/
+字
+""\字""\x"
+""""*/*/
+"/*""""/*/*""x
+x*/字字\/*/*字字*/
+\\*/\/*x*/
+x\"*/"
+""
+\/*/*/**/\"字\"""\""
+\
+\/*x\字"""/*\x/*""/*
+*/字x"""*/*/"\"""/*/*\
+
+"""x""\字""\字*/""\\x"
+/*
+""""/*/*\/*字"字
+/*x\*/*/\/*字\""""*/*/字*/字字*/
+/**//*""
+字x""
+x
+/*\x""*//*"/*x
+x\/*\""*/*/x/*"""字
+"字\\字""*/
+xx
+x""字"/*x""/*/*\x*/
+*/""*/
+字
+字\*/
+/*\
+*/xx"
+\""字
+"""
+""x\\字/*\
+*/
+
+
+""字
+"字字
+*/x字\
+字""字/*字/*字字字"*/x\"\/*x""""字
+/*"""*/
+\字字*//*\/**/*/字/**//*"\""x""""""字\"字/*""
+字/*
+x*/字/*x字字"""字*//*x
+
+/*""
+"/*/*字字\xx
+/*"\/*x"*/\\"字
+字*/字*/
+"""\*/""""\xx""
+字x字""字字
+"x"*/字"
+"*/""\\
+
+\x""/*""/*/*字"*/x字x\""x字"*//*""""字
+"字\字""字
+*/"""\"""x\""/*""
+xx字字\*//*/*\x\\""x/*x*/字"""字/*
+x*/*/*/*/*/""*/字x\x字
+\\\""\字"x\""
+xx"x
+字
+\*/字*/字\
+*/""
+"x*//*/*
+/*""""\字字""
+"/*字\xx""x*/x"
+/**/
+*/
+""*/*/*/\""字\x
+
+x""*/x\"\字\x\/**/
+\*/
+\
+x字字*//*字
+/*字x/*""
+字"/*\/*/*/*x""字*/
+\字\\/**/\
+/*""\*/""""x*/x
+\""""\
+/*""""x"/**/x字x字字x\"x"\\"xx\*/x字/*"
+""*/
+"
+字
+"""""*/x*/""/*"*/*//*""
+/**/\\*/"x/*/*x字*/""""\字"""/*"
+""
+
+*/""""\x*/""""""字*/*/""x*/""
+字""""/*
+""*//*/*x""*/
+*/x""*/\""字*/\\字x*/\x"""/*"""
+字/*字"字*/字xx""*/x字""""*/*//*""\"""/*\x/*"/*"\字""\
+
+""\
+xx""*//*""x*//*字
+*/\*/x
+*/"/*"*/"
+/*x""\"字"x
+x*/x""*//*\*/*/\*/*/""
+""*/""/*字x字""""""\字"x"*/"
+字
+""\\
+x/*\*/
+"*/"\x\
+/*""""/*"/*/*字字字\\\*/字/*x/*"""""/*
+字"""""x/*"""
+""""字*/字字/*x*/""/*x*//*"
+xx"xx/*"*/\
+""*/""""x""x*/x*/""""
+字/*
+
+/*""
+x/*/*
+\*/""\""字\""/*
+/*x""/*
+
+*/""/*
+\x""
+"\/*字\*/字"/*
+x/*\
+*/x""*/"""/**//*"*/
+
+xx/*\字x"
+*/
+"""/*""字*/"/*x
+
+""x\字
+\\*/*/x"字x*/x""x
+/*
+/*/*
+字字
+/*x\字
+\"""""""""*/x/*x/*
+字
+x/*\\*/xx""/**/*//*/*"\"""*/""
+字/*\"/*"/*
+""
+\\"字*/*/"\\*/*/字*/字""*/"/*
+*/"""
+/*"/*字/*xx""*/""字x"x字字"""x
+\\
+"""
+/*""\xx""字
+/*字\*/\x\""x*/\
+x字"""""字*/"""*/"\字*/字"/*"*/
+字""*/x\"""""
+字\*/
+*/
+
+*//*字""x/*
+字x*/
+字/*/*\字*/""
+*/""字字\/*
+x""
+/*
+""
+x字x"*/
+x\\/*"*/"
+\/*""""/*x""
+字x字*/
+
+*//*""/*"*/*/\/*"/*/*\/*
+\/*字"""字字*/"/*x
+""
+\
+*/*/\""/**//**/"\\/*
+/*x"
+字字
+*/\字"
+*/"字\""*/"
+
+*/x/*\
+*/\字x/*字/*字*/
+字x""""/**/*/""\""/*x
+x""x/*\x""字""\*/""x*/字x\xx/**/"\/*字*/
+\"""字字*/
+x\/*x""\*/*//**/字字\*/""
+
+*/*/\字"/*
+*/*/\"/*x/*"
+"*//**//*
+/*
+\\*/""
+*/\\"\字*/字*/\\""字\x"xx字"*/
+*/
+字x"字/*字字\*//*字字
+字/*字字""""
+""\\xx\字字xx""
+"
+""*/*/字x/*x/*/*\x/*字""x"字""x字字"\字*/\\""\
+/*"x字"""x/*"\""\/*
+/*"""/*\""\"""\*/字\\字""
+"""x\\\"\\/*/*\\""
+"\*/\""/*x"""字\/*\*/字字字*/*/字"\""""*/"/*""""\字\x/*"\*/
+x*/x""/*"*/字字/*"""\"x*/字""字""x\*/""\""*/\
+"
+/*字xx*/\/*
+/**/*/"\/*\x*//*xx*/\\/*""""\/*"
+""*/*/
+""""字*/字
+
+""*/字\"""
+xx\
+/**/
+x
+字*/\\"/*""
+
+
+*/""
+*/"""""字
+x/*/*"""\
+"/**/"*/x"
+""\*/
+字xx""""
+字字
+字字xx"*/*/
+x\*//*\xx""*/""x*//*字*/\"\/**/字*//**//*""\/*/*\*/
+""x*/*/字"*/xx/**/
+x/*"x/*\x""""字字\/*/*/*\x/*\""/**//*/**/""*/\\
+""x字\/*/*xx*/""字/*"
+*/字""xx"\/*""/*""字""\字""/*x""""/*""""\\x/*x""/*字*/\\/**/""
+"*/"\字\*/x*/\"""*/"""字字*/"\*/xx*//*/*x/*\""""\/*/*"字""/*x/*"/*""\/*\字"字/*
+/*\字"""字字/*/*字\"""字""
+""/**/""""字*/x
+x\/*\字x""*/
+\""/*""字\/*\""字x/*x""
+字
+"\x"字""
+字""x*/"
+""x/*""""字""*/字x"""字/*/*/*
+\\字/*\/**//**/"x\字/*\""x字字*/
+*/x\\*/\*/"/*字x
+*/\"""*/字/*字"
+*/字x
+
+"x\*/*/字x
+x\\"x""字/*\
+"""*/"/*字/*x*//*字""\\/*\xx/*/*字*/
+*//*\字
+
+/*
+""x""x\*/\/*"""\/*"""
+"""\\/*x\""字"""x\/*/**/xxx"\\x"""xx*/x
+"xx/*
+/*/*字""x*/\""x字字x字x""""""""xx\字\字
+""/*字*/字""*/xx"
+字/*x\
+
+字"""\/*\""x
+x/**/字
+*/"\
+\/*"\"\/**/字/*
+"/*""字
+
+x""/**//*\*/\""
+字"""x/*""
+/*\*/\字""""字/**/xx
+\"*//*""x"""""
+字"字x\""
+\xx*/
+""""字*/"
+\\字字""字
+"
+x""x""*/*/""*/xx"字"\"/*""x\*/x"
+/*\xx*/字/*x
+\*/
+
+字
+""/*""x
+"x
+/*x"""字xx"/*
+"/**/
+字/*x/*\*/字
+字
+字\"字字
+
+""*/""
+""""\""字"""字
+x\""字
+
+\
+x*//*\\*/
+x/*/*"
+*/"字""xx*//*字x"/*/*""/**/"*/*/
+
+/*
+\""/*/*"
+x""/**/\"x/*/*""\\x\/*x
+
+
+
+字*/"*/字""*/
+""
+
+"x""\字x
+字*/xx字字
+x\\*/"\"""字字x""\*//*/**/"x\/*
+\/*x\\*/*/""/*/*/*字/*x字
+"/*"""
+/**/字x字x字\/**/
+
+/*x""x
+*//**/"xx
+"\*//**/
+x""x*/字/*"字"x"
+字x字
+"/*\""*/*/"\\/**//*"""""
+"\""*/x*/\xx
+
+字
+\"/*""x\*/字*/字""
+\/*""""
+/**/""
+字字
+
+*/*/"x\/*字/*
+""
+/*/*""/*""*/*/字\x""""字""
+""
+\
+""
+"
+x\x*/"""\""
+/*/**/""字"x/*""
+\/**/
+/*
+
+x/*""/*"\"""*/x字xx/*
+*//*x\""
+
+/*x字x/*字\*/\\/*字x/*""""x*/
+字\字字
+*/
+"*/字x/*""""\""/*""""/*/*
+x字/**/""字x字
+/*/*x*/""\""*/*/\/*字""\""x
+/*/*\/*""/*字x
+*//*字*/x字\字\""/*字/*x/*x*/*/*/字/*
+\*/x"""x字
+字x*/字
+字/*/*字
+字/*"x字
+\x\\*/\*/*/字*/\""字x/**/x
+/*
+""字*/\
+
+
+""/*""\*/x*/*//*字字x/*""*//*""""xx*/\字\"*/"字x""/*
+\*/
+\字
+/*""字\""""\字"""x/*\x
+"
+字""x
+*/xx"\/*"\字字*/""
+""x""xx字x*/x"字*/*/
+
+""\"
+
+\
+*/字""*/x字x"""""x字"""
+/*字x\*//*
+""""\*/""\\x*/
+"*/
+字\/*/*
+\x字\
+*//*字x*/\x字"""
+x*//*/**/""字字字x/*x\\*/\""xx字"""\x""""""x/**/*/字""x
+""
+字x"\
+\字x字""""""/*字x*/\字\\\""\*/\字\/*x"\
+\\/**/""x"字字\"
+字\"/*x/*\
+"\/*
+/*/*"
+""
+
+/*x字字x\"*/\
+
+/**/"/*""
+字/*/**/""\/*\/*字*/x字
+/*字
+""
+/*\字""\*/*/字xx/*"*/"xx
+/*"*/字\"*/"
+x*/x\"x""x*/\/*\""/*""\
+字/**//*字/*\""
+*/\x*/xx"""
+*/x"/*xx
+/*x\*/x\""x/*\"*/字"""\
+"""x*/x"x""x
+
+\\字*/\\*/x/*""字*/*/\\字"\*/"/*\*/x"
+\字
+*/""*/"""""/*/*/*\/*
+
+字字/*
+x
+
+/*"xxx*/
+xx
+""\"x""*/"x/*""""x\"/*字"字"""
+""字"\*/
+
+"""""
+字*/x*/*//*x/*"字字"\/*/*x字字/*/*xxx""
+字"""
+x*/x\\*//*"
+
+*//*""/*字x*/""
+"字\\""x"
+/*""x字""
+""""""
+x字\/*"/*\字*/*/"""/*
+xx
+\*/"
+\""
+"x\"""*/
+
+\/*/*\""""字*/"""*/字"/*""字
+*//*字
+字""/**/字""*//*\字*/*/"xxx"/*\
+/*/*\*/
+"""*/"*/""
+
+\
+\x\"x/*字/*x"
+
+/*"/*字""x*/""\"x\*/
+\xx字字"""/*/*\*/
+"x"""
+\
+字*//*/*"/*""\字""字
+\
+\
+""x"*//*字字\字*/""字/*\"\x""字x""""字"""/*x"字x
+\""""*/\/*x\
+"*/字
+字"x*/
+x\""""字x"x字xx"*/x"""""/*\x""
+
+*//*"/*"*/""x字*//*""\\*/"x"字\字
+""/*/*x\""字""x/*
+x*//*"*/x/*/*
+/*/*\""
+/*/*""""字\\*/x/*
+"字\""\"x"\"
+x\"*/
+""字*/x*/字*/*/""
+
+/*
+*/x*/字"""x*//*
+"*/
+"""/**/"\
+"/*\字*/"字
+"/**/*/\*/字"字/*
+
+
+"*/*/
+\*/""\"
+字\"x""/*x\x/*
+字*/\
+"\""\\x"""x
+""*/\"*/字x
+"
+"""\字\\字*/""*/\字""
+\x\\*//*""/*\/*/**/"""
+""""字"""字"
+x
+"""*//*/*"
+x字
+\x字/*x字\"/*/*字\""x
+x*/*/""*/字/**/字xxx""/**/
+字""
+
+*//*字*//*\"字x"x*//*字"字x*/""*/""x/*""/*""*/*/\\"\/**/"""
+"\/**/"""/*
+""/*"\\字"*/""""
+\\x字\*/*/"""字字字x""/*x\
+*/*/\"*/
+/*""\字""/*"xx字字x字""""x/*x\*/\x"\"""x字
+"x
+""/**/
+"\"字/**/""字/*/*\
+""*/"
+*/*//*
+""字字""/*"""
+字"字
+/*字"""\x""字\\""""/*""x
+""字
+/*\"*/字
+""x"""/*字\字"\"
+""/*
+\
+字""*//*""""x\\x
+"""""*/x"""\/**/字"""x\\\"/*/*/*\*/"""x字字/*""
+/*
+""""字/*\*//*\\/*"*/""/*""/*""x""""/*/*"\\字"x""/*/*""/*\
+
+字\
+\字\"\\\字x/*/*""\
+""""字字
+字""/*字*/*/""字
+\\x\*//*
+字x*/字
+
+字x/*""/*\/*""字*/"/**/""\字"*/""""
+*/
+字/*/*
+*/
+*/"
+字\字"字字""*/*/\/*""/*\xx""*/x*/""/*""
+""""\""
+x""x""*//*"
+字""""
+\"""\
+*/""\*/"/*
+\
+字
+""
+"x
+x"/*\
+\*/"字
+""*//*字/*/*""字""\*/""""*//*字"""字\"*//*"""
+/**/\
+*/*/*/
+*/\字/*""*/字""
+/*/*x
+x""
+
+\"""字字/*/*"/*/**/字\*/
+x*/
+"
+/*\/*x字x*/
+"""
+\""
+字*/"字x\*//**//*"*//**/字/**/"""
+字""字
+*/字""x字*/x/*
+
+"/*字*/
+字字xx"字*//*xx\""x\
+/*
+"""""字字
+字/*"""字/*/*字"
+字"字*/\"/*"""x""*/""字\/*x*/xx字字*//*\
+/*"x
+字*/*//*字"*/*/
+\"""
+\x
+x
+\字
+\*/""
+*/*//*""x/*\
+字"字"/**/
+*//*\/*
+\x""字""\*//*""""""x/*\
+""""x\/*x\/*x""\字"/*"""x""/*/*x"*/*/\"x*/x""""\\"/*"x"
+
+\字字"
+字"""\""
+
+/*字
+
+""\
+*/x\
+
+""
+x"字\"""""\字\""x*/"
+\*/""/**/""""""x""
+""/*""字x/**//*""/*/*字*/""
+*/字字/*"/*字/*/*字
+x
+字"""""*/*/""
+
+\
+
+/*"x\\/*""*/xx"""/*\""x""""""*/
+\\x"/*
+\/*
+/*/**/"/**/x\*/*/字""*/xx*/
+""x/*
+\x
+字\/*\*/""/*"字字
+xx/*字x/*字\字""\字/*x*/"""\""\""/*""
+x""
+字/*x"/*/*字字*/*//*字字/*/*
+""
+字
+\\""""字
+\
+"
+"*/""*/""
+"\字\*/x""/*/*
+*//*""""字"x"
+"""x\
+\*/x/**/*/\\
+x""\*/"\""x\*/字""\x
+"\xxx字
+*/
+"
+*/
+*/x字/*
+/*"
+/*字字/*字\
+*/
+*/*//*
+\x/*x
+x/*
+/*字""x\字*/x/*x*/字"\*/\*/字"/*"\/*""
+\
+""""/*x""字x
+""字\x\""/*\*//*/*
+
+
+
+\xx""""x\*/字"""""
+""字x""\
+字/*""/*"/*"x/*/*字"
+"/*
+"字""/*""/*x"""\x""
+"/*/**/""/*
+/*\x
+*/"
+*/字""/*x"\x/**/
+*/字/*""
+\*/*/*//*字/*\字/*/*
+x*//*/*
+
+\
+字""
+xx字*/""字/*\字\x\\x*/""\\*/*/字\"""x字""\x""\"\\*/"""*/字字\/*
+字"""字字
+"*/*/""""x*/""\/*/*"字x字"*/
+字/*/*字"""x*/""
+"x
+\x*//**/
+
+字/*x
+\\字/*"""
+\/*
+
+字字x
+
+"""字*/x
+字字/**/*/字"""\
+*/\字/*
+字""\""\字\
+
+/*""""/*""
+\x""xx\*/\
+\/*"/*x"字字
+"
+
+x*/x\\*/x\""x字*/\""\*/字/*""""\/**/""\x字\x\\"*//**/字"""/*字*/""x
+""x"*/""
+
+字*//**/""""\字"\x
+""/*""字x
+
+
+xx
+/*
+字字字""""\/*\*/
+x\x字x*/"字*/\
+"*/字字""xx\\\\/*""\""
+x""*/"/*
+字/**/*/*/
+
+*/*/字字\*/
+x*/x"
+x*/x字"""*/*/x
+/*""
+""字\/*x"
+""/*/*""字""/*字*/字"字
+"\
+
+
+/*\""""字*/\"/**/
+/*"""字/*\""
+\/*"字/*\*/""\"字"字字"*//*""字""\*/\"""/**/""
+x""/*""*/*/""
+""/**/
+*/*/""字字/*x*/
+x""*/
+"x/*"""
+/*"\\""字x*/"\*/\
+\*/xx*/\字字x""""*/
+"字"""字\*/""字
+"\\字
+/*
+""""/*xx"\/*\字\"x"/*"字
+""""x字""
+/*"字"/*
+/*"*/*/
+
+
+字"/*x*/""x
+\\"
+\字""/*/*
+字\*/"
+\"x\"字x*//**/x\/*x
+/*x*//*""\
+\*/""x字\/*字
+
+/*
+/*"""""x
+"
+*/字/*
+"""x""*/\""*//*"/*""字字"""""x"\\/*"
+x""*/\"""
+""\x""/*
+/*字\\x字""x\字*//*
+*/*/""
+"xx*/""x
+""""
+""x\\x"\*/*/字\"""""x*//*x字字"\/*x字\x*/xx/*"*/字*/x*/x""""
+*//**/字*/字\/*/*
+""/*x"字"/**/"字字"字"\
+字""/*""/*
+"\字
+\/*""
+"/*/**/*/\""*//*/*字*/
+字*//*\/*字\/*""字*/
+
+""
+\\\字"x
+""x字
+xx/*/*"字字\\""\/*x字x*//**/xx
+"""""""
+x
+*/x"
+/*\x\""x"x*/字\""
+""*/字\""*/字"""""""""x""\
+/**/
+""/*\""/*\"""x\/*\字字/**/"""/*/*字x*/"字字"
+x
+xx\
+
+\/*/*""*/
+/*
+/*\*/"x
+x
+"""字字字x"/*\\字*/\""字x*/"""""*/*/x*/
+""\\x"/*\""
+"*/x字x
+\*/\"\""字字"
+字xx""""""/*
+"/*/*字""""\/*xx
+""
+/*""\*/
+*/字字/**//*""x字\*/"""*/字*/\/*字x*/
+"字*//**/""*/"x*/字
+\x\/*""字"/*\*/
+"字
+字""x字""/*""
+"x"字x*/字*/"
+/**/字*/*/\
+""
+
+x
+x""x\
+"""/*\/*
+x""""""字x*/\x/*""字/*"""*/
+/*字*//**/x/*
+""*/*/\*/\"x*/\/*字*/"*/"
+/*\"x字/*"""
+/*
+\""x\/*""字/*字
+\x""""\x*/
+""\\\""字""
+
+/*
+x\*/"x*//*x*/""/*/**/*/*//*字*/\""字*/""/*\/*字
+"""\*/\字xx
+
+字字"
+x/*字""x*/xx字"\""字""""/**/
+
+x"\"""字x"
+/**/"xx\x\/*""*/"/*/*"*/
+\
+
+x字x""/*/*\/**/xx字""""\/**/"\x字*/\\字""
+*/""/*字字/*
+
+*/
+xx字""
+""
+
+\x*/字"""x/*/*字
+"x"""""字字"*//*"字*/*/\/*\*/*/
+x\
+字
+x""/*
+*/\"/*xx"""/**/*/""\""/*
+字*/"
+字字字字"*/x\"x""*/""*//*
+/*"字\""
+""\"字*/"x""xx/*x""字"""*/"""字*/
+x字""
+\*/字*/字""x\/*
+x\
+\
+
+""""""/*\\/*""""/*"*/*/
+
+""字/*字
+
+"
+/*/*字\""/*/*\字字""/*"/*""\/*
+"""\*/*/*/x""""/*x/**/""x/**/*//*\x\"
+"""
+
+
+""字x*/x
+"x""*/\
+\""*/字""*//*
+""
+/**/字""x\"
+*/\/*"
+/*""
+"/*"x/**/
+"字x
+\字"""""/*x"""字x*/
+*/字"
+*/
+"*/
+字/**//*
+字"字/*"/*字字x""
+字
+*/\"""
+/*""字\
+\"\\*/x
+\""*/*/""
+x"*/
+
+"\*/\x
+/*x字*/"*/\""字"
+""*/""x""""x\"
+字"字"""*//*字"""字""字/*""x/*
+\\x
+*//*x"*/""字"
+*/
+*/""\*//*x字\字*/*//*"x字
+"x字\"
+"
+""
+\""""
+*/""字"""字字"字/*
+*/字
+
+/*x/*""""""\
+\xx"x"
+"字*/x*/*/x*/""
+字/**/""/*字"字x"\*/*/\/*/*x"""""*/\"
+字/**/""*/""/*"""x"
+\*/*/字
+*/*/
+\/*"/**/""
+/*
+/*x
+
+
+/*/*\x*/
+x"*/""
+*/
+*/*/字""x"\"\*/x
+/*
+字字""\x""\x""/*""/*x\""字*/x"""字*/""字"\/*字""x*/字
+""\""x""/*""
+*/*/*//*x\
+/**//**/
+"
+字*/
+x
+/*字*/\
+""
+""\""""""/*字\
+字字"\x*/字\
+*/""
+x\*/x/*"/*""x
+*/
+"*/
+\"""*/
+""字""
+
+"\""x"/**/""
+
+"\
+
+/*\/**/"字x""
+xx""\*/""
+""\x""""\x""*/x字""""\字""
+\x\*/"""x
+x字
+*//*\\字*/字x""x"
+字/*
+/*x""
+\\/*字"""*/"\x*/*/
+字/*"/*x\\字"/*""\
+*/xx\""*/字/*""字x/**/*/
+""/*\\字"""
+字\"x"/*x""*//*\/*\*/\\/*
+*/\\*/
+\字\字"*/"*/"*/字x
+"""字
+*/*//*\\""""
+"/*"/*
+""/*\/*字x/*字x""/*""\*/
+字/*字
+"""\\""*/
+字*/*/""字"/*""*/""*/x\字""字""/*/*"字/*\x字\/*字x
+字\
+""x""
+
+*/
+\"
+*/"
+""x\字
+
+*//*"""\\\x
+*/*/x"*/*/"字*/字
+"*//*/*\/*字
+/*字x/*/*/*/*字"
+/**/字x\
+x
+\/*字"*/x
+
+""\\*/\\/*"\\/*x\
+字\/*字
+字x\""
+
+
+
+*/"
+xx"/*/**//*
+/*字
+\"""
+x\*//*"*/x"""字字
+"*/字/*\*//*
+字/*"/*""\字"""/*x\"""
+
+"/*"\*/
+\/*\字\x""xx\x*/""""/*\\"
+
+""/**/*//*
+*//*""\\""字
+""\""
+\\"""/*\字/*字*//*/**/""字字
+/*/*
+""字*/字""*//*
+"/**/x"x*/
+字""/**/
+字"x"x字/*\\""""字"x*/\/*xx
+
+"\""
+字\"\字""\\"
+*/x"x\"\""x*/字""""
+x
+xx字x/*x\
+*/""字\/*字x"x""""*/"\x""
+
+/*/*""*/
+
+*/"字\\\""/*\*/字字/*""x/*xx/*""""/*\x"x
+*/"*/"x
+""
+
+*/\"\\"x字""字
+x字"""""/*\
+*/\"/*/*""字""*//**/
+"\x字"/*""字""/*
+字
+*/*/
+
+xx/*"字x""*/"
+""字x字
+
+"x"
+*/\"x/*x字x/*xx
+字""""""x""""
+x
+*/字x""""\字/*字"/*字/*\xx""字字/*"字/*
+""/*"""x字字\字
+x
+字"
+x
+/*
+\""字xx"x*/\字
+字字\"""*/字*/字\*/x""\字字""
+x\*/
+字
+字字""/*""""
+/*"x*/\"/*x*/字x\/*\\/*""*/
+字字""*/"""x*/"*/*/"/*\/**/
+/*""
+/*
+"
+\字"字x/*""
+\\*/\
+
+""字字
+x/**/x"\/*""*/\""
+"
+x字x字"""/*x
+"*/*/*/"
+"""/*"\/**/字""x
+
+/*
+字字""xx
+"""
+*/""\"""""/*字""字\x/*
+*/
+"""*/
+*/字*/""/*
+"\x字""x
+
+
+
+\""\""字
+\
+字*//**/*/""字"字x*/x*//**/
+
+*/字"""""""
+*/字x""/*\""\"字字/*"\""
+x*/
+
+*/
+*/*/"\\*/*/
+
+x*//*x/*
+
+字x
+字
+"/*字字\/**/字字""/*字xx"\
+/*字\x
+"字x/*xxx""""/*
+""*/
+
+字xx""*/x\\\*/
+
+/*\x/*/*xx"字\xxx
+/*"*/"字*/x/*
+字*/x"\/*
+x*/""x"*/
+""字*/"
+x""
+*/
+字*/*/"/*""字\/*"""x/**/""
+"xx/*x""*//*"字/*/**/*/字\字*/*/*/""xx
+/*字"*/字x/**/
+""xx\xx*/""
+""/*"*/*/
+/*"字"x\x\字*/x
+
+x\\/*
+
+/*字
+*/x
+x
+\\*/"*/"""/*\x/*"字x
+/*\*/""\""字x""/*""/*x""x\xx/*""*/"""字"
+*/x/*字"字x""\
+
+x""字
+字
+""/*字
+""\*/x""\
+"
+""
+*/""\"""*/
+*/x
+""/*/*/*x
+"/*""/*""/**/"
+/*字x字/*""/**/字
+
+\*/*/"""\*/x""x*/
+/*
+x/**/\
+x\\/*\/*字"\字""\x/*""/*x*/字x字x/**/"/*
+"\"字/*字x/*xx/**/*//*"*/"\/*/*/*x"""
+
+x\""\
+*/*//*字/*"
+""\*/""*/x"*/x*//*字""xx字\x
+
+*/""/*/*字""\x字""/*"
+x字\\\
+*/"""*/
+/*"字x""字x/**/x"字
+字x*/*/""字\
+"
+""x/*""
+x"
+"""""""\""/*/*/*"""字
+字\
+字
+"x*/""字\
+
+*/""x"字"字""""字*/*/""字""""""\
+*/""""/*/*x
+""\/*\
+"
+*/
+
+""
+/*"\字\x""xx"/*字""
+\字
+*/"*/\""/*x*/"
+""字\/**/"*/x字\\xx字\字x字"\\字x
+"""""
+\字""
+\/*字\\x""字
+字
+字\x"\"
+/**/\/*/*x/*""字""/*字*/*//*/*\字*/"/*
+"""字x""\字\xx字
+""/*字/*"""""字
+字/*"/*
+x
+*/*/
+*/""
+字""xx
+字*//*\/*/*"""""""
+字*/字
+""""*/"x"xx""/*
+/*\
+x字/*\*//*"""\x""""*/字"""字字/**/\""
+""
+x*/\""/*\x"
+"
+"x
+*/\""字""x/*
+\/*x
+字*/*/x
+x
+/**/"字x/*x*/""x"x\\""xx""
+/*""*/x*/*/x\*/\/*"*/
+字字x*/字字""*//*/*字\*/
+字/*\"*/*/""""x/*""\
+"*/\\*/字x"""x
+\""*//**//*/*
+字*//*""*/字/*/*/**/""字x字*/*/x"
+xx/*字
+\""/*字
+x*/""/*""*/字x""*/x*/""""x""
+*//*/*"\""x字字x字\
+\字
+*/""字x""*/
+""\/*x"""/*
+*/""
+
+*/x
+/*/*/*
+x字/*xx*/""x*/字字\""""""/**/x*/"""
+""字""*/"""\*//*x/*""*/"/*""
+/*
+/*/*\"*/*/""""/*"
+/*\""*/*/xx字*/\字x\字""x/*x字x"""\字x""
+/*\/*
+字\*/\x/*""x""\"""""字\*/""""xx"\\"*/x*//*\
+*/"字""*//*"/*"字\\*/*/\*/
+""\xx/*x\字\*/*/""/*x字"\x
+""x字*/字"""x"x/*/*"/*\/*
+""""""
+\
+
+
+
+*/*/"
+"字\字\/**/字\/*"\
+x"""*/*/\
+字
+
+x*/x
+*//*/*\"x""
+*/x*/"""/*x\"x\*/
+\/*/*/*"x\/*\/*x\/*x/*\""x*/""*/""字字/*"/*x"*/"
+*/\\xxx
+
+"x\x\"
+""
+"\"""
+
+"""\""
+x"/*/*/*"字*/*/字*/字x字/*"""/*\/*\/*
+
+/**/""\/*\*/*/"/*\字*//*/*
+"/*
+
+\"字/*字"""\"*/x""""""/*字*/
+x\x\"x"/*
+
+
+/*\""x"/*""""""""
+/*
+"x
+*/x*//*字/*/**/*/""
+""""*/\字""""
+*/\字""字x
+
+\字x""xx/*字*//*x\"""x/*\\""x"字/*x"
+/*"
+/**//*"/*""字
+/**/
+*/"*/*/\"*/""""字
+/*""\*/\""*/
+x""xx字
+/*
+*/*//*/*字""*/
+""字字x*//*
+/*""x""\*/"字
+""字""\xx"""*/""\*/""\""
+\\"""字""
+/*\
+\*/*/""*/*/*/
+""*/""""/*
+*/""x""字""
+\/**/"/*
+\"\"\/*""""
+\"
+\""""*/
+*/
+\x
+字""*/"字\
+x""字*/
+"""\"字\x""""\/*字x\*/字/*
+/*
+\x字""字
+x"\字\"""
+/*""\/**/
+*/\x\
+*/x*/\""字x"\\字/*"/*字/*字*/\"/*字*/"x"
+""\
+x
+\x*/""\""\/**/"x"x
+
+x"\""
+""*/""/*"""\"/*""\字\\/*""x/**/\/*/*
+\*/*/
+"
+
+x
+
+"字字\
+\x/*"字x字"""字/*x*/""""""*/""*/"*/""""""*/字"""/*x字\字""/*"\\/*""/**/xx字/*""\""""
+x""*/*/
+""\
+""字"*/""
+\
+x\""x"x""/*字字""""""字字字/*字x/*\\"*/\""
+""*/字/*
+x字"x
+""*/"字\x*/字""
+字*/xxx/*/*字字/*/*""x""\*//*"/**//**/"*/\x\\*/"x字*/
+字
+xx""""""
+字/*\*/""\*//*/*"/*""x/*x
+""""""""字字xx\*/*//*字*/x\
+
+x字"/*""""字"/**/
+x\"x""\
+字*/
+xx
+\"""/*"""
+"字/*\"""x"*/字"字\""/*字
+\""
+/*/*字x
+"""
+""*/"字
+x"*/""
+/*
+字x""*/
+字""x/*字字""\"x
+*/"x字*/字\""\""*//*
+/*\*/*/"\字""
+*/x*/"*/x\\"
+\
+/*"/*字"""*/字
+字*/*/字/*\
+
+\\\x\x字字\/*字"x""/*/*""*/""x
+字"/*
+x
+*/"字
+x*/x字
+
+\
+/*字/*/*"x*/"\
+*/*/字\/*""
+/*字*/字*/"*/""
+
+字\\/*
+"
+字
+
+"""*/x\""""
+/*""""*/*/""
+\"""*/字
+*/"""""""字\/*""*//*\"
+*/\""x*/"字"""/*x字"
+*/"""\字字字字x*/""x\字字""\字"\/*"""""x/*/*
+\字/*""x"字
+""字字""""""""\*/*/
+*/\/*\*/*//*"\""
+x
+"字""""/**/
+""""""*/
+""/*x/*"\"xx""
+
+
+字
+xx\字x*/x/*x"x\
+"字\*/""""\""*/"
+"""\x\字字字""x"\\""
+*/""/*字/*
+/*
+
+/*x字/*字\/*"/*"""\*/x
+x"x""字
+字/*"x字字*/\x"字\字字""\
+x""""xx
+""字*/"*/x
+"
+
+x*/
+"
+*/"/*
+"/**/"x字x""*//*字\""
+""/*
+x*/"
+\*/\字/*xx*/\*/*/xx/*x字\/*
+x\\\\"""\/*\字
+
+字\字""字"字""
+
+*/xxx
+字字/**/*/
+*/字""
+*//*x""字\
+*/
+字
+字*/
+""
+""*/*/*/
+/*\"""
+""
+\\/*"""x"""字""字"/*\x/*
+"字/*x/**/""*//**/"字
+x"
+xx""x*/
+\*/x*/"*//**/"字x/*""\/*x""""字/*字字\\*/*/字
+字字"/*\
+/*""/*""*/*/""""\/*\字*/""/*/*字x字字\
+x/*\/*\\"字/**/\/*""/*xx/*"""字""x/*"""字字""x"/*/*
+x*//*\字""""x\
+*/""\x""\"""xx*//*\*/*/\字
+*/*/
+/*
+*//*字x\字xx字*/""/*字\x""字字"\""
+x字
+x字字x"字""x字xx""/*"\字
+*/字""""""
+x""/*x*/"""\
+"""*/字字*/"字""\\*/x*/字字x"/*""x""x*/字*/字
+\/*"*/x/*\字"""""/*\*/"""/*/*字"字"xx*/*/x\字/*字字字*/
+\*/""字"""字"
+
+""x""\*/x""""/*\
+"/*""字""""*/字x*/字*/
+x"""\\""/*\\*/字"
+"字
+"""*/\x""\/*字""x
+"""\/*\*/*/"/*\"*/"""\字\""x字x/*x*/字
+/*\*/字*/x\""字x"/*x
+\x*/xx"""
+  def op0(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op1(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op2(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op3(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op4(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op5(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op6(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op7(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op8(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op9(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op10(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op11(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op12(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op13(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op14(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op15(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op16(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op17(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op18(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op19(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op20(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op21(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op22(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op23(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op24(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op25(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op26(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op27(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op28(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op29(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op30(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op31(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op32(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op33(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op34(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op35(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op36(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op37(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op38(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op39(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op40(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op41(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op42(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op43(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op44(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op45(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op46(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op47(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op48(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op49(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op50(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op51(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op52(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op53(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op54(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op55(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op56(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op57(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op58(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op59(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op60(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op61(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op62(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op63(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op64(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op65(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op66(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op67(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op68(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op69(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op70(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op71(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op72(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op73(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op74(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op75(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op76(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op77(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op78(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op79(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op80(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op81(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op82(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op83(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op84(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op85(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op86(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op87(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op88(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op89(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op90(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op91(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op92(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op93(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op94(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op95(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op96(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op97(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op98(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op99(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op100(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op101(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op102(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op103(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op104(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op105(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op106(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op107(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op108(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op109(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op110(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op111(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op112(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op113(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op114(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op115(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op116(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op117(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op118(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op119(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op120(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op121(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op122(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op123(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op124(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op125(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op126(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op127(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op128(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op129(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op130(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op131(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op132(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op133(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op134(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op135(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op136(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op137(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op138(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op139(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op140(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op141(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op142(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op143(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op144(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op145(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op146(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op147(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op148(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op149(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op150(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op151(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op152(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op153(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op154(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op155(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op156(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op157(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op158(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op159(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op160(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op161(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op162(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op163(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op164(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op165(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op166(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op167(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op168(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op169(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op170(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op171(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op172(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op173(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op174(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op175(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op176(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op177(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op178(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op179(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op180(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op181(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op182(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op183(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op184(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op185(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op186(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op187(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op188(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op189(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op190(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op191(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op192(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op193(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op194(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op195(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op196(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op197(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op198(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op199(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op200(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op201(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op202(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op203(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op204(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op205(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op206(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op207(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op208(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op209(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op210(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op211(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op212(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op213(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op214(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op215(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op216(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op217(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op218(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op219(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op220(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op221(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op222(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op223(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op224(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op225(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op226(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op227(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op228(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op229(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op230(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op231(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op232(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op233(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op234(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op235(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op236(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op237(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op238(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op239(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op240(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op241(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op242(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op243(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op244(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op245(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op246(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op247(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op248(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op249(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op250(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op251(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op252(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op253(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op254(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op255(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op256(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op257(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op258(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op259(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op260(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op261(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op262(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op263(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op264(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op265(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op266(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op267(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op268(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op269(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op270(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op271(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op272(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op273(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op274(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op275(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op276(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op277(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op278(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op279(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op280(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op281(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op282(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op283(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op284(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op285(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op286(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op287(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op288(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op289(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op290(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op291(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op292(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op293(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op294(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op295(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op296(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op297(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op298(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  def op299(a: Int, b: Int): Int = a |+| b >>= a <*> b ==> a ::: b +: a :+ b /: a
+  val interp = s"${x0}${x1}${x2}${x3}${x4}${x5}${x6}${x7}${x8}${x9}${x10}${x11}${x12}${x13}${x14}${x15}${x16}${x17}${x18}${x19}${x20}${x21}${x22}${x23}${x24}${x25}${x26}${x27}${x28}${x29}${x30}${x31}${x32}${x33}${x34}${x35}${x36}${x37}${x38}${x39}${x40}${x41}${x42}${x43}${x44}${x45}${x46}${x47}${x48}${x49}${x50}${x51}${x52}${x53}${x54}${x55}${x56}${x57}${x58}${x59}${x60}${x61}${x62}${x63}${x64}${x65}${x66}${x67}${x68}${x69}${x70}${x71}${x72}${x73}${x74}${x75}${x76}${x77}${x78}${x79}${x80}${x81}${x82}${x83}${x84}${x85}${x86}${x87}${x88}${x89}${x90}${x91}${x92}${x93}${x94}${x95}${x96}${x97}${x98}${x99}${x100}${x101}${x102}${x103}${x104}${x105}${x106}${x107}${x108}${x109}${x110}${x111}${x112}${x113}${x114}${x115}${x116}${x117}${x118}${x119}${x120}${x121}${x122}${x123}${x124}${x125}${x126}${x127}${x128}${x129}${x130}${x131}${x132}${x133}${x134}${x135}${x136}${x137}${x138}${x139}${x140}${x141}${x142}${x143}${x144}${x145}${x146}${x147}${x148}${x149}${x150}${x151}${x152}${x153}${x154}${x155}${x156}${x157}${x158}${x159}${x160}${x161}${x162}${x163}${x164}${x165}${x166}${x167}${x168}${x169}${x170}${x171}${x172}${x173}${x174}${x175}${x176}${x177}${x178}${x179}${x180}${x181}${x182}${x183}${x184}${x185}${x186}${x187}${x188}${x189}${x190}${x191}${x192}${x193}${x194}${x195}${x196}${x197}${x198}${x199}${x200}${x201}${x202}${x203}${x204}${x205}${x206}${x207}${x208}${x209}${x210}${x211}${x212}${x213}${x214}${x215}${x216}${x217}${x218}${x219}${x220}${x221}${x222}${x223}${x224}${x225}${x226}${x227}${x228}${x229}${x230}${x231}${x232}${x233}${x234}${x235}${x236}${x237}${x238}${x239}${x240}${x241}${x242}${x243}${x244}${x245}${x246}${x247}${x248}${x249}${x250}${x251}${x252}${x253}${x254}${x255}${x256}${x257}${x258}${x259}${x260}${x261}${x262}${x263}${x264}${x265}${x266}${x267}${x268}${x269}${x270}${x271}${x272}${x273}${x274}${x275}${x276}${x277}${x278}${x279}${x280}${x281}${x282}${x283}${x284}${x285}${x286}${x287}${x288}${x289}${x290}${x291}${x292}${x293}${x294}${x295}${x296}${x297}${x298}${x299}${x300}${x301}${x302}${x303}${x304}${x305}${x306}${x307}${x308}${x309}${x310}${x311}${x312}${x313}${x314}${x315}${x316}${x317}${x318}${x319}${x320}${x321}${x322}${x323}${x324}${x325}${x326}${x327}${x328}${x329}${x330}${x331}${x332}${x333}${x334}${x335}${x336}${x337}${x338}${x339}${x340}${x341}${x342}${x343}${x344}${x345}${x346}${x347}${x348}${x349}${x350}${x351}${x352}${x353}${x354}${x355}${x356}${x357}${x358}${x359}${x360}${x361}${x362}${x363}${x364}${x365}${x366}${x367}${x368}${x369}${x370}${x371}${x372}${x373}${x374}${x375}${x376}${x377}${x378}${x379}${x380}${x381}${x382}${x383}${x384}${x385}${x386}${x387}${x388}${x389}${x390}${x391}${x392}${x393}${x394}${x395}${x396}${x397}${x398}${x399}${x400}${x401}${x402}${x403}${x404}${x405}${x406}${x407}${x408}${x409}${x410}${x411}${x412}${x413}${x414}${x415}${x416}${x417}${x418}${x419}${x420}${x421}${x422}${x423}${x424}${x425}${x426}${x427}${x428}${x429}${x430}${x431}${x432}${x433}${x434}${x435}${x436}${x437}${x438}${x439}${x440}${x441}${x442}${x443}${x444}${x445}${x446}${x447}${x448}${x449}${x450}${x451}${x452}${x453}${x454}${x455}${x456}${x457}${x458}${x459}${x460}${x461}${x462}${x463}${x464}${x465}${x466}${x467}${x468}${x469}${x470}${x471}${x472}${x473}${x474}${x475}${x476}${x477}${x478}${x479}${x480}${x481}${x482}${x483}${x484}${x485}${x486}${x487}${x488}${x489}${x490}${x491}${x492}${x493}${x494}${x495}${x496}${x497}${x498}${x499}${x500}${x501}${x502}${x503}${x504}${x505}${x506}${x507}${x508}${x509}${x510}${x511}${x512}${x513}${x514}${x515}${x516}${x517}${x518}${x519}${x520}${x521}${x522}${x523}${x524}${x525}${x526}${x527}${x528}${x529}${x530}${x531}${x532}${x533}${x534}${x535}${x536}${x537}${x538}${x539}${x540}${x541}${x542}${x543}${x544}${x545}${x546}${x547}${x548}${x549}${x550}${x551}${x552}${x553}${x554}${x555}${x556}${x557}${x558}${x559}${x560}${x561}${x562}${x563}${x564}${x565}${x566}${x567}${x568}${x569}${x570}${x571}${x572}${x573}${x574}${x575}${x576}${x577}${x578}${x579}${x580}${x581}${x582}${x583}${x584}${x585}${x586}${x587}${x588}${x589}${x590}${x591}${x592}${x593}${x594}${x595}${x596}${x597}${x598}${x599}${x600}${x601}${x602}${x603}${x604}${x605}${x606}${x607}${x608}${x609}${x610}${x611}${x612}${x613}${x614}${x615}${x616}${x617}${x618}${x619}${x620}${x621}${x622}${x623}${x624}${x625}${x626}${x627}${x628}${x629}${x630}${x631}${x632}${x633}${x634}${x635}${x636}${x637}${x638}${x639}${x640}${x641}${x642}${x643}${x644}${x645}${x646}${x647}${x648}${x649}${x650}${x651}${x652}${x653}${x654}${x655}${x656}${x657}${x658}${x659}${x660}${x661}${x662}${x663}${x664}${x665}${x666}${x667}${x668}${x669}${x670}${x671}${x672}${x673}${x674}${x675}${x676}${x677}${x678}${x679}${x680}${x681}${x682}${x683}${x684}${x685}${x686}${x687}${x688}${x689}${x690}${x691}${x692}${x693}${x694}${x695}${x696}${x697}${x698}${x699}${x700}${x701}${x702}${x703}${x704}${x705}${x706}${x707}${x708}${x709}${x710}${x711}${x712}${x713}${x714}${x715}${x716}${x717}${x718}${x719}${x720}${x721}${x722}${x723}${x724}${x725}${x726}${x727}${x728}${x729}${x730}${x731}${x732}${x733}${x734}${x735}${x736}${x737}${x738}${x739}${x740}${x741}${x742}${x743}${x744}${x745}${x746}${x747}${x748}${x749}${x750}${x751}${x752}${x753}${x754}${x755}${x756}${x757}${x758}${x759}${x760}${x761}${x762}${x763}${x764}${x765}${x766}${x767}${x768}${x769}${x770}${x771}${x772}${x773}${x774}${x775}${x776}${x777}${x778}${x779}${x780}${x781}${x782}${x783}${x784}${x785}${x786}${x787}${x788}${x789}${x790}${x791}${x792}${x793}${x794}${x795}${x796}${x797}${x798}${x799}${x800}${x801}${x802}${x803}${x804}${x805}${x806}${x807}${x808}${x809}${x810}${x811}${x812}${x813}${x814}${x815}${x816}${x817}${x818}${x819}${x820}${x821}${x822}${x823}${x824}${x825}${x826}${x827}${x828}${x829}${x830}${x831}${x832}${x833}${x834}${x835}${x836}${x837}${x838}${x839}${x840}${x841}${x842}${x843}${x844}${x845}${x846}${x847}${x848}${x849}${x850}${x851}${x852}${x853}${x854}${x855}${x856}${x857}${x858}${x859}${x860}${x861}${x862}${x863}${x864}${x865}${x866}${x867}${x868}${x869}${x870}${x871}${x872}${x873}${x874}${x875}${x876}${x877}${x878}${x879}${x880}${x881}${x882}${x883}${x884}${x885}${x886}${x887}${x888}${x889}${x890}${x891}${x892}${x893}${x894}${x895}${x896}${x897}${x898}${x899}${x900}${x901}${x902}${x903}${x904}${x905}${x906}${x907}${x908}${x909}${x910}${x911}${x912}${x913}${x914}${x915}${x916}${x917}${x918}${x919}${x920}${x921}${x922}${x923}${x924}${x925}${x926}${x927}${x928}${x929}${x930}${x931}${x932}${x933}${x934}${x935}${x936}${x937}${x938}${x939}${x940}${x941}${x942}${x943}${x944}${x945}${x946}${x947}${x948}${x949}${x950}${x951}${x952}${x953}${x954}${x955}${x956}${x957}${x958}${x959}${x960}${x961}${x962}${x963}${x964}${x965}${x966}${x967}${x968}${x969}${x970}${x971}${x972}${x973}${x974}${x975}${x976}${x977}${x978}${x979}${x980}${x981}${x982}${x983}${x984}${x985}${x986}${x987}${x988}${x989}${x990}${x991}${x992}${x993}${x994}${x995}${x996}${x997}${x998}${x999}${x1000}${x1001}${x1002}${x1003}${x1004}${x1005}${x1006}${x1007}${x1008}${x1009}${x1010}${x1011}${x1012}${x1013}${x1014}${x1015}${x1016}${x1017}${x1018}${x1019}${x1020}${x1021}${x1022}${x1023}${x1024}${x1025}${x1026}${x1027}${x1028}${x1029}${x1030}${x1031}${x1032}${x1033}${x1034}${x1035}${x1036}${x1037}${x1038}${x1039}${x1040}${x1041}${x1042}${x1043}${x1044}${x1045}${x1046}${x1047}${x1048}${x1049}${x1050}${x1051}${x1052}${x1053}${x1054}${x1055}${x1056}${x1057}${x1058}${x1059}${x1060}${x1061}${x1062}${x1063}${x1064}${x1065}${x1066}${x1067}${x1068}${x1069}${x1070}${x1071}${x1072}${x1073}${x1074}${x1075}${x1076}${x1077}${x1078}${x1079}${x1080}${x1081}${x1082}${x1083}${x1084}${x1085}${x1086}${x1087}${x1088}${x1089}${x1090}${x1091}${x1092}${x1093}${x1094}${x1095}${x1096}${x1097}${x1098}${x1099}${x1100}${x1101}${x1102}${x1103}${x1104}${x1105}${x1106}${x1107}${x1108}${x1109}${x1110}${x1111}${x1112}${x1113}${x1114}${x1115}${x1116}${x1117}${x1118}${x1119}${x1120}${x1121}${x1122}${x1123}${x1124}${x1125}${x1126}${x1127}${x1128}${x1129}${x1130}${x1131}${x1132}${x1133}${x1134}${x1135}${x1136}${x1137}${x1138}${x1139}${x1140}${x1141}${x1142}${x1143}${x1144}${x1145}${x1146}${x1147}${x1148}${x1149}${x1150}${x1151}${x1152}${x1153}${x1154}${x1155}${x1156}${x1157}${x1158}${x1159}${x1160}${x1161}${x1162}${x1163}${x1164}${x1165}${x1166}${x1167}${x1168}${x1169}${x1170}${x1171}${x1172}${x1173}${x1174}${x1175}${x1176}${x1177}${x1178}${x1179}${x1180}${x1181}${x1182}${x1183}${x1184}${x1185}${x1186}${x1187}${x1188}${x1189}${x1190}${x1191}${x1192}${x1193}${x1194}${x1195}${x1196}${x1197}${x1198}${x1199}${x1200}${x1201}${x1202}${x1203}${x1204}${x1205}${x1206}${x1207}${x1208}${x1209}${x1210}${x1211}${x1212}${x1213}${x1214}${x1215}${x1216}${x1217}${x1218}${x1219}${x1220}${x1221}${x1222}${x1223}${x1224}${x1225}${x1226}${x1227}${x1228}${x1229}${x1230}${x1231}${x1232}${x1233}${x1234}${x1235}${x1236}${x1237}${x1238}${x1239}${x1240}${x1241}${x1242}${x1243}${x1244}${x1245}${x1246}${x1247}${x1248}${x1249}${x1250}${x1251}${x1252}${x1253}${x1254}${x1255}${x1256}${x1257}${x1258}${x1259}${x1260}${x1261}${x1262}${x1263}${x1264}${x1265}${x1266}${x1267}${x1268}${x1269}${x1270}${x1271}${x1272}${x1273}${x1274}${x1275}${x1276}${x1277}${x1278}${x1279}${x1280}${x1281}${x1282}${x1283}${x1284}${x1285}${x1286}${x1287}${x1288}${x1289}${x1290}${x1291}${x1292}${x1293}${x1294}${x1295}${x1296}${x1297}${x1298}${x1299}${x1300}${x1301}${x1302}${x1303}${x1304}${x1305}${x1306}${x1307}${x1308}${x1309}${x1310}${x1311}${x1312}${x1313}${x1314}${x1315}${x1316}${x1317}${x1318}${x1319}${x1320}${x1321}${x1322}${x1323}${x1324}${x1325}${x1326}${x1327}${x1328}${x1329}${x1330}${x1331}${x1332}${x1333}${x1334}${x1335}${x1336}${x1337}${x1338}${x1339}${x1340}${x1341}${x1342}${x1343}${x1344}${x1345}${x1346}${x1347}${x1348}${x1349}${x1350}${x1351}${x1352}${x1353}${x1354}${x1355}${x1356}${x1357}${x1358}${x1359}${x1360}${x1361}${x1362}${x1363}${x1364}${x1365}${x1366}${x1367}${x1368}${x1369}${x1370}${x1371}${x1372}${x1373}${x1374}${x1375}${x1376}${x1377}${x1378}${x1379}${x1380}${x1381}${x1382}${x1383}${x1384}${x1385}${x1386}${x1387}${x1388}${x1389}${x1390}${x1391}${x1392}${x1393}${x1394}${x1395}${x1396}${x1397}${x1398}${x1399}${x1400}${x1401}${x1402}${x1403}${x1404}${x1405}${x1406}${x1407}${x1408}${x1409}${x1410}${x1411}${x1412}${x1413}${x1414}${x1415}${x1416}${x1417}${x1418}${x1419}${x1420}${x1421}${x1422}${x1423}${x1424}${x1425}${x1426}${x1427}${x1428}${x1429}${x1430}${x1431}${x1432}${x1433}${x1434}${x1435}${x1436}${x1437}${x1438}${x1439}${x1440}${x1441}${x1442}${x1443}${x1444}${x1445}${x1446}${x1447}${x1448}${x1449}${x1450}${x1451}${x1452}${x1453}${x1454}${x1455}${x1456}${x1457}${x1458}${x1459}${x1460}${x1461}${x1462}${x1463}${x1464}${x1465}${x1466}${x1467}${x1468}${x1469}${x1470}${x1471}${x1472}${x1473}${x1474}${x1475}${x1476}${x1477}${x1478}${x1479}${x1480}${x1481}${x1482}${x1483}${x1484}${x1485}${x1486}${x1487}${x1488}${x1489}${x1490}${x1491}${x1492}${x1493}${x1494}${x1495}${x1496}${x1497}${x1498}${x1499}${x1500}${x1501}${x1502}${x1503}${x1504}${x1505}${x1506}${x1507}${x1508}${x1509}${x1510}${x1511}${x1512}${x1513}${x1514}${x1515}${x1516}${x1517}${x1518}${x1519}${x1520}${x1521}${x1522}${x1523}${x1524}${x1525}${x1526}${x1527}${x1528}${x1529}${x1530}${x1531}${x1532}${x1533}${x1534}${x1535}${x1536}${x1537}${x1538}${x1539}${x1540}${x1541}${x1542}${x1543}${x1544}${x1545}${x1546}${x1547}${x1548}${x1549}${x1550}${x1551}${x1552}${x1553}${x1554}${x1555}${x1556}${x1557}${x1558}${x1559}${x1560}${x1561}${x1562}${x1563}${x1564}${x1565}${x1566}${x1567}${x1568}${x1569}${x1570}${x1571}${x1572}${x1573}${x1574}${x1575}${x1576}${x1577}${x1578}${x1579}${x1580}${x1581}${x1582}${x1583}${x1584}${x1585}${x1586}${x1587}${x1588}${x1589}${x1590}${x1591}${x1592}${x1593}${x1594}${x1595}${x1596}${x1597}${x1598}${x1599}${x1600}${x1601}${x1602}${x1603}${x1604}${x1605}${x1606}${x1607}${x1608}${x1609}${x1610}${x1611}${x1612}${x1613}${x1614}${x1615}${x1616}${x1617}${x1618}${x1619}${x1620}${x1621}${x1622}${x1623}${x1624}${x1625}${x1626}${x1627}${x1628}${x1629}${x1630}${x1631}${x1632}${x1633}${x1634}${x1635}${x1636}${x1637}${x1638}${x1639}${x1640}${x1641}${x1642}${x1643}${x1644}${x1645}${x1646}${x1647}${x1648}${x1649}${x1650}${x1651}${x1652}${x1653}${x1654}${x1655}${x1656}${x1657}${x1658}${x1659}${x1660}${x1661}${x1662}${x1663}${x1664}${x1665}${x1666}${x1667}${x1668}${x1669}${x1670}${x1671}${x1672}${x1673}${x1674}${x1675}${x1676}${x1677}${x1678}${x1679}${x1680}${x1681}${x1682}${x1683}${x1684}${x1685}${x1686}${x1687}${x1688}${x1689}${x1690}${x1691}${x1692}${x1693}${x1694}${x1695}${x1696}${x1697}${x1698}${x1699}${x1700}${x1701}${x1702}${x1703}${x1704}${x1705}${x1706}${x1707}${x1708}${x1709}${x1710}${x1711}${x1712}${x1713}${x1714}${x1715}${x1716}${x1717}${x1718}${x1719}${x1720}${x1721}${x1722}${x1723}${x1724}${x1725}${x1726}${x1727}${x1728}${x1729}${x1730}${x1731}${x1732}${x1733}${x1734}${x1735}${x1736}${x1737}${x1738}${x1739}${x1740}${x1741}${x1742}${x1743}${x1744}${x1745}${x1746}${x1747}${x1748}${x1749}${x1750}${x1751}${x1752}${x1753}${x1754}${x1755}${x1756}${x1757}${x1758}${x1759}${x1760}${x1761}${x1762}${x1763}${x1764}${x1765}${x1766}${x1767}${x1768}${x1769}${x1770}${x1771}${x1772}${x1773}${x1774}${x1775}${x1776}${x1777}${x1778}${x1779}${x1780}${x1781}${x1782}${x1783}${x1784}${x1785}${x1786}${x1787}${x1788}${x1789}${x1790}${x1791}${x1792}${x1793}${x1794}${x1795}${x1796}${x1797}${x1798}${x1799}${x1800}${x1801}${x1802}${x1803}${x1804}${x1805}${x1806}${x1807}${x1808}${x1809}${x1810}${x1811}${x1812}${x1813}${x1814}${x1815}${x1816}${x1817}${x1818}${x1819}${x1820}${x1821}${x1822}${x1823}${x1824}${x1825}${x1826}${x1827}${x1828}${x1829}${x1830}${x1831}${x1832}${x1833}${x1834}${x1835}${x1836}${x1837}${x1838}${x1839}${x1840}${x1841}${x1842}${x1843}${x1844}${x1845}${x1846}${x1847}${x1848}${x1849}${x1850}${x1851}${x1852}${x1853}${x1854}${x1855}${x1856}${x1857}${x1858}${x1859}${x1860}${x1861}${x1862}${x1863}${x1864}${x1865}${x1866}${x1867}${x1868}${x1869}${x1870}${x1871}${x1872}${x1873}${x1874}${x1875}${x1876}${x1877}${x1878}${x1879}${x1880}${x1881}${x1882}${x1883}${x1884}${x1885}${x1886}${x1887}${x1888}${x1889}${x1890}${x1891}${x1892}${x1893}${x1894}${x1895}${x1896}${x1897}${x1898}${x1899}${x1900}${x1901}${x1902}${x1903}${x1904}${x1905}${x1906}${x1907}${x1908}${x1909}${x1910}${x1911}${x1912}${x1913}${x1914}${x1915}${x1916}${x1917}${x1918}${x1919}${x1920}${x1921}${x1922}${x1923}${x1924}${x1925}${x1926}${x1927}${x1928}${x1929}${x1930}${x1931}${x1932}${x1933}${x1934}${x1935}${x1936}${x1937}${x1938}${x1939}${x1940}${x1941}${x1942}${x1943}${x1944}${x1945}${x1946}${x1947}${x1948}${x1949}${x1950}${x1951}${x1952}${x1953}${x1954}${x1955}${x1956}${x1957}${x1958}${x1959}${x1960}${x1961}${x1962}${x1963}${x1964}${x1965}${x1966}${x1967}${x1968}${x1969}${x1970}${x1971}${x1972}${x1973}${x1974}${x1975}${x1976}${x1977}${x1978}${x1979}${x1980}${x1981}${x1982}${x1983}${x1984}${x1985}${x1986}${x1987}${x1988}${x1989}${x1990}${x1991}${x1992}${x1993}${x1994}${x1995}${x1996}${x1997}${x1998}${x1999}"
+  /* 机器分的号小口中大并小代机的窗度处理据的的注的词源词窗号度分据发命中记注窗练把据 /* 理注分缓中交分文随文记分成缓注词切存并器器的口法的记口机缓率切器练大给文存析法练 /* 给给随命存调缓交文中中练并释代分词中调大口口成源调窗度练并分法小中小词中随切把器 /* 源发发代随析调存发调理缓缓码析存注窗发分机器注缓把记成给交切的析成大记的随大注把 /* 中法发释器率中小的率词分机号分码词器注交数窗窗号缓中中窗源中大源窗随分理发代中口 /* 据机分处命数词随大处命源代数号器命器数法小机率缓号窗分词给源器机法存词处中器析分 /* 练处法器窗并缓随小器理器把数词号据记口中处机号率给练器交据窗分器代释中成分代据并 /* 处的命率注并窗分命把代号法并成数小器命练注码给析率中并把训小命率调处释器词成交码 /* 度源切分缓训度度中存度命存析存切文中码析发并号器代度词器注小器分训率词命分随成器 /* 处号析文注理处切号词文理成随号小缓机命处法命给成理口分命器大器文成器并释注记源练 /* 窗练的中把练号随中训据随分缓词存口词处并数数处随数注析器注码给号窗训释的练调度中 /* 词源把注发并法交成器并给器中源缓词析窗成切训器中命词把理大器处理源中分并度把口小 /* 数记数处析分代窗注中器分器理练记分调词率数度的代调中号度据释记数词词成码把代分大 /* 据分率窗切据切窗存随度词分法注分文析据小命缓注把成码数分把据法分词把并析切词率发 /* 口中缓分词分码码处理词并分中法命存率理把训大中率给号词成分理机分率发释文分率注释 /* 机大并率法口的法缓中理大号记训度随释理码号随据并大并并中释命数分记代率随存机练的 /* 词代发机源存交口调的率词代切发训源释练随文发度把调记号词机发据的的随源缓大交记词 /* 分处交代命把中释中的中析法训口口分训率处器析的法存机训释词随调练器释随存的率源处 /* 数据率率率理并分练词切把代练并词练中给理小窗度代码率器数的训发小词据存数中率并把 /* 据大窗号法大存处释理调率码据机源注分记法率器训代把率成把分缓代记词命随机法给口分 /* 成处理记大给记练器给率记器切缓词分分小析器练训据数注注把存分记词处命大文窗成中码 /* 切词分小数记码源给析分记中分处理器注记注注分分窗代率成分口文缓号存并命切训成分代 /* 析释分训切词器的把给据中文数的交词中号法调成度数窗理注交并器注中窗数窗号调命率给 /* 器缓文成码中机大并发命度文大析记器分练调口号析小调中法析号法释据度词缓文器分源交 /* 处号数器词度练词处机器数随练词口口命理机调器释机机中释小中注中分词器练存理命小源 /* 释数分度给存器词记机交发成处源器析训发小释存注大命练并切把度率的窗窗率切器练文训 /* 成记大词器析据练分器成度记命分理训数分切中记缓处切命源代释并中的处法分小训据缓分 /* 度分训源窗调把记把分率窗器并机数据数理记练交词的词的法切中发文析中随分机命把调交 /* 数词小随给给据词小训切交词号调命随度词切练中率交分数析处给随机词注交把存口机器释 /* 切据中注析分发分成代小代窗器词释源调源文法存缓器析器处据率器理发理数记切大给小机 /* 号的法率交源大词词中分给法记中存小词理并法析器中存发练成析中记号处分中文数命分号 /* 中并中中词随存成练处据码释训交器缓度注命记词理窗记源交文命中的记器注练理给窗代小 /* 中词码分处把存码理中发中分中处号交理号并代度理成交码中记注理交器窗命中命缓注训交 /* 记中词理分中中理号并练交词练训分存度练度注分析中成命率缓把并发成分数器切成器缓练 /* 机命理窗中数处分的大中据大随给法切大存给窗切交文号交分分据注给器析随小口代成词发 /* 小缓度存器机命发注率大发中训词命随存窗代的把交法大小大给器发练据分释随注成度号码 /* 词命中据小号交随码析号中分命词发口大训词据给中训词切率的分号词中调词机切析命命词 /* 调命存分大中的分文度数给机机中训小据调给分把器机窗号练训随源训处析中成据交文成机 /* 分数命调训中码中调文并数命调给释中器口存代中给释析给调给释代分存中中码词词分理理 /* 记缓器给源成率数中发训分交小练给存成中注率理机源器分中释成命存词缓度器率分中小调 /* 号随调中源法并交给器法源随代小把成成交中数并记口源交窗大随窗号机器码析中口训练的 /* 分析缓注处法中码器记口分口中给器中源度释析中随文机法器词并号分随文把器率随法源数 /* 调命中处存调文法的交注器中大把把处代缓小发窗率中代理分分发率析随析缓成小记代数分 /* 器把注练给文源中分缓析练源交中法器窗发练数并练码代分源大存发源释码词成的把分存小 /* 处切交记发度分练码号中缓析窗给度器处中分释析交把机交理处码窗机给理源词练率理并练 /* 切成交词中理法给中并把率并切切分率文词析中理据度器号中源析代器给器词训把度词练存 /* 度数析存码调释并分训中训记器率数中析把记器切缓随文法切小发释口据发析机命码训处码 /* 源调分成处处练器调释分释数记注注把号存率口训的切随大器缓码小调分理源数存代法器源 /* 词机中度训成给释释据并器发文并把析把口中分交调文随中号源注注中窗法成据中中小处器 /* 交的分成器据切器分口切度窗窗析注练机理源命分小分分分交交机度机分据交大器器命大的 /* 词交训调分发存器源小的号分注分分窗源中命号法法理交切器调大发交存代号交并成源处号 /* 调释给词处缓训交注缓率缓缓的调窗成注训数练法代记大给度口号词中随大并器记给理器分 /* 源缓文中给发处中分调中机处发分理切机法率缓处率器中中分据词随并调命源代分数分大中 /* 发的口训处记中发注度发法理存码处小器度数的词训数数分切中机小调数训给训中代代处码 /* 切并度代训记分中词中数的注器释词处发注数法度调号理记器调分口存窗率源机命命随训词 /* 大词并并调析机中处中处调度的小给数给机中分调注器命代调调分小率号随给中发分给记器 /* 分交发小析率练度源法练号命析代器调切析存据口并调注理释把大缓交发析器器法率交据器 /* 成器码词切缓据记号的切号词中并把小码源给率训处小中缓分把器码器注缓释分理调的口源 /* 把发的分释号小法码释码分据把数并机据存理代训词器词发数随训切记析中据分缓析大调理 /* 分窗分词分文大分机率随法词调码文并数分号缓源注调小析缓码大给成注释小理词号成成中 /* 分文成度中理释窗源数切词码理源大中器词中分数理释据码成给把把给度释中理成码文口理 /* 释发把中度窗文训词据中词分析训窗释率训中大释处中分理调词调存分的词口调中存码号器 /* 度记理器词词源随器分训器命小中窗码小数号分据处源据理中理分源的度度练发成号发训码 /* 分数分调器发理注交词缓号词词析并分发法窗小把存析据词分缓代数文中理释词注小处分训 /* 率成释中数文机大机法析号度随词命练代机器练交练分度中缓大中释窗源并口分分器数交存 /* 中口存词号缓处注度度器中代析切据窗度窗词给窗号大缓切分口中处释数器把号训的释小分 /* 理率分命代释发分窗小口词代命调码法的处中度中随理记中调词释中代注成分命分词的切理 /* 析并代代口词号词代随代据理文处把数率分中词窗窗码发词切存处训小发理发器给析码处机 /* 文小分命交成器源注把给把度分交词分缓大器把析存机器释中代中中器中分命代记成给命中 /* 的理切分并代代窗调记号给交小释成机码度成释数器训码数代数率器存并切并器法中中训把 /* 器切词释数调中中码命练法给词训代据随器发理大理缓词缓中练代文词词发号并窗代处中训 /* 记存数率法机词词码理发文词据分中分据分调调口命窗度命机处法的中据并并器练小调器命 /* 小交据文度法成器分随代号交析析交代发率机口缓器调词器命发中中析的号训的器练数窗号 /* 大缓器交词分分小交机交调注词训小交的大词理分中记注训器源随度代词机法小器中分并分 /* 码给数发器存存小代分理存口数源小源处文处随切机窗理把分释分记练训率理法记命数词分 /* 理切分率词发分调文处据释词口给词度分数中缓数训中分分给交法器处切的释命码析缓训词 /* 词随窗命器词码机的分小法法器分码并练代词释给分词机率并数随注的理器代大注析调法码 /* 据小器给交度命机分记切代并分中分数口释据的词释成度小切理释交中中器号给大词器窗注 /* 窗理中源处的分文给器释数命命理器并分命中码分器小并据器存法注分训分析法窗记并处中 /* 理练记号词词理中率小分窗机号随窗词率释练记分的记法据器词小分器记法器代把析代切号 /* 法发源释成码交源窗记随练理中器代随处的据度训发调词存训中中释文发分中理把随代给小 /* 理据文命训数存命把缓窗代切给切大率释成分训法据口中分词理源口窗窗度训练词小词命器 /* 析代窗文源分中成中数分缓给分缓交器码把调把分器记的中中处据号缓分的代训切发理代度 /* 数中把率记随机分词词率命口处分数口口把分中数发口中分交切机词并成处器记中据源记中 /* 源中调词随文源理缓器码把交代分记法小命器调度词随大把器窗分调交分数文度器练给词代 /* 的的分交中切分给存源成码分词给的分分器理文词分成释中小分窗中成析代分词切文机法数 /* 小中中随训中率成中源处机中器把机中词代发给中代分源训的注缓中文率发成随机中器切析 /* 析存缓缓词缓训缓交命词号释成口器度的缓缓释记中给练成析发析把练大率率代记窗交文释 /* 窗发词词记法注源中处把窗机分释处窗号缓分发切码码成析注练文中分分理交窗存器据词命 /* 中记据交法存码训存调析器器中并机词代处码口据成词发析的词分大词率调大缓文中随训中 /* 把训小大度源器号交大练机据法分窗中词注把切码口发释并器中把存码码数注处词处处给注 /* 分把分代缓并机率记词释词交文法分交调分发中并调大并注并把存理口交训并注词数词训分 /* 机源文数分命词中机释缓词词中法交随中给大命分中切记分机文训训中文法据分源分大分记 /* 器口中给随小器随释分分率切词号码词交号记据文调机分随数器调源存词存随的随词代率词 /* 代切法词器注据码器分给释机码交并把分注存给器器缓切度文中度随随缓处文器发练器注缓 /* 并释发数交大法数成理分练切析代成发处分发并中命口并器缓口中训码的注理注练训小练器 /* 词练口处代成记码分号发中法析码缓处中调率并据释练把发器析器析析词大器并码词分词随 /* 释中词词注小记数号缓器记分中训训器交调理源源代文成理命存切切中的发小小切度文记口 /* 处并释小命命窗训的据命法中据并练并号存练码随号词记码词器理练注给中存源把中中练度 /* 据口号理代器据窗切分词调词文析析数调率注注把窗分源把法释度并记法命训率文存存析给 */
+}
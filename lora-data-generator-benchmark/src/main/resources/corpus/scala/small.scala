@@ -0,0 +1,28 @@
+package demo.stats
+
+import scala.collection.mutable
+
+/** 滑动窗口内的平均值 */
+class MovingAverage(size: Int) {
+  private val window = mutable.Queue.empty[Double]
+  private var sum = 0.0
+
+  def add(value: Double): Double = {
+    window.enqueue(value)
+    sum += value
+    if (window.size > size) {
+      sum -= window.dequeue()
+    }
+    sum / window.size
+  }
+}
+
+object MovingAverage {
+  def main(args: Array[String]): Unit = {
+    val avg = new MovingAverage(3)
+    // feed a few samples
+    for (x <- Seq(1.0, 2.5, -3.0, 4.25)) {
+      println(s"avg after $x = ${avg.add(x)}")
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lexers.scanner.Scanner;
+import io.github.marchliu.lexers.scanner.ScannerSpec;
+import jaskell.util.Try;
+
+public abstract class CodeLexer implements Lexer {
+    private final Scanner scanner;
+    private Engine engine = Engine.SCANNER;
+
+    protected CodeLexer(ScannerSpec spec) {
+        this.scanner = new Scanner(spec);
+    }
+
+    public Engine getEngine() {
+        return engine;
+    }
+
+    public CodeLexer engine(Engine engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    public Scanner getScanner() {
+        return scanner;
+    }
+
+    @Override
+    public Try<TokenBuffer> lex(CharSequence source) {
+        if (engine == Engine.SCANNER) {
+            return Try.tryIt(() -> scanner.scan(source));
+        }
+        return Lexer.super.lex(source);
+    }
+
+    /**
+     * 只有 scanner 引擎支持切分，切分点由 Scanner 按同样的注释和字符串规则预扫描得到
+     */
+    @Override
+    public int[] splitPoints(CharSequence source, int chunkSize) {
+        if (engine == Engine.SCANNER) {
+            return scanner.splitPoints(source, chunkSize);
+        }
+        return Lexer.super.splitPoints(source, chunkSize);
+    }
+
+    @Override
+    public int[] splitPoints(CharSequence source, int chunkSize, boolean last) {
+        if (engine == Engine.SCANNER) {
+            return scanner.splitPoints(source, chunkSize, last);
+        }
+        return Lexer.super.splitPoints(source, chunkSize, last);
+    }
+
+    @Override
+    public boolean splittable() {
+        return engine == Engine.SCANNER;
+    }
+
+    @Override
+    public Try<TokenBuffer> tokenize(CharSequence source, int from, int to, boolean last) {
+        if (engine == Engine.SCANNER) {
+            return Try.tryIt(() -> {
+                TokenBuffer parsed = new TokenBuffer(source, Math.max((to - from) >> 2, 16));
+                scanner.scan(source, from, to, parsed);
+                return expand(source, parsed);
+            });
+        }
+        return Lexer.super.tokenize(source, from, to, last);
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.marchliu.lexers;
+
+public enum Engine {
+    SCANNER,
+    PARSEC;
+
+    public static Engine of(String name) {
+        return switch (name) {
+            case "scanner" -> SCANNER;
+            case "parsec" -> PARSEC;
+            default -> throw new IllegalArgumentException(STR."unknown lexer engine \{name}, expect scanner or parsec");
+        };
+    }
+}
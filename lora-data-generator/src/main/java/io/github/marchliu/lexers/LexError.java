@@ -0,0 +1,26 @@
+package io.github.marchliu.lexers;
+
+import java.util.List;
+
+/**
+ * 分词时跳过的一处无法识别的输入，offset 是它在源文本中的位置
+ */
+public record LexError(int offset, String message) {
+    public int line(CharSequence source) {
+        int line = 1;
+        for (int i = 0; i < offset && i < source.length(); i++) {
+            if (source.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * 一个文件的错误汇总，只给出第一处的位置
+     */
+    public static String summary(CharSequence source, List<LexError> errors) {
+        var first = errors.getFirst();
+        return STR."\{errors.size()} errors skipped, first at line \{first.line(source)}: \{first.message()}";
+    }
+}
@@ -1,71 +1,198 @@
 package io.github.marchliu.lexers;
 
 import io.github.marchliu.lexers.nlp.NlpLexer;
-import io.github.marchliu.lora.Entity;
+import io.github.marchliu.lora.Sample;
+import io.github.marchliu.lora.WindowEntity;
 import jaskell.parsec.common.Parsec;
 import jaskell.parsec.common.TxtState;
+import jaskell.util.Failure;
+import jaskell.util.Success;
 import jaskell.util.Try;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public interface Lexer {
     NlpLexer nlpLexer = new NlpLexer();
 
     String getName();
 
-    default Try<List<Entity>> process(String path) {
-        System.out.println(STR."\{getName()} processing: \{path}");
-        return Try.tryIt(() -> load(path))
-                .flatMap(this::tokenize)
-                .map(this::shuffle);
+    default Try<List<Sample>> process(String path) {
+        return process(LexerContext.defaults(), path);
     }
 
-    default Try<List<String>> tokenize(String source) {
-        return Try.tryIt(() -> new TxtState(source))
-                .flatMap(state -> getParser().exec(state))
-                .map(parsed -> {
-                    List<String> result = new ArrayList<>();
-                    parsed.forEach(token -> {
-                        if (token.category().equals("text")) {
-                            result.addAll(nlpLexer.tokens(token.token()));
-                        } else {
-                            result.add(token.token());
+    default Try<List<Sample>> process(LexerContext context, String path) {
+        return Try.tryIt(() -> {
+            List<Sample> result = new ArrayList<>();
+            var random = context.random(path);
+            var cache = context.getCache();
+            var charset = context.getLoader().getCharset();
+            if (cache != null) {
+                var cached = cache.lookup(path, charset, getName());
+                if (cached != null) {
+                    if (context.getMetrics() != null) {
+                        context.getMetrics().tokens(getName(), cached.size());
+                    }
+                    result.addAll(shuffle(context, cached, random));
+                    return result;
+                }
+            }
+            context.getLoader().load(path, this, cache != null, (chunk, hash, last) -> {
+                var tokens = hash == null ? null : cache.get(path, charset, hash, getName());
+                if (tokens == null) {
+                    var splitter = context.getSplitter();
+                    var lexed = splitter != null ? splitter.tokenize(this, chunk, last)
+                            : last ? tokenize(chunk) : tokenize(chunk, 0, chunk.length(), false);
+                    switch (lexed) {
+                        case Success(var parsed) -> tokens = parsed;
+                        case Failure(var error) -> throw error;
+                    }
+                    if (hash != null) {
+                        cache.put(path, charset, hash, getName(), tokens);
+                    }
+                    if (!tokens.errors().isEmpty()) {
+                        // 跳过无法识别的输入后继续分词，每个文件只输出一行汇总
+                        if (context.getMetrics() != null) {
+                            context.getMetrics().errors(getName(), path, tokens.errors().size());
                         }
-                    });
+                        System.err.println(STR."\{getName()} \{path}: \{LexError.summary(chunk, tokens.errors())}");
+                    }
+                }
+                if (context.getMetrics() != null) {
+                    context.getMetrics().tokens(getName(), tokens.size());
+                }
+                result.addAll(shuffle(context, tokens, random));
+            });
+            return result;
+        });
+    }
+
+    /**
+     * 用 parsec 语法分词。语法在某处失败时记录错误，跳到下一行继续，保留失败之前和之后的 token。
+     */
+    default Try<TokenBuffer> lex(CharSequence source) {
+        return Try.tryIt(() -> {
+            var state = new TxtState(source.toString());
+            var parser = getParser();
+            List<Token> tokens = new ArrayList<>();
+            List<LexError> errors = new ArrayList<>();
+            while (true) {
+                String message = null;
+                switch (parser.exec(state)) {
+                    case Success(var parsed) -> tokens.addAll(parsed);
+                    case Failure(var error) -> message = error.getMessage();
+                }
+                Character c;
+                while ((c = Parsers.peek(state)) != null && Character.isWhitespace(c)) {
+                    state.next();
+                }
+                if (c == null) {
+                    break;
+                }
+                errors.add(new LexError(state.status(), message == null ? STR."unexpected '\{c}'" : message));
+                while ((c = Parsers.peek(state)) != null && c != '\n') {
+                    state.next();
+                }
+            }
+            var result = TokenBuffer.of(source, tokens);
+            for (var err : errors) {
+                result.error(err.offset(), err.message());
+            }
+            return result;
+        });
+    }
+
+    default Try<TokenBuffer> tokenize(CharSequence source) {
+        return lex(source)
+                .map(parsed -> expand(source, parsed));
+    }
+
+    /**
+     * 把注释等 text 类 token 交给 nlp 分词，其余 token 原样保留
+     */
+    default TokenBuffer expand(CharSequence source, TokenBuffer parsed) {
+        TokenBuffer result = new TokenBuffer(source, parsed.size());
+        result.addErrors(parsed, 0);
+        for (int i = 0; i < parsed.size(); i++) {
+            if (parsed.category(i) == Token.TEXT_CODE) {
+                result.addSegments(parsed, i, nlpLexer.tokens(parsed.text(i)));
+            } else {
+                result.add(parsed, i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 可以把 source 切开分别分词的位置，切开后各段分词结果按顺序拼接与整体分词完全相同。
+     * 返回的位置严格递增，不支持切分时返回空数组。
+     */
+    default int[] splitPoints(CharSequence source, int chunkSize) {
+        return new int[0];
+    }
+
+    /**
+     * last 为 false 时 source 只是文件的开头，返回的切分点在读入文件后续内容之后也必须成立
+     */
+    default int[] splitPoints(CharSequence source, int chunkSize, boolean last) {
+        return splitPoints(source, chunkSize);
+    }
+
+    /**
+     * 能否给出切分点。不能切分的 lexer 无法分块读取超过 max-file-size 的文件
+     */
+    default boolean splittable() {
+        return false;
+    }
+
+    /**
+     * 对 source 的 [from, to) 分词，结果的偏移相对于整个 source；last 表示这是最后一段
+     */
+    default Try<TokenBuffer> tokenize(CharSequence source, int from, int to, boolean last) {
+        return tokenize(source.subSequence(from, to))
+                .map(chunk -> {
+                    TokenBuffer result = new TokenBuffer(source, chunk.size());
+                    for (int i = 0; i < chunk.size(); i++) {
+                        result.add(chunk, i, from);
+                    }
+                    result.addErrors(chunk, from);
                     return result;
                 });
     }
 
-    default String load(String filename) throws IOException {
-        var path = Paths.get(filename);
-        var bytes = Files.readAllBytes(path);
-        return new String(bytes);
+    default List<Sample> shuffle(LexerContext context, TokenBuffer tokens, SplittableRandom random) {
+        var packer = context.getPacker();
+        return packer == null ? shuffle(tokens, random) : packer.pack(this, tokens, random);
     }
 
-    default List<Entity> shuffle(List<String> tokens) {
-        List<Entity> result = new ArrayList<>();
-        Random random = new Random();
+    default List<Sample> shuffle(TokenBuffer tokens) {
+        return shuffle(tokens, new SplittableRandom());
+    }
+
+    default List<Sample> shuffle(TokenBuffer tokens, SplittableRandom random) {
+        List<Sample> result = new ArrayList<>();
         int pos = 0;
         while (pos < tokens.size()) {
             int step = random.nextInt(32, 128);
             int idx = Math.min(pos + step, tokens.size());
-            List<String> material = tokens.subList(pos, idx);
-            int headerSize = Math.min(random.nextInt(4, 16), material.size());
-            var intput = String.join(" ", material.subList(0, headerSize));
-            var instruction = STR."\{getName()}: \{intput}";
-            var output = String.join(" ", material);
-
-            var entity = new Entity(instruction, intput, output);
-            result.add(entity);
+            int headerSize = Math.min(random.nextInt(4, 16), idx - pos);
+            result.add(entity(tokens, pos, headerSize, idx));
             pos = idx;
         }
         return result;
     }
 
+    default String separator() {
+        return " ";
+    }
+
+    /**
+     * 用 [from, to) 范围内的 token 组成一条训练样本，开头 header 个 token 作为 input
+     */
+    default Sample entity(TokenBuffer tokens, int from, int header, int to) {
+        return new WindowEntity(new TokenWindow(getName(), tokens, from, header, to), separator(), STR."\{getName()}: ");
+    }
+
     Parsec<Character, List<Token>> getParser();
 }
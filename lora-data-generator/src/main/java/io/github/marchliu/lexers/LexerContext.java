@@ -0,0 +1,127 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lexers.cache.TokenCache;
+import io.github.marchliu.lexers.metrics.RunMetrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class LexerContext {
+    private SourceLoader loader = SourceLoader.defaults();
+    private TokenCache cache = null;
+    private RunMetrics metrics = null;
+    private Packer packer = null;
+    private ParallelTokenizer splitter = null;
+    private long seed = new SplittableRandom().nextLong();
+    private final List<Path> roots = new ArrayList<>();
+
+    public static LexerContext defaults() {
+        return new LexerContext();
+    }
+
+    public SourceLoader getLoader() {
+        return loader;
+    }
+
+    public LexerContext loader(SourceLoader loader) {
+        this.loader = loader;
+        return this;
+    }
+
+    public TokenCache getCache() {
+        return cache;
+    }
+
+    public LexerContext cache(TokenCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    public RunMetrics getMetrics() {
+        return metrics;
+    }
+
+    public LexerContext metrics(RunMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LexerContext seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * 登记源码目录，random 使用相对于它的路径
+     */
+    public LexerContext root(Path root) {
+        roots.add(root.toAbsolutePath().normalize());
+        return this;
+    }
+
+    /**
+     * 每个文件的随机数发生器只由种子和路径决定，与线程数和处理顺序无关。
+     * 路径取相对于源码目录的部分（压缩包和 git 源取条目名），同样的源码检出到别的位置也得到相同的数据集。
+     * 路径取 SHA-256 的前 8 字节与种子混合，不同路径几乎不会得到相同的随机序列。
+     */
+    public SplittableRandom random(String path) throws NoSuchAlgorithmException {
+        var hash = MessageDigest.getInstance("SHA-256").digest(key(path).getBytes(StandardCharsets.UTF_8));
+        long value = seed ^ ByteBuffer.wrap(hash).getLong();
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(value ^ (value >>> 31));
+    }
+
+    String key(String path) {
+        Path file = null;
+        try {
+            file = Paths.get(path).toAbsolutePath().normalize();
+        } catch (InvalidPathException err) {
+            // git: 开头的虚拟路径在 Windows 上不是合法路径
+        }
+        Path root = null;
+        for (var candidate : roots) {
+            if (file != null && file.startsWith(candidate)
+                    && (root == null || candidate.getNameCount() > root.getNameCount())) {
+                root = candidate;
+            }
+        }
+        if (root != null) {
+            // source 本身是单个文件时取文件名
+            var relative = root.equals(file) ? file.getFileName() : root.relativize(file);
+            return relative.toString().replace('\\', '/');
+        }
+        int entry = path.indexOf("!/");
+        return entry >= 0 ? path.substring(entry + 2) : path;
+    }
+
+    public Packer getPacker() {
+        return packer;
+    }
+
+    public LexerContext packer(Packer packer) {
+        this.packer = packer;
+        return this;
+    }
+
+    public ParallelTokenizer getSplitter() {
+        return splitter;
+    }
+
+    public LexerContext splitter(ParallelTokenizer splitter) {
+        this.splitter = splitter;
+        return this;
+    }
+}
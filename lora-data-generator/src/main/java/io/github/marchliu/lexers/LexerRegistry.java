@@ -0,0 +1,23 @@
+package io.github.marchliu.lexers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LexerRegistry {
+    private final Map<String, Lexer> lexers = new LinkedHashMap<>();
+
+    public LexerRegistry register(Lexer lexer, String... extensions) {
+        for (var extension : extensions) {
+            lexers.put(extension, lexer);
+        }
+        return this;
+    }
+
+    public Lexer lookup(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1) {
+            return null;
+        }
+        return lexers.get(filename.substring(dot + 1));
+    }
+}
@@ -1,13 +1,30 @@
 package io.github.marchliu.lexers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import io.github.marchliu.lexers.c.CLexer;
+import io.github.marchliu.lexers.cache.TokenCache;
+import io.github.marchliu.lexers.dedup.FileDeduplicator;
+import io.github.marchliu.lexers.git.GitBlob;
+import io.github.marchliu.lexers.git.GitSource;
 import io.github.marchliu.lexers.java.JavaLexer;
+import io.github.marchliu.lexers.metrics.RunMetrics;
 import io.github.marchliu.lexers.nlp.NlpLexer;
+import io.github.marchliu.lexers.nlp.SegmentCache;
+import io.github.marchliu.lexers.nlp.Segmenter;
 import io.github.marchliu.lexers.python.PythonLexer;
 import io.github.marchliu.lexers.scala.java.ScalaLexer;
-import io.github.marchliu.lora.Entity;
+import io.github.marchliu.lexers.source.ArchiveSource;
+import io.github.marchliu.lexers.source.SourceEntry;
+import io.github.marchliu.lexers.source.SourceFile;
+import io.github.marchliu.lexers.source.SourceWatcher;
+import io.github.marchliu.lexers.source.SourceWalker;
+import io.github.marchliu.lexers.tokenizer.BpeTokenizer;
+import io.github.marchliu.lora.EntitySerializer;
+import io.github.marchliu.lora.EntityWriter;
+import io.github.marchliu.lora.JournalWriter;
+import io.github.marchliu.lora.Sample;
+import io.github.marchliu.lora.ShardedEntityWriter;
+import io.github.marchliu.lora.SourceWriter;
 import jaskell.argsparser.ArgParser;
 import jaskell.argsparser.Option;
 import jaskell.util.Failure;
@@ -15,148 +32,684 @@ import jaskell.util.Success;
 import jaskell.util.Try;
 import jaskell.util.Tuple2;
 
-import java.io.FileOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 public class LexerRouter {
-    ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // 每个工作线程最多有几个已提交但还没写出的文件
+    private static final int IN_FLIGHT = 4;
+
+    ObjectMapper mapper = new ObjectMapper().registerModule(EntitySerializer.module());
 
     private final CLexer cLexer = new CLexer();
     private final JavaLexer javaLexer = new JavaLexer();
     private final ScalaLexer scalaLexer = new ScalaLexer();
     private final PythonLexer pythonLexer = new PythonLexer();
-    private final NlpLexer nlpLexer = new NlpLexer();
+    private final NlpLexer nlpLexer = Lexer.nlpLexer;
     private final AtomicInteger total = new AtomicInteger();
-    private final AtomicInteger counter = new AtomicInteger();
-    private final List<String> javaSources = new ArrayList<>();
-    private final List<String> cSources = new ArrayList<>();
-    private final List<String> scalaSources = new ArrayList<>();
-    private final List<String> pySources = new ArrayList<>();
-    private final List<String> textSources = new ArrayList<>();
-
-    private void save(String path, String content) throws IOException {
-        try (FileOutputStream outputStream = new FileOutputStream(path)) {
-            byte[] strToBytes = content.getBytes();
-            outputStream.write(strToBytes);
-        }
-    }
-
-    public void prepare(String projectDir) {
-        try (Stream<Path> stream = Files.walk(Paths.get(projectDir))) {
-            List<Path> paths = stream.toList();
-            List<String> filenames = paths.stream()
-                    .filter(Files::isRegularFile)
-                    .map(Path::toAbsolutePath)
-                    .map(Path::toString)
-                    .toList();
-
-            cSources.addAll(filenames.stream()
-                    .filter(p -> p.endsWith(".c"))
-                    .toList());
-            javaSources.addAll(filenames.stream()
-                    .filter(p -> p.endsWith(".java"))
-                    .toList());
-            scalaSources.addAll(filenames.stream()
-                    .filter(p -> p.endsWith(".scala") || p.endsWith(".sbt"))
-                    .toList());
-            textSources.addAll(filenames.stream()
-                    .filter(p -> p.endsWith(".txt"))
-                    .toList());
-            pySources.addAll(filenames.stream()
-                    .filter(p -> p.endsWith(".py"))
-                    .toList());
-            total.set(cSources.size()
-                    + javaSources.size()
-                    + scalaSources.size()
-                    + textSources.size()
-                    + pySources.size());
-        } catch (Exception err) {
-            err.printStackTrace();
+    private final LexerRegistry registry = new LexerRegistry()
+            .register(cLexer, "c")
+            .register(javaLexer, "java")
+            .register(scalaLexer, "scala", "sbt")
+            .register(nlpLexer, "txt")
+            .register(pythonLexer, "py");
+    private final List<Path> roots = new ArrayList<>();
+    private final List<GitSource> gitSources = new ArrayList<>();
+    private final List<ArchiveSource> archives = new ArrayList<>();
+    // 各个仓库、分支中相同的 blob 只处理一次
+    private final Set<String> blobs = ConcurrentHashMap.newKeySet();
+    private SourceWalker walker = new SourceWalker(registry, List.of(), true);
+    private boolean streaming = false;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private boolean virtualThreads = false;
+    private final LexerContext context = LexerContext.defaults();
+    private FileDeduplicator deduplicator = null;
+    private final RunMetrics metrics = new RunMetrics(20);
+    private Path metricsReport = null;
+    private int progressInterval = 10;
+    private long splitThreshold = 64L << 20;
+    private int splitChunk = 4 << 20;
+
+    public void prepare(String projectDir) throws IOException {
+        if (GitSource.isGit(projectDir)) {
+            var source = GitSource.open(projectDir);
+            System.out.println(STR."\{projectDir}: commit \{source.commit()}");
+            gitSources.add(source);
+        } else if (ArchiveSource.isArchive(projectDir)) {
+            archives.add(ArchiveSource.open(projectDir, context.getLoader().getMaxSize()));
+        } else {
+            roots.add(Paths.get(projectDir));
+            context.root(Paths.get(projectDir));
         }
     }
 
-    public Try<List<Entity>> process() {
-        List<Entity> entities = new ArrayList<>();
-        List<Exception> errors = new ArrayList<>();
+    private void feed(Consumer<SourceFile> submit) throws Exception {
+        if (streaming) {
+            for (var root : roots) {
+                walker.walk(root, file -> {
+                    if (accept(file)) {
+                        total.incrementAndGet();
+                        submit.accept(file);
+                    }
+                });
+            }
+            for (var archive : archives) {
+                stream(archive, submit);
+            }
+            for (var source : gitSources) {
+                walker.walk(source, (file, blob) -> {
+                    if (accept(file, blob)) {
+                        total.incrementAndGet();
+                        submit.accept(file);
+                    }
+                });
+            }
+        } else {
+            List<SourceFile> walked = new ArrayList<>();
+            for (var root : roots) {
+                walker.walk(root, walked::add);
+            }
+            for (var archive : archives) {
+                if (!archive.sequential()) {
+                    walker.walk(archive, (file, entry) -> {
+                        context.getLoader().entry(file.path(), entry);
+                        walked.add(file);
+                    });
+                }
+            }
+            List<SourceFile> files = deduplicator != null && deduplicator.mode() != FileDeduplicator.Mode.OFF
+                    ? deduplicate(walked)
+                    : walked;
+            // git 中的文件按 blob id 去重，不经过 FileDeduplicator
+            for (var source : gitSources) {
+                walker.walk(source, (file, blob) -> {
+                    if (accept(file, blob)) {
+                        files.add(file);
+                    }
+                });
+            }
+            total.set(files.size());
+            // 先处理大文件，避免几个巨型文件拖在最后
+            files.sort(Comparator.comparingLong(SourceFile::size).reversed()
+                    .thenComparing(SourceFile::path));
+            files.forEach(submit);
+            // tar.gz 的条目在解压时就读入内存，不参与排序，边解压边提交，同时驻留的条目数受 process 的空位限制
+            for (var archive : archives) {
+                if (archive.sequential()) {
+                    stream(archive, submit);
+                }
+            }
+        }
+    }
+
+    private void stream(ArchiveSource archive, Consumer<SourceFile> submit) throws IOException {
+        walker.walk(archive, (file, entry) -> {
+            context.getLoader().entry(file.path(), entry);
+            if (accept(file)) {
+                total.incrementAndGet();
+                submit.accept(file);
+            } else {
+                context.getLoader().discard(file.path());
+            }
+        });
+    }
+
+    private FileDeduplicator.Fingerprint fingerprint(SourceFile file) {
         try {
-            List<Try<List<Entity>>> subset = new ArrayList<>();
-
-            subset.addAll(cSources.stream().map(fn -> {
-                System.out.printf("[%d/%d] ",
-                        counter.incrementAndGet(),
-                        total.get());
-                return cLexer.process(fn);
-            }).toList());
-
-            subset.addAll(javaSources.stream()
-                    .map(fn -> {
-                        System.out.printf("[%d/%d] ",
-                                counter.incrementAndGet(),
-                                total.get());
-                        return javaLexer.process(fn);
-                    }).toList());
-
-            subset.addAll(scalaSources.stream()
-                    .map(fn -> {
-                        System.out.printf("[%d/%d] ",
-                                counter.incrementAndGet(),
-                                total.get());
-                        return scalaLexer.process(fn);
-                    }).toList());
-
-            subset.addAll(textSources.stream().map(fn -> {
-                System.out.printf("[%d/%d] ",
-                        counter.incrementAndGet(),
-                        total.get());
-                return nlpLexer.process(fn);
-            }).toList());
-
-            subset.addAll(pySources.stream().map(fn -> {
-                System.out.printf("[%d/%d] ",
-                        counter.incrementAndGet(),
-                        total.get());
-                return pythonLexer.process(fn);
-            }).toList());
-
-            subset.stream().filter(Try::isOk).forEach(items -> {
-                items.foreach(entities::addAll);
+            SourceEntry entry = context.getLoader().entry(file.path());
+            if (entry != null) {
+                return deduplicator.fingerprint(file.path(), entry.read());
+            }
+            return deduplicator.fingerprint(file.path());
+        } catch (Exception err) {
+            return new FileDeduplicator.Fingerprint(file.path(), file.size(), 0, null, null);
+        }
+    }
+
+    private boolean accept(SourceFile file) {
+        if (deduplicator == null || deduplicator.mode() == FileDeduplicator.Mode.OFF) {
+            return true;
+        }
+        var fingerprint = fingerprint(file);
+        if (!deduplicator.accept(fingerprint)) {
+            return false;
+        }
+        remember(fingerprint);
+        return true;
+    }
+
+    /**
+     * 去重时已经读过一遍文件，把内容哈希交给 SourceLoader，分词缓存不必再哈希一遍
+     */
+    private void remember(FileDeduplicator.Fingerprint fingerprint) {
+        if (context.getCache() != null && fingerprint.hash() != null) {
+            context.getLoader().digest(fingerprint.path(), fingerprint.hash(), fingerprint.size(), fingerprint.modified());
+        }
+    }
+
+    private boolean accept(SourceFile file, GitBlob blob) {
+        if (deduplicator != null && deduplicator.mode() != FileDeduplicator.Mode.OFF && !blobs.add(blob.id())) {
+            return false;
+        }
+        context.getLoader().entry(file.path(), blob);
+        return true;
+    }
+
+    private List<SourceFile> deduplicate(List<SourceFile> files) {
+        // 按路径排序后串行判定，保证保留哪一份与文件系统遍历顺序无关
+        var sorted = files.stream()
+                .sorted(Comparator.comparing(SourceFile::path))
+                .toList();
+        var fingerprints = sorted.parallelStream()
+                .map(this::fingerprint)
+                .toList();
+        List<SourceFile> result = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            if (deduplicator.accept(fingerprints.get(i))) {
+                remember(fingerprints.get(i));
+                result.add(sorted.get(i));
+            } else {
+                context.getLoader().discard(sorted.get(i).path());
+            }
+        }
+        return result;
+    }
+
+    public LexerRouter deduplicator(FileDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+        return this;
+    }
+
+    public LexerRouter walker(List<String> excludes, boolean gitignore) {
+        this.walker = new SourceWalker(registry, excludes, gitignore);
+        return this;
+    }
+
+    public LexerRouter streaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    public LexerRouter workers(int workers) {
+        this.workers = workers;
+        return this;
+    }
+
+    public LexerRouter virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    public LexerRouter loader(SourceLoader loader) {
+        context.loader(loader);
+        return this;
+    }
+
+    public LexerRouter cache(TokenCache cache) {
+        context.cache(cache);
+        return this;
+    }
+
+    public LexerRouter seed(long seed) {
+        context.seed(seed);
+        return this;
+    }
+
+    public LexerRouter packer(Packer packer) {
+        context.packer(packer);
+        return this;
+    }
+
+    public LexerRouter metricsReport(Path metricsReport) {
+        this.metricsReport = metricsReport;
+        return this;
+    }
+
+    public LexerRouter progressInterval(int seconds) {
+        this.progressInterval = seconds;
+        return this;
+    }
+
+    /**
+     * 超过 threshold 的文件切成约 chunk 大小的段并行分词，threshold 为 0 时关闭
+     */
+    public LexerRouter split(long threshold, int chunk) {
+        this.splitThreshold = threshold;
+        this.splitChunk = chunk;
+        return this;
+    }
+
+    public LexerRouter segmentCache(long size) {
+        nlpLexer.cache(size > 0 ? new SegmentCache(size) : null);
+        return this;
+    }
+
+    public LexerRouter engine(Engine engine) {
+        cLexer.engine(engine);
+        javaLexer.engine(engine);
+        scalaLexer.engine(engine);
+        return this;
+    }
+
+    private ExecutorService executor() {
+        if (virtualThreads) {
+            return Executors.newFixedThreadPool(workers, Thread.ofVirtual().name("lexer-", 0).factory());
+        } else {
+            return Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("lexer-", 0).factory());
+        }
+    }
+
+    private record Lexed(SourceFile file, Try<List<Sample>> result) {
+    }
+
+    private Lexed lex(SourceFile file, LongAdder lexNanos) {
+        var name = file.lexer().getName();
+        long start = System.nanoTime();
+        var result = file.lexer().process(context, file.path());
+        long nanos = System.nanoTime() - start;
+        lexNanos.add(nanos);
+        switch (result) {
+            case Success(var items) -> metrics.file(name, file.path(), file.size(), nanos, items.size());
+            case Failure(var error) -> {
+                metrics.failure(name, file.path(), file.size(), nanos, error);
+                System.err.println(STR."\{name} failed on \{file.path()}: \{error}");
+            }
+        }
+        return new Lexed(file, result);
+    }
+
+    public Try<Long> process(SourceWriter writer) {
+        long startup = ManagementFactory.getRuntimeMXBean().getUptime();
+        long begin = System.nanoTime();
+        AtomicLong walkNanos = new AtomicLong();
+        LongAdder lexNanos = new LongAdder();
+        long writeNanos = 0;
+        BlockingQueue<Future<Lexed>> queue = new LinkedBlockingQueue<>();
+        // 写出一个文件才允许再提交一个，先完成的结果不会无限堆积在排在前面的大文件后面，内存占用与数据集大小无关
+        Semaphore slots = new Semaphore(workers * IN_FLIGHT);
+        Future<Lexed> end = CompletableFuture.completedFuture(null);
+        Thread walking = null;
+        context.metrics(metrics);
+        // 大文件的各段在单独的 ForkJoinPool 中分词，不占用按文件调度的工作线程
+        var splitPool = splitThreshold > 0 ? new ForkJoinPool(workers) : null;
+        context.splitter(splitPool == null ? null : new ParallelTokenizer(splitPool, splitThreshold, splitChunk));
+        // 定时打印一行进度，代替每个文件一次的输出
+        var progress = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("progress").factory());
+        if (progressInterval > 0) {
+            progress.scheduleAtFixedRate(() -> System.out.println(metrics.progress(total.get())),
+                    progressInterval, progressInterval, TimeUnit.SECONDS);
+        }
+        try (var executor = executor()) {
+            // 遍历在单独的线程中进行，发现的文件立即提交；主线程按提交顺序写出结果
+            walking = Thread.ofPlatform().name("walker").start(() -> {
+                try {
+                    feed(file -> {
+                        if (file.lexer() == nlpLexer) {
+                            // 文本文件一定会用到 HanLP，提前在后台加载词典
+                            Segmenter.warmUp();
+                        }
+                        try {
+                            slots.acquire();
+                        } catch (InterruptedException err) {
+                            throw new CancellationException("walk cancelled");
+                        }
+                        queue.add(executor.submit(() -> lex(file, lexNanos)));
+                    });
+                } catch (CancellationException err) {
+                    // 主线程已经失败退出
+                } catch (Exception err) {
+                    err.printStackTrace();
+                } finally {
+                    walkNanos.set(System.nanoTime() - begin);
+                    queue.add(end);
+                }
             });
-            errors.addAll(subset.stream()
-                    .filter(Try::isErr)
-                    .map(Try::error)
-                    .toList());
 
-            for (var error : errors) {
-                error.printStackTrace();
+            while (true) {
+                var future = queue.take();
+                if (future == end) {
+                    break;
+                }
+                var lexed = future.get();
+                long start = System.nanoTime();
+                // 失败已经在工作线程中记录
+                if (lexed.result() instanceof Success(var entities)) {
+                    writer.writeAll(lexed.file().path(), entities);
+                }
+                writeNanos += System.nanoTime() - start;
+                slots.release();
             }
-            return Try.success(entities);
+            progress.shutdownNow();
+            System.out.println(metrics.progress(total.get()));
+            if (metricsReport != null) {
+                metrics.write(mapper, metricsReport);
+            }
+            if (deduplicator != null && deduplicator.mode() != FileDeduplicator.Mode.OFF) {
+                System.out.println(deduplicator.report());
+            }
+            if (nlpLexer.getCache() != null) {
+                System.out.println(nlpLexer.getCache().report());
+            }
+            // 各阶段是流水线并行的：walk 是遍历线程的耗时，lex 是所有工作线程耗时之和，write 是主线程写出的耗时
+            var hanlp = Segmenter.initNanos() < 0 ? "not loaded" : STR."\{Segmenter.initNanos() / 1_000_000} ms";
+            System.out.println(STR."phases: startup \{startup} ms, walk \{walkNanos.get() / 1_000_000} ms, lex \{lexNanos.sum() / 1_000_000} ms, write \{writeNanos / 1_000_000} ms, total \{(System.nanoTime() - begin) / 1_000_000} ms, hanlp \{hanlp}");
+            return Try.success(writer.count());
         } catch (Exception err) {
             return Try.failure(err);
+        } finally {
+            if (walking != null) {
+                // 出错退出时遍历线程可能还在等待空位
+                walking.interrupt();
+            }
+            progress.shutdownNow();
+            if (splitPool != null) {
+                splitPool.shutdown();
+            }
+            for (var source : gitSources) {
+                close(source.repository());
+            }
+            for (var archive : archives) {
+                close(archive);
+            }
+        }
+    }
+
+    private static void close(Closeable source) {
+        try {
+            source.close();
+        } catch (IOException err) {
+            System.err.println(STR."close \{source} failed: \{err.getMessage()}");
         }
     }
 
+    /**
+     * 全量处理之后持续监视 source 目录（git 源和压缩包不监视）：合并一段时间内的变化，只重新分词新建和修改的文件，删除的文件在 journal 中撤销。
+     * JVM、HanLP 词典和分词缓存在各批之间保持加载，一次提交之后几秒内就能更新数据集。
+     * 进程收到终止信号时关闭钩子中断监视并等待 watch 返回，由调用方提交 journal、关闭分词缓存。
+     */
+    public void watch(JournalWriter writer, long debounce) throws Exception {
+        var absolute = roots.stream()
+                .map(root -> root.toAbsolutePath().normalize())
+                .toList();
+        var splitPool = splitThreshold > 0 ? new ForkJoinPool(workers) : null;
+        context.splitter(splitPool == null ? null : new ParallelTokenizer(splitPool, splitThreshold, splitChunk));
+        var watching = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("watch-shutdown").unstarted(() -> {
+            watching.interrupt();
+            try {
+                watching.join();
+            } catch (InterruptedException err) {
+                // 不再等待
+            }
+        }));
+        try (var watcher = new SourceWatcher(absolute, debounce, dir -> ignored(absolute, dir))) {
+            System.out.println(STR."watching \{absolute.size()} source directories");
+            while (true) {
+                var changes = watcher.next();
+                long begin = System.nanoTime();
+                List<Path> updated = new ArrayList<>(changes.updated());
+                if (changes.overflow()) {
+                    // 事件丢失，重新遍历全部目录
+                    updated.clear();
+                    for (var root : absolute) {
+                        walker.walk(root, file -> updated.add(Paths.get(file.path())));
+                    }
+                }
+                int retracted = 0;
+                for (var path : changes.deleted()) {
+                    retracted += writer.retract(path.toString());
+                }
+                List<SourceFile> files = new ArrayList<>();
+                for (var path : updated) {
+                    var file = source(absolute, path);
+                    if (file == null) {
+                        // 已经不存在，或者现在被忽略
+                        retracted += writer.retract(path.toString());
+                    } else {
+                        files.add(file);
+                    }
+                }
+                long entities = 0;
+                LongAdder lexNanos = new LongAdder();
+                try (var executor = executor()) {
+                    List<Future<Lexed>> futures = new ArrayList<>();
+                    for (var file : files) {
+                        futures.add(executor.submit(() -> lex(file, lexNanos)));
+                    }
+                    for (var future : futures) {
+                        var lexed = future.get();
+                        switch (lexed.result()) {
+                            case Success(var items) -> {
+                                writer.writeAll(lexed.file().path(), items);
+                                entities += items.size();
+                            }
+                            case Failure(var error) -> retracted += writer.retract(lexed.file().path());
+                        }
+                    }
+                }
+                if (changes.overflow()) {
+                    retracted += writer.retractUnseen();
+                }
+                writer.commit();
+                System.out.println(STR."update: \{files.size()} files lexed, \{entities} entities, \{retracted} files retracted, \{(System.nanoTime() - begin) / 1_000_000} ms");
+            }
+        } catch (InterruptedException err) {
+            // 已经写出的文件记录都是完整的，中断的这一批由调用方关闭 journal 时提交
+            System.out.println("watch stopped");
+        } finally {
+            if (splitPool != null) {
+                splitPool.shutdown();
+            }
+        }
+    }
+
+    private SourceFile source(List<Path> roots, Path path) throws IOException {
+        for (var root : roots) {
+            if (path.startsWith(root)) {
+                return walker.file(root, path);
+            }
+        }
+        return null;
+    }
+
+    private boolean ignored(List<Path> roots, Path dir) {
+        for (var root : roots) {
+            if (dir.startsWith(root)) {
+                try {
+                    return walker.ignored(root, dir);
+                } catch (IOException err) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static <T extends Iterable<String>> String value(Try<T> option, String defaultValue) {
+        return switch (option) {
+            case Success(var values) -> values.iterator().hasNext() ? values.iterator().next() : defaultValue;
+            case Failure(var err) -> defaultValue;
+        };
+    }
+
+    static <T extends Iterable<String>> List<String> values(Try<T> option) {
+        List<String> result = new ArrayList<>();
+        if (option instanceof Success(var items)) {
+            items.forEach(result::add);
+        }
+        return result;
+    }
+
     public static void main(String[] args) {
         var lexer = new LexerRouter();
 
         var source = Option.create("source")
-                .help("source project directory")
+                .help("source project directory, zip/jar/tar.gz archive, or git:<repository>[@<revision>] to read a commit from git object storage")
                 .required(true);
         var target = Option.create("target")
                 .help("where save lora train dataset")
                 .required(true);
+        var workers = Option.create("workers")
+                .help("lexer worker count, default is available processors")
+                .required(false);
+        var threads = Option.create("threads")
+                .help("worker thread kind: platform or virtual")
+                .required(false);
+        var engine = Option.create("engine")
+                .help("c/java/scala lexer engine: scanner (default) or parsec")
+                .required(false);
+        var charset = Option.create("charset")
+                .help("source file charset, default is UTF-8")
+                .required(false);
+        var chunkSize = Option.create("chunk-size")
+                .help("chars read at a time from a file over max-file-size with --oversize chunk, default is 16m")
+                .required(false);
+        var maxFileSize = Option.create("max-file-size")
+                .help("files larger than this are skipped or chunked, default is 512m")
+                .required(false);
+        var oversize = Option.create("oversize")
+                .help("how to handle files over max-file-size: skip (default) or chunk")
+                .required(false);
+        var cacheDir = Option.create("cache-dir")
+                .help("directory of the persistent token cache, cache is disabled if not set")
+                .required(false);
+        var cacheSize = Option.create("cache-size")
+                .help("token cache size limit, default is 2g")
+                .required(false);
+        var nlpCacheSize = Option.create("nlp-cache-size")
+                .help("characters (texts plus their words) held by the in-memory word segmentation cache, accepts k/m suffixes, 0 disables it, default is 4m")
+                .required(false);
+        var dedup = Option.create("dedup")
+                .help("file dedup before lexing: off, exact (default) or near")
+                .required(false);
+        var nearThreshold = Option.create("near-threshold")
+                .help("estimated jaccard similarity to treat files as near duplicates, default is 0.85")
+                .required(false);
+        var permutations = Option.create("minhash-permutations")
+                .help("minhash signature length, default is 64")
+                .required(false);
+        var bands = Option.create("lsh-bands")
+                .help("lsh band count, must divide minhash-permutations, default is 16")
+                .required(false);
+        var shingle = Option.create("shingle-size")
+                .help("tokens per shingle for near dedup, default is 5")
+                .required(false);
+        var windowDedup = Option.create("window-dedup")
+                .help("memory budget of the entity dedup bloom filter, 0 disables it, default is 64m")
+                .required(false);
+        var exclude = Option.create("exclude")
+                .help("gitignore style pattern to exclude, relative to each source, can be repeated; target/, build/, node_modules/ etc. are excluded first and can be re-included with !")
+                .required(false);
+        var gitignore = Option.create("gitignore")
+                .help("honor .gitignore files: on (default) or off")
+                .required(false);
+        var schedule = Option.create("schedule")
+                .help("size (default) walks everything first and lexes largest files first, stream lexes files as they are found")
+                .required(false);
+        var seed = Option.create("seed")
+                .help("random seed of sample windows, same seed and sources give the same dataset")
+                .required(false);
+        var tokenizer = Option.create("tokenizer")
+                .help("huggingface tokenizer.json of the target model (BPE), used by pack-tokens")
+                .required(false);
+        var packTokens = Option.create("pack-tokens")
+                .help("pack each sample to at most this many model tokens, requires tokenizer")
+                .required(false);
+        var shards = Option.create("shards")
+                .help("write target as a directory of shards with this many writer threads, 0 (default) writes a single file")
+                .required(false);
+        var shardSize = Option.create("shard-size")
+                .help("uncompressed size limit of each shard, default is 256m")
+                .required(false);
+        var shardEntities = Option.create("shard-entities")
+                .help("entity limit of each shard, 0 (default) means no limit")
+                .required(false);
+        var compress = Option.create("compress")
+                .help("shard compression: none (default) or gzip")
+                .required(false);
+        var metricsOption = Option.create("metrics")
+                .help("write a json run report (per lexer throughput, latency, slowest and failed files) to this file")
+                .required(false);
+        var progressOption = Option.create("progress")
+                .help("seconds between progress lines, 0 disables them, default is 10")
+                .required(false);
+        var splitThreshold = Option.create("split-threshold")
+                .help("files larger than this are split and lexed in parallel, 0 disables it, default is 64m")
+                .required(false);
+        var splitChunk = Option.create("split-chunk")
+                .help("target size of each part of a split file, default is 4m")
+                .required(false);
+        var watch = Option.create("watch")
+                .help("keep watching sources after the full pass and append updates to target directory: off (default) or on")
+                .required(false);
+        var debounce = Option.create("debounce")
+                .help("milliseconds without changes before a watch update starts, default is 2000")
+                .required(false);
+        var format = Option.create("format")
+                .help("dataset format: json (compact array, default), jsonl, or bin (pre-tokenized, target is a directory); bin can not be used with shards")
+                .required(false);
 
         var argParser = ArgParser.create()
                 .header("Oliva is a assistant program. It just cut source code to lora training data.")
                 .formatter("%1$-20s %2$-20s %3$-60s\n")
                 .option(source)
                 .option(target)
+                .option(workers)
+                .option(threads)
+                .option(engine)
+                .option(charset)
+                .option(chunkSize)
+                .option(maxFileSize)
+                .option(oversize)
+                .option(cacheDir)
+                .option(cacheSize)
+                .option(nlpCacheSize)
+                .option(dedup)
+                .option(nearThreshold)
+                .option(permutations)
+                .option(bands)
+                .option(shingle)
+                .option(windowDedup)
+                .option(exclude)
+                .option(gitignore)
+                .option(schedule)
+                .option(format)
+                .option(seed)
+                .option(tokenizer)
+                .option(packTokens)
+                .option(shards)
+                .option(shardSize)
+                .option(shardEntities)
+                .option(compress)
+                .option(metricsOption)
+                .option(progressOption)
+                .option(splitThreshold)
+                .option(splitChunk)
+                .option(watch)
+                .option(debounce)
                 .footer("Power by Jaskell");
 
         argParser.parse(args)
@@ -170,21 +723,90 @@ public class LexerRouter {
 
                     var src = tuple.item0();
                     var tgt = tuple.item1();
-                    List<Entity> entities = new ArrayList<>();
-                    for (var s : src) {
-                        lexer.prepare(s);
-                    }
+                    lexer.workers(Integer.parseInt(value(result.option("workers"),
+                                    String.valueOf(Runtime.getRuntime().availableProcessors()))))
+                            .virtualThreads(value(result.option("threads"), "platform").equals("virtual"))
+                            .engine(Engine.of(value(result.option("engine"), "scanner")))
+                            .loader(SourceLoader.defaults()
+                                    .charset(Charset.forName(value(result.option("charset"), "UTF-8")))
+                                    .chunkSize(SourceLoader.parseSize(value(result.option("chunk-size"), "16m")))
+                                    .maxSize(SourceLoader.parseSize(value(result.option("max-file-size"), "512m")))
+                                    .oversize(SourceLoader.Oversize.of(value(result.option("oversize"), "skip"))));
+                    var dir = value(result.option("cache-dir"), null);
+                    TokenCache cache = dir == null ? null
+                            : new TokenCache(Paths.get(dir), SourceLoader.parseSize(value(result.option("cache-size"), "2g")));
+                    try {
+                        lexer.cache(cache)
+                                .segmentCache(SourceLoader.parseSize(value(result.option("nlp-cache-size"), "4m")));
+                        var loader = lexer.context.getLoader();
+                        lexer.deduplicator(new FileDeduplicator(
+                                FileDeduplicator.Mode.of(value(result.option("dedup"), "exact")),
+                                loader.getCharset(),
+                                SourceLoader.parseSize(value(result.option("max-file-size"), "512m")),
+                                Double.parseDouble(value(result.option("near-threshold"), "0.85")),
+                                Integer.parseInt(value(result.option("minhash-permutations"), "64")),
+                                Integer.parseInt(value(result.option("lsh-bands"), "16")),
+                                Integer.parseInt(value(result.option("shingle-size"), "5"))));
+                        lexer.walker(values(result.option("exclude")),
+                                        value(result.option("gitignore"), "on").equals("on"))
+                                .streaming(value(result.option("schedule"), "size").equals("stream"))
+                                .progressInterval(Integer.parseInt(value(result.option("progress"), "10")))
+                                .split(SourceLoader.parseSize(value(result.option("split-threshold"), "64m")),
+                                        (int) SourceLoader.parseSize(value(result.option("split-chunk"), "4m")));
+                        var seedValue = value(result.option("seed"), null);
+                        if (seedValue != null) {
+                            lexer.seed(Long.parseLong(seedValue));
+                        }
+                        var pack = value(result.option("pack-tokens"), null);
+                        if (pack != null) {
+                            var vocabulary = value(result.option("tokenizer"), null);
+                            if (vocabulary == null) {
+                                throw new IllegalArgumentException("pack-tokens requires tokenizer");
+                            }
+                            lexer.packer(new Packer(BpeTokenizer.load(lexer.mapper, Paths.get(vocabulary)), Integer.parseInt(pack)));
+                        }
+                        var report = value(result.option("metrics"), null);
+                        if (report != null) {
+                            lexer.metricsReport(Paths.get(report));
+                        }
+                        for (var s : src) {
+                            lexer.prepare(s);
+                        }
 
-                    switch (lexer.process()) {
-                        case Success(var ents): {
-                            entities.addAll(ents);
-                            break;
+                        if (value(result.option("watch"), "off").equals("on")) {
+                            // watch 模式的 target 是只追加的目录，不做样本去重：修改后的文件需要重新写出和旧版本相同的样本
+                            try (var journal = new JournalWriter(lexer.mapper, Paths.get(tgt.first()))) {
+                                switch (lexer.process(journal)) {
+                                    case Success(var count) -> System.out.println(STR."\{count} entities saved to \{tgt.first()}");
+                                    case Failure(var error) -> error.printStackTrace();
+                                }
+                                journal.retractUnseen();
+                                journal.commit();
+                                lexer.watch(journal, Long.parseLong(value(result.option("debounce"), "2000")));
+                            }
+                            return;
+                        }
+                        var datasetFormat = value(result.option("format"), "json");
+                        int writers = Integer.parseInt(value(result.option("shards"), "0"));
+                        var output = writers > 0
+                                ? new ShardedEntityWriter(lexer.mapper, datasetFormat, Paths.get(tgt.first()), writers,
+                                SourceLoader.parseSize(value(result.option("shard-size"), "256m")),
+                                Long.parseLong(value(result.option("shard-entities"), "0")),
+                                value(result.option("compress"), "none").equals("gzip"))
+                                : EntityWriter.open(lexer.mapper, datasetFormat, tgt.first());
+                        try (var writer = EntityWriter.dedup(output,
+                                SourceLoader.parseSize(value(result.option("window-dedup"), "64m")))) {
+                            switch (lexer.process(writer)) {
+                                case Success(var count) -> System.out.println(STR."\{count} entities saved to \{tgt.first()}");
+                                case Failure(var error) -> error.printStackTrace();
+                            }
+                        }
+                    } finally {
+                        // 出错或者 watch 被中断时也要保存缓存索引
+                        if (cache != null) {
+                            cache.close();
                         }
-                        case Failure(var error):
-                            error.printStackTrace();
                     }
-                    var content = lexer.mapper.writeValueAsString(entities);
-                    lexer.save(tgt.first(), content);
                 }).onFailure(err -> {
                     System.err.println(err.getMessage());
                     err.printStackTrace();
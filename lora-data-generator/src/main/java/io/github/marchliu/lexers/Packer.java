@@ -0,0 +1,68 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lora.Sample;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 按模型 token 长度打包训练样本：每个样本的 instruction、input、output 在目标模型 tokenizer 下的 token 总数
+ * 尽量接近但不超过 target，避免训练时一个 batch 中大部分是 padding。
+ * 先用单个 lexer token 的长度累加估算窗口，再对拼好的样本精确计数，超出时从尾部收缩。
+ */
+public class Packer {
+    private final Tokenizer tokenizer;
+    private final int target;
+
+    public Packer(Tokenizer tokenizer, int target) {
+        this.tokenizer = tokenizer;
+        this.target = target;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    public List<Sample> pack(Lexer lexer, TokenBuffer tokens, SplittableRandom random) {
+        List<Sample> result = new ArrayList<>();
+        Map<String, Integer> lengths = new HashMap<>();
+        int overhead = tokenizer.count(lexer.entity(tokens, 0, 0, 0).getInstruction());
+        int pos = 0;
+        while (pos < tokens.size()) {
+            int header = random.nextInt(4, 16);
+            int cost = overhead;
+            int idx = pos;
+            while (idx < tokens.size()) {
+                int length = lengths.computeIfAbsent(tokens.text(idx), tokenizer::count);
+                // header 部分在 instruction 和 input 中各出现一次
+                int step = idx < pos + header ? length * 3 : length;
+                if (idx > pos && cost + step > target) {
+                    break;
+                }
+                cost += step;
+                idx++;
+            }
+            var entity = lexer.entity(tokens, pos, Math.min(header, idx - pos), idx);
+            int measured = measure(entity);
+            while (idx > pos + 1 && measured > target) {
+                // 按超出的比例收缩，至少去掉一个 token
+                int size = idx - pos;
+                idx = pos + Math.max(1, Math.min(size - 1, (int) ((long) size * target / measured)));
+                entity = lexer.entity(tokens, pos, Math.min(header, idx - pos), idx);
+                measured = measure(entity);
+            }
+            result.add(entity);
+            pos = idx;
+        }
+        return result;
+    }
+
+    private int measure(Sample entity) {
+        return tokenizer.count(entity.getInstruction())
+                + tokenizer.count(entity.getInput())
+                + tokenizer.count(entity.getOutput());
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.marchliu.lexers;
+
+import jaskell.util.Failure;
+import jaskell.util.Success;
+import jaskell.util.Try;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 把超过阈值的大文件在 lexer 给出的安全切分点切开，在 ForkJoinPool 中并行分词后按顺序拼接。
+ * 切分点由 lexer 保证不落在字符串、注释或 token 中间，拼接结果与整体分词相同。
+ */
+public class ParallelTokenizer {
+    private final ForkJoinPool pool;
+    private final long threshold;
+    private final int chunkSize;
+
+    public ParallelTokenizer(ForkJoinPool pool, long threshold, int chunkSize) {
+        this.pool = pool;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+    }
+
+    public Try<TokenBuffer> tokenize(Lexer lexer, CharSequence source) {
+        return tokenize(lexer, source, true);
+    }
+
+    /**
+     * @param last source 是否到文件结尾为止，分块读取的文件只有最后一块为 true
+     */
+    public Try<TokenBuffer> tokenize(Lexer lexer, CharSequence source, boolean last) {
+        int[] points = threshold <= 0 || source.length() < threshold ? new int[0] : lexer.splitPoints(source, chunkSize);
+        if (points.length == 0) {
+            return last ? lexer.tokenize(source) : lexer.tokenize(source, 0, source.length(), false);
+        }
+        // 各段共享同一个字符数组，scanner 可以直接在上面扫描
+        CharSequence text = source instanceof CharBuffer chars && chars.hasArray()
+                && chars.arrayOffset() + chars.position() == 0
+                ? source
+                : CharBuffer.wrap(source.toString().toCharArray());
+        int[] bounds = new int[points.length + 2];
+        System.arraycopy(points, 0, bounds, 1, points.length);
+        bounds[bounds.length - 1] = text.length();
+        TokenBuffer[] parts = new TokenBuffer[bounds.length - 1];
+        try {
+            pool.invoke(new Chunk(lexer, text, bounds, parts, 0, parts.length, last));
+        } catch (RuntimeException err) {
+            return Try.failure(unwrap(err));
+        }
+        int size = 0;
+        for (var part : parts) {
+            size += part.size();
+        }
+        TokenBuffer result = new TokenBuffer(text, size);
+        for (var part : parts) {
+            result.addAll(part);
+        }
+        return Try.success(result);
+    }
+
+    /**
+     * ForkJoin 在调用线程重新抛出异常时可能换成新的实例或者再包装一层，沿 cause 链找到最里层的 ChunkFailure，取出 lexer 的原始错误
+     */
+    private static Exception unwrap(RuntimeException err) {
+        Throwable failure = null;
+        for (Throwable cause = err; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ChunkFailure) {
+                failure = cause;
+            }
+        }
+        return failure != null && failure.getCause() instanceof Exception cause ? cause : err;
+    }
+
+    private static class ChunkFailure extends RuntimeException {
+        ChunkFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * 负责 parts[low] 到 parts[high - 1] 这几段，第 i 段是 bounds[i] 到 bounds[i + 1]
+     */
+    private static class Chunk extends RecursiveAction {
+        private final Lexer lexer;
+        private final CharSequence text;
+        private final int[] bounds;
+        private final TokenBuffer[] parts;
+        private final int low;
+        private final int high;
+        private final boolean last;
+
+        Chunk(Lexer lexer, CharSequence text, int[] bounds, TokenBuffer[] parts, int low, int high, boolean last) {
+            this.lexer = lexer;
+            this.text = text;
+            this.bounds = bounds;
+            this.parts = parts;
+            this.low = low;
+            this.high = high;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low == 1) {
+                switch (lexer.tokenize(text, bounds[low], bounds[high], last && high == parts.length)) {
+                    case Success(var tokens) -> parts[low] = tokens;
+                    case Failure(var err) -> throw new ChunkFailure(err);
+                }
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new Chunk(lexer, text, bounds, parts, low, middle, last),
+                    new Chunk(lexer, text, bounds, parts, middle, high, last));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.marchliu.lexers;
+
+/**
+ * 不记录调用栈的解析失败。
+ * choice 和 attempt 在尝试每个候选分支时都会产生失败，这类失败只用于回溯，填充调用栈的开销没有意义。
+ */
+public class ParseFailure extends Exception {
+    private final Integer status;
+
+    public ParseFailure(Integer status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.marchliu.lexers;
+
+import jaskell.parsec.common.Parsec;
+import jaskell.parsec.common.State;
+
+import java.io.EOFException;
+import java.util.function.Predicate;
+
+/**
+ * parsec 引擎中逐字符的热点解析器。
+ * 用 begin/rollback 向前看，只在整个 token 不匹配时抛出一次 ParseFailure，不再每个字符抛出一次异常。
+ */
+public final class Parsers {
+    private Parsers() {
+    }
+
+    public static ParseFailure fail(State<Character> state, String message) {
+        return new ParseFailure(state.status(), message);
+    }
+
+    /**
+     * 下一个字符，到达结尾时返回 null，不消耗输入
+     */
+    public static Character peek(State<Character> state) {
+        var tran = state.begin();
+        try {
+            return state.next();
+        } catch (EOFException err) {
+            return null;
+        } finally {
+            state.rollback(tran);
+        }
+    }
+
+    /**
+     * 接下来的输入是否是 text，不消耗输入
+     */
+    public static boolean peek(State<Character> state, String text) {
+        return match(state, text) == text.length();
+    }
+
+    /**
+     * 不消耗输入地与 text 比较
+     *
+     * @return 完全匹配时为 text 的长度，输入在匹配完之前结束时为 -1，否则为第一个不同字符的位置
+     */
+    private static int match(State<Character> state, String text) {
+        var tran = state.begin();
+        try {
+            for (int i = 0; i < text.length(); i++) {
+                if (state.next() != text.charAt(i)) {
+                    return i;
+                }
+            }
+            return text.length();
+        } catch (EOFException err) {
+            return -1;
+        } finally {
+            state.rollback(tran);
+        }
+    }
+
+    private static void skip(State<Character> state, String text) throws EOFException {
+        for (int i = 0; i < text.length(); i++) {
+            state.next();
+        }
+    }
+
+    /**
+     * 以 open 开头到行尾的注释，包括结尾的换行符
+     */
+    public static Parsec<Character, String> lineComment(String open) {
+        return state -> {
+            if (!peek(state, open)) {
+                throw fail(state, STR."expect \{open}");
+            }
+            skip(state, open);
+            StringBuilder sb = new StringBuilder().append(open);
+            Character c;
+            while ((c = peek(state)) != null) {
+                sb.append(state.next());
+                if (c == '\n') {
+                    break;
+                }
+            }
+            return sb.toString();
+        };
+    }
+
+    /**
+     * open 到 close 之间的注释。没有 close 时到文件结尾为止，文件在 close 中间结束时剩余字符留给后续 token
+     */
+    public static Parsec<Character, String> blockComment(String open, String close) {
+        return state -> {
+            if (!peek(state, open)) {
+                throw fail(state, STR."expect \{open}");
+            }
+            skip(state, open);
+            StringBuilder sb = new StringBuilder().append(open);
+            Character c;
+            while ((c = peek(state)) != null) {
+                if (c == close.charAt(0)) {
+                    int matched = match(state, close);
+                    if (matched == close.length()) {
+                        skip(state, close);
+                        return sb.append(close).toString();
+                    }
+                    if (matched < 0) {
+                        break;
+                    }
+                }
+                sb.append(state.next());
+            }
+            return sb.toString();
+        };
+    }
+
+    /**
+     * 已经读过开头的 quote，读到同样的 quote 为止，反斜杠和它之后的字符原样保留。到文件结尾仍未闭合时失败
+     */
+    public static Parsec<Character, String> quoted(String quote) {
+        return state -> {
+            StringBuilder sb = new StringBuilder().append(quote);
+            Character c;
+            while ((c = peek(state)) != null) {
+                if (c == quote.charAt(0) && peek(state, quote)) {
+                    skip(state, quote);
+                    return sb.append(quote).toString();
+                }
+                sb.append(state.next());
+                if (c == '\\' && peek(state) != null) {
+                    sb.append(state.next());
+                }
+            }
+            throw fail(state, "unterminated string");
+        };
+    }
+
+    /**
+     * 连续一个或多个满足 accept 的字符
+     */
+    public static Parsec<Character, String> many1(Predicate<Character> accept, String expect) {
+        return state -> {
+            StringBuilder sb = new StringBuilder();
+            Character c;
+            while ((c = peek(state)) != null && accept.test(c)) {
+                sb.append(state.next());
+            }
+            if (sb.isEmpty()) {
+                throw fail(state, expect);
+            }
+            return sb.toString();
+        };
+    }
+
+    /**
+     * 连续的符号字符，遇到空白、字母数字或 stops 中任意一个开头时结束
+     */
+    public static Parsec<Character, String> symbols(String... stops) {
+        return state -> {
+            StringBuilder sb = new StringBuilder();
+            Character c;
+            while ((c = peek(state)) != null && !Character.isWhitespace(c) && !Character.isLetterOrDigit(c)
+                    && !startsWith(state, c, stops)) {
+                sb.append(state.next());
+            }
+            if (sb.isEmpty()) {
+                throw fail(state, "expect symbol");
+            }
+            return sb.toString();
+        };
+    }
+
+    private static boolean startsWith(State<Character> state, char c, String[] stops) {
+        for (var stop : stops) {
+            if (stop.charAt(0) == c && (stop.length() == 1 || peek(state, stop))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 十进制数：可选的负号、整数部分和可选的小数部分，与 Scanner 的数字规则相同
+     */
+    public static Parsec<Character, String> decimal() {
+        return state -> {
+            var tran = state.begin();
+            StringBuilder sb = new StringBuilder();
+            if (peek(state, "-")) {
+                sb.append(state.next());
+            }
+            int sign = sb.length();
+            digits(state, sb);
+            if (sb.length() == sign) {
+                state.rollback(tran);
+                throw fail(state, "expect decimal");
+            }
+            state.commit(tran);
+            var point = state.begin();
+            if (peek(state, ".")) {
+                state.next();
+                var digit = peek(state);
+                if (digit != null && Character.isDigit(digit)) {
+                    sb.append('.');
+                    digits(state, sb);
+                    state.commit(point);
+                    return sb.toString();
+                }
+            }
+            state.rollback(point);
+            return sb.toString();
+        };
+    }
+
+    private static void digits(State<Character> state, StringBuilder sb) throws EOFException {
+        Character c;
+        while ((c = peek(state)) != null && Character.isDigit(c)) {
+            sb.append(state.next());
+        }
+    }
+}
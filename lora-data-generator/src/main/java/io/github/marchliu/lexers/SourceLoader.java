@@ -0,0 +1,251 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lexers.source.SourceEntry;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 读取源文件。不超过 maxSize 的文件整体读入，按 oversize 策略跳过更大的文件，
+ * 或者在 lexer 给出的切分点切成 chunk 流式读取。
+ */
+public class SourceLoader {
+    public enum Oversize {
+        SKIP,
+        CHUNK;
+
+        public static Oversize of(String name) {
+            return switch (name) {
+                case "skip" -> SKIP;
+                case "chunk" -> CHUNK;
+                default -> throw new IllegalArgumentException(STR."unknown oversize policy \{name}, expect skip or chunk");
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer {
+        /**
+         * @param hash 整个文件一次读入且调用方要求时为内容哈希，分块读取时为 null
+         * @param last chunk 是否到文件结尾为止，整个文件一次读入时总是 true
+         */
+        void accept(CharSequence chunk, String hash, boolean last) throws Exception;
+    }
+
+    private Charset charset = StandardCharsets.UTF_8;
+    private int chunkSize = 16 << 20;
+    private long maxSize = 512L << 20;
+    private Oversize oversize = Oversize.SKIP;
+    private final Map<String, SourceEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Digest> digests = new ConcurrentHashMap<>();
+
+    private record Digest(String hash, long size, long modified) {
+    }
+
+    public static SourceLoader defaults() {
+        return new SourceLoader();
+    }
+
+    public SourceLoader charset(Charset charset) {
+        this.charset = charset;
+        return this;
+    }
+
+    /**
+     * 分块读取时每次读入的字符数，在其中最后一个切分点切开，剩余部分拼到下一块
+     */
+    public SourceLoader chunkSize(long chunkSize) {
+        this.chunkSize = (int) Math.min(Math.max(chunkSize, 1 << 16), Integer.MAX_VALUE - 16);
+        return this;
+    }
+
+    public SourceLoader maxSize(long maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public SourceLoader oversize(Oversize oversize) {
+        this.oversize = oversize;
+        return this;
+    }
+
+    /**
+     * 登记一个虚拟路径对应的条目，load 这个路径时从条目读取，读取一次后即移除
+     */
+    public void entry(String path, SourceEntry entry) {
+        entries.put(path, entry);
+    }
+
+    /**
+     * 去重后不再需要的条目，及时释放其中的内容
+     */
+    public void discard(String path) {
+        entries.remove(path);
+    }
+
+    /**
+     * 登记去重时已经算出的内容哈希，load 时文件的大小和修改时间都没有变化就不再重新哈希，读取一次后即移除
+     */
+    public void digest(String path, String hash, long size, long modified) {
+        digests.put(path, new Digest(hash, size, modified));
+    }
+
+    /**
+     * 虚拟路径登记的条目，普通文件返回 null
+     */
+    public SourceEntry entry(String path) {
+        return entries.get(path);
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * @return 文件被跳过时返回 false
+     */
+    public boolean load(String filename, Lexer lexer, ChunkConsumer consumer) throws Exception {
+        return load(filename, lexer, false, consumer);
+    }
+
+    /**
+     * @param lexer 分块读取时由它给出切分点，不能切分的 lexer 遇到超过 maxSize 的文件时跳过
+     */
+    public boolean load(String filename, Lexer lexer, boolean digest, ChunkConsumer consumer) throws Exception {
+        var known = digests.remove(filename);
+        var entry = entries.remove(filename);
+        if (entry != null) {
+            return load(filename, entry, known, digest, consumer);
+        }
+        var path = Paths.get(filename);
+        long size = Files.size(path);
+        if (known != null && (known.size() != size || known.modified() != Files.getLastModifiedTime(path).toMillis())) {
+            // 去重之后文件又被修改过
+            known = null;
+        }
+        if (size > maxSize || size > Integer.MAX_VALUE) {
+            if (oversize == Oversize.SKIP) {
+                System.err.println(STR."skip \{filename}: \{size} bytes exceeds max file size \{maxSize}");
+                return false;
+            }
+            if (!lexer.splittable()) {
+                System.err.println(STR."skip \{filename}: \{size} bytes exceeds max file size \{maxSize}, \{lexer.getName()} can not read it in chunks");
+                return false;
+            }
+            chunks(path, lexer, consumer);
+        } else {
+            // ASCII 为主的源码解码成 String 时每个字符只占一个字节
+            var bytes = Files.readAllBytes(path);
+            var hash = !digest ? null : known != null ? known.hash() : hash(ByteBuffer.wrap(bytes));
+            consumer.accept(new String(bytes, charset), hash, true);
+        }
+        return true;
+    }
+
+    private boolean load(String filename, SourceEntry entry, Digest known, boolean digest, ChunkConsumer consumer) throws Exception {
+        var bytes = entry.read();
+        if (bytes.length > maxSize) {
+            System.err.println(STR."skip \{filename}: \{bytes.length} bytes exceeds max file size \{maxSize}");
+            return false;
+        }
+        String hash = null;
+        if (digest) {
+            // git 的 blob id 已经是内容哈希，不必再对内容做一遍 SHA-256
+            if (entry.id() != null) {
+                hash = hash(ByteBuffer.wrap(entry.id().getBytes(StandardCharsets.US_ASCII)));
+            } else {
+                hash = known != null ? known.hash() : hash(ByteBuffer.wrap(bytes));
+            }
+        }
+        consumer.accept(new String(bytes, charset), hash, true);
+        return true;
+    }
+
+    private CharsetDecoder decoder() {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 字符集也参与哈希，同样的字节按不同编码解码得到的 token 不同。
+     */
+    private String hash(ByteBuffer bytes) throws NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(charset.name().getBytes(StandardCharsets.US_ASCII));
+        digest.update(bytes);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 只在 lexer 给出的切分点切开，注释和字符串不会被截断，各块分别分词的结果与整体分词相同。
+     * 读入的部分中没有切分点时继续读入，拼接的长度超过 maxSize 仍然没有切分点时放弃这个文件。
+     */
+    private void chunks(Path path, Lexer lexer, ChunkConsumer consumer) throws Exception {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+             Reader reader = Channels.newReader(channel, decoder(), chunkSize)) {
+            char[] carry = new char[0];
+            while (true) {
+                char[] chunk = Arrays.copyOf(carry, carry.length + chunkSize);
+                int length = carry.length;
+                int read;
+                while (length < chunk.length && (read = reader.read(chunk, length, chunk.length - length)) > 0) {
+                    length += read;
+                }
+                if (length < chunk.length) {
+                    if (length > 0) {
+                        consumer.accept(CharBuffer.wrap(chunk, 0, length), null, true);
+                    }
+                    return;
+                }
+                var points = lexer.splitPoints(CharBuffer.wrap(chunk), 1, false);
+                if (points.length == 0) {
+                    if (length > maxSize) {
+                        throw new IOException(STR."\{path}: no safe split point within \{length} chars");
+                    }
+                    carry = chunk;
+                    continue;
+                }
+                int cut = points[points.length - 1];
+                consumer.accept(CharBuffer.wrap(chunk, 0, cut), null, false);
+                carry = Arrays.copyOfRange(chunk, cut, length);
+            }
+        }
+    }
+
+    public static long parseSize(String value) {
+        var text = value.trim().toLowerCase();
+        long unit = switch (text.charAt(text.length() - 1)) {
+            case 'k' -> 1L << 10;
+            case 'm' -> 1L << 20;
+            case 'g' -> 1L << 30;
+            default -> 1L;
+        };
+        if (unit > 1) {
+            text = text.substring(0, text.length() - 1);
+        }
+        return Long.parseLong(text) * unit;
+    }
+}
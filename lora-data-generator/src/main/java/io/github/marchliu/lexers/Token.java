@@ -5,27 +5,61 @@ import jaskell.parsec.common.Parsec;
 import static jaskell.parsec.common.Atom.pack;
 
 public record Token(String category, String token){
+    public static final String SYMBOL = "symbol";
+    public static final String WORD = "word";
+    public static final String TEXT = "text";
+    public static final String INSTRUCTION = "instruction";
+    public static final String LITERAL = "literal";
+
+    public static final byte SYMBOL_CODE = 0;
+    public static final byte WORD_CODE = 1;
+    public static final byte TEXT_CODE = 2;
+    public static final byte INSTRUCTION_CODE = 3;
+    public static final byte LITERAL_CODE = 4;
+
+    public static byte code(String category) {
+        return switch (category) {
+            case SYMBOL -> SYMBOL_CODE;
+            case WORD -> WORD_CODE;
+            case TEXT -> TEXT_CODE;
+            case INSTRUCTION -> INSTRUCTION_CODE;
+            case LITERAL -> LITERAL_CODE;
+            default -> throw new IllegalArgumentException(STR."unknown token category \{category}");
+        };
+    }
+
+    public static String category(byte code) {
+        return switch (code) {
+            case SYMBOL_CODE -> SYMBOL;
+            case WORD_CODE -> WORD;
+            case TEXT_CODE -> TEXT;
+            case INSTRUCTION_CODE -> INSTRUCTION;
+            case LITERAL_CODE -> LITERAL;
+            default -> throw new IllegalArgumentException(STR."unknown token category code \{code}");
+        };
+    }
+
     public static Token create(String category, String token) {
         return new Token(category, token);
     }
 
     public static Parsec<Character, Token> symbol(String value) {
-        return pack(Token.create("symbol", value));
+        return pack(Token.create(SYMBOL, value));
     }
 
     public static Parsec<Character, Token> word(String value) {
-        return pack(Token.create("word", value));
+        return pack(Token.create(WORD, value));
     }
 
     public static Parsec<Character, Token> text(String value) {
-        return pack(Token.create("text", value));
+        return pack(Token.create(TEXT, value));
     }
 
     public static Parsec<Character, Token> instruction(String value) {
-        return pack(Token.create("instruction", value));
+        return pack(Token.create(INSTRUCTION, value));
     }
 
     public static Parsec<Character, Token> literal(String value) {
-        return pack(Token.create("literal", value));
+        return pack(Token.create(LITERAL, value));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package io.github.marchliu.lexers;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按偏移量保存 token：每个 token 只占用 start/end 两个 int 和一个 byte 类别，
+ * 只有真正写入输出时才从源文本中取出字符。
+ * 不能对应到源文本片段的 token（例如 nlp 插入的空格）保存在 literals 中，start 记为 -1 - index。
+ */
+public class TokenBuffer {
+    private final CharSequence source;
+    private int[] starts;
+    private int[] ends;
+    private byte[] categories;
+    private int size = 0;
+    private final List<String> literals = new ArrayList<>();
+    private final Map<String, Integer> literalIndex = new HashMap<>();
+    private List<LexError> errors = List.of();
+
+    public TokenBuffer(CharSequence source) {
+        this(source, 64);
+    }
+
+    public TokenBuffer(CharSequence source, int capacity) {
+        this.source = source;
+        int cap = Math.max(capacity, 8);
+        this.starts = new int[cap];
+        this.ends = new int[cap];
+        this.categories = new byte[cap];
+    }
+
+    public static TokenBuffer of(CharSequence source, List<Token> tokens) {
+        TokenBuffer result = new TokenBuffer(source, tokens.size());
+        int cursor = 0;
+        for (var token : tokens) {
+            byte code = Token.code(token.category());
+            int idx = indexOf(source, token.token(), cursor, window(source, cursor, token.token().length()));
+            if (idx >= 0) {
+                result.add(idx, idx + token.token().length(), code);
+                cursor = idx + token.token().length();
+            } else {
+                result.addLiteral(token.token(), code);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 下一个 token 应当开始于 cursor 之后第一个非空白字符所在的行，只在这一行内查找：
+     * 不必每个 token 都搜索到文件末尾，源文本中不存在的 token 也不会对到后面无关的位置上。
+     */
+    private static int window(CharSequence source, int cursor, int length) {
+        int pos = cursor;
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+        while (pos < source.length() && source.charAt(pos) != '\n') {
+            pos++;
+        }
+        return (int) Math.min(source.length(), (long) pos + length);
+    }
+
+    public CharSequence source() {
+        return source;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(int start, int end, byte category) {
+        ensure();
+        starts[size] = start;
+        ends[size] = end;
+        categories[size] = category;
+        size++;
+    }
+
+    public void addLiteral(String text, byte category) {
+        int idx = literalIndex.computeIfAbsent(text, key -> {
+            literals.add(key);
+            return literals.size() - 1;
+        });
+        ensure();
+        starts[size] = -1 - idx;
+        ends[size] = text.length();
+        categories[size] = category;
+        size++;
+    }
+
+    public void add(TokenBuffer other, int index) {
+        if (other.starts[index] < 0) {
+            addLiteral(other.literals.get(-1 - other.starts[index]), other.categories[index]);
+        } else if (other.source == source) {
+            add(other.starts[index], other.ends[index], other.categories[index]);
+        } else {
+            addLiteral(other.text(index), other.categories[index]);
+        }
+    }
+
+    /**
+     * 复制另一个 buffer 中的 token，源文本片段的偏移加上 offset。
+     * 用于把对源文本中一段单独分词的结果合并回整个源文本。
+     */
+    public void add(TokenBuffer other, int index, int offset) {
+        if (other.starts[index] < 0) {
+            addLiteral(other.literals.get(-1 - other.starts[index]), other.categories[index]);
+        } else {
+            add(other.starts[index] + offset, other.ends[index] + offset, other.categories[index]);
+        }
+    }
+
+    public void addAll(TokenBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other, i);
+        }
+        addErrors(other, 0);
+    }
+
+    /**
+     * 记录分词时跳过的一处输入
+     */
+    public void error(int offset, String message) {
+        if (errors.isEmpty()) {
+            errors = new ArrayList<>();
+        }
+        errors.add(new LexError(offset, message));
+    }
+
+    public void addErrors(TokenBuffer other, int offset) {
+        for (var err : other.errors) {
+            error(err.offset() + offset, err.message());
+        }
+    }
+
+    public List<LexError> errors() {
+        return errors;
+    }
+
+    /**
+     * 把一个 token 的切分结果按顺序定位回源文本，找不到的片段按 literal 保存。
+     */
+    public void addSegments(int from, int to, List<String> segments, byte category) {
+        int cursor = from;
+        for (var segment : segments) {
+            int idx = indexOf(source, segment, cursor, to);
+            if (idx >= 0) {
+                add(idx, idx + segment.length(), category);
+                cursor = idx + segment.length();
+            } else {
+                addLiteral(segment, category);
+            }
+        }
+    }
+
+    public void addSegments(TokenBuffer other, int index, List<String> segments) {
+        if (other.source == source && other.starts[index] >= 0) {
+            addSegments(other.starts[index], other.ends[index], segments, other.categories[index]);
+        } else {
+            for (var segment : segments) {
+                addLiteral(segment, other.categories[index]);
+            }
+        }
+    }
+
+    public byte category(int index) {
+        return categories[index];
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public boolean isLiteral(int index) {
+        return starts[index] < 0;
+    }
+
+    public int length(int index) {
+        return starts[index] < 0 ? ends[index] : ends[index] - starts[index];
+    }
+
+    public String text(int index) {
+        if (starts[index] < 0) {
+            return literals.get(-1 - starts[index]);
+        }
+        return source.subSequence(starts[index], ends[index]).toString();
+    }
+
+    public char charAt(int index, int offset) {
+        if (starts[index] < 0) {
+            return literals.get(-1 - starts[index]).charAt(offset);
+        }
+        return source.charAt(starts[index] + offset);
+    }
+
+    /**
+     * 把第 index 个 token 从 offset 开始的 length 个字符复制到 dst
+     */
+    public void getChars(int index, int offset, int length, char[] dst, int dstBegin) {
+        if (starts[index] < 0) {
+            literals.get(-1 - starts[index]).getChars(offset, offset + length, dst, dstBegin);
+            return;
+        }
+        int begin = starts[index] + offset;
+        if (source instanceof String str) {
+            str.getChars(begin, begin + length, dst, dstBegin);
+        } else if (source instanceof CharBuffer chars && chars.hasArray()) {
+            System.arraycopy(chars.array(), chars.arrayOffset() + chars.position() + begin, dst, dstBegin, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dst[dstBegin + i] = source.charAt(begin + i);
+            }
+        }
+    }
+
+    public Token token(int index) {
+        return Token.create(Token.category(categories[index]), text(index));
+    }
+
+    public StringBuilder appendTo(StringBuilder builder, int index) {
+        if (starts[index] < 0) {
+            return builder.append(literals.get(-1 - starts[index]));
+        }
+        return builder.append(source, starts[index], ends[index]);
+    }
+
+    public String join(String separator, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            length += length(i) + separator.length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                builder.append(separator);
+            }
+            appendTo(builder, i);
+        }
+        return builder.toString();
+    }
+
+    private void ensure() {
+        if (size == starts.length) {
+            int capacity = starts.length + (starts.length >> 1);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+        }
+    }
+
+    static int indexOf(CharSequence source, String text, int from, int to) {
+        if (source instanceof String str) {
+            return str.indexOf(text, from, to);
+        }
+        int last = to - text.length();
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < text.length() && source.charAt(i + j) == text.charAt(j)) {
+                j++;
+            }
+            if (j == text.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.marchliu.lexers;
+
+import java.io.Reader;
+
+/**
+ * TokenBuffer 中 [from, to) 的 token 用 separator 连接后的文本，前面可以再加一个 prefix。
+ * 只是源文本上的视图，不复制字符：顺序调用 charAt 是均摊 O(1) 的，reader 按块复制，
+ * 供 Bloom filter 计算哈希和 Jackson 直接写出，不必先拼成字符串。非线程安全。
+ */
+public final class TokenText implements CharSequence {
+    private final String prefix;
+    private final TokenBuffer tokens;
+    private final String separator;
+    private final int from;
+    private final int to;
+    private final int length;
+    // charAt 的游标：token 下标和它在文本中（不含 prefix）的起始位置
+    private int cursor;
+    private int base = 0;
+
+    public TokenText(String prefix, TokenBuffer tokens, String separator, int from, int to) {
+        this.prefix = prefix;
+        this.tokens = tokens;
+        this.separator = separator;
+        this.from = from;
+        this.to = to;
+        this.cursor = from;
+        int total = prefix.length();
+        for (int i = from; i < to; i++) {
+            total += tokens.length(i) + (i > from ? separator.length() : 0);
+        }
+        this.length = total;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        if (index < prefix.length()) {
+            return prefix.charAt(index);
+        }
+        int offset = index - prefix.length();
+        while (offset < base) {
+            cursor--;
+            base -= tokens.length(cursor) + separator.length();
+        }
+        while (offset >= base + tokens.length(cursor) + separator.length()) {
+            base += tokens.length(cursor) + separator.length();
+            cursor++;
+        }
+        int inner = offset - base;
+        int size = tokens.length(cursor);
+        return inner < size ? tokens.charAt(cursor, inner) : separator.charAt(inner - size);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder(length).append(prefix);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                builder.append(separator);
+            }
+            tokens.appendTo(builder, i);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 按顺序读出全部文本，每次尽量多地整块复制
+     */
+    public Reader reader() {
+        return new Reader() {
+            // 当前段：-1 是 prefix，之后每个 token 先读分隔符（第一个除外）再读 token 本身
+            private int token = from - 1;
+            private boolean inSeparator = false;
+            private int offset = 0;
+
+            @Override
+            public int read(char[] buffer, int off, int len) {
+                int count = 0;
+                while (count < len) {
+                    int size = size();
+                    if (offset == size) {
+                        if (!advance()) {
+                            break;
+                        }
+                        continue;
+                    }
+                    int n = Math.min(size - offset, len - count);
+                    if (token < from) {
+                        prefix.getChars(offset, offset + n, buffer, off + count);
+                    } else if (inSeparator) {
+                        separator.getChars(offset, offset + n, buffer, off + count);
+                    } else {
+                        tokens.getChars(token, offset, n, buffer, off + count);
+                    }
+                    offset += n;
+                    count += n;
+                }
+                return count == 0 && len > 0 ? -1 : count;
+            }
+
+            private int size() {
+                if (token < from) {
+                    return prefix.length();
+                }
+                return inSeparator ? separator.length() : tokens.length(token);
+            }
+
+            private boolean advance() {
+                offset = 0;
+                if (inSeparator) {
+                    inSeparator = false;
+                    return true;
+                }
+                if (token + 1 >= to) {
+                    return false;
+                }
+                token++;
+                inSeparator = token > from;
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
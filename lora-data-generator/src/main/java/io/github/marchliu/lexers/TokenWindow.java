@@ -0,0 +1,7 @@
+package io.github.marchliu.lexers;
+
+/**
+ * 训练样本在 TokenBuffer 中对应的范围：[from, to) 是 output，开头 header 个 token 是 input
+ */
+public record TokenWindow(String lexer, TokenBuffer tokens, int from, int header, int to) {
+}
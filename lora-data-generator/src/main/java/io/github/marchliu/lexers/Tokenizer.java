@@ -4,4 +4,8 @@ import java.util.List;
 
 public interface Tokenizer {
     List<String> cuts(String source);
+
+    default int count(String source) {
+        return cuts(source).size();
+    }
 }
@@ -0,0 +1,243 @@
+package io.github.marchliu.lexers.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.marchliu.lexers.TokenBuffer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 以文件内容哈希为 key 的磁盘 token 缓存。
+ * index.json 记录 path -> (mtime, size, charset, hash)，路径、修改时间和字符集都没变的文件不必读取内容即可命中。
+ * 缓存总大小超过上限时按最近访问时间淘汰。
+ */
+public class TokenCache {
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".tok";
+
+    public record IndexEntry(long mtime, long size, String charset, String hash) {
+    }
+
+    private record Stored(long size, long access) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path directory;
+    private final long limit;
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private final Map<Path, Stored> stored = new ConcurrentHashMap<>();
+    private final AtomicLong total = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fastHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TokenCache(Path directory, long limit) throws IOException {
+        this.directory = directory;
+        this.limit = limit;
+        Files.createDirectories(directory);
+        var indexFile = directory.resolve("index.json");
+        if (Files.exists(indexFile)) {
+            try {
+                index.putAll(mapper.readValue(indexFile.toFile(), new TypeReference<HashMap<String, IndexEntry>>() {
+                }));
+            } catch (IOException err) {
+                System.err.println(STR."ignore broken cache index \{indexFile}: \{err.getMessage()}");
+            }
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(p -> p.toString().endsWith(SUFFIX)).forEach(p -> {
+                try {
+                    var item = new Stored(Files.size(p), Files.getLastModifiedTime(p).toMillis());
+                    stored.put(p, item);
+                    total.addAndGet(item.size());
+                } catch (IOException ignored) {
+                }
+            });
+        }
+    }
+
+    /**
+     * 快速检查：path、mtime 和 size 都与上次一致时直接按记录的哈希取缓存。
+     * 记录的哈希是按当时的字符集算的，字符集不同时当作未命中，由调用方按新字符集重新哈希。
+     */
+    public TokenBuffer lookup(String path, Charset charset, String lexer) {
+        var entry = index.get(path);
+        if (entry == null || !charset.name().equals(entry.charset())) {
+            return null;
+        }
+        try {
+            var file = Paths.get(path);
+            if (Files.getLastModifiedTime(file).toMillis() != entry.mtime() || Files.size(file) != entry.size()) {
+                return null;
+            }
+        } catch (IOException err) {
+            return null;
+        }
+        var result = read(entry.hash(), lexer);
+        if (result != null) {
+            fastHits.increment();
+        }
+        return result;
+    }
+
+    public TokenBuffer get(String path, Charset charset, String hash, String lexer) {
+        var result = read(hash, lexer);
+        if (result == null) {
+            misses.increment();
+        } else {
+            remember(path, charset, hash);
+        }
+        return result;
+    }
+
+    public void put(String path, Charset charset, String hash, String lexer, TokenBuffer tokens) {
+        var file = entry(hash, lexer);
+        try {
+            Files.createDirectories(file.getParent());
+            var temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                write(output, tokens);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            var item = new Stored(Files.size(file), System.currentTimeMillis());
+            var previous = stored.put(file, item);
+            total.addAndGet(item.size() - (previous == null ? 0 : previous.size()));
+            remember(path, charset, hash);
+        } catch (IOException err) {
+            System.err.println(STR."cache write failed for \{path}: \{err.getMessage()}");
+        }
+        if (total.get() > limit) {
+            evict();
+        }
+    }
+
+    private void remember(String path, Charset charset, String hash) {
+        try {
+            var file = Paths.get(path);
+            index.put(path, new IndexEntry(Files.getLastModifiedTime(file).toMillis(), Files.size(file), charset.name(), hash));
+        } catch (IOException ignored) {
+        }
+    }
+
+    private Path entry(String hash, String lexer) {
+        var name = lexer.replaceAll("[^A-Za-z0-9]+", "-");
+        return directory.resolve(hash.substring(0, 2)).resolve(STR."\{hash}.\{name}\{SUFFIX}");
+    }
+
+    private TokenBuffer read(String hash, String lexer) {
+        var file = entry(hash, lexer);
+        if (!stored.containsKey(file)) {
+            return null;
+        }
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            var result = read(input);
+            if (result != null) {
+                hits.increment();
+                long now = System.currentTimeMillis();
+                stored.computeIfPresent(file, (key, item) -> new Stored(item.size(), now));
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            }
+            return result;
+        } catch (IOException err) {
+            return null;
+        }
+    }
+
+    private synchronized void evict() {
+        if (total.get() <= limit) {
+            return;
+        }
+        List<Map.Entry<Path, Stored>> entries = new ArrayList<>(stored.entrySet());
+        entries.sort(Comparator.comparingLong(e -> e.getValue().access()));
+        long target = limit - limit / 10;
+        for (var entry : entries) {
+            if (total.get() <= target) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry.getKey());
+                stored.remove(entry.getKey());
+                total.addAndGet(-entry.getValue().size());
+                evictions.increment();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    public void close() throws IOException {
+        var temp = directory.resolve("index.json.tmp");
+        mapper.writeValue(temp.toFile(), index);
+        Files.move(temp, directory.resolve("index.json"), StandardCopyOption.REPLACE_EXISTING);
+        System.out.println(STR."token cache: \{hits.sum()} hits (\{fastHits.sum()} by path and mtime), \{misses.sum()} misses, \{evictions.sum()} evictions, \{total.get()} bytes");
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    static void write(DataOutputStream output, TokenBuffer tokens) throws IOException {
+        output.writeInt(VERSION);
+        output.writeInt(tokens.size());
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            output.writeByte(tokens.category(i));
+            output.writeInt(tokens.length(i));
+            tokens.appendTo(text, i);
+        }
+        var bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static TokenBuffer read(DataInputStream input) throws IOException {
+        if (input.readInt() != VERSION) {
+            return null;
+        }
+        int size = input.readInt();
+        byte[] categories = new byte[size];
+        int[] lengths = new int[size];
+        for (int i = 0; i < size; i++) {
+            categories[i] = input.readByte();
+            lengths[i] = input.readInt();
+        }
+        var bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        var text = new String(bytes, StandardCharsets.UTF_8);
+        TokenBuffer result = new TokenBuffer(text, size);
+        int pos = 0;
+        for (int i = 0; i < size; i++) {
+            result.add(pos, pos + lengths[i], categories[i]);
+            pos += lengths[i];
+        }
+        return result;
+    }
+}
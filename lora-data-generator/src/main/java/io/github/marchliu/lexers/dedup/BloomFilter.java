@@ -0,0 +1,64 @@
+package io.github.marchliu.lexers.dedup;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * 堆外 Bloom filter，位数组放在 direct buffer 中，内存占用固定为构造时给出的预算。
+ * 非线程安全，由单个写入线程使用。
+ */
+public class BloomFilter {
+    private static final long MAX_BYTES = 1L << 30;
+
+    private final LongBuffer bits;
+    private final long size;
+    private final int hashes;
+    private long count = 0;
+
+    public BloomFilter(long budgetBytes, int hashes) {
+        long bytes = Math.max(8, Math.min(budgetBytes, MAX_BYTES)) & ~7L;
+        this.bits = ByteBuffer.allocateDirect((int) bytes).asLongBuffer();
+        this.size = bytes * 8;
+        this.hashes = hashes;
+    }
+
+    /**
+     * @return 之前可能出现过时返回 false
+     */
+    public boolean add(CharSequence text) {
+        long h1 = hash(text, 0x9E3779B97F4A7C15L);
+        long h2 = hash(text, 0xC2B2AE3D27D4EB4FL) | 1;
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, size);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+            long value = bits.get(word);
+            if ((value & mask) == 0) {
+                bits.put(word, value | mask);
+                added = true;
+            }
+        }
+        if (added) {
+            count++;
+        }
+        return added;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long bytes() {
+        return size / 8;
+    }
+
+    static long hash(CharSequence text, long seed) {
+        long hash = seed ^ text.length();
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * 0x100000001B3L;
+            hash ^= hash >>> 29;
+        }
+        return MinHash.mix(hash);
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.marchliu.lexers.dedup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 在词法分析之前剔除重复文件：内容哈希相同的完全重复，以及 MinHash/LSH 估计相似度超过阈值的近似重复。
+ * 文件按调用 accept 的顺序处理，先出现的文件被保留。
+ */
+public class FileDeduplicator {
+    public enum Mode {
+        OFF,
+        EXACT,
+        NEAR;
+
+        public static Mode of(String name) {
+            return switch (name) {
+                case "off" -> OFF;
+                case "exact" -> EXACT;
+                case "near" -> NEAR;
+                default -> throw new IllegalArgumentException(STR."unknown dedup mode \{name}, expect off, exact or near");
+            };
+        }
+    }
+
+    /**
+     * @param modified 文件的修改时间（毫秒），压缩包条目为 0
+     */
+    public record Fingerprint(String path, long size, long modified, String hash, int[] signature) {
+    }
+
+    // 近似去重只看文件开头这么多字节，超大文件也不必整个读入内存
+    private static final int NEAR_PREFIX = 1 << 20;
+
+    private final Mode mode;
+    private final Charset charset;
+    private final long maxSize;
+    private final double threshold;
+    private final int bands;
+    private final int rows;
+    private final MinHash minHash;
+    private final Set<String> hashes = new HashSet<>();
+    private final List<int[]> signatures = new ArrayList<>();
+    private final List<Map<Long, List<Integer>>> buckets = new ArrayList<>();
+    private long exactFiles = 0;
+    private long exactBytes = 0;
+    private long nearFiles = 0;
+    private long nearBytes = 0;
+
+    public FileDeduplicator(Mode mode, Charset charset, long maxSize,
+                            double threshold, int permutations, int bands, int shingleSize) {
+        if (permutations % bands != 0) {
+            throw new IllegalArgumentException(STR."minhash permutations \{permutations} must be divisible by lsh bands \{bands}");
+        }
+        this.mode = mode;
+        this.charset = charset;
+        this.maxSize = maxSize;
+        this.threshold = threshold;
+        this.bands = bands;
+        this.rows = permutations / bands;
+        this.minHash = new MinHash(permutations, shingleSize);
+        for (int i = 0; i < bands; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * 计算指纹，可以在多个线程中并行调用。超过 maxSize 的文件不参与去重，返回的 hash 为 null。
+     * 内容边读边哈希，只有近似去重需要的开头部分留在内存中。
+     */
+    public Fingerprint fingerprint(String path) throws IOException, NoSuchAlgorithmException {
+        var file = Paths.get(path);
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        if (mode == Mode.OFF || size > maxSize) {
+            return new Fingerprint(path, size, modified, null, null);
+        }
+        var digest = digest();
+        byte[] prefix;
+        try (var input = new DigestInputStream(Files.newInputStream(file), digest)) {
+            prefix = input.readNBytes(mode == Mode.NEAR ? NEAR_PREFIX : 0);
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+        return new Fingerprint(path, size, modified, HexFormat.of().formatHex(digest.digest()),
+                signature(prefix, prefix.length));
+    }
+
+    /**
+     * 对已经读入内存的内容计算指纹，用于压缩包中的条目
+     */
+    public Fingerprint fingerprint(String path, byte[] bytes) throws NoSuchAlgorithmException {
+        if (mode == Mode.OFF || bytes.length > maxSize) {
+            return new Fingerprint(path, bytes.length, 0, null, null);
+        }
+        var digest = digest();
+        digest.update(bytes);
+        return new Fingerprint(path, bytes.length, 0, HexFormat.of().formatHex(digest.digest()),
+                signature(bytes, Math.min(bytes.length, NEAR_PREFIX)));
+    }
+
+    /**
+     * 与 SourceLoader 的内容哈希算法相同（字符集名称也参与哈希），保留下来的文件分词时可以直接作为 TokenCache 的键
+     */
+    private MessageDigest digest() throws NoSuchAlgorithmException {
+        var digest = MessageDigest.getInstance("SHA-256");
+        digest.update(charset.name().getBytes(StandardCharsets.US_ASCII));
+        return digest;
+    }
+
+    private int[] signature(byte[] bytes, int length) {
+        return mode == Mode.NEAR ? minHash.signature(new String(bytes, 0, length, charset)) : null;
+    }
+
+    /**
+     * 判断文件是否保留，必须按确定的顺序串行调用。
+     */
+    public synchronized boolean accept(Fingerprint fingerprint) {
+        if (fingerprint.hash() == null) {
+            return true;
+        }
+        if (!hashes.add(fingerprint.hash())) {
+            exactFiles++;
+            exactBytes += fingerprint.size();
+            return false;
+        }
+        var signature = fingerprint.signature();
+        if (signature == null) {
+            return true;
+        }
+        long[] keys = new long[bands];
+        Set<Integer> checked = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            long key = band;
+            for (int i = band * rows; i < (band + 1) * rows; i++) {
+                key = MinHash.mix(key * 31 + signature[i]);
+            }
+            keys[band] = key;
+            for (var candidate : buckets.get(band).getOrDefault(key, List.of())) {
+                if (checked.add(candidate) && MinHash.similarity(signature, signatures.get(candidate)) >= threshold) {
+                    nearFiles++;
+                    nearBytes += fingerprint.size();
+                    return false;
+                }
+            }
+        }
+        int id = signatures.size();
+        signatures.add(signature);
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(keys[band], k -> new ArrayList<>(1)).add(id);
+        }
+        return true;
+    }
+
+    public long removedFiles() {
+        return exactFiles + nearFiles;
+    }
+
+    public long removedBytes() {
+        return exactBytes + nearBytes;
+    }
+
+    public String report() {
+        return STR."dedup: removed \{exactFiles} exact duplicates (\{exactBytes} bytes), \{nearFiles} near duplicates (\{nearBytes} bytes)";
+    }
+}
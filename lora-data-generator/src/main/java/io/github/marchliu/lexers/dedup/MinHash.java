@@ -0,0 +1,98 @@
+package io.github.marchliu.lexers.dedup;
+
+import java.util.Arrays;
+
+/**
+ * 基于 token shingle 的 MinHash 签名。token 是连续的字母数字（含下划线）或单个标点，空白被忽略。
+ */
+public class MinHash {
+    private final int permutations;
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHash(int permutations, int shingleSize) {
+        this.permutations = permutations;
+        this.shingleSize = shingleSize;
+        this.seeds = new long[permutations];
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < permutations; i++) {
+            seed = mix(seed + i);
+            seeds[i] = seed;
+        }
+    }
+
+    public int permutations() {
+        return permutations;
+    }
+
+    /**
+     * @return token 数为 0 时返回 null
+     */
+    public int[] signature(CharSequence text) {
+        long[] tokens = tokenHashes(text);
+        if (tokens.length == 0) {
+            return null;
+        }
+        int[] result = new int[permutations];
+        Arrays.fill(result, Integer.MAX_VALUE);
+        int width = Math.min(shingleSize, tokens.length);
+        for (int start = 0; start + width <= tokens.length; start++) {
+            long shingle = 0;
+            for (int i = start; i < start + width; i++) {
+                shingle = shingle * 31 + tokens[i];
+            }
+            for (int p = 0; p < permutations; p++) {
+                int value = (int) (mix(shingle ^ seeds[p]) >>> 33);
+                if (value < result[p]) {
+                    result[p] = value;
+                }
+            }
+        }
+        return result;
+    }
+
+    public static double similarity(int[] left, int[] right) {
+        int same = 0;
+        for (int i = 0; i < left.length; i++) {
+            if (left[i] == right[i]) {
+                same++;
+            }
+        }
+        return (double) same / left.length;
+    }
+
+    private static long[] tokenHashes(CharSequence text) {
+        long[] result = new long[64];
+        int size = 0;
+        int pos = 0;
+        int length = text.length();
+        while (pos < length) {
+            char c = text.charAt(pos);
+            if (Character.isWhitespace(c)) {
+                pos++;
+                continue;
+            }
+            long hash = 1125899906842597L;
+            if (Character.isLetterOrDigit(c) || c == '_') {
+                while (pos < length && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+                    hash = 31 * hash + text.charAt(pos);
+                    pos++;
+                }
+            } else {
+                hash = 31 * hash + c;
+                pos++;
+            }
+            if (size == result.length) {
+                result = Arrays.copyOf(result, size << 1);
+            }
+            result[size++] = hash;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.marchliu.lexers.git;
+
+import io.github.marchliu.lexers.source.SourceEntry;
+
+import java.io.IOException;
+
+/**
+ * 仓库中的一个文件内容。blob id 是内容的哈希，可以直接用作缓存和去重的键。
+ */
+public record GitBlob(GitRepository repository, String id) implements SourceEntry {
+    @Override
+    public byte[] read() throws IOException {
+        return repository.read(id).data();
+    }
+}
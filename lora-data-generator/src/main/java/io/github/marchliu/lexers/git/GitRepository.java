@@ -0,0 +1,308 @@
+package io.github.marchliu.lexers.git;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 直接读取本地 git 仓库的对象库，不需要 checkout。
+ * 支持 loose 对象和 v2 索引的 pack（含 OFS_DELTA、REF_DELTA），loose 和 packed 的引用、附注标签，
+ * 以及按提交遍历目录树。linked worktree 按 commondir 读取共享的对象和引用，HEAD 等仍取自 worktree 自己的目录。
+ * 不支持 alternates、浅克隆缺失的对象和 SHA-256 仓库。
+ */
+public class GitRepository implements Closeable {
+    public static final int COMMIT = 1;
+    public static final int TREE = 2;
+    public static final int BLOB = 3;
+    public static final int TAG = 4;
+    public static final int OFS_DELTA = 6;
+    public static final int REF_DELTA = 7;
+
+    public record GitObject(int type, byte[] data) {
+    }
+
+    private final Path directory;
+    // linked worktree 的 commondir，普通仓库就是 directory
+    private final Path common;
+    private final Path objects;
+    private final List<PackFile> packs = new ArrayList<>();
+    private Map<String, String> packedRefs = null;
+
+    private GitRepository(Path directory) throws IOException {
+        this.directory = directory;
+        var commondir = directory.resolve("commondir");
+        this.common = Files.isRegularFile(commondir)
+                ? directory.resolve(Files.readString(commondir).trim()).normalize()
+                : directory;
+        this.objects = common.resolve("objects");
+        var packDir = objects.resolve("pack");
+        if (Files.isDirectory(packDir)) {
+            try (var files = Files.list(packDir)) {
+                for (var idx : files.filter(f -> f.getFileName().toString().endsWith(".idx")).sorted().toList()) {
+                    var name = idx.getFileName().toString();
+                    var pack = idx.resolveSibling(name.substring(0, name.length() - 4) + ".pack");
+                    if (Files.exists(pack)) {
+                        packs.add(new PackFile(idx, pack));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 打开工作目录（含 .git 目录或 gitdir 文件）或裸仓库
+     */
+    public static GitRepository open(Path path) throws IOException {
+        var directory = gitDirectory(path);
+        if (directory == null) {
+            throw new IOException(STR."\{path} is not a git repository");
+        }
+        return new GitRepository(directory);
+    }
+
+    /**
+     * path 对应的 git 目录，不是仓库时返回 null
+     */
+    public static Path gitDirectory(Path path) throws IOException {
+        var dir = path.toAbsolutePath().normalize();
+        var dotGit = dir.resolve(".git");
+        if (Files.isDirectory(dotGit)) {
+            return dotGit;
+        }
+        if (Files.isRegularFile(dotGit)) {
+            // worktree 和子模块的 .git 是一行 gitdir: <path>
+            var line = Files.readString(dotGit).trim();
+            if (line.startsWith("gitdir:")) {
+                return dir.resolve(line.substring(7).trim()).normalize();
+            }
+        }
+        if (Files.isDirectory(dir.resolve("objects")) && Files.exists(dir.resolve("HEAD"))) {
+            return dir;
+        }
+        return null;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 把修订解析成提交 id：完整的 40 位 id、HEAD、分支、标签或完整的引用名。附注标签解析到它指向的提交。
+     */
+    public String resolve(String revision) throws IOException {
+        String id = revision.matches("[0-9a-f]{40}") ? revision : null;
+        if (id == null) {
+            for (var name : List.of(revision, STR."refs/\{revision}", STR."refs/tags/\{revision}",
+                    STR."refs/heads/\{revision}", STR."refs/remotes/\{revision}", STR."refs/remotes/\{revision}/HEAD")) {
+                id = ref(name, 0);
+                if (id != null) {
+                    break;
+                }
+            }
+        }
+        if (id == null) {
+            throw new IOException(STR."\{directory}: unknown revision \{revision}");
+        }
+        var object = read(id);
+        while (object.type() == TAG) {
+            id = field(object.data(), "object");
+            object = read(id);
+        }
+        if (object.type() != COMMIT) {
+            throw new IOException(STR."\{directory}: \{revision} is not a commit");
+        }
+        return id;
+    }
+
+    private String ref(String name, int depth) throws IOException {
+        if (depth > 8) {
+            throw new IOException(STR."\{directory}: symbolic ref loop at \{name}");
+        }
+        var file = (shared(name) ? common : directory).resolve(name);
+        String value = null;
+        if (Files.isRegularFile(file)) {
+            value = Files.readString(file).trim();
+        } else if (name.startsWith("refs/")) {
+            value = packedRefs().get(name);
+        }
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith("ref:")) {
+            return ref(value.substring(4).trim(), depth + 1);
+        }
+        return value;
+    }
+
+    /**
+     * worktree 之间共享的引用：refs/ 下除了 bisect、worktree 和 rewritten 之外的都是，HEAD 等伪引用属于各个 worktree
+     */
+    private static boolean shared(String name) {
+        return name.startsWith("refs/") && !name.startsWith("refs/bisect/")
+                && !name.startsWith("refs/worktree/") && !name.startsWith("refs/rewritten/");
+    }
+
+    private synchronized Map<String, String> packedRefs() throws IOException {
+        if (packedRefs == null) {
+            packedRefs = new HashMap<>();
+            var file = common.resolve("packed-refs");
+            if (Files.exists(file)) {
+                for (var line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    // # 开头是注释，^ 开头是上一个附注标签剥开后的提交
+                    if (line.isEmpty() || line.startsWith("#") || line.startsWith("^")) {
+                        continue;
+                    }
+                    int space = line.indexOf(' ');
+                    packedRefs.put(line.substring(space + 1), line.substring(0, space));
+                }
+            }
+        }
+        return packedRefs;
+    }
+
+    public GitObject read(String id) throws IOException {
+        var loose = objects.resolve(id.substring(0, 2)).resolve(id.substring(2));
+        if (Files.exists(loose)) {
+            try (var input = new InflaterInputStream(Files.newInputStream(loose))) {
+                var header = header(input, loose);
+                byte[] data = input.readAllBytes();
+                if (data.length != header[1]) {
+                    throw new IOException(STR."\{loose}: size \{data.length} does not match header \{header[1]}");
+                }
+                return new GitObject((int) header[0], data);
+            }
+        }
+        var raw = HexFormat.of().parseHex(id);
+        for (var pack : packs) {
+            long offset = pack.find(raw);
+            if (offset >= 0) {
+                return pack.read(offset, this);
+            }
+        }
+        throw new IOException(STR."\{directory}: object \{id} not found");
+    }
+
+    /**
+     * 对象展开后的大小，只读取对象头
+     */
+    public long size(String id) throws IOException {
+        var loose = objects.resolve(id.substring(0, 2)).resolve(id.substring(2));
+        if (Files.exists(loose)) {
+            try (var input = new InflaterInputStream(Files.newInputStream(loose))) {
+                return header(input, loose)[1];
+            }
+        }
+        var raw = HexFormat.of().parseHex(id);
+        for (var pack : packs) {
+            long offset = pack.find(raw);
+            if (offset >= 0) {
+                return pack.size(offset);
+            }
+        }
+        throw new IOException(STR."\{directory}: object \{id} not found");
+    }
+
+    /**
+     * loose 对象的头是 "类型 大小\0"
+     */
+    private static long[] header(InputStream input, Path file) throws IOException {
+        var text = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) > 0) {
+            text.write(b);
+        }
+        var header = text.toString(StandardCharsets.US_ASCII);
+        int space = header.indexOf(' ');
+        if (b < 0 || space < 0) {
+            throw new IOException(STR."\{file}: invalid object header");
+        }
+        int type = switch (header.substring(0, space)) {
+            case "commit" -> COMMIT;
+            case "tree" -> TREE;
+            case "blob" -> BLOB;
+            case "tag" -> TAG;
+            default -> throw new IOException(STR."\{file}: unknown object type \{header.substring(0, space)}");
+        };
+        return new long[]{type, Long.parseLong(header.substring(space + 1))};
+    }
+
+    /**
+     * 遍历提交的目录树，对每个普通文件调用 consumer(相对路径, blob id)。跳过符号链接和子模块。
+     */
+    public void walk(String commit, BiConsumer<String, String> consumer) throws IOException {
+        var object = read(commit);
+        if (object.type() != COMMIT) {
+            throw new IOException(STR."\{directory}: \{commit} is not a commit");
+        }
+        tree(field(object.data(), "tree"), "", consumer);
+    }
+
+    private void tree(String id, String prefix, BiConsumer<String, String> consumer) throws IOException {
+        var object = read(id);
+        if (object.type() != TREE) {
+            throw new IOException(STR."\{directory}: \{id} is not a tree");
+        }
+        byte[] data = object.data();
+        int pos = 0;
+        while (pos < data.length) {
+            int space = pos;
+            while (data[space] != ' ') {
+                space++;
+            }
+            int nul = space + 1;
+            while (data[nul] != 0) {
+                nul++;
+            }
+            var mode = new String(data, pos, space - pos, StandardCharsets.US_ASCII);
+            var name = new String(data, space + 1, nul - space - 1, StandardCharsets.UTF_8);
+            var child = HexFormat.of().formatHex(data, nul + 1, nul + 21);
+            pos = nul + 21;
+            switch (mode) {
+                case "40000" -> tree(child, prefix + name + "/", consumer);
+                case "100644", "100755", "100664" -> consumer.accept(prefix + name, child);
+                default -> {
+                    // 120000 符号链接，160000 子模块
+                }
+            }
+        }
+    }
+
+    /**
+     * 提交和标签对象头部 "name value" 形式的字段
+     */
+    private static String field(byte[] data, String name) throws IOException {
+        var text = new String(data, StandardCharsets.UTF_8);
+        for (var line : text.split("\n")) {
+            if (line.isEmpty()) {
+                break;
+            }
+            if (line.startsWith(name + " ")) {
+                return line.substring(name.length() + 1).trim();
+            }
+        }
+        throw new IOException(STR."missing \{name} field");
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (var pack : packs) {
+            pack.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return directory.toString();
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.marchliu.lexers.git;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * 形如 git:&lt;仓库目录&gt;[@&lt;修订&gt;] 的源，修订默认为 HEAD。
+ * 其中的文件用 git:&lt;仓库目录&gt;@&lt;修订&gt;!/&lt;路径&gt; 这样的虚拟路径表示。
+ */
+public record GitSource(String location, String revision, GitRepository repository, String commit) {
+    public static final String PREFIX = "git:";
+
+    public static boolean isGit(String source) {
+        return source.startsWith(PREFIX);
+    }
+
+    public static GitSource open(String source) throws IOException {
+        var spec = source.substring(PREFIX.length());
+        var location = spec;
+        var revision = "HEAD";
+        // 仓库路径和分支名中都可能有 @ 和 /，整体不是仓库时从右向左找第一个前面是仓库的 @
+        if (GitRepository.gitDirectory(Paths.get(spec)) == null) {
+            for (int at = spec.lastIndexOf('@'); at > 0; at = spec.lastIndexOf('@', at - 1)) {
+                if (GitRepository.gitDirectory(Paths.get(spec.substring(0, at))) != null) {
+                    location = spec.substring(0, at);
+                    revision = spec.substring(at + 1);
+                    break;
+                }
+            }
+        }
+        var repository = GitRepository.open(Paths.get(location));
+        return new GitSource(location, revision, repository, repository.resolve(revision));
+    }
+
+    public String path(String file) {
+        return STR."\{PREFIX}\{location}@\{revision}!/\{file}";
+    }
+}
@@ -0,0 +1,265 @@
+package io.github.marchliu.lexers.git;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 一个 pack 文件和它的 v2 索引。索引映射到内存后按 fanout 表二分查找；
+ * pack 本身可能超过 2G，用 FileChannel 的定位读取，可以被多个线程同时读。
+ * 支持 OFS_DELTA 和 REF_DELTA，最近用到的 delta 基对象缓存在一个小的 LRU 中。
+ */
+class PackFile implements Closeable {
+    private static final int IDX_MAGIC = 0xff744f63;
+    private static final int BASE_CACHE = 256;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer index;
+    private final int count;
+    private final int namesAt;
+    private final int offsetsAt;
+    private final int largeAt;
+    private final Map<Long, GitRepository.GitObject> bases = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, GitRepository.GitObject> eldest) {
+            return size() > BASE_CACHE;
+        }
+    };
+
+    PackFile(Path idx, Path pack) throws IOException {
+        this.path = pack;
+        try (var file = FileChannel.open(idx, StandardOpenOption.READ)) {
+            this.index = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size()).order(ByteOrder.BIG_ENDIAN);
+        }
+        if (index.getInt(0) != IDX_MAGIC || index.getInt(4) != 2) {
+            throw new IOException(STR."\{idx}: only pack index version 2 is supported");
+        }
+        // 8 字节头，256 个 fanout，然后是 count 个 20 字节的 id、count 个 crc、count 个 4 字节偏移和 8 字节的大偏移
+        this.count = index.getInt(8 + 255 * 4);
+        this.namesAt = 8 + 256 * 4;
+        this.offsetsAt = namesAt + count * 24;
+        this.largeAt = offsetsAt + count * 4;
+        this.channel = FileChannel.open(pack, StandardOpenOption.READ);
+    }
+
+    /**
+     * @return 对象在 pack 中的偏移，不存在时返回 -1
+     */
+    long find(byte[] id) {
+        int first = id[0] & 0xff;
+        int low = first == 0 ? 0 : index.getInt(8 + (first - 1) * 4);
+        int high = index.getInt(8 + first * 4) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = compare(middle, id);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return offset(middle);
+            }
+        }
+        return -1;
+    }
+
+    private int compare(int entry, byte[] id) {
+        int at = namesAt + entry * 20;
+        for (int i = 0; i < 20; i++) {
+            int cmp = Integer.compare(index.get(at + i) & 0xff, id[i] & 0xff);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private long offset(int entry) {
+        int value = index.getInt(offsetsAt + entry * 4);
+        if (value >= 0) {
+            return value;
+        }
+        return index.getLong(largeAt + (value & 0x7fffffff) * 8);
+    }
+
+    /**
+     * 对象头：类型、展开后的大小和数据开始的位置；delta 对象还有基对象的偏移或 id
+     */
+    private record Header(int type, long size, long data, long baseOffset, byte[] baseId) {
+    }
+
+    private Header header(long offset) throws IOException {
+        var buffer = ByteBuffer.allocate(32);
+        channel.read(buffer, offset);
+        buffer.flip();
+        int b = buffer.get() & 0xff;
+        int type = (b >> 4) & 7;
+        long size = b & 15;
+        int shift = 4;
+        while ((b & 0x80) != 0) {
+            b = buffer.get() & 0xff;
+            size |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        }
+        long baseOffset = -1;
+        byte[] baseId = null;
+        if (type == GitRepository.OFS_DELTA) {
+            b = buffer.get() & 0xff;
+            long distance = b & 0x7f;
+            while ((b & 0x80) != 0) {
+                b = buffer.get() & 0xff;
+                distance = ((distance + 1) << 7) | (b & 0x7f);
+            }
+            baseOffset = offset - distance;
+        } else if (type == GitRepository.REF_DELTA) {
+            baseId = new byte[20];
+            buffer.get(baseId);
+        }
+        return new Header(type, size, offset + buffer.position(), baseOffset, baseId);
+    }
+
+    GitRepository.GitObject read(long offset, GitRepository repository) throws IOException {
+        var header = header(offset);
+        if (header.type() != GitRepository.OFS_DELTA && header.type() != GitRepository.REF_DELTA) {
+            return new GitRepository.GitObject(header.type(), inflate(header.data(), header.size()));
+        }
+        var delta = inflate(header.data(), header.size());
+        GitRepository.GitObject base;
+        if (header.type() == GitRepository.OFS_DELTA) {
+            synchronized (bases) {
+                base = bases.get(header.baseOffset());
+            }
+            if (base == null) {
+                base = read(header.baseOffset(), repository);
+                synchronized (bases) {
+                    bases.put(header.baseOffset(), base);
+                }
+            }
+        } else {
+            base = repository.read(HexFormat.of().formatHex(header.baseId()));
+        }
+        return new GitRepository.GitObject(base.type(), apply(base.data(), delta));
+    }
+
+    /**
+     * 展开后的大小。delta 对象只需解压开头几个字节读出目标大小。
+     */
+    long size(long offset) throws IOException {
+        var header = header(offset);
+        if (header.type() != GitRepository.OFS_DELTA && header.type() != GitRepository.REF_DELTA) {
+            return header.size();
+        }
+        var delta = ByteBuffer.wrap(inflate(header.data(), Math.min(header.size(), 20)));
+        varint(delta);
+        return varint(delta);
+    }
+
+    private byte[] inflate(long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE - 16) {
+            throw new IOException(STR."\{path}: object at \{position} is too large");
+        }
+        byte[] result = new byte[(int) size];
+        var inflater = new Inflater();
+        try {
+            var input = ByteBuffer.allocate(8192);
+            int produced = 0;
+            while (produced < result.length && !inflater.finished()) {
+                if (inflater.needsInput()) {
+                    input.clear();
+                    int read = channel.read(input, position);
+                    if (read <= 0) {
+                        throw new IOException(STR."\{path}: unexpected end of pack at \{position}");
+                    }
+                    position += read;
+                    inflater.setInput(input.array(), 0, read);
+                }
+                produced += inflater.inflate(result, produced, result.length - produced);
+            }
+            if (produced < result.length) {
+                throw new IOException(STR."\{path}: object shorter than its header at \{position}");
+            }
+            return result;
+        } catch (DataFormatException err) {
+            throw new IOException(STR."\{path}: corrupt object at \{position}", err);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long varint(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = buffer.get() & 0xff;
+            value |= (long) (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * 按 git 的 delta 指令由基对象生成目标对象：最高位为 1 是从基对象复制，否则是插入随后的若干字节
+     */
+    static byte[] apply(byte[] base, byte[] delta) throws IOException {
+        var buffer = ByteBuffer.wrap(delta);
+        long source = varint(buffer);
+        long target = varint(buffer);
+        if (source != base.length) {
+            throw new IOException(STR."delta base size \{base.length} does not match \{source}");
+        }
+        byte[] result = new byte[(int) target];
+        int at = 0;
+        while (buffer.hasRemaining()) {
+            int op = buffer.get() & 0xff;
+            if ((op & 0x80) != 0) {
+                int offset = 0;
+                int size = 0;
+                for (int i = 0; i < 4; i++) {
+                    if ((op & (1 << i)) != 0) {
+                        offset |= (buffer.get() & 0xff) << (8 * i);
+                    }
+                }
+                for (int i = 0; i < 3; i++) {
+                    if ((op & (0x10 << i)) != 0) {
+                        size |= (buffer.get() & 0xff) << (8 * i);
+                    }
+                }
+                if (size == 0) {
+                    size = 0x10000;
+                }
+                System.arraycopy(base, offset, result, at, size);
+                at += size;
+            } else if (op != 0) {
+                buffer.get(result, at, op);
+                at += op;
+            } else {
+                throw new IOException("invalid delta opcode 0");
+            }
+        }
+        if (at != result.length) {
+            throw new IOException(STR."delta produced \{at} bytes, expect \{result.length}");
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
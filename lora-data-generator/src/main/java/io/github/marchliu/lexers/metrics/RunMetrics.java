@@ -0,0 +1,171 @@
+package io.github.marchliu.lexers.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 一次运行的统计：按 lexer 汇总文件数、字节数、token 数、样本数、失败数、跳过的错误数和单文件耗时分布，
+ * 以及最慢的若干文件。
+ * 工作线程并发记录，计数用 LongAdder，只有进入最慢列表时才加锁。
+ */
+public class RunMetrics {
+    public record SlowFile(String lexer, String path, long bytes, long micros) {
+    }
+
+    public record Failed(String lexer, String path, String error) {
+    }
+
+    public record Recovered(String lexer, String path, int errors) {
+    }
+
+    public static class LexerMetrics {
+        final LongAdder files = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder tokens = new LongAdder();
+        final LongAdder entities = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        Map<String, Object> report() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("files", files.sum());
+            result.put("bytes", bytes.sum());
+            result.put("tokens", tokens.sum());
+            result.put("entities", entities.sum());
+            result.put("failures", failures.sum());
+            result.put("errors", errors.sum());
+            Map<String, Object> micros = new LinkedHashMap<>();
+            micros.put("p50", latency.percentile(0.5));
+            micros.put("p99", latency.percentile(0.99));
+            micros.put("max", latency.max());
+            result.put("latencyMicros", micros);
+            return result;
+        }
+    }
+
+    private final Map<String, LexerMetrics> lexers = new ConcurrentHashMap<>();
+    private final LongAdder files = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder entities = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final int slowest;
+    private final PriorityQueue<SlowFile> slow = new PriorityQueue<>(Comparator.comparingLong(SlowFile::micros));
+    private volatile long slowThreshold = -1;
+    private final List<Failed> failed = new ArrayList<>();
+    private final List<Recovered> recovered = new ArrayList<>();
+    private final long begin = System.nanoTime();
+
+    public RunMetrics(int slowest) {
+        this.slowest = slowest;
+    }
+
+    private LexerMetrics lexer(String name) {
+        return lexers.computeIfAbsent(name, n -> new LexerMetrics());
+    }
+
+    public void file(String lexer, String path, long size, long nanos, int produced) {
+        var metrics = lexer(lexer);
+        metrics.files.increment();
+        metrics.bytes.add(size);
+        metrics.entities.add(produced);
+        metrics.latency.record(nanos);
+        files.increment();
+        bytes.add(size);
+        entities.add(produced);
+        long micros = nanos / 1000;
+        if (slowest > 0 && micros > slowThreshold) {
+            synchronized (slow) {
+                slow.add(new SlowFile(lexer, path, size, micros));
+                if (slow.size() > slowest) {
+                    slow.poll();
+                }
+                if (slow.size() == slowest) {
+                    slowThreshold = slow.peek().micros();
+                }
+            }
+        }
+    }
+
+    public void tokens(String lexer, long count) {
+        lexer(lexer).tokens.add(count);
+    }
+
+    public void failure(String lexer, String path, long size, long nanos, Exception error) {
+        var metrics = lexer(lexer);
+        metrics.files.increment();
+        metrics.bytes.add(size);
+        metrics.failures.increment();
+        metrics.latency.record(nanos);
+        files.increment();
+        bytes.add(size);
+        failures.increment();
+        synchronized (failed) {
+            failed.add(new Failed(lexer, path, String.valueOf(error)));
+        }
+    }
+
+    /**
+     * 文件分词时跳过了 count 处无法识别的输入，其余 token 照常输出
+     */
+    public void errors(String lexer, String path, int count) {
+        lexer(lexer).errors.add(count);
+        synchronized (recovered) {
+            recovered.add(new Recovered(lexer, path, count));
+        }
+    }
+
+    public long files() {
+        return files.sum();
+    }
+
+    public long failures() {
+        return failures.sum();
+    }
+
+    public String progress(int total) {
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        double mb = bytes.sum() / 1e6;
+        return String.format("progress: %d/%d files, %.1f MB, %d entities, %d failures, %.1f MB/s",
+                files.sum(), total, mb, entities.sum(), failures.sum(), seconds > 0 ? mb / seconds : 0);
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("seconds", (System.nanoTime() - begin) / 1e9);
+        result.put("files", files.sum());
+        result.put("bytes", bytes.sum());
+        result.put("entities", entities.sum());
+        result.put("failures", failures.sum());
+        Map<String, Object> byLexer = new TreeMap<>();
+        lexers.forEach((name, metrics) -> byLexer.put(name, metrics.report()));
+        result.put("lexers", byLexer);
+        synchronized (slow) {
+            result.put("slowest", slow.stream()
+                    .sorted(Comparator.comparingLong(SlowFile::micros).reversed())
+                    .toList());
+        }
+        synchronized (failed) {
+            result.put("failed", List.copyOf(failed));
+        }
+        synchronized (recovered) {
+            result.put("recovered", List.copyOf(recovered));
+        }
+        return result;
+    }
+
+    public void write(ObjectMapper mapper, Path target) throws IOException {
+        mapper.writerWithDefaultPrettyPrinter().writeValue(target.toFile(), report());
+    }
+}
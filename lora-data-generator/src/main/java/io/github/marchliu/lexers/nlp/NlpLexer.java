@@ -1,51 +1,82 @@
 package io.github.marchliu.lexers.nlp;
 
-import com.hankcs.hanlp.tokenizer.StandardTokenizer;
 import io.github.marchliu.lexers.Lexer;
 import io.github.marchliu.lexers.Token;
-import io.github.marchliu.lora.Entity;
+import io.github.marchliu.lexers.TokenBuffer;
+import io.github.marchliu.lexers.TokenWindow;
+import io.github.marchliu.lora.Sample;
+import io.github.marchliu.lora.WindowEntity;
 import jaskell.parsec.common.Parsec;
 import jaskell.parsec.common.Space;
 import jaskell.util.Try;
 
 import java.io.EOFException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 
 import static jaskell.parsec.common.Combinator.many1;
 import static jaskell.parsec.common.Txt.joinChars;
 
 public class NlpLexer implements Lexer {
+    /**
+     * 分词缓存的默认容量，单位是字符
+     */
+    public static final long DEFAULT_CACHE_SIZE = 4L << 20;
 
+    private SegmentCache cache = new SegmentCache(DEFAULT_CACHE_SIZE);
+
+    public NlpLexer cache(SegmentCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    public SegmentCache getCache() {
+        return cache;
+    }
 
     public List<String> tokens(String source) {
-        var tokens = StandardTokenizer.segment(source);
-        return tokens.stream()
-                .map(t -> t.word)
-                .toList();
+        if (source.isEmpty()) {
+            return List.of();
+        }
+        if (isAtom(source)) {
+            return List.of(source);
+        }
+        var cache = this.cache;
+        return cache == null ? segment(source) : cache.get(source, this::segment);
     }
 
-    @Override
-    public List<Entity> shuffle(List<String> tokens) {
-        List<Entity> result = new ArrayList<>();
-        Random random = new Random();
-        int pos = 0;
-        while (pos < tokens.size()) {
-            int step = random.nextInt(32, 128);
-            int idx = Math.min(pos + step, tokens.size());
-            List<String> material = tokens.subList(pos, idx);
-            int headerSize = Math.min(random.nextInt(4, 16), material.size());
-
-            var input = String.join("", material.subList(0, headerSize));
-            var instruction = "";
-            var output = String.join("", material);
-
-            var entity = new Entity(instruction, input, output);
-            result.add(entity);
-            pos = idx;
+    List<String> segment(String source) {
+        return Segmenter.segment(source);
+    }
+
+    /**
+     * HanLP 无法再切分的片段：单个字符，或者全部由小写英文字母组成。
+     * 含大写字母的单词可能命中词典里的缩写（如 DNA、IT）被继续切开，数字也可能命中词典条目，
+     * 所以这两类仍然交给 HanLP。
+     */
+    static boolean isAtom(String source) {
+        if (source.length() == 1) {
+            return true;
         }
-        return result;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String separator() {
+        return "";
+    }
+
+    @Override
+    public Sample entity(TokenBuffer tokens, int from, int header, int to) {
+        return new WindowEntity(new TokenWindow(getName(), tokens, from, header, to), "", null);
     }
 
     @Override
@@ -55,11 +86,11 @@ public class NlpLexer implements Lexer {
 
     @Override
     public Parsec<Character, List<Token>> getParser() {
-        List<String> result = new ArrayList<>();
         Parsec<Character, String> space = many1(new Space())
                 .attempt()
                 .bind(joinChars());
         return state -> {
+            List<String> result = new ArrayList<>();
             try {
                 StringBuilder buffer = new StringBuilder();
                 while (true){
@@ -80,14 +111,65 @@ public class NlpLexer implements Lexer {
     }
 
     @Override
-    public Try<List<String>> tokenize(String source) {
+    public Try<TokenBuffer> tokenize(CharSequence source) {
+        int end = trimmed(source);
+        if (end == 0 && !source.isEmpty()) {
+            return Try.success(new TokenBuffer(source, 0));
+        }
+        return tokenize(source, 0, source.length(), true);
+    }
+
+    @Override
+    public boolean splittable() {
+        return true;
+    }
+
+    /**
+     * 在换行符之后切分，切分点都在去掉结尾空白后的范围内
+     */
+    @Override
+    public int[] splitPoints(CharSequence source, int chunkSize) {
+        int end = trimmed(source);
+        List<Integer> points = new ArrayList<>();
+        for (int i = chunkSize - 1; i < end - 1; i++) {
+            if (source.charAt(i) == '\n') {
+                points.add(i + 1);
+                i += chunkSize - 1;
+            }
+        }
+        return points.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public Try<TokenBuffer> tokenize(CharSequence source, int from, int to, boolean last) {
         // 通过这个切分操作保留印欧语系单词之间的空格。
-        var array = source.split("\\s");
-        List<String> buffer = new ArrayList<>();
-        for (var segment : array) {
-            buffer.addAll(tokens(segment));
-            buffer.add(" ");
+        // 按 source.split("\\s") 的规则逐段切分：结尾的空白被丢弃，每段之后补一个空格。
+        // 中间的段总是在空白之后结束，只有最后一段需要处理结尾。
+        TokenBuffer buffer = new TokenBuffer(source, (to - from) >> 2);
+        int end = last ? trimmed(source) : to - 1;
+        // 同一段文本中重复出现的片段只切分一次
+        Map<String, List<String>> segments = new HashMap<>();
+        int start = from;
+        for (int i = from; i <= end; i++) {
+            if ((last && i == end) || isSpace(source.charAt(i))) {
+                var segment = source.subSequence(start, i).toString();
+                buffer.addSegments(start, i, segments.computeIfAbsent(segment, this::tokens), Token.TEXT_CODE);
+                buffer.addLiteral(" ", Token.TEXT_CODE);
+                start = i + 1;
+            }
         }
         return Try.success(buffer);
     }
+
+    private static int trimmed(CharSequence source) {
+        int end = source.length();
+        while (end > 0 && isSpace(source.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 }
@@ -0,0 +1,125 @@
+package io.github.marchliu.lexers.nlp;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 分词结果的内存缓存，按字符数限制大小，分段加锁的 LRU。
+ * 一个条目的权重是 key 的长度加上切分结果各个词的长度，单个条目超过一段的容量时不缓存，避免一个很长的片段挤掉整段。
+ * 注释里的 `@param`、`TODO`、文件头的中文说明等会反复出现，缓存后只需交给 HanLP 切分一次。
+ */
+public class SegmentCache {
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes;
+    private final long capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity 所有条目的权重之和的上限，单位是字符
+     */
+    public SegmentCache(long capacity) {
+        this.capacity = capacity;
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(Math.max(1, capacity / STRIPES + (i < capacity % STRIPES ? 1 : 0)));
+        }
+    }
+
+    /**
+     * 查找 text 的分词结果，不存在时调用 segment 计算并放入缓存。
+     * 计算在锁外进行，并发线程偶尔会重复切分同一个片段，但结果相同。
+     */
+    public List<String> get(String text, Function<String, List<String>> segment) {
+        var stripe = stripes[(text.hashCode() & 0x7fffffff) % stripes.length];
+        List<String> tokens;
+        synchronized (stripe) {
+            tokens = stripe.get(text);
+        }
+        if (tokens != null) {
+            hits.increment();
+            return tokens;
+        }
+        misses.increment();
+        tokens = segment.apply(text);
+        synchronized (stripe) {
+            stripe.put(text, tokens);
+        }
+        return tokens;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public long weight() {
+        long result = 0;
+        for (var stripe : stripes) {
+            synchronized (stripe) {
+                result += stripe.weight;
+            }
+        }
+        return result;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public double hitRatio() {
+        long total = hits.sum() + misses.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    public String report() {
+        return STR."segment cache: \{hits.sum()} hits, \{misses.sum()} misses, \{String.format("%.1f%%", hitRatio() * 100)} hit ratio, \{evictions.sum()} evictions, \{weight()} of \{capacity} chars";
+    }
+
+    private static long weigh(String text, List<String> tokens) {
+        long result = text.length();
+        for (var token : tokens) {
+            result += token.length();
+        }
+        return result;
+    }
+
+    private class Stripe extends LinkedHashMap<String, List<String>> {
+        private final long limit;
+        private long weight = 0;
+
+        Stripe(long limit) {
+            super(16, 0.75f, true);
+            this.limit = limit;
+        }
+
+        @Override
+        public List<String> put(String text, List<String> tokens) {
+            long added = weigh(text, tokens);
+            if (added > limit) {
+                return null;
+            }
+            var previous = super.put(text, tokens);
+            weight += added - (previous == null ? 0 : weigh(text, previous));
+            var iterator = entrySet().iterator();
+            while (weight > limit && iterator.hasNext()) {
+                var eldest = iterator.next();
+                weight -= weigh(eldest.getKey(), eldest.getValue());
+                iterator.remove();
+                evictions.increment();
+            }
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.marchliu.lexers.nlp;
+
+import com.hankcs.hanlp.tokenizer.StandardTokenizer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HanLP 的延迟加载入口。
+ * 词典只在第一次真正需要切分自然语言片段时才加载，纯 C 之类不产生 text 片段的输入完全不会触发加载；
+ * 已知会用到 HanLP 时（比如遇到 txt 文件）可以调用 warmUp 在后台线程提前加载。
+ */
+public final class Segmenter {
+    private static volatile CompletableFuture<Void> loading;
+    private static volatile long initNanos = -1;
+
+    private Segmenter() {
+    }
+
+    /**
+     * 在后台线程加载 HanLP 词典，重复调用返回同一个 future。
+     */
+    public static CompletableFuture<Void> warmUp() {
+        var result = loading;
+        if (result == null) {
+            synchronized (Segmenter.class) {
+                result = loading;
+                if (result == null) {
+                    result = new CompletableFuture<>();
+                    loading = result;
+                    var future = result;
+                    Thread.ofPlatform().daemon().name("hanlp-loader").start(() -> {
+                        long start = System.nanoTime();
+                        try {
+                            StandardTokenizer.segment("预热");
+                            initNanos = System.nanoTime() - start;
+                            future.complete(null);
+                        } catch (Throwable err) {
+                            future.completeExceptionally(err);
+                        }
+                    });
+                }
+            }
+        }
+        return result;
+    }
+
+    public static List<String> segment(String source) {
+        warmUp().join();
+        var tokens = StandardTokenizer.segment(source);
+        return tokens.stream()
+                .map(t -> t.word)
+                .toList();
+    }
+
+    /**
+     * HanLP 加载耗费的时间，没有加载过返回 -1。
+     */
+    public static long initNanos() {
+        return initNanos;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.marchliu.lexers.scanner;
+
+class ScalarSkipper implements Skipper {
+    @Override
+    public int find(char[] buffer, int pos, int to, char c) {
+        while (pos < to && buffer[pos] != c) {
+            pos++;
+        }
+        return pos;
+    }
+
+    @Override
+    public int find(char[] buffer, int pos, int to, char a, char b) {
+        while (pos < to && buffer[pos] != a && buffer[pos] != b) {
+            pos++;
+        }
+        return pos;
+    }
+
+    @Override
+    public int skipSpaces(char[] buffer, int pos, int to) {
+        while (pos < to && Skipper.isSpace(buffer[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+}
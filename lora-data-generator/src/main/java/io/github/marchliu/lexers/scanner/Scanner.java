@@ -0,0 +1,351 @@
+package io.github.marchliu.lexers.scanner;
+
+import io.github.marchliu.lexers.Token;
+import io.github.marchliu.lexers.TokenBuffer;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class Scanner {
+    private static final byte SPACE = 1;
+    private static final byte DIGIT = 2;
+    private static final byte NAME = 4;
+    private static final byte ALNUM = 8;
+    private static final byte OPEN = 16;
+
+    private final ScannerSpec spec;
+    private final byte numberCategory;
+    private final byte nameCategory;
+    private final byte commentCategory;
+    private final byte stringCategory;
+    private final byte[] classes = new byte[128];
+    private final char[][] lineComments;
+    private final char[][] blockOpens;
+    private final char[][] blockCloses;
+    private final char[][] quoteOpens;
+    private final char[][] quoteCloses;
+    private final Skipper skipper = Skipper.DEFAULT;
+
+    public Scanner(ScannerSpec spec) {
+        this.spec = spec;
+        this.numberCategory = Token.code(spec.numberCategory());
+        this.nameCategory = Token.code(spec.nameCategory());
+        this.commentCategory = Token.code(spec.commentCategory());
+        this.stringCategory = Token.code(spec.stringCategory());
+        this.lineComments = spec.lineComments().stream()
+                .map(String::toCharArray)
+                .toArray(char[][]::new);
+        this.blockOpens = spec.blockComments().stream()
+                .map(d -> d.open().toCharArray())
+                .toArray(char[][]::new);
+        this.blockCloses = spec.blockComments().stream()
+                .map(d -> d.close().toCharArray())
+                .toArray(char[][]::new);
+        this.quoteOpens = spec.quotes().stream()
+                .map(d -> d.open().toCharArray())
+                .toArray(char[][]::new);
+        this.quoteCloses = spec.quotes().stream()
+                .map(d -> d.close().toCharArray())
+                .toArray(char[][]::new);
+        for (char c = 0; c < 128; c++) {
+            classes[c] = classify(c);
+        }
+        for (char[][] group : new char[][][]{lineComments, blockOpens, quoteOpens}) {
+            for (char[] open : group) {
+                classes[open[0]] |= OPEN;
+            }
+        }
+    }
+
+    private byte classify(char c) {
+        byte result = 0;
+        if (Character.isWhitespace(c)) {
+            result |= SPACE;
+        }
+        if (Character.isDigit(c)) {
+            result |= DIGIT;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            result |= ALNUM | NAME;
+        } else if (spec.nameChars().indexOf(c) >= 0) {
+            result |= NAME;
+        }
+        return result;
+    }
+
+    private byte classOf(char c) {
+        return c < 128 ? classes[c] : classify(c);
+    }
+
+    public TokenBuffer scan(CharSequence source) {
+        TokenBuffer result = new TokenBuffer(source, Math.max(source.length() >> 2, 16));
+        scan(chars(source), 0, source.length(), result);
+        return result;
+    }
+
+    public void scan(CharSequence source, int from, int to, TokenBuffer result) {
+        scan(chars(source), from, to, result);
+    }
+
+    private static char[] chars(CharSequence source) {
+        if (source instanceof CharBuffer chars && chars.hasArray() && chars.arrayOffset() + chars.position() == 0) {
+            // 分块读取得到的 CharBuffer 直接在其底层数组上扫描
+            return chars.array();
+        }
+        return source.toString().toCharArray();
+    }
+
+    /**
+     * 预扫描切分点：注释和字符串以外的空行之后，相邻两点间隔至少 chunkSize。
+     * 注释和字符串的识别与 next 一致：在注释和字符串之外，任何位置出现的注释或引号开头都会开始一个新 token，
+     * 所以只需跳过注释和字符串，不必区分其它 token。未闭合的字符串与 next 一样在行尾结束，遇到未闭合的注释时不再切分。
+     */
+    public int[] splitPoints(CharSequence source, int chunkSize) {
+        return splitPoints(source, chunkSize, true);
+    }
+
+    /**
+     * last 为 false 时 source 只是文件的开头，其中未闭合的字符串可能在后续内容中闭合，遇到时与未闭合的注释一样不再切分
+     */
+    public int[] splitPoints(CharSequence source, int chunkSize, boolean last) {
+        char[] buffer = chars(source);
+        int to = source.length();
+        List<Integer> points = new ArrayList<>();
+        int next = chunkSize;
+        int pos = 0;
+        scan:
+        while (pos < to) {
+            char c = buffer[pos];
+            if (c == '\n') {
+                int end = pos + 1;
+                while (end < to && (buffer[end] == ' ' || buffer[end] == '\t' || buffer[end] == '\r')) {
+                    end++;
+                }
+                if (end < to && buffer[end] == '\n') {
+                    if (end + 1 >= next && end + 1 < to) {
+                        points.add(end + 1);
+                        next = end + 1 + chunkSize;
+                    }
+                }
+                pos = end;
+                continue;
+            }
+            if (c < 128 && (classes[c] & OPEN) != 0) {
+                for (char[] prefix : lineComments) {
+                    if (matches(buffer, pos, to, prefix)) {
+                        // 行注释包含结尾的换行符，停在换行符上让它参与空行判断
+                        pos = skipper.find(buffer, pos, to, '\n');
+                        continue scan;
+                    }
+                }
+                for (int i = 0; i < blockOpens.length; i++) {
+                    if (matches(buffer, pos, to, blockOpens[i])) {
+                        int end = close(buffer, pos + blockOpens[i].length, to, blockCloses[i]);
+                        if (end >= to) {
+                            break scan;
+                        }
+                        pos = end + blockCloses[i].length;
+                        continue scan;
+                    }
+                }
+                for (int i = 0; i < quoteOpens.length; i++) {
+                    if (matches(buffer, pos, to, quoteOpens[i])) {
+                        int end = quoted(buffer, pos + quoteOpens[i].length, to, quoteCloses[i]);
+                        if (end < 0 && !last) {
+                            break scan;
+                        }
+                        pos = end < 0 ? lineEnd(buffer, pos + quoteOpens[i].length, to) : end;
+                        continue scan;
+                    }
+                }
+            }
+            pos++;
+        }
+        return points.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public void scan(char[] buffer, int from, int to, TokenBuffer result) {
+        int pos = from;
+        while (true) {
+            // ASCII 空白成批跳过，其它的空白字符逐个判断
+            pos = skipper.skipSpaces(buffer, pos, to);
+            while (pos < to && (classOf(buffer[pos]) & SPACE) != 0) {
+                pos++;
+            }
+            if (pos >= to) {
+                return;
+            }
+            int end = next(buffer, pos, to, result);
+            if (end < 0) {
+                return;
+            }
+            pos = end;
+        }
+    }
+
+    private int next(char[] buffer, int pos, int to, TokenBuffer result) {
+        int end = number(buffer, pos, to);
+        if (end > pos) {
+            return emit(result, numberCategory, pos, end);
+        }
+        byte cls = classOf(buffer[pos]);
+        if ((cls & NAME) != 0) {
+            end = pos + 1;
+            while (end < to && (classOf(buffer[end]) & NAME) != 0) {
+                end++;
+            }
+            return emit(result, nameCategory, pos, end);
+        }
+        if (!isStop(buffer, pos, to)) {
+            end = pos + 1;
+            while (end < to && !isStop(buffer, end, to)) {
+                end++;
+            }
+            return emit(result, Token.SYMBOL_CODE, pos, end);
+        }
+        for (char[] prefix : lineComments) {
+            if (matches(buffer, pos, to, prefix)) {
+                end = skipper.find(buffer, pos + prefix.length, to, '\n');
+                return emit(result, commentCategory, pos, Math.min(end + 1, to));
+            }
+        }
+        for (int i = 0; i < blockOpens.length; i++) {
+            if (matches(buffer, pos, to, blockOpens[i])) {
+                end = blockComment(buffer, pos + blockOpens[i].length, to, blockCloses[i]);
+                return emit(result, commentCategory, pos, end);
+            }
+        }
+        for (int i = 0; i < quoteOpens.length; i++) {
+            if (matches(buffer, pos, to, quoteOpens[i])) {
+                end = quoted(buffer, pos + quoteOpens[i].length, to, quoteCloses[i]);
+                if (end < 0) {
+                    // 未闭合的字符串记录错误后截止到行尾，从下一行继续扫描，不丢弃文件其余部分
+                    result.error(pos, "unterminated string");
+                    end = lineEnd(buffer, pos + quoteOpens[i].length, to);
+                }
+                return emit(result, stringCategory, pos, end);
+            }
+        }
+        return -1;
+    }
+
+    private int number(char[] buffer, int pos, int to) {
+        int end = pos;
+        if (buffer[end] == '-') {
+            end++;
+        }
+        int digits = end;
+        while (end < to && (classOf(buffer[end]) & DIGIT) != 0) {
+            end++;
+        }
+        if (end == digits) {
+            return pos;
+        }
+        if (end + 1 < to && buffer[end] == '.' && (classOf(buffer[end + 1]) & DIGIT) != 0) {
+            end += 2;
+            while (end < to && (classOf(buffer[end]) & DIGIT) != 0) {
+                end++;
+            }
+        }
+        return end;
+    }
+
+    private boolean isStop(char[] buffer, int pos, int to) {
+        byte cls = classOf(buffer[pos]);
+        if ((cls & (SPACE | ALNUM)) != 0) {
+            return true;
+        }
+        if ((cls & OPEN) == 0) {
+            return false;
+        }
+        for (char[][] group : new char[][][]{lineComments, blockOpens, quoteOpens}) {
+            for (char[] open : group) {
+                if (matches(buffer, pos, to, open)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int blockComment(char[] buffer, int pos, int to, char[] close) {
+        int end = pos;
+        while (true) {
+            end = skipper.find(buffer, end, to, close[0]);
+            if (end >= to || matches(buffer, end, to, close)) {
+                return Math.min(end + close.length, to);
+            }
+            if (to - end < close.length && isPrefix(buffer, end, to, close)) {
+                // 文件在结束符中间截断，剩余字符留给后续 token
+                return end;
+            }
+            end++;
+        }
+    }
+
+    /**
+     * @return 结束符开始的位置，没有时返回 to
+     */
+    private int close(char[] buffer, int pos, int to, char[] close) {
+        int end = pos;
+        while (true) {
+            end = skipper.find(buffer, end, to, close[0]);
+            if (end >= to || matches(buffer, end, to, close)) {
+                return end;
+            }
+            end++;
+        }
+    }
+
+    /**
+     * 只在结束符的首字符和转义符处停下来判断
+     */
+    private int quoted(char[] buffer, int pos, int to, char[] close) {
+        int end = pos;
+        while (true) {
+            end = skipper.find(buffer, end, to, close[0], '\\');
+            if (end >= to) {
+                return -1;
+            }
+            if (matches(buffer, end, to, close)) {
+                return end + close.length;
+            }
+            if (buffer[end] == '\\' && end + 1 < to) {
+                end += 2;
+            } else {
+                end++;
+            }
+        }
+    }
+
+    private int lineEnd(char[] buffer, int pos, int to) {
+        return skipper.find(buffer, pos, to, '\n');
+    }
+
+    private static boolean matches(char[] buffer, int pos, int to, char[] text) {
+        if (to - pos < text.length) {
+            return false;
+        }
+        for (int i = 0; i < text.length; i++) {
+            if (buffer[pos + i] != text[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPrefix(char[] buffer, int pos, int to, char[] text) {
+        for (int i = pos; i < to; i++) {
+            if (buffer[i] != text[i - pos]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int emit(TokenBuffer result, byte category, int from, int to) {
+        result.add(from, to, category);
+        return to;
+    }
+}
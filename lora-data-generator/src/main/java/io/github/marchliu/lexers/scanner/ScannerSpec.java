@@ -0,0 +1,19 @@
+package io.github.marchliu.lexers.scanner;
+
+import java.util.List;
+
+public record ScannerSpec(String nameChars,
+                          String numberCategory,
+                          String nameCategory,
+                          List<String> lineComments,
+                          List<Delimiter> blockComments,
+                          List<Delimiter> quotes,
+                          String commentCategory,
+                          String stringCategory) {
+
+    public record Delimiter(String open, String close) {
+        public static Delimiter of(String open, String close) {
+            return new Delimiter(open, close);
+        }
+    }
+}
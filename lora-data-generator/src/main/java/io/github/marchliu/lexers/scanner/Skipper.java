@@ -0,0 +1,45 @@
+package io.github.marchliu.lexers.scanner;
+
+/**
+ * Scanner 在注释体、字符串体和空白中查找下一个分隔符。
+ * 运行时加入了 jdk.incubator.vector 模块时用向量实现一次比较多个字符，否则逐个字符查找。
+ */
+interface Skipper {
+    Skipper DEFAULT = create();
+
+    /**
+     * @return 从 pos 开始第一个等于 c 的位置，没有时返回 to
+     */
+    int find(char[] buffer, int pos, int to, char c);
+
+    /**
+     * @return 从 pos 开始第一个等于 a 或 b 的位置，没有时返回 to
+     */
+    int find(char[] buffer, int pos, int to, char a, char b);
+
+    /**
+     * @return 从 pos 开始第一个不是 ASCII 空白的位置，没有时返回 to。非 ASCII 的空白由调用方处理。
+     */
+    int skipSpaces(char[] buffer, int pos, int to);
+
+    /**
+     * 与 Character.isWhitespace 在 ASCII 范围内一致
+     */
+    static boolean isSpace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r') || (c >= '\u001c' && c <= '\u001f');
+    }
+
+    private static Skipper create() {
+        if (!Boolean.getBoolean("oliva.scalar") && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // 反射加载，没有这个模块时不会解析到 jdk.incubator.vector 中的类
+                return (Skipper) Class.forName("io.github.marchliu.lexers.scanner.VectorSkipper")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError err) {
+                System.err.println(STR."vector scanning unavailable, fall back to scalar: \{err}");
+            }
+        }
+        return new ScalarSkipper();
+    }
+}
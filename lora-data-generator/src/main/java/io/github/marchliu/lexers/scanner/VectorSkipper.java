@@ -0,0 +1,97 @@
+package io.github.marchliu.lexers.scanner;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 用 Vector API 每次比较一整个向量宽度的字符，char 按 short 装入向量。
+ * 开头几个字符先逐个比较，短距离不值得装入向量；剩余不足一个向量的部分也逐个比较。
+ */
+class VectorSkipper implements Skipper {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final int LENGTH = SPECIES.length();
+    private static final int PROLOGUE = 4;
+    // 缩进通常在 16 个字符以内，更长的空白才装入向量
+    private static final int SPACES_PROLOGUE = 16;
+
+    @Override
+    public int find(char[] buffer, int pos, int to, char c) {
+        int end = Math.min(pos + PROLOGUE, to);
+        for (; pos < end; pos++) {
+            if (buffer[pos] == c) {
+                return pos;
+            }
+        }
+        short target = (short) c;
+        for (int bound = to - LENGTH; pos <= bound; pos += LENGTH) {
+            var mask = ShortVector.fromCharArray(SPECIES, buffer, pos).eq(target);
+            if (mask.anyTrue()) {
+                return pos + mask.firstTrue();
+            }
+        }
+        for (; pos < to; pos++) {
+            if (buffer[pos] == c) {
+                return pos;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int find(char[] buffer, int pos, int to, char a, char b) {
+        int end = Math.min(pos + PROLOGUE, to);
+        for (; pos < end; pos++) {
+            if (buffer[pos] == a || buffer[pos] == b) {
+                return pos;
+            }
+        }
+        short first = (short) a;
+        short second = (short) b;
+        for (int bound = to - LENGTH; pos <= bound; pos += LENGTH) {
+            var vector = ShortVector.fromCharArray(SPECIES, buffer, pos);
+            var mask = vector.eq(first).or(vector.eq(second));
+            if (mask.anyTrue()) {
+                return pos + mask.firstTrue();
+            }
+        }
+        for (; pos < to; pos++) {
+            if (buffer[pos] == a || buffer[pos] == b) {
+                return pos;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int skipSpaces(char[] buffer, int pos, int to) {
+        int end = Math.min(pos + SPACES_PROLOGUE, to);
+        for (; pos < end; pos++) {
+            if (!Skipper.isSpace(buffer[pos])) {
+                return pos;
+            }
+        }
+        for (int bound = to - LENGTH; pos <= bound; pos += LENGTH) {
+            var mask = space(ShortVector.fromCharArray(SPECIES, buffer, pos)).not();
+            if (mask.anyTrue()) {
+                return pos + mask.firstTrue();
+            }
+        }
+        for (; pos < to; pos++) {
+            if (!Skipper.isSpace(buffer[pos])) {
+                return pos;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * 空格、\t 到 \r、0x1c 到 0x1f。0x8000 以上的字符装入 short 后是负数，不会落在这几个区间里。
+     */
+    private static VectorMask<Short> space(ShortVector vector) {
+        return vector.eq((short) ' ')
+                .or(vector.compare(VectorOperators.GE, (short) '\t').and(vector.compare(VectorOperators.LE, (short) '\r')))
+                .or(vector.compare(VectorOperators.GE, (short) 0x1c).and(vector.compare(VectorOperators.LE, (short) 0x1f)));
+    }
+}
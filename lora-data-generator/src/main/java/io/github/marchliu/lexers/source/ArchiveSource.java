@@ -0,0 +1,212 @@
+package io.github.marchliu.lexers.source;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 作为源的压缩包，不解压到磁盘。zip 和 jar 通过 zip 文件系统按需读取条目；
+ * tar.gz 只能顺序读取，遍历时边解压边读出需要的条目，其余的直接跳过，读出的条目应当边遍历边处理。
+ * 条目用 &lt;压缩包&gt;!/&lt;条目名&gt; 这样的虚拟路径表示。
+ */
+public class ArchiveSource implements Closeable {
+    public interface EntryConsumer {
+        void accept(String name, long size, SourceEntry entry) throws IOException;
+    }
+
+    private static final int BLOCK = 512;
+
+    private final Path path;
+    private final long maxSize;
+    private final FileSystem zip;
+
+    private ArchiveSource(Path path, long maxSize, FileSystem zip) {
+        this.path = path;
+        this.maxSize = maxSize;
+        this.zip = zip;
+    }
+
+    public static boolean isArchive(String source) {
+        var name = source.toLowerCase();
+        return (name.endsWith(".zip") || name.endsWith(".jar") || name.endsWith(".tar.gz") || name.endsWith(".tgz"))
+                && Files.isRegularFile(Paths.get(source));
+    }
+
+    /**
+     * @param maxSize 超过这个大小的条目直接跳过，不读入内存
+     */
+    public static ArchiveSource open(String source, long maxSize) throws IOException {
+        var path = Paths.get(source).toAbsolutePath().normalize();
+        var name = path.getFileName().toString().toLowerCase();
+        if (name.endsWith(".zip") || name.endsWith(".jar")) {
+            return new ArchiveSource(path, maxSize, FileSystems.newFileSystem(path));
+        }
+        return new ArchiveSource(path, maxSize, null);
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * tar.gz 只能顺序读取，条目的内容在遍历时就读入内存，不能先全部遍历完再处理
+     */
+    public boolean sequential() {
+        return zip == null;
+    }
+
+    public String path(String name) {
+        return STR."\{path}!/\{name}";
+    }
+
+    /**
+     * 对 wanted 接受的每个普通文件条目调用 consumer，条目名是相对压缩包根的路径
+     */
+    public void entries(Predicate<String> wanted, EntryConsumer consumer) throws IOException {
+        if (zip != null) {
+            zipEntries(wanted, consumer);
+        } else {
+            try (var input = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16), 1 << 16)) {
+                tarEntries(input, wanted, consumer);
+            }
+        }
+    }
+
+    private void zipEntries(Predicate<String> wanted, EntryConsumer consumer) throws IOException {
+        var root = zip.getPath("/");
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                var name = root.relativize(file).toString();
+                if (attrs.isRegularFile() && wanted.test(name) && fits(name, attrs.size())) {
+                    consumer.accept(name, attrs.size(), () -> Files.readAllBytes(file));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 支持 ustar 的 prefix 字段、GNU 的长文件名（L）和 pax 扩展头（x）中的 path
+     */
+    private void tarEntries(InputStream input, Predicate<String> wanted, EntryConsumer consumer) throws IOException {
+        byte[] header = new byte[BLOCK];
+        String longName = null;
+        while (input.readNBytes(header, 0, BLOCK) == BLOCK && header[0] != 0) {
+            long size = octal(header, 124, 12);
+            long padded = (size + BLOCK - 1) / BLOCK * BLOCK;
+            byte type = header[156];
+            if (type == 'L' || type == 'x') {
+                var text = new String(input.readNBytes((int) size), StandardCharsets.UTF_8);
+                input.skipNBytes(padded - size);
+                longName = type == 'L' ? text(text) : pax(text, longName);
+                continue;
+            }
+            var name = longName != null ? longName : name(header);
+            longName = null;
+            if (name.startsWith("./")) {
+                name = name.substring(2);
+            }
+            if ((type == '0' || type == 0) && wanted.test(name) && fits(name, size)) {
+                byte[] data = input.readNBytes((int) size);
+                if (data.length < size) {
+                    throw new IOException(STR."\{path}: truncated entry \{name}");
+                }
+                input.skipNBytes(padded - size);
+                consumer.accept(name, size, () -> data);
+            } else {
+                input.skipNBytes(padded);
+            }
+        }
+    }
+
+    private boolean fits(String name, long size) {
+        if (size > maxSize || size > Integer.MAX_VALUE - 16) {
+            System.err.println(STR."skip \{path(name)}: \{size} bytes exceeds max file size \{maxSize}");
+            return false;
+        }
+        return true;
+    }
+
+    private static String name(byte[] header) {
+        var name = text(header, 0, 100);
+        // ustar 把长路径拆成 prefix 和 name 两部分
+        if (text(header, 257, 5).equals("ustar")) {
+            var prefix = text(header, 345, 155);
+            if (!prefix.isEmpty()) {
+                return STR."\{prefix}/\{name}";
+            }
+        }
+        return name;
+    }
+
+    private static String text(byte[] header, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static String text(String value) {
+        int end = value.indexOf('\0');
+        return end < 0 ? value : value.substring(0, end);
+    }
+
+    /**
+     * pax 扩展头由 "长度 key=value\n" 形式的记录组成，只关心 path
+     */
+    private static String pax(String records, String current) {
+        for (var line : records.split("\n")) {
+            int space = line.indexOf(' ');
+            if (space > 0 && line.startsWith("path=", space + 1)) {
+                return line.substring(space + 6);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 大小字段是八进制文本，超过 8G 时最高位为 1，其余是大端的二进制数
+     */
+    private static long octal(byte[] header, int offset, int length) {
+        long value = 0;
+        if ((header[offset] & 0x80) != 0) {
+            for (int i = offset + 1; i < offset + length; i++) {
+                value = (value << 8) | (header[i] & 0xff);
+            }
+            return value;
+        }
+        for (int i = offset; i < offset + length && header[i] != 0; i++) {
+            // 前后可能有空格
+            if (header[i] >= '0' && header[i] <= '7') {
+                value = value * 8 + (header[i] - '0');
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (zip != null) {
+            zip.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+}
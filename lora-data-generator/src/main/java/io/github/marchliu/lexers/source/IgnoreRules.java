@@ -0,0 +1,144 @@
+package io.github.marchliu.lexers.source;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * .gitignore 风格的忽略规则，相对于 base 目录匹配。支持注释、! 取反、结尾 / 只匹配目录、
+ * 含 / 的规则锚定到 base，以及 *、?、** 和 [...] 通配。
+ */
+public class IgnoreRules {
+    record Rule(Pattern pattern, boolean negate, boolean directoryOnly) {
+    }
+
+    private final Path base;
+    private final List<Rule> rules;
+
+    private IgnoreRules(Path base, List<Rule> rules) {
+        this.base = base;
+        this.rules = rules;
+    }
+
+    public static IgnoreRules parse(Path base, Iterable<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (var line : lines) {
+            var rule = rule(line);
+            if (rule != null) {
+                rules.add(rule);
+            }
+        }
+        return new IgnoreRules(base, rules);
+    }
+
+    public static IgnoreRules load(Path directory) throws IOException {
+        var file = directory.resolve(".gitignore");
+        if (!Files.isRegularFile(file)) {
+            return new IgnoreRules(directory, List.of());
+        }
+        return parse(directory, Files.readAllLines(file));
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * @return 被忽略返回 TRUE，被 ! 规则重新包含返回 FALSE，没有规则匹配返回 null
+     */
+    public Boolean match(Path path, boolean directory) {
+        if (rules.isEmpty() || !path.startsWith(base)) {
+            return null;
+        }
+        var relative = base.relativize(path).toString().replace('\\', '/');
+        Boolean result = null;
+        for (var rule : rules) {
+            if (rule.directoryOnly() && !directory) {
+                continue;
+            }
+            if (rule.pattern().matcher(relative).matches()) {
+                result = !rule.negate();
+            }
+        }
+        return result;
+    }
+
+    static Rule rule(String line) {
+        var text = line;
+        while (text.endsWith(" ") && !text.endsWith("\\ ")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        if (text.isEmpty() || text.startsWith("#")) {
+            return null;
+        }
+        boolean negate = false;
+        if (text.startsWith("!")) {
+            negate = true;
+            text = text.substring(1);
+        } else if (text.startsWith("\\!") || text.startsWith("\\#")) {
+            text = text.substring(1);
+        }
+        boolean directoryOnly = false;
+        if (text.endsWith("/")) {
+            directoryOnly = true;
+            text = text.substring(0, text.length() - 1);
+        }
+        if (text.isEmpty()) {
+            return null;
+        }
+        boolean anchored = text.contains("/");
+        if (text.startsWith("/")) {
+            text = text.substring(1);
+        }
+        var regex = new StringBuilder();
+        if (!anchored) {
+            regex.append("(?:.*/)?");
+        }
+        regex.append(glob(text));
+        return new Rule(Pattern.compile(regex.toString()), negate, directoryOnly);
+    }
+
+    private static String glob(String text) {
+        var regex = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '*' && text.startsWith("**/", i)) {
+                regex.append("(?:.*/)?");
+                i += 3;
+            } else if (c == '*' && text.startsWith("**", i)) {
+                regex.append(".*");
+                i += 2;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+                i++;
+            } else if (c == '?') {
+                regex.append("[^/]");
+                i++;
+            } else if (c == '[') {
+                int close = text.indexOf(']', i + 2);
+                if (close < 0) {
+                    regex.append("\\[");
+                    i++;
+                } else {
+                    var body = text.substring(i + 1, close);
+                    if (body.startsWith("!")) {
+                        body = "^" + body.substring(1);
+                    }
+                    regex.append('[').append(body.replace("\\", "\\\\")).append(']');
+                    i = close + 1;
+                }
+            } else if (c == '\\' && i + 1 < text.length()) {
+                regex.append(Pattern.quote(String.valueOf(text.charAt(i + 1))));
+                i += 2;
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+                i++;
+            }
+        }
+        return regex.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.marchliu.lexers.source;
+
+import java.io.IOException;
+
+/**
+ * 不在本地文件系统上的源文件，比如 git 的 blob 或压缩包中的条目，用虚拟路径登记到 SourceLoader。
+ */
+public interface SourceEntry {
+    byte[] read() throws IOException;
+
+    /**
+     * 内容的唯一标识，可以代替对内容计算哈希，没有时返回 null
+     */
+    default String id() {
+        return null;
+    }
+}
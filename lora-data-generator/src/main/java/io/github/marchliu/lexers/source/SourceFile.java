@@ -0,0 +1,6 @@
+package io.github.marchliu.lexers.source;
+
+import io.github.marchliu.lexers.Lexer;
+
+public record SourceFile(String path, long size, Lexer lexer) {
+}
@@ -0,0 +1,196 @@
+package io.github.marchliu.lexers.source;
+
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.LexerRegistry;
+import io.github.marchliu.lexers.git.GitBlob;
+import io.github.marchliu.lexers.git.GitSource;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 单遍遍历源码目录：跳过版本库目录，遵循各级 .gitignore 和命令行 exclude 规则，
+ * 按扩展名把文件分派给对应的 lexer，发现一个文件就交给 consumer 一个。
+ */
+public class SourceWalker {
+    public static final Set<String> VCS_DIRECTORIES = Set.of(".git", ".svn", ".hg");
+    /**
+     * 构建输出等目录作为隐含的根目录规则排在 exclude 之前，可以用 exclude 或 .gitignore 中的 ! 规则重新包含
+     */
+    public static final List<String> DEFAULT_EXCLUDES = List.of(
+            "target/", "build/", "node_modules/", "__pycache__/", ".idea/", ".gradle/", ".venv/");
+
+    private final LexerRegistry registry;
+    private final List<String> excludes;
+    private final boolean gitignore;
+
+    public SourceWalker(LexerRegistry registry, List<String> excludes, boolean gitignore) {
+        this.registry = registry;
+        this.excludes = new ArrayList<>(DEFAULT_EXCLUDES);
+        this.excludes.addAll(excludes);
+        this.gitignore = gitignore;
+    }
+
+    public void walk(Path root, Consumer<SourceFile> consumer) throws IOException {
+        var start = root.toAbsolutePath().normalize();
+        Deque<IgnoreRules> rules = new ArrayDeque<>();
+        rules.push(IgnoreRules.parse(start, excludes));
+        Files.walkFileTree(start, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(start)) {
+                    var name = dir.getFileName().toString();
+                    if (VCS_DIRECTORIES.contains(name) || ignored(rules, dir, true)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                }
+                rules.push(gitignore ? IgnoreRules.load(dir) : IgnoreRules.parse(dir, List.of()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                var lexer = registry.lookup(file.getFileName().toString());
+                if (lexer != null && !ignored(rules, file, false)) {
+                    consumer.accept(new SourceFile(file.toString(), attrs.size(), lexer));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                System.err.println(STR."skip \{file}: \{exc.getMessage()}");
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                rules.pop();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 遍历 git 提交中的文件，按同样的目录和 exclude 规则过滤。提交中的文件都已被跟踪，不再读取 .gitignore。
+     */
+    public void walk(GitSource source, BiConsumer<SourceFile, GitBlob> consumer) throws IOException {
+        var base = Paths.get(source.location()).toAbsolutePath().normalize();
+        Deque<IgnoreRules> rules = new ArrayDeque<>();
+        rules.push(IgnoreRules.parse(base, excludes));
+        List<String[]> entries = new ArrayList<>();
+        source.repository().walk(source.commit(), (file, id) -> entries.add(new String[]{file, id}));
+        for (var entry : entries) {
+            var lexer = lexer(entry[0]);
+            if (lexer == null || excluded(rules, base, entry[0])) {
+                continue;
+            }
+            var blob = new GitBlob(source.repository(), entry[1]);
+            consumer.accept(new SourceFile(source.path(entry[0]), source.repository().size(entry[1]), lexer), blob);
+        }
+    }
+
+    /**
+     * 遍历压缩包中的条目，规则同 git 提交：exclude 相对于压缩包的根，不读取其中的 .gitignore
+     */
+    public void walk(ArchiveSource archive, BiConsumer<SourceFile, SourceEntry> consumer) throws IOException {
+        var base = archive.path();
+        Deque<IgnoreRules> rules = new ArrayDeque<>();
+        rules.push(IgnoreRules.parse(base, excludes));
+        archive.entries(name -> lexer(name) != null && !excluded(rules, base, name),
+                (name, size, entry) -> consumer.accept(new SourceFile(archive.path(name), size, lexer(name)), entry));
+    }
+
+    private Lexer lexer(String name) {
+        return registry.lookup(name.substring(name.lastIndexOf('/') + 1));
+    }
+
+    private static boolean excluded(Deque<IgnoreRules> rules, Path base, String file) {
+        var parts = file.split("/");
+        var dir = base;
+        for (int i = 0; i < parts.length - 1; i++) {
+            dir = dir.resolve(parts[i]);
+            if (VCS_DIRECTORIES.contains(parts[i]) || ignored(rules, dir, true)) {
+                return true;
+            }
+        }
+        return ignored(rules, base.resolve(file), false);
+    }
+
+    /**
+     * 按 walk 的规则判断 root 下的单个文件，不需要处理时返回 null。用于 watch 模式下判断变化的文件。
+     */
+    public SourceFile file(Path root, Path file) throws IOException {
+        var start = root.toAbsolutePath().normalize();
+        var path = file.toAbsolutePath().normalize();
+        if (!path.startsWith(start) || !Files.isRegularFile(path)) {
+            return null;
+        }
+        var lexer = registry.lookup(path.getFileName().toString());
+        if (lexer == null) {
+            return null;
+        }
+        var rules = rules(start, path.getParent());
+        if (rules == null || ignored(rules, path, false)) {
+            return null;
+        }
+        return new SourceFile(path.toString(), Files.size(path), lexer);
+    }
+
+    /**
+     * 按 walk 的规则判断 root 下的目录是否整个被跳过，用于 watch 模式下决定监视哪些目录
+     */
+    public boolean ignored(Path root, Path directory) throws IOException {
+        var start = root.toAbsolutePath().normalize();
+        var path = directory.toAbsolutePath().normalize();
+        return !path.startsWith(start) || rules(start, path) == null;
+    }
+
+    /**
+     * 从 start 逐级加载到 dir 的规则，途中的目录（包括 dir 本身）被跳过时返回 null
+     */
+    private Deque<IgnoreRules> rules(Path start, Path dir) throws IOException {
+        Deque<IgnoreRules> rules = new ArrayDeque<>();
+        rules.push(IgnoreRules.parse(start, excludes));
+        rules.push(gitignore ? IgnoreRules.load(start) : IgnoreRules.parse(start, List.of()));
+        var current = start;
+        if (!dir.equals(start)) {
+            for (var name : start.relativize(dir)) {
+                current = current.resolve(name);
+                if (VCS_DIRECTORIES.contains(name.toString()) || ignored(rules, current, true)) {
+                    return null;
+                }
+                rules.push(gitignore ? IgnoreRules.load(current) : IgnoreRules.parse(current, List.of()));
+            }
+        }
+        return rules;
+    }
+
+    private static boolean ignored(Deque<IgnoreRules> rules, Path path, boolean directory) {
+        boolean result = false;
+        // 外层目录的规则先匹配，内层 .gitignore 的规则可以覆盖它们
+        var iterator = rules.descendingIterator();
+        while (iterator.hasNext()) {
+            var matched = iterator.next().match(path, directory);
+            if (matched != null) {
+                result = matched;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.marchliu.lexers.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * 用 WatchService 监视源码目录。一次提交或保存往往在短时间内产生一串事件，
+ * next 在第一个事件之后继续收集，直到安静 debounce 毫秒，再把这段时间内变化的文件合并成一批返回。
+ * WatchService 只监视单层目录，新建的子目录在发现时注册，其中已有的文件按新建处理。被 ignored 跳过的目录不监视。
+ */
+public class SourceWatcher implements Closeable {
+    /**
+     * 一批变化：updated 是新建或修改的文件，deleted 是删除的文件或目录。
+     * overflow 表示事件丢失，调用方应当重新遍历全部目录。
+     */
+    public record Changes(List<Path> updated, List<Path> deleted, boolean overflow) {
+    }
+
+    private final WatchService service;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final long debounce;
+    private final Predicate<Path> ignored;
+
+    public SourceWatcher(List<Path> roots, long debounce, Predicate<Path> ignored) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.debounce = debounce;
+        this.ignored = ignored;
+        for (var root : roots) {
+            register(root.toAbsolutePath().normalize(), null);
+        }
+    }
+
+    private void register(Path root, Map<Path, Boolean> created) throws IOException {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root) && ignored.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                directories.put(dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (created != null && attrs.isRegularFile()) {
+                    created.put(file, true);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 阻塞到有变化发生，返回合并后的一批变化。同一个文件的多次事件只保留最后一次。
+     */
+    public Changes next() throws InterruptedException, IOException {
+        // true 表示新建或修改，false 表示删除
+        Map<Path, Boolean> changes = new LinkedHashMap<>();
+        boolean overflow = false;
+        var key = service.take();
+        while (key != null) {
+            var dir = directories.get(key);
+            for (var event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    overflow = true;
+                    continue;
+                }
+                if (dir == null) {
+                    continue;
+                }
+                var path = dir.resolve((Path) event.context());
+                if (event.kind() == ENTRY_DELETE) {
+                    changes.put(path, false);
+                } else if (Files.isDirectory(path)) {
+                    if (event.kind() == ENTRY_CREATE && !ignored.test(path)) {
+                        register(path, changes);
+                    }
+                } else {
+                    changes.put(path, true);
+                }
+            }
+            if (!key.reset()) {
+                directories.remove(key);
+            }
+            key = service.poll(debounce, TimeUnit.MILLISECONDS);
+        }
+        List<Path> updated = new ArrayList<>();
+        List<Path> deleted = new ArrayList<>();
+        changes.forEach((path, exists) -> (exists ? updated : deleted).add(path));
+        return new Changes(updated, deleted, overflow);
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+}
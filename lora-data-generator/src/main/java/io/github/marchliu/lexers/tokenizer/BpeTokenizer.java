@@ -0,0 +1,195 @@
+package io.github.marchliu.lexers.tokenizer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.marchliu.lexers.Tokenizer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * 读取 HuggingFace tokenizer.json 中的 BPE 模型，按模型的切分方式统计 token。
+ * 支持 SentencePiece 风格（Llama、CodeLlama：空格替换为 ▁，开头补 ▁，词表外的字符按字节回退为 &lt;0xXX&gt;）
+ * 和 GPT-2 风格的 ByteLevel 预切分。只用于估算长度，不做特殊 token 和 added_tokens 的处理。
+ */
+public class BpeTokenizer implements Tokenizer {
+    static final char SPACE = '▁';
+    private static final Pattern BYTE_LEVEL_SPLIT = Pattern.compile(
+            "'s|'t|'re|'ve|'m|'ll|'d| ?\\p{L}+| ?\\p{N}+| ?[^\\s\\p{L}\\p{N}]+|\\s+(?!\\S)|\\s+");
+
+    private final Map<String, Integer> vocab;
+    private final Map<String, Integer> merges;
+    private final boolean byteFallback;
+    private final boolean byteLevel;
+    private final boolean prependSpace;
+    private final String unknown;
+    private final char[] byteChars;
+
+    BpeTokenizer(Map<String, Integer> vocab, Map<String, Integer> merges,
+                 boolean byteFallback, boolean byteLevel, boolean prependSpace, String unknown) {
+        this.vocab = vocab;
+        this.merges = merges;
+        this.byteFallback = byteFallback;
+        this.byteLevel = byteLevel;
+        this.prependSpace = prependSpace;
+        this.unknown = unknown;
+        this.byteChars = byteLevel ? byteChars() : null;
+    }
+
+    public static BpeTokenizer load(ObjectMapper mapper, Path path) throws IOException {
+        var root = mapper.readTree(path.toFile());
+        var model = root.path("model");
+        if (!model.path("type").asText("BPE").equals("BPE")) {
+            throw new IllegalArgumentException(STR."\{path}: only BPE tokenizer model is supported, not \{model.path("type").asText()}");
+        }
+        Map<String, Integer> vocab = new HashMap<>();
+        model.path("vocab").fields().forEachRemaining(e -> vocab.put(e.getKey(), e.getValue().asInt()));
+        Map<String, Integer> merges = new HashMap<>();
+        int rank = 0;
+        for (var merge : model.path("merges")) {
+            // 旧格式是 "a b"，新格式是 ["a", "b"]
+            if (merge.isArray()) {
+                merges.put(key(merge.get(0).asText(), merge.get(1).asText()), rank++);
+            } else {
+                var text = merge.asText();
+                int space = text.indexOf(' ');
+                merges.put(key(text.substring(0, space), text.substring(space + 1)), rank++);
+            }
+        }
+        var unknown = model.path("unk_token");
+        return new BpeTokenizer(vocab, merges,
+                model.path("byte_fallback").asBoolean(),
+                contains(root.path("pre_tokenizer"), "ByteLevel"),
+                contains(root.path("normalizer"), "Prepend") || contains(root.path("pre_tokenizer"), "Metaspace"),
+                unknown.isTextual() ? unknown.asText() : null);
+    }
+
+    private static boolean contains(JsonNode node, String type) {
+        if (node == null || node.isMissingNode() || node.isNull()) {
+            return false;
+        }
+        if (node.isObject() && node.path("type").asText("").equals(type)) {
+            return true;
+        }
+        for (var child : node) {
+            if (contains(child, type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String key(String left, String right) {
+        return left + '\u0000' + right;
+    }
+
+    @Override
+    public List<String> cuts(String source) {
+        List<String> result = new ArrayList<>();
+        if (source.isEmpty()) {
+            return result;
+        }
+        if (byteLevel) {
+            var matcher = BYTE_LEVEL_SPLIT.matcher(source);
+            while (matcher.find()) {
+                encode(toByteChars(matcher.group()), result);
+            }
+        } else {
+            var normalized = source.replace(' ', SPACE);
+            encode(prependSpace ? SPACE + normalized : normalized, result);
+        }
+        return result;
+    }
+
+    private record Candidate(int rank, int left, String first, String second) {
+    }
+
+    private void encode(String word, List<String> result) {
+        int n = word.codePointCount(0, word.length());
+        String[] symbols = new String[n];
+        int[] next = new int[n];
+        int[] prev = new int[n];
+        for (int i = 0, offset = 0; i < n; i++) {
+            int end = word.offsetByCodePoints(offset, 1);
+            symbols[i] = word.substring(offset, end);
+            next[i] = i + 1 < n ? i + 1 : -1;
+            prev[i] = i - 1;
+            offset = end;
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> a.rank != b.rank
+                ? Integer.compare(a.rank, b.rank)
+                : Integer.compare(a.left, b.left));
+        for (int i = 0; i + 1 < n; i++) {
+            offer(queue, symbols, i, i + 1);
+        }
+        while (!queue.isEmpty()) {
+            var candidate = queue.poll();
+            int left = candidate.left;
+            int right = symbols[left] == null ? -1 : next[left];
+            // 合并后旧的候选会失效，跳过
+            if (right < 0 || !symbols[left].equals(candidate.first) || !symbols[right].equals(candidate.second)) {
+                continue;
+            }
+            symbols[left] = candidate.first + candidate.second;
+            symbols[right] = null;
+            next[left] = next[right];
+            if (next[right] >= 0) {
+                prev[next[right]] = left;
+            }
+            if (prev[left] >= 0) {
+                offer(queue, symbols, prev[left], left);
+            }
+            if (next[left] >= 0) {
+                offer(queue, symbols, left, next[left]);
+            }
+        }
+        for (int i = 0; i >= 0; i = next[i]) {
+            var symbol = symbols[i];
+            if (vocab.containsKey(symbol)) {
+                result.add(symbol);
+            } else if (byteFallback) {
+                for (byte b : symbol.getBytes(StandardCharsets.UTF_8)) {
+                    result.add(String.format("<0x%02X>", b & 0xff));
+                }
+            } else {
+                result.add(unknown == null ? symbol : unknown);
+            }
+        }
+    }
+
+    private void offer(PriorityQueue<Candidate> queue, String[] symbols, int left, int right) {
+        var rank = merges.get(key(symbols[left], symbols[right]));
+        if (rank != null) {
+            queue.add(new Candidate(rank, left, symbols[left], symbols[right]));
+        }
+    }
+
+    private String toByteChars(String text) {
+        var bytes = text.getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i] = byteChars[bytes[i] & 0xff];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * GPT-2 的字节到可见字符的映射，可打印字节映射为自身，其余映射到 U+0100 之后
+     */
+    private static char[] byteChars() {
+        char[] result = new char[256];
+        int extra = 0;
+        for (int b = 0; b < 256; b++) {
+            boolean printable = (b >= '!' && b <= '~') || (b >= 0xA1 && b <= 0xAC) || (b >= 0xAE && b <= 0xFF);
+            result[b] = printable ? (char) b : (char) (256 + extra++);
+        }
+        return result;
+    }
+}
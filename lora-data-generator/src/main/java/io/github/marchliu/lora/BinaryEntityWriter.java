@@ -0,0 +1,117 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预先分好词的二进制数据集，target 是一个目录：
+ * <ul>
+ *     <li>tokens.bin 所有样本 output 的 token id，小端 int32 连续存放</li>
+ *     <li>index.bin 每个样本 16 字节：int64 在 tokens.bin 中的起始位置（以 token 计），int32 token 数，
+ *     int16 其中作为 input 的前缀 token 数，int16 lexer 编号</li>
+ *     <li>vocab.json 按 id 排列的 token 文本</li>
+ *     <li>meta.json 样本数、token 数、词表大小和 lexer 名称</li>
+ * </ul>
+ * 两个 bin 文件都可以直接内存映射读取，不需要解析。
+ */
+public class BinaryEntityWriter implements EntityWriter {
+    public static final int VERSION = 1;
+    public static final int INDEX_ENTRY_BYTES = 16;
+
+    private final ObjectMapper mapper;
+    private final Path directory;
+    private final FileChannel tokens;
+    private final FileChannel index;
+    private final ByteBuffer tokenBuffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+    private final Vocabulary vocabulary = new Vocabulary();
+    private final List<String> lexers = new ArrayList<>();
+    private long position = 0;
+    private long count = 0;
+
+    public BinaryEntityWriter(ObjectMapper mapper, Path directory) throws IOException {
+        this.mapper = mapper;
+        this.directory = directory;
+        Files.createDirectories(directory);
+        this.tokens = FileChannel.open(directory.resolve("tokens.bin"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.index = FileChannel.open(directory.resolve("index.bin"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Override
+    public void write(Sample entity) throws IOException {
+        if (!(entity instanceof WindowEntity windowEntity)) {
+            throw new IOException("binary format needs entities created by a lexer");
+        }
+        var window = windowEntity.window();
+        var buffer = window.tokens();
+        for (int i = window.from(); i < window.to(); i++) {
+            if (!tokenBuffer.hasRemaining()) {
+                drain(tokenBuffer, tokens);
+            }
+            tokenBuffer.putInt(vocabulary.intern(buffer, i));
+        }
+        if (indexBuffer.remaining() < INDEX_ENTRY_BYTES) {
+            drain(indexBuffer, index);
+        }
+        int length = window.to() - window.from();
+        indexBuffer.putLong(position)
+                .putInt(length)
+                .putShort((short) window.header())
+                .putShort((short) lexer(window.lexer()));
+        position += length;
+        count++;
+    }
+
+    private int lexer(String name) {
+        int id = lexers.indexOf(name);
+        if (id < 0) {
+            lexers.add(name);
+            id = lexers.size() - 1;
+        }
+        return id;
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        drain(tokenBuffer, tokens);
+        drain(indexBuffer, index);
+        tokens.close();
+        index.close();
+        mapper.writeValue(directory.resolve("vocab.json").toFile(), vocabulary.tokens());
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("version", VERSION);
+        meta.put("byteOrder", "little-endian");
+        meta.put("entities", count);
+        meta.put("tokens", position);
+        meta.put("vocabSize", vocabulary.size());
+        meta.put("indexEntryBytes", INDEX_ENTRY_BYTES);
+        meta.put("lexers", lexers);
+        mapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("meta.json").toFile(), meta);
+    }
+}
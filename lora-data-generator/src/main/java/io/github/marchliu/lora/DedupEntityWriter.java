@@ -0,0 +1,68 @@
+package io.github.marchliu.lora;
+
+import io.github.marchliu.lexers.dedup.BloomFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按 output 文本去掉重复的训练窗口（license 头、import 块、getter/setter 等），
+ * 用固定内存的 Bloom filter 判重，不保存已写出的字符串。
+ */
+public class DedupEntityWriter implements EntityWriter {
+    private final EntityWriter writer;
+    private final BloomFilter filter;
+    private long dropped = 0;
+
+    public DedupEntityWriter(EntityWriter writer, long budgetBytes) {
+        this.writer = writer;
+        this.filter = new BloomFilter(budgetBytes, 7);
+    }
+
+    @Override
+    public void write(Sample entity) throws IOException {
+        if (filter.add(entity.outputText())) {
+            writer.write(entity);
+        } else {
+            dropped++;
+        }
+    }
+
+    @Override
+    public void writeAll(List<Sample> entities) throws IOException {
+        writer.writeAll(filter(entities));
+    }
+
+    @Override
+    public void writeAll(String path, List<Sample> entities) throws IOException {
+        writer.writeAll(path, filter(entities));
+    }
+
+    private List<Sample> filter(List<Sample> entities) {
+        List<Sample> kept = new ArrayList<>(entities.size());
+        for (var entity : entities) {
+            if (filter.add(entity.outputText())) {
+                kept.add(entity);
+            } else {
+                dropped++;
+            }
+        }
+        return kept;
+    }
+
+    @Override
+    public long count() {
+        return writer.count();
+    }
+
+    public long dropped() {
+        return dropped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        System.out.println(STR."window dedup: dropped \{dropped} duplicated entities, \{filter.count()} distinct in \{filter.bytes()} bytes filter");
+        writer.close();
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.marchliu.lora;
 
-public class Entity {
+public class Entity implements Sample {
     private String instruction;
     private String input;
     private String output;
@@ -11,6 +11,7 @@ public class Entity {
         this.output = output;
     }
 
+    @Override
     public String getInstruction() {
         return instruction;
     }
@@ -19,6 +20,7 @@ public class Entity {
         this.instruction = instruction;
     }
 
+    @Override
     public String getInput() {
         return input;
     }
@@ -27,6 +29,7 @@ public class Entity {
         this.input = input;
     }
 
+    @Override
     public String getOutput() {
         return output;
     }
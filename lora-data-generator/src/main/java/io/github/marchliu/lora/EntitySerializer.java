@@ -0,0 +1,41 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.marchliu.lexers.TokenText;
+
+import java.io.IOException;
+
+/**
+ * 按 instruction、input、output 的顺序写出样本，与默认的 bean 序列化结果相同。
+ * TokenText 字段通过 Reader 交给 JsonGenerator，边转义边写出，不先拼成字符串。
+ */
+public class EntitySerializer extends StdSerializer<Sample> {
+    public EntitySerializer() {
+        super(Sample.class);
+    }
+
+    public static SimpleModule module() {
+        return new SimpleModule("lora-entity").addSerializer(Sample.class, new EntitySerializer());
+    }
+
+    @Override
+    public void serialize(Sample entity, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(entity);
+        write(generator, "instruction", entity.instructionText());
+        write(generator, "input", entity.inputText());
+        write(generator, "output", entity.outputText());
+        generator.writeEndObject();
+    }
+
+    private static void write(JsonGenerator generator, String name, CharSequence text) throws IOException {
+        generator.writeFieldName(name);
+        if (text instanceof TokenText tokens) {
+            generator.writeString(tokens.reader(), tokens.length());
+        } else {
+            generator.writeString(text == null ? null : text.toString());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+public interface EntityWriter extends SourceWriter {
+    void write(Sample entity) throws IOException;
+
+    /**
+     * 写出同一个源文件产生的全部样本
+     */
+    default void writeAll(List<Sample> entities) throws IOException {
+        for (var entity : entities) {
+            write(entity);
+        }
+    }
+
+    /**
+     * 数据集文件不记录样本来自哪个源文件
+     */
+    @Override
+    default void writeAll(String path, List<Sample> entities) throws IOException {
+        writeAll(entities);
+    }
+
+    static EntityWriter dedup(EntityWriter writer, long dedupBudget) {
+        return dedupBudget > 0 ? new DedupEntityWriter(writer, dedupBudget) : writer;
+    }
+
+    static EntityWriter open(ObjectMapper mapper, String format, String target) throws IOException {
+        if (format.equals("bin")) {
+            return new BinaryEntityWriter(mapper, Paths.get(target));
+        }
+        OutputStream output = new BufferedOutputStream(Files.newOutputStream(Paths.get(target)), 1 << 16);
+        return switch (format) {
+            case "json" -> new JsonArrayWriter(mapper, output);
+            case "jsonl" -> new JsonLinesWriter(mapper, output);
+            default -> {
+                output.close();
+                throw new IllegalArgumentException(STR."unknown output format \{format}, expect json, jsonl or bin");
+            }
+        };
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * watch 模式的数据集目录，只追加不改写。
+ * 每批更新的样本写入一个新的 segment-NNNNN.jsonl，journal.jsonl 记录每个源文件的样本位于哪个分段的哪几行：
+ * add 覆盖同一路径之前的记录，retract 表示文件已删除。每批结束写一条 commit，
+ * 读取方按顺序回放到最后一条 commit 即得到当前的数据集，中途退出留下的半批会被忽略。
+ * 重新启动时回放已有的 journal，分段编号接着之前的继续。
+ */
+public class JournalWriter implements SourceWriter {
+    public static final String JOURNAL = "journal.jsonl";
+    private static final Pattern SEGMENT = Pattern.compile("segment-(\\d+)\\.jsonl");
+
+    private final ObjectMapper mapper;
+    private final Path directory;
+    private final BufferedWriter journal;
+    private final Set<String> live = new HashSet<>();
+    private final Set<String> seen = new HashSet<>();
+    private int next = 0;
+    private JsonLinesWriter segment = null;
+    private String segmentName;
+    private long count = 0;
+    private boolean pending = false;
+
+    public JournalWriter(ObjectMapper mapper, Path directory) throws IOException {
+        this.mapper = mapper;
+        this.directory = directory;
+        Files.createDirectories(directory);
+        var file = directory.resolve(JOURNAL);
+        if (Files.exists(file)) {
+            replay(file);
+        }
+        try (var files = Files.list(directory)) {
+            // 没有 commit 的分段也占用编号，避免覆盖
+            files.map(f -> SEGMENT.matcher(f.getFileName().toString()))
+                    .filter(m -> m.matches())
+                    .forEach(m -> next = Math.max(next, Integer.parseInt(m.group(1)) + 1));
+        }
+        this.journal = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void replay(Path file) throws IOException {
+        List<Map<?, ?>> batch = new ArrayList<>();
+        for (var line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            var record = mapper.readValue(line, Map.class);
+            if ("commit".equals(record.get("op"))) {
+                for (var op : batch) {
+                    var path = (String) op.get("path");
+                    if ("add".equals(op.get("op"))) {
+                        live.add(path);
+                    } else {
+                        live.remove(path);
+                    }
+                }
+                batch.clear();
+            } else {
+                batch.add(record);
+            }
+        }
+    }
+
+    @Override
+    public void writeAll(String path, List<Sample> entities) throws IOException {
+        if (segment == null) {
+            segmentName = String.format("segment-%05d.jsonl", next++);
+            segment = new JsonLinesWriter(mapper,
+                    new BufferedOutputStream(Files.newOutputStream(directory.resolve(segmentName)), 1 << 16));
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("op", "add");
+        record.put("path", path);
+        record.put("segment", segmentName);
+        record.put("line", segment.count());
+        record.put("entities", entities.size());
+        append(record);
+        for (var entity : entities) {
+            segment.write(entity);
+        }
+        count += entities.size();
+        live.add(path);
+        seen.add(path);
+    }
+
+    /**
+     * 撤销 path 的样本，path 是目录时撤销其下所有文件，返回撤销的文件数
+     */
+    public int retract(String path) throws IOException {
+        var prefix = path.endsWith(File.separator) ? path : path + File.separator;
+        List<String> removed = live.stream()
+                .filter(p -> p.equals(path) || p.startsWith(prefix))
+                .sorted()
+                .toList();
+        for (var p : removed) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("op", "retract");
+            record.put("path", p);
+            append(record);
+            live.remove(p);
+        }
+        return removed.size();
+    }
+
+    /**
+     * 撤销上次调用以来没有重新写出的文件。启动时的全量处理之后调用，清除重启期间被删除的文件。
+     */
+    public int retractUnseen() throws IOException {
+        List<String> stale = live.stream()
+                .filter(p -> !seen.contains(p))
+                .sorted()
+                .toList();
+        for (var p : stale) {
+            retract(p);
+        }
+        seen.clear();
+        return stale.size();
+    }
+
+    public Set<String> live() {
+        return Set.copyOf(live);
+    }
+
+    /**
+     * 结束一批更新：关闭当前分段并写出 commit，之后的样本写入新的分段
+     */
+    public void commit() throws IOException {
+        if (!pending) {
+            return;
+        }
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("op", "commit");
+        record.put("time", System.currentTimeMillis());
+        record.put("files", live.size());
+        journal.write(mapper.writeValueAsString(record));
+        journal.newLine();
+        journal.flush();
+        pending = false;
+    }
+
+    private void append(Map<String, Object> record) throws IOException {
+        journal.write(mapper.writeValueAsString(record));
+        journal.newLine();
+        pending = true;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        commit();
+        journal.close();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class JsonArrayWriter implements EntityWriter {
+    private final JsonGenerator generator;
+    private long count = 0;
+
+    public JsonArrayWriter(ObjectMapper mapper, OutputStream output) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        this.generator.writeStartArray();
+    }
+
+    @Override
+    public void write(Sample entity) throws IOException {
+        generator.writeObject(entity);
+        count++;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
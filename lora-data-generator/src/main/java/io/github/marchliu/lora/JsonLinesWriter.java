@@ -0,0 +1,35 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class JsonLinesWriter implements EntityWriter {
+    private final JsonGenerator generator;
+    private long count = 0;
+
+    public JsonLinesWriter(ObjectMapper mapper, OutputStream output) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(Sample entity) throws IOException {
+        generator.writeObject(entity);
+        generator.writeRaw('\n');
+        count++;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
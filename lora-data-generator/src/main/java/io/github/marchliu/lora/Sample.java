@@ -0,0 +1,28 @@
+package io.github.marchliu.lora;
+
+/**
+ * 只读的训练样本，EntityWriter 和 EntitySerializer 写出的对象。
+ * Entity 是三个字符串字段的 bean；WindowEntity 只记录 token 范围，字段是源文本上的视图。
+ */
+public interface Sample {
+    String getInstruction();
+
+    String getInput();
+
+    String getOutput();
+
+    /**
+     * 字段的文本，WindowEntity 返回不复制字符的视图
+     */
+    default CharSequence instructionText() {
+        return getInstruction();
+    }
+
+    default CharSequence inputText() {
+        return getInput();
+    }
+
+    default CharSequence outputText() {
+        return getOutput();
+    }
+}
@@ -0,0 +1,231 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 把数据集写成目录下的多个分片，每个分片不超过给定的字节数或样本数，可以 gzip 压缩。
+ * 每个源文件的样本整体交给一个写出线程，按文件轮流分配，分片的划分只取决于输入顺序，与线程调度无关。
+ * 结束时在目录下写出 manifest.json，记录每个分片的大小、样本数和 sha256。
+ */
+public class ShardedEntityWriter implements EntityWriter {
+    public record Shard(String file, long entities, long bytes, String sha256) {
+    }
+
+    private final ObjectMapper mapper;
+    private final String format;
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxEntities;
+    private final boolean gzip;
+    private final Lane[] lanes;
+    private long batches = 0;
+    private long count = 0;
+
+    public ShardedEntityWriter(ObjectMapper mapper, String format, Path directory, int writers,
+                               long maxBytes, long maxEntities, boolean gzip) throws IOException {
+        if (!format.equals("json") && !format.equals("jsonl")) {
+            throw new IllegalArgumentException(STR."output format \{format} can not be sharded, expect json or jsonl");
+        }
+        this.mapper = mapper;
+        this.format = format;
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxEntities = maxEntities;
+        this.gzip = gzip;
+        Files.createDirectories(directory);
+        this.lanes = new Lane[Math.max(1, writers)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    @Override
+    public void write(Sample entity) throws IOException {
+        writeAll(List.of(entity));
+    }
+
+    @Override
+    public void writeAll(List<Sample> entities) throws IOException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        var lane = lanes[(int) (batches++ % lanes.length)];
+        lane.submit(entities);
+        count += entities.size();
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<Shard> shards = new ArrayList<>();
+        IOException error = null;
+        for (var lane : lanes) {
+            try {
+                lane.finish();
+            } catch (IOException err) {
+                error = error == null ? err : error;
+            }
+            shards.addAll(lane.shards);
+        }
+        if (error != null) {
+            throw error;
+        }
+        shards.sort((a, b) -> a.file().compareTo(b.file()));
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("format", format);
+        manifest.put("compression", gzip ? "gzip" : "none");
+        manifest.put("entities", count);
+        manifest.put("shards", shards);
+        mapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("manifest.json").toFile(), manifest);
+    }
+
+    // 结束标记，按引用比较
+    private static final List<Sample> END = new ArrayList<>();
+
+    private class Lane implements Runnable {
+        private final int index;
+        private final BlockingQueue<List<Sample>> queue = new ArrayBlockingQueue<>(64);
+        private final List<Shard> shards = new ArrayList<>();
+        private final Thread thread;
+        private volatile IOException error = null;
+        private EntityWriter writer = null;
+        private Counter counter;
+        private MessageDigest digest;
+        private String file;
+
+        Lane(int index) {
+            this.index = index;
+            this.thread = Thread.ofPlatform().name("shard-writer-", index).start(this);
+        }
+
+        void submit(List<Sample> entities) throws IOException {
+            try {
+                // 写出线程出错退出后不再消费队列，不能无限期阻塞
+                while (!queue.offer(entities, 100, TimeUnit.MILLISECONDS)) {
+                    if (error != null) {
+                        throw error;
+                    }
+                }
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                throw new IOException(err);
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                while (error == null && !queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+                }
+                thread.join();
+            } catch (InterruptedException err) {
+                Thread.currentThread().interrupt();
+                throw new IOException(err);
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    var entities = queue.take();
+                    if (entities == END) {
+                        break;
+                    }
+                    for (var entity : entities) {
+                        if (writer == null) {
+                            open();
+                        }
+                        writer.write(entity);
+                        if ((maxEntities > 0 && writer.count() >= maxEntities)
+                                || (maxBytes > 0 && counter.bytes >= maxBytes)) {
+                            seal();
+                        }
+                    }
+                }
+                if (writer != null) {
+                    seal();
+                }
+            } catch (IOException err) {
+                error = err;
+                queue.clear();
+            } catch (InterruptedException err) {
+                error = new IOException(err);
+            }
+        }
+
+        private void open() throws IOException {
+            file = String.format("part-%03d-%05d.%s%s", index, shards.size(), format, gzip ? ".gz" : "");
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException err) {
+                throw new IOException(err);
+            }
+            OutputStream output = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(directory.resolve(file)), 1 << 16), digest);
+            if (gzip) {
+                output = new GZIPOutputStream(output, 1 << 16);
+            }
+            counter = new Counter(output);
+            writer = format.equals("json")
+                    ? new JsonArrayWriter(mapper, counter)
+                    : new JsonLinesWriter(mapper, counter);
+        }
+
+        private void seal() throws IOException {
+            long entities = writer.count();
+            writer.close();
+            writer = null;
+            shards.add(new Shard(file, entities, Files.size(directory.resolve(file)),
+                    HexFormat.of().formatHex(digest.digest())));
+        }
+    }
+
+    /**
+     * 统计压缩前写出的字节数，分片按这个大小切换
+     */
+    private static class Counter extends FilterOutputStream {
+        long bytes = 0;
+
+        Counter(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+        }
+    }
+}
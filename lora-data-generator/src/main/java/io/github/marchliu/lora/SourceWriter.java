@@ -0,0 +1,17 @@
+package io.github.marchliu.lora;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * LexerRouter 的输出，按源文件写出样本。数据集文件是 EntityWriter，watch 模式的 JournalWriter 需要记录样本来自哪个文件。
+ */
+public interface SourceWriter extends Closeable {
+    /**
+     * 写出 path 这个源文件产生的全部样本
+     */
+    void writeAll(String path, List<Sample> entities) throws IOException;
+
+    long count();
+}
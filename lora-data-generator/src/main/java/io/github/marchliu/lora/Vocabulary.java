@@ -0,0 +1,94 @@
+package io.github.marchliu.lora;
+
+import io.github.marchliu.lexers.TokenBuffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 增量构建的 token 词表。
+ * 以 token 文本的 64 位哈希为 key 做开放寻址，key 和 id 都存放在基本类型数组中；
+ * 查找时直接对 TokenBuffer 中的字符计算哈希和比较，只有新 token 才会创建 String。
+ */
+public class Vocabulary {
+    private final List<String> tokens = new ArrayList<>();
+    private long[] keys = new long[1 << 12];
+    private int[] ids = new int[1 << 12];
+    private int mask = (1 << 12) - 1;
+
+    public Vocabulary() {
+        Arrays.fill(ids, -1);
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public List<String> tokens() {
+        return tokens;
+    }
+
+    public int intern(TokenBuffer buffer, int index) {
+        long hash = hash(buffer, index);
+        int slot = (int) hash & mask;
+        while (ids[slot] >= 0) {
+            if (keys[slot] == hash && matches(tokens.get(ids[slot]), buffer, index)) {
+                return ids[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        int id = tokens.size();
+        tokens.add(buffer.text(index));
+        keys[slot] = hash;
+        ids[slot] = id;
+        // 装载因子超过 1/2 时扩容
+        if (tokens.size() * 2 > mask) {
+            grow();
+        }
+        return id;
+    }
+
+    private static boolean matches(String token, TokenBuffer buffer, int index) {
+        int length = buffer.length(index);
+        if (token.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (token.charAt(i) != buffer.charAt(index, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long hash(TokenBuffer buffer, int index) {
+        long hash = 0xcbf29ce484222325L;
+        int length = buffer.length(index);
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ buffer.charAt(index, i)) * 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new long[oldKeys.length << 1];
+        ids = new int[oldIds.length << 1];
+        Arrays.fill(ids, -1);
+        mask = keys.length - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] >= 0) {
+                int slot = (int) oldKeys[i] & mask;
+                while (ids[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                ids[slot] = oldIds[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.marchliu.lora;
+
+import io.github.marchliu.lexers.TokenText;
+import io.github.marchliu.lexers.TokenWindow;
+
+/**
+ * 只记录 token 范围的训练样本。input 是 output 的前缀，instruction 是 lexer 名加上 input，
+ * 三个字段都是 TokenBuffer 上的视图，由 EntitySerializer 直接从源文本写出，不拼接字符串。
+ * 调用 getter 时才拼成字符串。
+ */
+public class WindowEntity implements Sample {
+    private final TokenWindow window;
+    private final String separator;
+    private final String prefix;
+
+    /**
+     * @param prefix instruction 中 input 之前的部分，为 null 时 instruction 是空串
+     */
+    public WindowEntity(TokenWindow window, String separator, String prefix) {
+        this.window = window;
+        this.separator = separator;
+        this.prefix = prefix;
+    }
+
+    /**
+     * 样本对应的 token 范围，bin 格式直接写出其中的 token
+     */
+    public TokenWindow window() {
+        return window;
+    }
+
+    @Override
+    public CharSequence instructionText() {
+        return prefix == null
+                ? ""
+                : new TokenText(prefix, window.tokens(), separator, window.from(), window.from() + window.header());
+    }
+
+    @Override
+    public CharSequence inputText() {
+        return new TokenText("", window.tokens(), separator, window.from(), window.from() + window.header());
+    }
+
+    @Override
+    public CharSequence outputText() {
+        return new TokenText("", window.tokens(), separator, window.from(), window.to());
+    }
+
+    @Override
+    public String getInstruction() {
+        return instructionText().toString();
+    }
+
+    @Override
+    public String getInput() {
+        return inputText().toString();
+    }
+
+    @Override
+    public String getOutput() {
+        return outputText().toString();
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.marchliu.lexers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * scanner 引擎与 parsec 语法在全部语料上给出相同的 token 序列
+ */
+class EngineParityTest {
+    @Test
+    void scannerMatchesParsec() throws Exception {
+        for (var language : Fixtures.CODE_LANGUAGES) {
+            for (var size : Fixtures.SIZES) {
+                var source = Fixtures.load(language, size);
+                var name = STR."\{language}/\{size}";
+                var scanned = Fixtures.lexer(language).engine(Engine.SCANNER).lex(source).get();
+                var parsed = Fixtures.lexer(language).engine(Engine.PARSEC).lex(source).get();
+                assertTrue(scanned.errors().isEmpty(), () -> STR."\{name} scanner errors \{scanned.errors()}");
+                assertTrue(parsed.errors().isEmpty(), () -> STR."\{name} parsec errors \{parsed.errors()}");
+                assertSameTokens(name, Fixtures.tokens(parsed), Fixtures.tokens(scanned));
+            }
+        }
+    }
+
+    /**
+     * 逐个比较，失败时给出第一个不同的位置，而不是打印整个列表
+     */
+    static void assertSameTokens(String name, List<Token> expected, List<Token> actual) {
+        int common = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < common; i++) {
+            int index = i;
+            assertEquals(expected.get(i), actual.get(i), () -> STR."\{name} token \{index}");
+        }
+        assertEquals(expected.size(), actual.size(), () -> STR."\{name} token count");
+    }
+}
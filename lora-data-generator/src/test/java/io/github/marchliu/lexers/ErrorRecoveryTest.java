@@ -0,0 +1,81 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lexers.c.CLexer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 遇到无法识别的输入时记录错误并跳过，保留出错行之前和之后的 token
+ */
+class ErrorRecoveryTest {
+    private static final String SOURCE = """
+            int a = 1;
+            char *s = "broken;
+            int b = 2;
+            """;
+    private static final int BAD = SOURCE.indexOf('"');
+    private static final int NEXT_LINE = SOURCE.indexOf('\n', BAD) + 1;
+
+    @Test
+    void scannerEndsUnterminatedStringAtLineEnd() throws Exception {
+        var tokens = new CLexer().engine(Engine.SCANNER).lex(SOURCE).get();
+        assertEquals(List.of(new LexError(BAD, "unterminated string")), tokens.errors());
+        assertEquals("1 errors skipped, first at line 2: unterminated string", LexError.summary(SOURCE, tokens.errors()));
+        assertEquals(List.of("int", "a", "=", "1", ";", "char", "*", "s", "="), texts(tokens, 0, BAD));
+        assertEquals(List.of("\"broken;"), texts(tokens, BAD, NEXT_LINE));
+        assertEquals(List.of("int", "b", "=", "2", ";"), texts(tokens, NEXT_LINE, SOURCE.length()));
+    }
+
+    @Test
+    void parsecSkipsTheBadLine() throws Exception {
+        var tokens = new CLexer().engine(Engine.PARSEC).lex(SOURCE).get();
+        assertEquals(1, tokens.errors().size(), () -> tokens.errors().toString());
+        assertEquals(BAD, tokens.errors().getFirst().offset());
+        assertEquals(2, tokens.errors().getFirst().line(SOURCE));
+        assertEquals(List.of("int", "a", "=", "1", ";", "char", "*", "s", "="), texts(tokens, 0, BAD));
+        assertEquals(List.of(), texts(tokens, BAD, NEXT_LINE));
+        assertEquals(List.of("int", "b", "=", "2", ";"), texts(tokens, NEXT_LINE, SOURCE.length()));
+    }
+
+    @Test
+    void splitPointsFollowTheSameRule() throws Exception {
+        // 直到文件结尾都没有闭合的字符串在行尾结束，之后的空行仍然可以切分
+        var source = """
+                int a = 1;
+
+                char *s = "broken;
+
+                int b = 2;
+                """;
+        var lexer = new CLexer().engine(Engine.SCANNER);
+        var points = lexer.splitPoints(source, 1);
+        assertTrue(Arrays.stream(points).anyMatch(point -> point == source.indexOf("int b")), () -> Arrays.toString(points));
+        try (var pool = new ForkJoinPool(2)) {
+            var whole = lexer.tokenize(source).get();
+            var split = new ParallelTokenizer(pool, 1, 1).tokenize(lexer, source).get();
+            EngineParityTest.assertSameTokens("split", Fixtures.tokens(whole), Fixtures.tokens(split));
+            assertEquals(List.of(new LexError(source.indexOf('"'), "unterminated string")), split.errors());
+            assertEquals(whole.errors(), split.errors());
+        }
+    }
+
+    /**
+     * 起始位置在 [from, to) 之内的 token 文本
+     */
+    private static List<String> texts(TokenBuffer tokens, int from, int to) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (!tokens.isLiteral(i) && tokens.start(i) >= from && tokens.start(i) < to) {
+                result.add(tokens.text(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.marchliu.lexers;
+
+import io.github.marchliu.lexers.c.CLexer;
+import io.github.marchliu.lexers.java.JavaLexer;
+import io.github.marchliu.lexers.scala.java.ScalaLexer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试用的语料，与基准测试共用 corpus/&lt;language&gt;/&lt;size&gt;.&lt;ext&gt;
+ */
+public final class Fixtures {
+    public static final List<String> SIZES = List.of("small", "medium", "pathological");
+    public static final List<String> CODE_LANGUAGES = List.of("c", "java", "scala");
+    public static final Map<String, String> EXTENSIONS = Map.of(
+            "java", "java",
+            "c", "c",
+            "scala", "scala",
+            "python", "py",
+            "nlp", "txt");
+
+    private Fixtures() {
+    }
+
+    public static String load(String language, String size) {
+        var name = STR."corpus/\{language}/\{size}.\{EXTENSIONS.get(language)}";
+        try (var input = Fixtures.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new FileNotFoundException(name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException err) {
+            throw new UncheckedIOException(err);
+        }
+    }
+
+    public static CodeLexer lexer(String language) {
+        return switch (language) {
+            case "java" -> new JavaLexer();
+            case "c" -> new CLexer();
+            case "scala" -> new ScalaLexer();
+            default -> throw new IllegalArgumentException(STR."unknown language \{language}");
+        };
+    }
+
+    public static List<Token> tokens(TokenBuffer buffer) {
+        List<Token> result = new ArrayList<>(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            result.add(buffer.token(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.marchliu.lexers;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * 每个文件的随机数只由种子和相对路径决定，不同路径得到不同的序列
+ */
+class LexerContextTest {
+    @Test
+    void sameSeedAndRelativePath() throws Exception {
+        var first = LexerContext.defaults().seed(7).root(Path.of("/a/checkout"));
+        var second = LexerContext.defaults().seed(7).root(Path.of("/b/elsewhere"));
+        assertEquals(first.random("/a/checkout/src/A.java").nextLong(), second.random("/b/elsewhere/src/A.java").nextLong());
+        assertNotEquals(first.random("/a/checkout/src/A.java").nextLong(), LexerContext.defaults().seed(8).random("src/A.java").nextLong());
+    }
+
+    @Test
+    void collidingStringHashes() throws Exception {
+        var context = LexerContext.defaults().seed(7);
+        // "Aa" 与 "BB" 的 String.hashCode 和长度都相同
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(context.random("Aa").nextLong(), context.random("BB").nextLong());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            seen.add(context.random(STR."src/File\{i}.java").nextLong());
+        }
+        assertEquals(10000, seen.size());
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.marchliu.lexers;
+
+import jaskell.parsec.common.Parsec;
+import jaskell.util.Failure;
+import jaskell.util.Success;
+import jaskell.util.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 在切分点切开并行分词，拼接结果与整个文件一起分词相同
+ */
+class ParallelTokenizerTest {
+    private static final int CHUNK_SIZE = 256;
+
+    @Test
+    void splitMatchesWholeFile() throws Exception {
+        try (var pool = new ForkJoinPool(4)) {
+            var splitter = new ParallelTokenizer(pool, 1, CHUNK_SIZE);
+            for (var language : Fixtures.CODE_LANGUAGES) {
+                for (var size : Fixtures.SIZES) {
+                    check(splitter, Fixtures.lexer(language), STR."\{language}/\{size}", Fixtures.load(language, size));
+                }
+            }
+            for (var size : Fixtures.SIZES) {
+                check(splitter, Lexer.nlpLexer, STR."nlp/\{size}", Fixtures.load("nlp", size));
+            }
+        }
+    }
+
+    @Test
+    void mediumFixturesAreSplit() {
+        for (var language : Fixtures.CODE_LANGUAGES) {
+            var points = Fixtures.lexer(language).splitPoints(Fixtures.load(language, "medium"), CHUNK_SIZE);
+            assertTrue(points.length > 0, STR."\{language}/medium has no split points");
+        }
+        assertTrue(Lexer.nlpLexer.splitPoints(Fixtures.load("nlp", "medium"), CHUNK_SIZE).length > 0,
+                "nlp/medium has no split points");
+    }
+
+    @Test
+    void chunkFailureKeepsOriginalError() {
+        var error = new IOException("broken chunk");
+        var lexer = new Lexer() {
+            @Override
+            public String getName() {
+                return "broken";
+            }
+
+            @Override
+            public int[] splitPoints(CharSequence source, int chunkSize) {
+                return new int[]{source.length() / 2};
+            }
+
+            @Override
+            public Try<TokenBuffer> tokenize(CharSequence source, int from, int to, boolean last) {
+                return Try.failure(error);
+            }
+
+            @Override
+            public Parsec<Character, List<Token>> getParser() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        try (var pool = new ForkJoinPool(2)) {
+            var result = new ParallelTokenizer(pool, 1, CHUNK_SIZE).tokenize(lexer, "a\n\nb\n\nc\n");
+            switch (result) {
+                case Success(var tokens) -> fail(STR."expect a failure, got \{tokens.size()} tokens");
+                case Failure(var err) -> assertSame(error, err);
+            }
+        }
+    }
+
+    private static void check(ParallelTokenizer splitter, Lexer lexer, String name, String source) throws Exception {
+        var whole = lexer.tokenize(source).get();
+        var split = splitter.tokenize(lexer, source).get();
+        EngineParityTest.assertSameTokens(name, Fixtures.tokens(whole), Fixtures.tokens(split));
+        assertEquals(whole.errors(), split.errors(), () -> STR."\{name} errors");
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.marchliu.lexers;
+
+import jaskell.parsec.common.TxtState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 注释和字符串内容按字符读取，边界和文件结尾的处理
+ */
+class ParsersTest {
+    @Test
+    void lineComment() throws Throwable {
+        var comment = Parsers.lineComment("//");
+        var state = new TxtState("// hi\nx");
+        assertEquals("// hi\n", comment.parse(state));
+        assertEquals(6, (int) state.status());
+        assertEquals("// eof", comment.parse(new TxtState("// eof")));
+        assertThrows(ParseFailure.class, () -> comment.parse(new TxtState("/x")));
+    }
+
+    @Test
+    void blockComment() throws Throwable {
+        var comment = Parsers.blockComment("/*", "*/");
+        var state = new TxtState("/* a * b **/x");
+        assertEquals("/* a * b **/", comment.parse(state));
+        assertEquals(12, (int) state.status());
+        assertEquals("/* open", comment.parse(new TxtState("/* open")));
+        // 文件在 close 中间结束时，剩下的 * 留给后续 token
+        var open = new TxtState("/* open *");
+        assertEquals("/* open ", comment.parse(open));
+        assertEquals(8, (int) open.status());
+    }
+
+    @Test
+    void quoted() throws Throwable {
+        var state = new TxtState("a \\\" b\\\\\" rest");
+        assertEquals("\"a \\\" b\\\\\"", Parsers.quoted("\"").parse(state));
+        assertEquals(9, (int) state.status());
+        assertEquals("\"\"\"x \" y \"\" z\"\"\"", Parsers.quoted("\"\"\"").parse(new TxtState("x \" y \"\" z\"\"\"w")));
+        assertThrows(ParseFailure.class, () -> Parsers.quoted("\"").parse(new TxtState("unterminated \\")));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.marchliu.lexers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * --oversize chunk 分块读取的结果与整个文件一起分词相同
+ */
+class SourceLoaderTest {
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    @Test
+    void chunksMatchWholeFile(@TempDir Path directory) throws Exception {
+        var code = Fixtures.load("java", "medium");
+        // 跨过第一个块边界的块注释，其中有空行、引号和撇号
+        var comment = new StringBuilder("/*\n");
+        while (comment.length() < CHUNK_SIZE / 2) {
+            comment.append(" * don't \"quote\" this line\n *\n\n");
+        }
+        comment.append(" */\n");
+        var source = code.repeat(3) + comment + code.repeat(3);
+        assertTrue(source.indexOf("/*\n * don't") < CHUNK_SIZE && source.indexOf(comment.toString()) + comment.length() > CHUNK_SIZE);
+        var file = directory.resolve("Large.java");
+        Files.writeString(file, source);
+
+        check(file, source, Fixtures.lexer("java").engine(Engine.SCANNER));
+        check(file, source, Lexer.nlpLexer);
+    }
+
+    @Test
+    void unsplittableLexerSkips(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("Large.java");
+        Files.writeString(file, Fixtures.load("java", "medium"));
+        var loader = loader();
+        var lexer = Fixtures.lexer("java").engine(Engine.PARSEC);
+        assertFalse(loader.load(file.toString(), lexer, (chunk, hash, last) -> {
+            throw new AssertionError("should skip");
+        }));
+    }
+
+    private static void check(Path file, String source, Lexer lexer) throws Exception {
+        List<Token> chunked = new ArrayList<>();
+        List<Boolean> lasts = new ArrayList<>();
+        assertTrue(loader().load(file.toString(), lexer, (chunk, hash, last) -> {
+            var tokens = last ? lexer.tokenize(chunk) : lexer.tokenize(chunk, 0, chunk.length(), false);
+            chunked.addAll(Fixtures.tokens(tokens.get()));
+            lasts.add(last);
+        }));
+        assertTrue(lasts.size() > 1, lexer.getName());
+        assertEquals(List.of(true), lasts.subList(lasts.size() - 1, lasts.size()));
+        EngineParityTest.assertSameTokens(lexer.getName(), Fixtures.tokens(lexer.tokenize(source).get()), chunked);
+    }
+
+    private static SourceLoader loader() {
+        return SourceLoader.defaults()
+                .maxSize(1024)
+                .oversize(SourceLoader.Oversize.CHUNK)
+                .chunkSize(CHUNK_SIZE);
+    }
+}
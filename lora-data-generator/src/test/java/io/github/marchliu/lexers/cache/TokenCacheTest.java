@@ -0,0 +1,44 @@
+package io.github.marchliu.lexers.cache;
+
+import io.github.marchliu.lexers.Token;
+import io.github.marchliu.lexers.TokenBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 按 path 和 mtime 的快速命中只在字符集相同时有效，重新打开后索引仍然可用
+ */
+class TokenCacheTest {
+    @Test
+    void lookupChecksCharset(@TempDir Path directory) throws Exception {
+        var file = directory.resolve("a.txt");
+        Files.writeString(file, "héllo");
+        var tokens = new TokenBuffer("héllo");
+        tokens.add(0, 5, Token.SYMBOL_CODE);
+
+        var cache = new TokenCache(directory.resolve("cache"), 1 << 20);
+        cache.put(file.toString(), StandardCharsets.UTF_8, "ab01", "nlp", tokens);
+        assertNotNull(cache.lookup(file.toString(), StandardCharsets.UTF_8, "nlp"));
+        assertNull(cache.lookup(file.toString(), StandardCharsets.ISO_8859_1, "nlp"));
+        assertNull(cache.lookup(file.toString(), StandardCharsets.UTF_8, "java"));
+        cache.close();
+
+        var reopened = new TokenCache(directory.resolve("cache"), 1 << 20);
+        var cached = reopened.lookup(file.toString(), StandardCharsets.UTF_8, "nlp");
+        assertNotNull(cached);
+        assertEquals(1, cached.size());
+        assertNull(reopened.lookup(file.toString(), StandardCharsets.ISO_8859_1, "nlp"));
+        // 按新字符集取到的条目替换索引中的字符集
+        assertNotNull(reopened.get(file.toString(), StandardCharsets.ISO_8859_1, "ab01", "nlp"));
+        assertNotNull(reopened.lookup(file.toString(), StandardCharsets.ISO_8859_1, "nlp"));
+        assertNull(reopened.lookup(file.toString(), StandardCharsets.UTF_8, "nlp"));
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.marchliu.lexers.nlp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 缓存按 key 和词的总字符数限制，超过一段容量的片段不缓存
+ */
+class SegmentCacheTest {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Function<String, List<String>> segment = text -> {
+        calls.incrementAndGet();
+        return List.of(text.substring(0, text.length() / 2), text.substring(text.length() / 2));
+    };
+
+    @Test
+    void boundedByChars() {
+        var cache = new SegmentCache(16 * 100);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(STR."text \{i} \{"x".repeat(i % 20)}", segment);
+            assertTrue(cache.weight() <= cache.capacity(), String.valueOf(cache.weight()));
+        }
+        assertTrue(cache.evictions() > 0);
+    }
+
+    @Test
+    void hitsAreCached() {
+        var cache = new SegmentCache(1 << 16);
+        assertEquals(List.of("ab", "cd"), cache.get("abcd", segment));
+        assertEquals(List.of("ab", "cd"), cache.get("abcd", segment));
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.hits());
+        assertEquals(8, cache.weight());
+    }
+
+    @Test
+    void skipsHugeKeys() {
+        var cache = new SegmentCache(16 * 100);
+        var small = "small";
+        cache.get(small, segment);
+        var huge = "y".repeat(60);
+        cache.get(huge, segment);
+        cache.get(huge, segment);
+        assertEquals(3, calls.get());
+        assertEquals(0, cache.evictions());
+        assertEquals(10, cache.weight());
+        cache.get(small, segment);
+        assertEquals(3, calls.get());
+    }
+}
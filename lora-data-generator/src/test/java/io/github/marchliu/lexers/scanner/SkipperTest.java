@@ -0,0 +1,93 @@
+package io.github.marchliu.lexers.scanner;
+
+import io.github.marchliu.lexers.Fixtures;
+import jdk.incubator.vector.ShortVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 向量实现与逐字符实现在任意位置和边界上给出相同的结果
+ */
+class SkipperTest {
+    private static final Skipper SCALAR = new ScalarSkipper();
+    private static final Skipper VECTOR = new VectorSkipper();
+    /**
+     * 包括低字节与分隔符相同的字符、ASCII 以外的空白和装入 short 后为负数的字符，都不能被当成分隔符或空白
+     */
+    private static final char[] FILLERS = {'x', ' ', '\t', '\u001f', '\u00a0', '\u010a', '\u0122', '\u3000', '\u800a'};
+
+    @Test
+    void sameOnCorpus() {
+        for (var language : Fixtures.EXTENSIONS.keySet()) {
+            for (var size : Fixtures.SIZES) {
+                var buffer = Fixtures.load(language, size).toCharArray();
+                var name = STR."\{language}/\{size}";
+                walk(name, buffer, '\n');
+                walk(name, buffer, '"');
+                walk(name, buffer, '*');
+                walkPair(name, buffer, '"', '\\');
+                walkSpaces(name, buffer);
+            }
+        }
+    }
+
+    @Test
+    void sameAtEveryOffsetAndBound() {
+        // 覆盖短于、等于和长于一个向量的长度，以及开头逐字符比较的部分
+        int length = 4 * ShortVector.SPECIES_PREFERRED.length() + 24;
+        for (char filler : FILLERS) {
+            for (int target = 0; target <= length; target++) {
+                var buffer = new char[length];
+                Arrays.fill(buffer, filler);
+                // skipSpaces 在空白中找第一个非空白字符
+                var spaces = buffer.clone();
+                if (target < length) {
+                    buffer[target] = '\n';
+                    spaces[target] = 'x';
+                }
+                for (int pos = 0; pos <= length; pos++) {
+                    for (int to : List.of(pos, Math.min(pos + 3, length), (pos + length) / 2, length)) {
+                        var name = STR."filler \{(int) filler} target \{target} [\{pos}, \{to})";
+                        assertEquals(SCALAR.find(buffer, pos, to, '\n'), VECTOR.find(buffer, pos, to, '\n'), name);
+                        assertEquals(SCALAR.find(buffer, pos, to, '"', '\n'), VECTOR.find(buffer, pos, to, '"', '\n'), name);
+                        assertEquals(SCALAR.skipSpaces(spaces, pos, to), VECTOR.skipSpaces(spaces, pos, to), name);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 像 Scanner 一样从每个命中位置的下一个字符继续查找，线性时间内覆盖所有命中
+     */
+    private static void walk(String name, char[] buffer, char c) {
+        int pos = 0;
+        while (pos < buffer.length) {
+            int expected = SCALAR.find(buffer, pos, buffer.length, c);
+            assertEquals(expected, VECTOR.find(buffer, pos, buffer.length, c), STR."\{name} find '\{c}' from \{pos}");
+            pos = expected + 1;
+        }
+    }
+
+    private static void walkPair(String name, char[] buffer, char a, char b) {
+        int pos = 0;
+        while (pos < buffer.length) {
+            int expected = SCALAR.find(buffer, pos, buffer.length, a, b);
+            assertEquals(expected, VECTOR.find(buffer, pos, buffer.length, a, b), STR."\{name} find '\{a}' '\{b}' from \{pos}");
+            pos = expected + 1;
+        }
+    }
+
+    private static void walkSpaces(String name, char[] buffer) {
+        for (int pos = 0; pos < buffer.length; pos++) {
+            if (pos == 0 || !Skipper.isSpace(buffer[pos - 1])) {
+                assertEquals(SCALAR.skipSpaces(buffer, pos, buffer.length), VECTOR.skipSpaces(buffer, pos, buffer.length),
+                        STR."\{name} skip spaces from \{pos}");
+            }
+        }
+    }
+}
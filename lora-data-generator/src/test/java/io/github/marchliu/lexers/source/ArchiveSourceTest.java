@@ -0,0 +1,169 @@
+package io.github.marchliu.lexers.source;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * tar 头的各种文件名写法和大小字段，以及 zip 条目的读取
+ */
+class ArchiveSourceTest {
+    private static final int BLOCK = 512;
+    private static final String LONG_DIRECTORY = "deep/" + "d".repeat(120);
+
+    @Test
+    void tarHeaders(@TempDir Path directory) throws IOException {
+        var tar = new Tar();
+        tar.entry("src/a.txt", "plain", '0');
+        tar.entry("./b.txt", "dot slash", '0');
+        // ustar：prefix 和 name 两部分
+        tar.header("c.txt", LONG_DIRECTORY, 7, '0', false);
+        tar.data("prefix!");
+        // GNU：L 条目的内容是下一个条目的完整文件名，下一个条目自己的 name 被截断
+        var gnu = LONG_DIRECTORY + "/gnu-long-name.txt";
+        tar.entry("././@LongLink", gnu + "\0", 'L');
+        tar.entry(gnu.substring(0, 100), "gnu", '0');
+        // pax：x 条目中的 path 记录覆盖下一个条目的 name
+        tar.entry("PaxHeaders/e.txt", pax("mtime", "0") + pax("path", "pax/é.txt"), 'x');
+        tar.entry("short-e.txt", "pax", '0');
+        tar.entry("dir/", "", '5');
+        // 大小字段最高位为 1 时是大端的二进制数
+        tar.header("binary-size.txt", null, 6, '0', true);
+        tar.data("binary");
+        tar.entry("skipped.bin", "not wanted", '0');
+        tar.entry("big.txt", "x".repeat(100), '0');
+        tar.entry("old-style.txt", "no type", '\0');
+        tar.entry("last.txt", "after skips", '0');
+        var archive = directory.resolve("source.tar.gz");
+        tar.write(archive);
+
+        assertTrue(ArchiveSource.isArchive(archive.toString()));
+        try (var source = ArchiveSource.open(archive.toString(), 64)) {
+            assertTrue(source.sequential());
+            assertEquals(STR."\{source.path()}!/src/a.txt", source.path("src/a.txt"));
+            var expected = new LinkedHashMap<String, String>();
+            expected.put("src/a.txt", "plain");
+            expected.put("b.txt", "dot slash");
+            expected.put(LONG_DIRECTORY + "/c.txt", "prefix!");
+            expected.put(gnu, "gnu");
+            expected.put("pax/é.txt", "pax");
+            expected.put("binary-size.txt", "binary");
+            expected.put("old-style.txt", "no type");
+            expected.put("last.txt", "after skips");
+            assertEquals(expected, entries(source));
+        }
+    }
+
+    @Test
+    void zipEntries(@TempDir Path directory) throws IOException {
+        var archive = directory.resolve("source.jar");
+        try (var zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (var name : new String[]{"a.txt", "nested/b.txt", "big.txt"}) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write((name.equals("big.txt") ? "x".repeat(100) : name).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        try (var source = ArchiveSource.open(archive.toString(), 64)) {
+            assertFalse(source.sequential());
+            assertEquals(Map.of("a.txt", "a.txt", "nested/b.txt", "nested/b.txt"), entries(source));
+        }
+    }
+
+    private static Map<String, String> entries(ArchiveSource source) throws IOException {
+        Map<String, String> result = new LinkedHashMap<>();
+        source.entries(name -> !name.endsWith(".bin"), (name, size, entry) -> {
+            var text = new String(entry.read(), StandardCharsets.UTF_8);
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, size, name);
+            result.put(name, text);
+        });
+        return result;
+    }
+
+    /**
+     * "长度 key=value\n"，长度包括记录本身
+     */
+    private static String pax(String key, String value) {
+        var body = STR." \{key}=\{value}\n";
+        int bytes = body.getBytes(StandardCharsets.UTF_8).length;
+        int length = bytes + String.valueOf(bytes).length();
+        if (String.valueOf(length).length() > String.valueOf(bytes).length()) {
+            length++;
+        }
+        return length + body;
+    }
+
+    private static class Tar {
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        void entry(String name, String content, char type) {
+            var data = content.getBytes(StandardCharsets.UTF_8);
+            header(name, null, data.length, type, false);
+            data(content);
+        }
+
+        void header(String name, String prefix, long size, char type, boolean binarySize) {
+            byte[] header = new byte[BLOCK];
+            put(header, 0, name);
+            put(header, 100, "0000644");
+            put(header, 108, "0000000");
+            put(header, 116, "0000000");
+            if (binarySize) {
+                header[124] = (byte) 0x80;
+                for (int i = 0; i < 8; i++) {
+                    header[135 - i] = (byte) (size >>> (8 * i));
+                }
+            } else {
+                put(header, 124, String.format("%011o", size));
+            }
+            put(header, 136, "00000000000");
+            header[156] = (byte) type;
+            put(header, 257, "ustar");
+            put(header, 263, "00");
+            if (prefix != null) {
+                put(header, 345, prefix);
+            }
+            // 校验和按校验和字段全是空格时计算
+            put(header, 148, "        ");
+            long sum = 0;
+            for (byte b : header) {
+                sum += b & 0xff;
+            }
+            put(header, 148, String.format("%06o\0 ", sum));
+            output.writeBytes(header);
+        }
+
+        void data(String content) {
+            var data = content.getBytes(StandardCharsets.UTF_8);
+            output.writeBytes(data);
+            output.writeBytes(new byte[(BLOCK - data.length % BLOCK) % BLOCK]);
+        }
+
+        void write(Path path) throws IOException {
+            // 结尾是两个全零的块
+            output.writeBytes(new byte[2 * BLOCK]);
+            try (var gzip = new GZIPOutputStream(Files.newOutputStream(path))) {
+                gzip.write(output.toByteArray());
+            }
+        }
+
+        private static void put(byte[] header, int offset, String text) {
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(bytes, 0, header, offset, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.marchliu.lexers.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * .gitignore 风格规则的解析和匹配
+ */
+class IgnoreRulesTest {
+    private static final Path BASE = Paths.get("/repo").toAbsolutePath();
+
+    @Test
+    void skipsCommentsAndBlankLines() {
+        assertTrue(IgnoreRules.parse(BASE, List.of("# comment", "", "   ", "!", "/")).isEmpty());
+    }
+
+    @Test
+    void unanchoredMatchesAtAnyDepth() {
+        var rules = IgnoreRules.parse(BASE, List.of("*.log"));
+        assertEquals(Boolean.TRUE, file(rules, "a.log"));
+        assertEquals(Boolean.TRUE, file(rules, "x/y/a.log"));
+        assertNull(file(rules, "a.txt"));
+        assertNull(rules.match(Paths.get("/elsewhere/a.log").toAbsolutePath(), false));
+    }
+
+    @Test
+    void slashAnchorsToBase() {
+        var rules = IgnoreRules.parse(BASE, List.of("/build", "doc/*.txt"));
+        assertEquals(Boolean.TRUE, directory(rules, "build"));
+        assertNull(directory(rules, "x/build"));
+        assertEquals(Boolean.TRUE, file(rules, "doc/a.txt"));
+        assertNull(file(rules, "x/doc/a.txt"));
+        assertNull(file(rules, "doc/sub/a.txt"));
+    }
+
+    @Test
+    void trailingSlashMatchesDirectoriesOnly() {
+        var rules = IgnoreRules.parse(BASE, List.of("out/"));
+        assertEquals(Boolean.TRUE, directory(rules, "out"));
+        assertEquals(Boolean.TRUE, directory(rules, "x/out"));
+        assertNull(file(rules, "out"));
+    }
+
+    @Test
+    void laterNegationReincludes() {
+        var rules = IgnoreRules.parse(BASE, List.of("*.log", "!keep.log"));
+        assertEquals(Boolean.TRUE, file(rules, "other.log"));
+        assertEquals(Boolean.FALSE, file(rules, "keep.log"));
+        assertEquals(Boolean.FALSE, file(rules, "x/keep.log"));
+        var reversed = IgnoreRules.parse(BASE, List.of("!keep.log", "*.log"));
+        assertEquals(Boolean.TRUE, file(reversed, "keep.log"));
+    }
+
+    @Test
+    void doubleStar() {
+        var middle = IgnoreRules.parse(BASE, List.of("a/**/b"));
+        assertEquals(Boolean.TRUE, file(middle, "a/b"));
+        assertEquals(Boolean.TRUE, file(middle, "a/x/b"));
+        assertEquals(Boolean.TRUE, file(middle, "a/x/y/b"));
+        assertNull(file(middle, "c/a/b"));
+        var leading = IgnoreRules.parse(BASE, List.of("**/foo"));
+        assertEquals(Boolean.TRUE, file(leading, "foo"));
+        assertEquals(Boolean.TRUE, file(leading, "x/y/foo"));
+        var trailing = IgnoreRules.parse(BASE, List.of("abc/**"));
+        assertEquals(Boolean.TRUE, file(trailing, "abc/x/y"));
+        assertNull(file(trailing, "x/abc/y"));
+    }
+
+    @Test
+    void wildcardsAndClasses() {
+        var rules = IgnoreRules.parse(BASE, List.of("?.c", "[ab].h", "[!ab].py"));
+        assertEquals(Boolean.TRUE, file(rules, "a.c"));
+        assertNull(file(rules, "ab.c"));
+        assertNull(file(rules, "x/.c"));
+        assertEquals(Boolean.TRUE, file(rules, "b.h"));
+        assertNull(file(rules, "c.h"));
+        assertEquals(Boolean.TRUE, file(rules, "c.py"));
+        assertNull(file(rules, "a.py"));
+        var star = IgnoreRules.parse(BASE, List.of("src/*.java"));
+        assertNull(file(star, "src/x/A.java"));
+    }
+
+    @Test
+    void escapesAndTrailingSpaces() {
+        var rules = IgnoreRules.parse(BASE, List.of("\\#name", "\\!bang", "spaced  ", "kept\\ ", "a+b(c)"));
+        assertEquals(Boolean.TRUE, file(rules, "#name"));
+        assertEquals(Boolean.TRUE, file(rules, "!bang"));
+        assertEquals(Boolean.TRUE, file(rules, "spaced"));
+        assertEquals(Boolean.TRUE, file(rules, "kept "));
+        assertNull(file(rules, "kept"));
+        assertEquals(Boolean.TRUE, file(rules, "a+b(c)"));
+    }
+
+    private static Boolean file(IgnoreRules rules, String relative) {
+        return rules.match(BASE.resolve(relative), false);
+    }
+
+    private static Boolean directory(IgnoreRules rules, String relative) {
+        return rules.match(BASE.resolve(relative), true);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.marchliu.lexers.source;
+
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.LexerRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 内置的目录排除、exclude 和 .gitignore 在 walk、file 和 ignored 中的效果一致
+ */
+class SourceWalkerTest {
+    private static final LexerRegistry REGISTRY = new LexerRegistry().register(Lexer.nlpLexer, "txt");
+
+    @Test
+    void defaultExcludes(@TempDir Path root) throws IOException {
+        create(root, "a.txt", "src/b.txt", "src/target/c.txt", "target/d.txt", "node_modules/x/e.txt", ".git/f.txt", "g.bin");
+        var walker = new SourceWalker(REGISTRY, List.of(), false);
+        assertEquals(Set.of("a.txt", "src/b.txt"), walk(walker, root));
+        assertTrue(walker.ignored(root, root.resolve("target")));
+        assertTrue(walker.ignored(root, root.resolve("src/target")));
+        assertTrue(walker.ignored(root, root.resolve(".git")));
+        assertFalse(walker.ignored(root, root.resolve("src")));
+        assertNull(walker.file(root, root.resolve("target/d.txt")));
+        assertNotNull(walker.file(root, root.resolve("src/b.txt")));
+    }
+
+    @Test
+    void excludeNegatesDefaults(@TempDir Path root) throws IOException {
+        create(root, "target/d.txt", "build/h.txt", "logs/i.txt");
+        var walker = new SourceWalker(REGISTRY, List.of("!target/", "logs/"), false);
+        assertEquals(Set.of("target/d.txt"), walk(walker, root));
+        assertFalse(walker.ignored(root, root.resolve("target")));
+        assertTrue(walker.ignored(root, root.resolve("logs")));
+    }
+
+    @Test
+    void gitignoreNegatesDefaults(@TempDir Path root) throws IOException {
+        create(root, "build/h.txt", "generated/j.txt", "src/k.txt", "src/l.txt");
+        Files.writeString(root.resolve(".gitignore"), "!build/\ngenerated/\n");
+        Files.writeString(root.resolve("src/.gitignore"), "l.txt\n");
+        var walker = new SourceWalker(REGISTRY, List.of(), true);
+        assertEquals(Set.of("build/h.txt", "src/k.txt"), walk(walker, root));
+        assertFalse(walker.ignored(root, root.resolve("build")));
+        assertTrue(walker.ignored(root, root.resolve("generated")));
+        assertNull(walker.file(root, root.resolve("src/l.txt")));
+        var ignoring = new SourceWalker(REGISTRY, List.of(), false);
+        assertEquals(Set.of("generated/j.txt", "src/k.txt", "src/l.txt"), walk(ignoring, root));
+    }
+
+    private static Set<String> walk(SourceWalker walker, Path root) throws IOException {
+        Set<String> result = new TreeSet<>();
+        walker.walk(root, file -> result.add(root.relativize(Path.of(file.path())).toString().replace('\\', '/')));
+        return result;
+    }
+
+    private static void create(Path root, String... files) throws IOException {
+        for (var file : files) {
+            var path = root.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file);
+        }
+    }
+}
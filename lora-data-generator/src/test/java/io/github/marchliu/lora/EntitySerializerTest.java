@@ -0,0 +1,81 @@
+package io.github.marchliu.lora;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.marchliu.lexers.Fixtures;
+import io.github.marchliu.lexers.Lexer;
+import io.github.marchliu.lexers.Token;
+import io.github.marchliu.lexers.TokenBuffer;
+import io.github.marchliu.lexers.TokenWindow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * EntitySerializer 从 token 切片写出的 JSON 与 Entity 默认的 bean 序列化逐字节相同
+ */
+class EntitySerializerTest {
+    private final ObjectMapper lazy = new ObjectMapper().registerModule(EntitySerializer.module());
+    private final ObjectMapper bean = new ObjectMapper();
+
+    @Test
+    void sameAsBeanOnCorpus() throws Exception {
+        for (var language : Fixtures.CODE_LANGUAGES) {
+            for (var size : Fixtures.SIZES) {
+                check(STR."\{language}/\{size}", Fixtures.lexer(language), Fixtures.load(language, size));
+            }
+        }
+        for (var size : Fixtures.SIZES) {
+            check(STR."nlp/\{size}", Lexer.nlpLexer, Fixtures.load("nlp", size));
+        }
+    }
+
+    @Test
+    void sameAsBeanWithEscapes() throws IOException {
+        // 控制字符、引号、反斜杠、代理对，以及超过 JsonGenerator 缓冲区的长 token
+        var source = "a\u0001\u001f \"q\\\" \t中文 😀 " + "y".repeat(9000) + "😀";
+        List<Token> tokens = new ArrayList<>();
+        for (var text : source.split(" ")) {
+            tokens.add(Token.create(Token.SYMBOL, text));
+        }
+        var buffer = TokenBuffer.of(source, tokens);
+        buffer.addLiteral("lit\u0002eral", Token.LITERAL_CODE);
+        List<Sample> samples = new ArrayList<>();
+        for (int header = 0; header <= buffer.size(); header++) {
+            samples.add(new WindowEntity(new TokenWindow("test", buffer, 0, header, buffer.size()), " ", "test: "));
+            samples.add(new WindowEntity(new TokenWindow("test", buffer, header, 0, buffer.size()), "", null));
+        }
+        compare("escapes", samples);
+    }
+
+    private void check(String name, Lexer lexer, String source) throws Exception {
+        var tokens = lexer.tokenize(source).get();
+        var samples = lexer.shuffle(tokens, new SplittableRandom(42));
+        assertInstanceOf(WindowEntity.class, samples.getFirst(), name);
+        compare(name, samples);
+    }
+
+    private void compare(String name, List<Sample> samples) throws IOException {
+        List<Sample> beans = samples.stream()
+                .<Sample>map(sample -> new Entity(sample.getInstruction(), sample.getInput(), sample.getOutput()))
+                .toList();
+        assertArrayEquals(json(bean, beans, true), json(lazy, samples, true), STR."\{name} jsonl");
+        assertArrayEquals(json(bean, beans, false), json(lazy, samples, false), STR."\{name} json");
+    }
+
+    private static byte[] json(ObjectMapper mapper, List<Sample> samples, boolean lines) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (EntityWriter writer = lines ? new JsonLinesWriter(mapper, output) : new JsonArrayWriter(mapper, output)) {
+            for (var sample : samples) {
+                writer.write(sample);
+            }
+        }
+        return output.toByteArray();
+    }
+}